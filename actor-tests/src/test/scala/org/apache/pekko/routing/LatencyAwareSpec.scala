@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.routing
+
+import scala.concurrent.Await
+import scala.concurrent.duration._
+
+import org.apache.pekko
+import pekko.actor.{ Actor, ActorRef, ActorSystem, Props }
+import pekko.actor.Status.Failure
+import pekko.pattern.{ ask, AskTimeoutException }
+import pekko.testkit._
+
+object LatencyAwareSpec {
+  def newActor(id: Int, sleepTime: Duration)(implicit system: ActorSystem) =
+    system.actorOf(Props(new Actor {
+        var times: Int = _
+
+        def receive = {
+          case "stop"  => context.stop(self)
+          case "times" => sender() ! times
+          case _ =>
+            times += 1
+            Thread.sleep(sleepTime.toMillis)
+            sender() ! "ack"
+        }
+      }), "Actor:" + id)
+
+  class Echo extends Actor {
+    def receive = {
+      case msg => sender() ! msg
+    }
+  }
+}
+
+class LatencyAwareSpec extends PekkoSpec("""
+    pekko.actor.deployment {
+      /configured {
+        router = latency-aware-pool
+        nr-of-instances = 3
+        within = 3s
+      }
+    }
+  """) with DefaultTimeout with ImplicitSender {
+  import LatencyAwareSpec._
+
+  def times(ref: ActorRef): Int = Await.result(ref ? "times", timeout.duration).asInstanceOf[Int]
+
+  "LatencyAwareRouteeStats" must {
+
+    "select the routee with the lower cost of two" in {
+      val stats = new LatencyAwareRouteeStats[String](10.seconds, 1.second)
+      val routees = Vector("a", "b")
+      val startA = stats.started("a")
+      Thread.sleep(20)
+      stats.completed("a", startA)
+      stats.completed("b", stats.started("b"))
+      stats.latency("a").get should be > stats.latency("b").get
+      (1 to 10).foreach(_ => stats.select(routees) should ===("b"))
+    }
+
+    "take the requests in flight into account" in {
+      val stats = new LatencyAwareRouteeStats[String](10.seconds, 1.second)
+      val routees = Vector("a", "b")
+      stats.completed("a", stats.started("a"))
+      val startB = stats.started("b")
+      Thread.sleep(5)
+      stats.completed("b", startB)
+      // the slower routee b has many more requests in flight
+      (1 to 1000).foreach(_ => stats.started("b"))
+      stats.inFlight("b") should ===(1000)
+      stats.select(routees) should ===("a")
+    }
+
+    "remove routees that are no longer used" in {
+      val stats = new LatencyAwareRouteeStats[String](10.seconds, 1.second)
+      stats.completed("a", stats.started("a"))
+      stats.completed("b", stats.started("b"))
+      stats.removeStale(List("b"))
+      stats.latency("a") should ===(None)
+      stats.latency("b").isDefined should ===(true)
+    }
+  }
+
+  "Latency-aware group" must {
+
+    "deliver a broadcast message using the !" in {
+      val probe1 = TestProbe()
+      val probe2 = TestProbe()
+      val paths = List(probe1.ref, probe2.ref).map(_.path.toString)
+      val routedActor = system.actorOf(LatencyAwareGroup(paths, within = 1.second).props())
+      routedActor ! Broadcast("hello")
+      probe1.expectMsg("hello")
+      probe2.expectMsg("hello")
+    }
+
+    "prefer the routee with the lower response time" in {
+      val actor1 = newActor(1, 200.millis)
+      val actor2 = newActor(2, 1.millis)
+      val probe = TestProbe()
+      val paths = List(actor1, actor2).map(_.path.toString)
+      val routedActor = system.actorOf(LatencyAwareGroup(paths, within = 3.seconds).props())
+
+      (1 to 10).foreach { _ =>
+        probe.send(routedActor, "")
+        probe.expectMsg("ack")
+      }
+
+      // the slow routee gets at most one request, until its response time is known
+      times(actor1) should be <= 1
+      times(actor2) should be >= 9
+
+      routedActor ! Broadcast("stop")
+    }
+
+    "reply with AskTimeoutException if no reply arrives within given time" in {
+      val actor1 = newActor(3, 500.millis)
+      val probe = TestProbe()
+      val routedActor = system.actorOf(LatencyAwareGroup(List(actor1.path.toString), within = 200.millis).props())
+
+      probe.send(routedActor, "")
+      probe.expectMsgPF() {
+        case Failure(_: AskTimeoutException) =>
+      }
+
+      routedActor ! Broadcast("stop")
+    }
+  }
+
+  "Latency-aware pool" must {
+
+    "be configured from deployment config" in {
+      val routedActor = system.actorOf(FromConfig.props(Props[Echo]()), "configured")
+      routedActor ! "hello"
+      expectMsg("hello")
+      routedActor ! GetRoutees
+      expectMsgType[Routees].routees.size should ===(3)
+    }
+  }
+}
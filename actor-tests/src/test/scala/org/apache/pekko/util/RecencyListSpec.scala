@@ -127,5 +127,29 @@ class RecencyListSpec extends AnyWordSpec with Matchers {
       check(recency, Nil)
     }
 
+    "track recency of many elements while growing and shrinking" in {
+      val clock = new RecencyListSpec.TestClock
+      val recency = new RecencyList[String](clock)
+      val n = 10000
+
+      (1 to n).foreach(i => recency.update(i.toString))
+      // touch the even elements, making them more recent than the odd elements
+      (2 to n by 2).foreach(i => recency.update(i.toString))
+      val expected = (1 to n by 2).map(_.toString).toList ++ (2 to n by 2).map(_.toString).toList
+      check(recency, expected)
+
+      // remove most of the elements, in between the others
+      (1 to n).filterNot(_ % 100 == 0).foreach(i => recency.remove(i.toString))
+      check(recency, (100 to n by 100).map(_.toString).toList)
+      recency.contains("99") shouldBe false
+
+      // reuse of slots after shrinking
+      (1 to 50).foreach(i => recency.update(s"x$i"))
+      recency.removeLeastRecent(100) shouldBe (100 to n by 100).map(_.toString).toList
+      check(recency, (1 to 50).map(i => s"x$i").toList)
+      recency.removeMostRecent(50) shouldBe (50 to 1 by -1).map(i => s"x$i").toList
+      check(recency, Nil)
+    }
+
   }
 }
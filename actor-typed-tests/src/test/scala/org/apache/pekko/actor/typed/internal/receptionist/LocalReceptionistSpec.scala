@@ -169,6 +169,33 @@ class LocalReceptionistSpec extends ScalaTestWithActorTestKit with AnyWordSpecLi
       aSubscriber.expectMessage(Listing(ServiceKeyA, Set.empty[ActorRef[ServiceA]]))
     }
 
+    "include the added and removed service instances in the listings to subscribers" in {
+      val receptionist = spawn(LocalReceptionist.behavior)
+      val subscriber = TestProbe[Listing]()
+      receptionist ! Subscribe(ServiceKeyA, subscriber.ref)
+      subscriber.expectMessage(Listing(ServiceKeyA, Set.empty[ActorRef[ServiceA]]))
+
+      val serviceA1 = TestProbe[ServiceA]()
+      receptionist ! Register(ServiceKeyA, serviceA1.ref)
+      val listing1 = subscriber.receiveMessage()
+      listing1.serviceInstances(ServiceKeyA) should ===(Set(serviceA1.ref))
+      listing1.addedServiceInstances(ServiceKeyA) should ===(Set(serviceA1.ref))
+      listing1.removedServiceInstances(ServiceKeyA) should ===(Set.empty[ActorRef[ServiceA]])
+
+      val serviceA2 = TestProbe[ServiceA]()
+      receptionist ! Register(ServiceKeyA, serviceA2.ref)
+      val listing2 = subscriber.receiveMessage()
+      listing2.serviceInstances(ServiceKeyA) should ===(Set(serviceA1.ref, serviceA2.ref))
+      listing2.addedServiceInstances(ServiceKeyA) should ===(Set(serviceA2.ref))
+      listing2.removedServiceInstances(ServiceKeyA) should ===(Set.empty[ActorRef[ServiceA]])
+
+      receptionist ! Deregister(ServiceKeyA, serviceA1.ref)
+      val listing3 = subscriber.receiveMessage()
+      listing3.serviceInstances(ServiceKeyA) should ===(Set(serviceA2.ref))
+      listing3.addedServiceInstances(ServiceKeyA) should ===(Set.empty[ActorRef[ServiceA]])
+      listing3.removedServiceInstances(ServiceKeyA) should ===(Set(serviceA1.ref))
+    }
+
     "support subscribing to different services with the same subscriber" in {
       val subProbe = TestProbe[Any]()
       val receptionist = spawn(LocalReceptionist.behavior)
@@ -205,6 +232,54 @@ class LocalReceptionistSpec extends ScalaTestWithActorTestKit with AnyWordSpecLi
   }
 }
 
+class LocalReceptionistNotifySubscribersIntervalSpec
+    extends ScalaTestWithActorTestKit("pekko.actor.typed.receptionist.notify-subscribers-interval = 300 ms")
+    with AnyWordSpecLike
+    with LogCapturing {
+  import LocalReceptionistSpec._
+
+  "A local receptionist with notify-subscribers-interval" must {
+
+    "coalesce the changes within the interval into one listing" in {
+      val receptionist = spawn(LocalReceptionist.behavior)
+      val subscriber = TestProbe[Listing]()
+      receptionist ! Subscribe(ServiceKeyA, subscriber.ref)
+      subscriber.expectMessage(Listing(ServiceKeyA, Set.empty[ActorRef[ServiceA]]))
+
+      val serviceA1 = TestProbe[ServiceA]()
+      val serviceA2 = TestProbe[ServiceA]()
+      val serviceA3 = TestProbe[ServiceA]()
+      receptionist ! Register(ServiceKeyA, serviceA1.ref)
+      receptionist ! Register(ServiceKeyA, serviceA2.ref)
+      receptionist ! Register(ServiceKeyA, serviceA3.ref)
+      receptionist ! Deregister(ServiceKeyA, serviceA2.ref)
+
+      val listing = subscriber.receiveMessage()
+      listing.serviceInstances(ServiceKeyA) should ===(Set(serviceA1.ref, serviceA3.ref))
+      listing.addedServiceInstances(ServiceKeyA) should ===(Set(serviceA1.ref, serviceA3.ref))
+      listing.removedServiceInstances(ServiceKeyA) should ===(Set.empty[ActorRef[ServiceA]])
+      subscriber.expectNoMessage()
+    }
+
+    "notify pending changes before adding a new subscriber" in {
+      val receptionist = spawn(LocalReceptionist.behavior)
+      val subscriber1 = TestProbe[Listing]()
+      receptionist ! Subscribe(ServiceKeyA, subscriber1.ref)
+      subscriber1.expectMessage(Listing(ServiceKeyA, Set.empty[ActorRef[ServiceA]]))
+
+      val serviceA = TestProbe[ServiceA]()
+      receptionist ! Register(ServiceKeyA, serviceA.ref)
+      val subscriber2 = TestProbe[Listing]()
+      receptionist ! Subscribe(ServiceKeyA, subscriber2.ref)
+
+      subscriber1.expectMessage(Listing(ServiceKeyA, Set(serviceA.ref)))
+      subscriber2.expectMessage(Listing(ServiceKeyA, Set(serviceA.ref)))
+      subscriber1.expectNoMessage()
+      subscriber2.expectNoMessage()
+    }
+  }
+}
+
 class LocalReceptionistBehaviorSpec extends AnyWordSpec with Matchers with LogCapturing {
   import LocalReceptionistSpec._
 
@@ -13,6 +13,9 @@
 
 package org.apache.pekko.actor.typed.scaladsl
 import java.util.concurrent.atomic.AtomicInteger
+
+import scala.concurrent.duration._
+
 import org.scalatest.matchers.should.Matchers
 import org.scalatest.wordspec.AnyWordSpecLike
 import org.apache.pekko
@@ -41,6 +44,9 @@ class RoutersSpec extends ScalaTestWithActorTestKit("""
     Routers.pool(10)(Behaviors.empty[Any]).withRandomRouting()
     Routers.pool(10)(Behaviors.empty[Any]).withRoundRobinRouting()
     Routers.pool(10)(Behaviors.empty[Any]).withConsistentHashingRouting(1, (msg: Any) => msg.toString)
+    Routers
+      .pool(10)(Behaviors.empty[(String, ActorRef[String])])
+      .withLatencyAwareRouting[String](3.seconds, _._2, (msg, replyTo) => msg.copy(_2 = replyTo))
   }
 
   "The router pool" must {
@@ -152,6 +158,34 @@ class RoutersSpec extends ScalaTestWithActorTestKit("""
       probe.expectNoMessage()
     }
 
+    "route with latency aware routing and forward the replies" in {
+      case class Request(n: Int, replyTo: ActorRef[Reply])
+      case class Reply(n: Int, from: ActorPath)
+
+      val childCounter = new AtomicInteger(0)
+      val pool = spawn(
+        Routers
+          .pool(2)(Behaviors.setup[Request] { ctx =>
+            // the first child is slow
+            val delay = if (childCounter.getAndIncrement() == 0) 200.millis else Duration.Zero
+            Behaviors.receiveMessage { req =>
+              if (delay > Duration.Zero) Thread.sleep(delay.toMillis)
+              req.replyTo ! Reply(req.n, ctx.self.path)
+              Behaviors.same
+            }
+          })
+          .withLatencyAwareRouting[Reply](3.seconds, _.replyTo, (req, replyTo) => req.copy(replyTo = replyTo)))
+
+      val probe = createTestProbe[Reply]()
+      val replies = (1 to 10).map { n =>
+        pool ! Request(n, probe.ref)
+        probe.expectMessageType[Reply]
+      }
+      replies.map(_.n) should ===(1 to 10)
+      // the slow child gets at most one request, until its response time is known
+      replies.groupBy(_.from).values.map(_.size).max should be >= 8
+    }
+
   }
 
   "The router group" must {
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.actor.typed.internal.receptionist
+
+import scala.concurrent.duration.FiniteDuration
+
+import org.apache.pekko
+import pekko.actor.typed.ActorRef
+import pekko.actor.typed.ActorSystem
+import pekko.actor.typed.receptionist.ServiceKey
+import pekko.annotation.InternalApi
+import pekko.util.JavaDurationConverters._
+
+/**
+ * INTERNAL API
+ */
+@InternalApi private[pekko] object ListingNotifications {
+  val empty: ListingNotifications = ListingNotifications(Map.empty, Map.empty)
+
+  def notifySubscribersInterval(system: ActorSystem[_]): FiniteDuration =
+    system.settings.config.getDuration("pekko.actor.typed.receptionist.notify-subscribers-interval").asScala
+}
+
+/**
+ * INTERNAL API
+ *
+ * Used by the local and cluster receptionists to include the changes since the previous `Listing` in the next
+ * `Listing` to the subscribers of a service key, and to coalesce the changes within the
+ * `notify-subscribers-interval` into one `Listing`.
+ *
+ * All subscribers of a key have seen the same `Listing`, since a new subscriber is only added after the
+ * pending changes of the key have been notified to the existing subscribers.
+ *
+ * @param lastNotified the reachable service instances of the last `Listing` per service key with subscribers
+ * @param pending the service keys with changes that have not been notified yet, and whether services were
+ *                added or removed in those changes (rather than only reachability changes)
+ */
+@InternalApi private[pekko] final case class ListingNotifications(
+    lastNotified: Map[AbstractServiceKey, Set[ActorRef[_]]],
+    pending: Map[AbstractServiceKey, Boolean]) {
+
+  def hasPending: Boolean = pending.nonEmpty
+
+  def isPending(key: AbstractServiceKey): Boolean = pending.contains(key)
+
+  def changed(key: AbstractServiceKey, servicesWereAddedOrRemoved: Boolean): ListingNotifications =
+    copy(pending = pending.updated(key, servicesWereAddedOrRemoved || pending.getOrElse(key, false)))
+
+  /**
+   * The `Listing` to send to the subscribers of the `key`, including the changes since the previous `Listing`.
+   */
+  def listing[T](
+      key: ServiceKey[T],
+      reachable: Set[ActorRef[T]],
+      all: Set[ActorRef[T]],
+      servicesWereAddedOrRemoved: Boolean): (ReceptionistMessages.Listing[T], ListingNotifications) = {
+    val previous = lastNotified.getOrElse(key, Set.empty).asInstanceOf[Set[ActorRef[T]]]
+    val (added, removed) =
+      if (previous eq reachable) (Set.empty[ActorRef[T]], Set.empty[ActorRef[T]])
+      else (reachable.diff(previous), previous.diff(reachable))
+    val listing = ReceptionistMessages.Listing(key, reachable, all, servicesWereAddedOrRemoved)(added, removed)
+    (listing, copy(lastNotified = lastNotified.updated(key, reachable), pending = pending - key))
+  }
+
+  /**
+   * The initial `Listing` with the `reachable` service instances was sent to a new subscriber of the `key`.
+   */
+  def subscribed(key: AbstractServiceKey, reachable: Set[_ <: ActorRef[_]]): ListingNotifications =
+    copy(lastNotified = lastNotified.updated(key, reachable.asInstanceOf[Set[ActorRef[_]]]))
+
+  /**
+   * The last subscriber of the `key` was removed.
+   */
+  def unsubscribed(key: AbstractServiceKey): ListingNotifications =
+    copy(lastNotified = lastNotified - key, pending = pending - key)
+
+}
@@ -13,6 +13,8 @@
 
 package org.apache.pekko.actor.typed.internal.receptionist
 
+import scala.concurrent.duration._
+
 import org.apache.pekko
 import pekko.actor.typed.ActorRef
 import pekko.actor.typed.Behavior
@@ -21,6 +23,7 @@ import pekko.actor.typed.receptionist.ServiceKey
 import pekko.actor.typed.scaladsl.ActorContext
 import pekko.actor.typed.scaladsl.Behaviors
 import pekko.actor.typed.scaladsl.LoggerOps
+import pekko.actor.typed.scaladsl.TimerScheduler
 import pekko.annotation.InternalApi
 import pekko.util.TypedMultiMap
 
@@ -53,6 +56,9 @@ private[pekko] object LocalReceptionist extends ReceptionistBehaviorProvider {
   private final case class RegisteredActorTerminated[T](ref: ActorRef[T]) extends InternalCommand
   private final case class SubscriberTerminated[T](ref: ActorRef[ReceptionistMessages.Listing[T]])
       extends InternalCommand
+  private case object NotifySubscribersTick extends InternalCommand
+
+  private final class Setup(val notifySubscribersInterval: FiniteDuration, val timers: TimerScheduler[Any])
 
   private object State {
     def empty =
@@ -60,7 +66,8 @@ private[pekko] object LocalReceptionist extends ReceptionistBehaviorProvider {
         TypedMultiMap.empty[AbstractServiceKey, Service],
         Map.empty,
         TypedMultiMap.empty[AbstractServiceKey, Subscriber],
-        Map.empty)
+        Map.empty,
+        ListingNotifications.empty)
   }
 
   /**
@@ -68,12 +75,14 @@ private[pekko] object LocalReceptionist extends ReceptionistBehaviorProvider {
    * @param servicesPerActor current registered service keys per actor (needed for unregistration since an actor can implement several services)
    * @param subscriptions current subscriptions per service key
    * @param subscriptionsPerActor current subscriptions per subscriber (needed since a subscriber can subscribe to several keys) FIXME is it really needed?
+   * @param notifications last notified listings and pending changes per service key with subscribers
    */
   private final case class State(
       services: TypedMultiMap[AbstractServiceKey, Service],
       servicesPerActor: Map[ActorRef[_], Set[AbstractServiceKey]],
       subscriptions: TypedMultiMap[AbstractServiceKey, Subscriber],
-      subscriptionsPerActor: Map[ActorRef[_], Set[AbstractServiceKey]]) {
+      subscriptionsPerActor: Map[ActorRef[_], Set[AbstractServiceKey]],
+      notifications: ListingNotifications) {
 
     def serviceInstanceAdded[Key <: AbstractServiceKey](key: Key)(serviceInstance: ActorRef[key.Protocol]): State = {
       val newServices = services.inserted(key)(serviceInstance)
@@ -149,35 +158,57 @@ private[pekko] object LocalReceptionist extends ReceptionistBehaviorProvider {
           subscriptions.removed(serviceKey)(subscriber.asInstanceOf[Subscriber[serviceKey.type]])
         }
         val newSubscriptionsPerActor = subscriptionsPerActor - subscriber
-        copy(subscriptions = newSubscriptions, subscriptionsPerActor = newSubscriptionsPerActor)
+        val newNotifications = keys.foldLeft(notifications) { (notifications, key) =>
+          if (newSubscriptions.get(key).isEmpty) notifications.unsubscribed(key) else notifications
+        }
+        copy(
+          subscriptions = newSubscriptions,
+          subscriptionsPerActor = newSubscriptionsPerActor,
+          notifications = newNotifications)
       }
     }
+
+    def notifySubscribers(key: AbstractServiceKey): State = {
+      val instances = services.get(key)
+      val (listing, newNotifications) =
+        notifications.listing(key.asServiceKey, instances, instances, servicesWereAddedOrRemoved = true)
+      subscriptions.get(key).foreach(_ ! listing)
+      copy(notifications = newNotifications)
+    }
   }
 
   override def behavior: Behavior[Command] = Behaviors.setup { ctx =>
     ctx.setLoggerName(classOf[LocalReceptionist])
-    behavior(State.empty).narrow[Command]
+    val notifySubscribersInterval = ListingNotifications.notifySubscribersInterval(ctx.system)
+    Behaviors
+      .withTimers[Any] { timers =>
+        behavior(new Setup(notifySubscribersInterval, timers), State.empty)
+      }
+      .narrow[Command]
   }
 
-  private def behavior(state: State): Behavior[Any] = {
+  private def behavior(setup: Setup, state: State): Behavior[Any] = {
     // Helper that makes sure that subscribers are notified when an entry is changed
     def updateServices(changedKeysHint: Set[AbstractServiceKey], f: State => State): Behavior[Any] = {
       val newState = f(state)
+      val keysWithSubscribers = changedKeysHint.filter(key => newState.subscriptions.get(key).nonEmpty)
 
-      def notifySubscribersFor[T](key: AbstractServiceKey): Unit = {
-        val newListing = newState.services.get(key)
-        val listing =
-          ReceptionistMessages.Listing(key.asServiceKey, newListing, newListing, servicesWereAddedOrRemoved = true)
-        newState.subscriptions.get(key).foreach(_ ! listing)
+      if (setup.notifySubscribersInterval == Duration.Zero)
+        behavior(setup, keysWithSubscribers.foldLeft(newState)(_.notifySubscribers(_)))
+      else {
+        // coalesce the changes within the interval into one listing per key
+        if (keysWithSubscribers.nonEmpty && !setup.timers.isTimerActive(NotifySubscribersTick))
+          setup.timers.startSingleTimer(NotifySubscribersTick, setup.notifySubscribersInterval)
+        val newNotifications = keysWithSubscribers.foldLeft(newState.notifications) { (notifications, key) =>
+          notifications.changed(key, servicesWereAddedOrRemoved = true)
+        }
+        behavior(setup, newState.copy(notifications = newNotifications))
       }
-
-      changedKeysHint.foreach(notifySubscribersFor)
-      behavior(newState)
     }
 
     def replyWithListing[T](key: ServiceKey[T], replyTo: ActorRef[Listing]): Unit = {
       val listing = state.services.get(key)
-      replyTo ! ReceptionistMessages.Listing(key, listing, listing, servicesWereAddedOrRemoved = true)
+      replyTo ! ReceptionistMessages.Listing(key, listing, listing, servicesWereAddedOrRemoved = true)()
     }
 
     def onCommand(ctx: ActorContext[Any], cmd: Command): Behavior[Any] = cmd match {
@@ -225,10 +256,17 @@ private[pekko] object LocalReceptionist extends ReceptionistBehaviorProvider {
         if (!state.subscriptionsPerActor.contains(subscriber))
           ctx.watchWith(subscriber, SubscriberTerminated(subscriber))
 
+        // pending changes are notified to the existing subscribers first, so that all subscribers
+        // of the key have seen the same listing when the next changes are notified
+        val notifiedState = if (state.notifications.isPending(key)) state.notifySubscribers(key) else state
+
         // immediately reply with initial listings to the new subscriber
         replyWithListing(key, subscriber)
 
-        behavior(state.subscriberAdded(key)(subscriber))
+        val newState = notifiedState.subscriberAdded(key)(subscriber)
+        behavior(
+          setup,
+          newState.copy(notifications = newState.notifications.subscribed(key, newState.services.get(key))))
 
       case other =>
         // compiler does not know about our division into public and internal commands
@@ -250,7 +288,10 @@ private[pekko] object LocalReceptionist extends ReceptionistBehaviorProvider {
           val keys = state.subscriptionsPerActor.getOrElse(subscriber, Set.empty)
           ctx.log.debug2("Subscribed actor terminated: [{}] {}", keys.mkString(","), subscriber)
         }
-        behavior(state.subscriberRemoved(subscriber))
+        behavior(setup, state.subscriberRemoved(subscriber))
+
+      case NotifySubscribersTick =>
+        behavior(setup, state.notifications.pending.keys.foldLeft(state)(_.notifySubscribers(_)))
     }
 
     Behaviors.receive[Any] { (ctx, msg) =>
@@ -75,7 +75,10 @@ private[pekko] object ReceptionistMessages {
       key: ServiceKey[T],
       _serviceInstances: Set[ActorRef[T]],
       _allServiceInstances: Set[ActorRef[T]],
-      servicesWereAddedOrRemoved: Boolean)
+      servicesWereAddedOrRemoved: Boolean)(
+      // the changes since the previous listing to the same subscribers, not part of equals
+      _addedServiceInstances: Set[ActorRef[T]] = _serviceInstances,
+      _removedServiceInstances: Set[ActorRef[T]] = Set.empty[ActorRef[T]])
       extends Receptionist.Listing {
 
     def isForKey(key: ServiceKey[_]): Boolean = key == this.key
@@ -97,6 +100,18 @@ private[pekko] object ReceptionistMessages {
 
     override def getAllServiceInstances[M](key: ServiceKey[M]): java.util.Set[ActorRef[M]] =
       allServiceInstances(key).asJava
+
+    override def addedServiceInstances[M](key: ServiceKey[M]): Set[ActorRef[M]] = {
+      if (key != this.key)
+        throw new IllegalArgumentException(s"Wrong key [$key] used, must use listing key [${this.key}]")
+      _addedServiceInstances.asInstanceOf[Set[ActorRef[M]]]
+    }
+
+    override def removedServiceInstances[M](key: ServiceKey[M]): Set[ActorRef[M]] = {
+      if (key != this.key)
+        throw new IllegalArgumentException(s"Wrong key [$key] used, must use listing key [${this.key}]")
+      _removedServiceInstances.asInstanceOf[Set[ActorRef[M]]]
+    }
   }
 
   final case class Subscribe[T] private[pekko] (key: ServiceKey[T], subscriber: ActorRef[Receptionist.Listing])
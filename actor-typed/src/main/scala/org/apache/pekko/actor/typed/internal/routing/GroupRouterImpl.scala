@@ -15,6 +15,8 @@ package org.apache.pekko.actor.typed.internal.routing
 
 import java.util.function
 
+import scala.concurrent.duration.FiniteDuration
+
 import org.apache.pekko
 import pekko.actor.Dropped
 import pekko.actor.typed._
@@ -23,6 +25,7 @@ import pekko.actor.typed.receptionist.Receptionist
 import pekko.actor.typed.receptionist.ServiceKey
 import pekko.actor.typed.scaladsl.{ AbstractBehavior, ActorContext, StashBuffer }
 import pekko.annotation.InternalApi
+import pekko.util.JavaDurationConverters._
 
 /**
  * Provides builder style configuration options for group routers while still being a behavior that can be spawned
@@ -61,6 +64,25 @@ private[pekko] final case class GroupRouterBuilder[T] private[pekko] (
       preferLocalRoutees = false,
       logicFactory = system => new RoutingLogics.ConsistentHashingLogic[T](virtualNodesFactor, mapping, system.address))
   }
+
+  def withLatencyAwareRouting[R](
+      timeout: java.time.Duration,
+      replyTo: function.Function[T, ActorRef[R]],
+      withReplyTo: function.BiFunction[T, ActorRef[R], T]): GroupRouterBuilder[T] =
+    withLatencyAwareRouting[R](timeout.asScala, replyTo.apply(_), withReplyTo.apply(_, _))
+
+  def withLatencyAwareRouting[R](
+      timeout: FiniteDuration,
+      replyTo: T => ActorRef[R],
+      withReplyTo: (T, ActorRef[R]) => T): GroupRouterBuilder[T] =
+    copy(
+      preferLocalRoutees = false,
+      logicFactory = system =>
+        new RoutingLogics.LatencyAwareLogic[T, R](
+          timeout,
+          RoutingLogics.latencyAwareDecayTime(system),
+          replyTo,
+          withReplyTo))
 }
 
 /**
@@ -147,7 +169,7 @@ private[pekko] final class GroupRouterImpl[T](
       this
     case msg: T @unchecked =>
       import pekko.actor.typed.scaladsl.adapter._
-      if (!routeesEmpty) routingLogic.selectRoutee(msg) ! msg
+      if (!routeesEmpty) routingLogic.route(msg)
       else
         context.system.eventStream ! EventStream.Publish(
           Dropped(msg, s"No routees in group router for [$serviceKey]", context.self.toClassic))
@@ -19,10 +19,13 @@ import pekko.actor.typed.javadsl.PoolRouter
 import pekko.actor.typed.scaladsl.{ AbstractBehavior, ActorContext, Behaviors }
 import pekko.annotation.InternalApi
 import pekko.util.ConstantFun
+import pekko.util.JavaDurationConverters._
 
 import java.util.function
 import java.util.function.Predicate
 
+import scala.concurrent.duration.FiniteDuration
+
 /**
  * INTERNAL API
  */
@@ -59,6 +62,24 @@ private[pekko] final case class PoolRouterBuilder[T](
       logicFactory = system => new RoutingLogics.ConsistentHashingLogic[T](virtualNodesFactor, mapping, system.address))
   }
 
+  def withLatencyAwareRouting[R](
+      timeout: java.time.Duration,
+      replyTo: function.Function[T, ActorRef[R]],
+      withReplyTo: function.BiFunction[T, ActorRef[R], T]): PoolRouterBuilder[T] =
+    withLatencyAwareRouting[R](timeout.asScala, replyTo.apply(_), withReplyTo.apply(_, _))
+
+  def withLatencyAwareRouting[R](
+      timeout: FiniteDuration,
+      replyTo: T => ActorRef[R],
+      withReplyTo: (T, ActorRef[R]) => T): PoolRouterBuilder[T] =
+    copy(
+      logicFactory = system =>
+        new RoutingLogics.LatencyAwareLogic[T, R](
+          timeout,
+          RoutingLogics.latencyAwareDecayTime(system),
+          replyTo,
+          withReplyTo))
+
   def withPoolSize(poolSize: Int): PoolRouterBuilder[T] = copy(poolSize = poolSize)
 
   def withRouteeProps(routeeProps: Props): PoolRouterBuilder[T] = copy(routeeProps = routeeProps)
@@ -98,7 +119,7 @@ private final class PoolRouterImpl[T](
     if ((broadcastPredicate ne ConstantFun.anyToFalse) && broadcastPredicate(msg)) {
       ctx.children.foreach(_.unsafeUpcast ! msg)
     } else {
-      logic.selectRoutee(msg) ! msg
+      logic.route(msg)
     }
     this
   }
@@ -15,11 +15,22 @@ package org.apache.pekko.actor.typed.internal.routing
 
 import java.util.concurrent.ThreadLocalRandom
 
+import scala.concurrent.duration.FiniteDuration
+import scala.util.Success
+
 import org.apache.pekko
 import pekko.actor.Address
 import pekko.actor.typed.ActorRef
+import pekko.actor.typed.ActorSystem
+import pekko.actor.typed.internal.InternalRecipientRef
+import pekko.actor.typed.internal.adapter.ActorRefAdapter
 import pekko.annotation.InternalApi
+import pekko.dispatch.ExecutionContexts
+import pekko.pattern.PromiseActorRef
 import pekko.routing.ConsistentHash
+import pekko.routing.LatencyAwareRouteeStats
+import pekko.util.JavaDurationConverters._
+import pekko.util.Timeout
 
 /**
  * Kept in the behavior, not shared between instances, meant to be stateful.
@@ -41,6 +52,11 @@ sealed private[pekko] trait RoutingLogic[T] {
    *                   with an empty list of routees.
    */
   def routeesUpdated(newRoutees: Set[ActorRef[T]]): Unit
+
+  /**
+   * Send the message to the selected routee.
+   */
+  def route(msg: T): Unit = selectRoutee(msg) ! msg
 }
 
 /**
@@ -121,4 +137,55 @@ private[pekko] object RoutingLogics {
     }
   }
 
+  def latencyAwareDecayTime(system: ActorSystem[_]): FiniteDuration =
+    system.settings.config.getDuration("pekko.actor.deployment.default.latency-aware-router.decay-time").asScala
+
+  /**
+   * Power of two choices weighted by the response times and in-flight requests of the routees, see
+   * [[pekko.routing.LatencyAwareRoutingLogic]]. The round trips are measured by replacing the `replyTo`
+   * of the message with a temporary ref, which forwards the reply to the original `replyTo`.
+   * Messages for which `replyTo` returns `null` are routed without being tracked.
+   */
+  final class LatencyAwareLogic[T, R](
+      timeout: FiniteDuration,
+      decayTime: FiniteDuration,
+      replyTo: T => ActorRef[R],
+      withReplyTo: (T, ActorRef[R]) => T)
+      extends RoutingLogic[T] {
+
+    private val stats = new LatencyAwareRouteeStats[ActorRef[T]](decayTime, timeout)
+
+    private var currentRoutees: Vector[ActorRef[T]] = Vector.empty
+
+    override def selectRoutee(msg: T): ActorRef[T] = stats.select(currentRoutees)
+
+    override def route(msg: T): Unit = {
+      val routee = selectRoutee(msg)
+      val originalReplyTo = replyTo(msg)
+      routee match {
+        case target: InternalRecipientRef[T] @unchecked if (originalReplyTo ne null) && !target.isTerminated =>
+          val promiseRef =
+            PromiseActorRef(target.provider, Timeout(timeout), target, msg.getClass.getName, target.refPrefix)
+          val start = stats.started(routee)
+          routee ! withReplyTo(msg, ActorRefAdapter[R](promiseRef))
+          promiseRef.result.future.onComplete { result =>
+            stats.completed(routee, start)
+            result match {
+              case Success(reply) => originalReplyTo ! reply.asInstanceOf[R]
+              case _              => // timeout, the original requester will also time out
+            }
+          }(ExecutionContexts.parasitic)
+        case _ =>
+          routee ! msg
+      }
+    }
+
+    override def routeesUpdated(newRoutees: Set[ActorRef[T]]): Unit = {
+      currentRoutees = newRoutees.toVector
+      stats.removeStale(newRoutees)
+    }
+
+    def latency(routee: ActorRef[T]): Option[FiniteDuration] = stats.latency(routee)
+  }
+
 }
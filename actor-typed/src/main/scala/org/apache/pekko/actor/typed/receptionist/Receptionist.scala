@@ -424,6 +424,43 @@ object Receptionist extends ExtensionId[Receptionist] {
      */
     def servicesWereAddedOrRemoved: Boolean
 
+    /**
+     * Scala API: The reachable service instances that were added since the previous `Listing` that was sent
+     * to the subscriber, including instances on nodes that became reachable again.
+     *
+     * Together with [[#removedServiceInstances]] this can be used to update a large set of service instances
+     * incrementally instead of replacing it with [[#serviceInstances]] for each change.
+     *
+     * For `Find` queries and the initial listing for a `Subscribe` this is the same as [[#serviceInstances]].
+     */
+    def addedServiceInstances[T](key: ServiceKey[T]): Set[ActorRef[T]] = serviceInstances(key)
+
+    /**
+     * Java API: The reachable service instances that were added since the previous `Listing` that was sent
+     * to the subscriber, including instances on nodes that became reachable again.
+     *
+     * For `Find` queries and the initial listing for a `Subscribe` this is the same as [[#getServiceInstances]].
+     */
+    def getAddedServiceInstances[T](key: ServiceKey[T]): java.util.Set[ActorRef[T]] =
+      addedServiceInstances(key).asJava
+
+    /**
+     * Scala API: The service instances that were removed or became unreachable since the previous `Listing`
+     * that was sent to the subscriber.
+     *
+     * For `Find` queries and the initial listing for a `Subscribe` this is empty.
+     */
+    def removedServiceInstances[T](key: ServiceKey[T]): Set[ActorRef[T]] = Set.empty
+
+    /**
+     * Java API: The service instances that were removed or became unreachable since the previous `Listing`
+     * that was sent to the subscriber.
+     *
+     * For `Find` queries and the initial listing for a `Subscribe` this is empty.
+     */
+    def getRemovedServiceInstances[T](key: ServiceKey[T]): java.util.Set[ActorRef[T]] =
+      removedServiceInstances(key).asJava
+
   }
 
   /**
@@ -441,7 +478,7 @@ object Receptionist extends ExtensionId[Receptionist] {
         serviceInstances: Set[ActorRef[T]],
         allServiceInstances: Set[ActorRef[T]],
         servicesWereAddedOrRemoved: Boolean): Listing =
-      new ReceptionistMessages.Listing[T](key, serviceInstances, allServiceInstances, servicesWereAddedOrRemoved)
+      new ReceptionistMessages.Listing[T](key, serviceInstances, allServiceInstances, servicesWereAddedOrRemoved)()
   }
 
   /**
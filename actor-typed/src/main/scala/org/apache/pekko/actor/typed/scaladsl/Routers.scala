@@ -12,8 +12,10 @@
  */
 
 package org.apache.pekko.actor.typed.scaladsl
+import scala.concurrent.duration.FiniteDuration
+
 import org.apache.pekko
-import pekko.actor.typed.{ Behavior, Props }
+import pekko.actor.typed.{ ActorRef, Behavior, Props }
 import pekko.actor.typed.internal.routing.{ GroupRouterBuilder, PoolRouterBuilder }
 import pekko.actor.typed.receptionist.ServiceKey
 import pekko.annotation.DoNotInherit
@@ -119,6 +121,27 @@ trait GroupRouter[T] extends Behavior[T] {
    */
   def withConsistentHashingRouting(virtualNodesFactor: Int, mapping: T => String): GroupRouter[T]
 
+  /**
+   * Route messages to the less loaded of two randomly selected routees ("power of two choices"), where the load
+   * of a routee is its smoothed response time multiplied by the number of requests that are in flight to it.
+   * This reduces the tail latency when the routees respond with different latencies, without sending any
+   * message more than once.
+   *
+   * The response times are measured from the request-reply round trips. Each message is sent with a temporary
+   * `replyTo`, which forwards the reply to the original `replyTo` of the message. The response times are
+   * smoothed with the time constant `pekko.actor.deployment.default.latency-aware-router.decay-time`.
+   *
+   * @param timeout     a request without reply within this duration counts as a response time of `timeout`.
+   *                    The reply is not forwarded after the timeout.
+   * @param replyTo     extracts the `replyTo` of a message, `null` for messages without reply, which are
+   *                    routed without being tracked
+   * @param withReplyTo creates a copy of the message with the given `replyTo`
+   */
+  def withLatencyAwareRouting[R](
+      timeout: FiniteDuration,
+      replyTo: T => ActorRef[R],
+      withReplyTo: (T, ActorRef[R]) => T): GroupRouter[T]
+
 }
 
 /**
@@ -172,6 +195,27 @@ trait PoolRouter[T] extends Behavior[T] {
    */
   def withConsistentHashingRouting(virtualNodesFactor: Int, mapping: T => String): PoolRouter[T]
 
+  /**
+   * Route messages to the less loaded of two randomly selected routees ("power of two choices"), where the load
+   * of a routee is its smoothed response time multiplied by the number of requests that are in flight to it.
+   * This reduces the tail latency when the routees respond with different latencies, without sending any
+   * message more than once.
+   *
+   * The response times are measured from the request-reply round trips. Each message is sent with a temporary
+   * `replyTo`, which forwards the reply to the original `replyTo` of the message. The response times are
+   * smoothed with the time constant `pekko.actor.deployment.default.latency-aware-router.decay-time`.
+   *
+   * @param timeout     a request without reply within this duration counts as a response time of `timeout`.
+   *                    The reply is not forwarded after the timeout.
+   * @param replyTo     extracts the `replyTo` of a message, `null` for messages without reply, which are
+   *                    routed without being tracked
+   * @param withReplyTo creates a copy of the message with the given `replyTo`
+   */
+  def withLatencyAwareRouting[R](
+      timeout: FiniteDuration,
+      replyTo: T => ActorRef[R],
+      withReplyTo: (T, ActorRef[R]) => T): PoolRouter[T]
+
   /**
    * Set a new pool size from the one set at construction
    */
@@ -0,0 +1,420 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.routing
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.atomic.AtomicInteger
+
+import scala.collection.immutable
+import scala.concurrent.ExecutionContext
+import scala.concurrent.Future
+import scala.concurrent.duration._
+
+import com.typesafe.config.Config
+
+import org.apache.pekko
+import pekko.actor._
+import pekko.annotation.InternalApi
+import pekko.dispatch.Dispatchers
+import pekko.japi.Util.immutableSeq
+import pekko.pattern.{ ask, pipe }
+import pekko.util.Helpers.ConfigOps
+import pekko.util.JavaDurationConverters._
+import pekko.util.Timeout
+
+/**
+ * INTERNAL API
+ */
+@InternalApi private[pekko] object LatencyAwareRouteeStats {
+
+  final class Stats {
+    val inFlight = new AtomicInteger
+
+    // peak EWMA of the response time, in nanoseconds, -1 until the first sample
+    private var latencyNanos = -1.0
+    private var timestamp = 0L
+
+    def sample(rttNanos: Long, now: Long, decayNanos: Double): Unit = synchronized {
+      if (latencyNanos < 0.0 || rttNanos > latencyNanos)
+        latencyNanos = rttNanos.toDouble
+      else {
+        val w = math.exp(-(now - timestamp) / decayNanos)
+        latencyNanos = latencyNanos * w + rttNanos * (1.0 - w)
+      }
+      timestamp = now
+    }
+
+    // decays towards 0 while there are no new samples, so that idle routees are tried again
+    def latency(now: Long, decayNanos: Double): Double = synchronized {
+      if (latencyNanos < 0.0) -1.0
+      else latencyNanos * math.exp(-(now - timestamp) / decayNanos)
+    }
+  }
+}
+
+/**
+ * INTERNAL API
+ *
+ * Response time and in-flight statistics per routee, and the "power of two choices" selection based on them.
+ * Shared by the classic [[LatencyAwareRoutingLogic]] and the typed group and pool routers.
+ *
+ * The response time of each routee is tracked as a peak EWMA, i.e. a slower response is taken into account
+ * immediately and faster responses lower it gradually, as a function of time with the `decayTime` as time
+ * constant. The cost of a routee is its response time multiplied by the number of requests in flight to it.
+ * For each message two different routees are picked randomly and the one with the lower cost is selected,
+ * which avoids that all messages go to the same routee while the statistics are being updated.
+ *
+ * Thread safe, since classic routing logic is used concurrently by the senders.
+ */
+@InternalApi private[pekko] final class LatencyAwareRouteeStats[K](decayTime: FiniteDuration, penalty: FiniteDuration) {
+  import LatencyAwareRouteeStats._
+
+  private val decayNanos = decayTime.toNanos.toDouble
+  private val penaltyNanos = penalty.toNanos.toDouble
+  private val stats = new ConcurrentHashMap[K, Stats]
+
+  def select(routees: immutable.IndexedSeq[K]): K = {
+    val size = routees.size
+    if (stats.size > 2 * size + 16) removeStale(routees)
+    if (size == 1) routees(0)
+    else {
+      val rnd = ThreadLocalRandom.current()
+      val i = rnd.nextInt(size)
+      val j = {
+        val n = rnd.nextInt(size - 1)
+        if (n >= i) n + 1 else n
+      }
+      val now = System.nanoTime()
+      if (cost(routees(j), now) < cost(routees(i), now)) routees(j) else routees(i)
+    }
+  }
+
+  def cost(routee: K, now: Long): Double =
+    stats.get(routee) match {
+      case null => 0.0
+      case s =>
+        val inFlight = s.inFlight.get
+        val latency = s.latency(now, decayNanos)
+        // no response yet, assume the worst for the requests in flight
+        if (latency < 0.0) penaltyNanos * inFlight
+        else latency * (inFlight + 1)
+    }
+
+  /**
+   * A request is sent to the `routee`, returns the start timestamp to be passed to [[completed]].
+   */
+  def started(routee: K): Long = {
+    statsFor(routee).inFlight.incrementAndGet()
+    System.nanoTime()
+  }
+
+  /**
+   * The reply to a request to the `routee` was received, or the request timed out.
+   */
+  def completed(routee: K, startTimestamp: Long): Unit = {
+    val s = statsFor(routee)
+    val now = System.nanoTime()
+    s.inFlight.decrementAndGet()
+    s.sample(now - startTimestamp, now, decayNanos)
+  }
+
+  def latency(routee: K): Option[FiniteDuration] =
+    stats.get(routee) match {
+      case null => None
+      case s =>
+        val latency = s.latency(System.nanoTime(), decayNanos)
+        if (latency < 0.0) None else Some(latency.toLong.nanos)
+    }
+
+  def inFlight(routee: K): Int =
+    stats.get(routee) match {
+      case null => 0
+      case s    => s.inFlight.get
+    }
+
+  def removeStale(current: Iterable[K]): Unit = {
+    val currentSet = current.toSet
+    stats.keySet.removeIf(k => !currentSet(k))
+  }
+
+  private def statsFor(routee: K): Stats =
+    stats.get(routee) match {
+      case null =>
+        val s = new Stats
+        stats.putIfAbsent(routee, s) match {
+          case null     => s
+          case existing => existing
+        }
+      case s => s
+    }
+}
+
+/**
+ * Routes each message to the less loaded of two randomly picked routees ("power of two choices"), where the
+ * load of a routee is its smoothed response time multiplied by the number of requests that are in flight to it.
+ * Intended for cases where a reply is expected for each message, and where the routees may respond with
+ * different latencies, e.g. backends on heterogeneous or temporarily overloaded nodes. In contrast to
+ * [[TailChoppingRoutingLogic]] each message is only sent once.
+ *
+ * The response times are measured per routee from the round trip of the request and its reply. The message
+ * is sent with `ask` and the reply is forwarded to the original sender, i.e. the routee will not see the
+ * original sender. If no reply is received `within` the duration a [[pekko.actor.Status.Failure]] wrapping
+ * a [[pekko.pattern.AskTimeoutException]] is sent to the sender, and the timeout is counted as the response
+ * time of the routee.
+ *
+ * The response times are smoothed as a peak EWMA, a slower response is taken into account immediately and
+ * faster responses lower it gradually with `decayTime` as time constant. The response time of a routee that
+ * is not used also decays, so that it will be tried again.
+ *
+ * @param within expecting a reply within this duration, otherwise
+ *   it will reply with [[pekko.pattern.AskTimeoutException]] in a [[pekko.actor.Status.Failure]]
+ *
+ * @param decayTime time constant of the exponentially weighted moving average of the response times
+ *
+ * @param context execution context used for forwarding the replies
+ */
+@SerialVersionUID(1L)
+final class LatencyAwareRoutingLogic(
+    val within: FiniteDuration,
+    val decayTime: FiniteDuration,
+    context: ExecutionContext)
+    extends RoutingLogic {
+
+  private val stats = new LatencyAwareRouteeStats[Routee](decayTime, within)
+
+  override def select(message: Any, routees: immutable.IndexedSeq[Routee]): Routee =
+    if (routees.isEmpty) NoRoutee
+    else LatencyAwareRoutee(stats.select(routees), within, stats)(context)
+
+  /**
+   * The current smoothed response time of the `routee`, if any reply has been received from it.
+   */
+  def latency(routee: Routee): Option[FiniteDuration] = stats.latency(routee)
+
+  /**
+   * The number of requests that are waiting for a reply from the `routee`.
+   */
+  def inFlight(routee: Routee): Int = stats.inFlight(routee)
+}
+
+object LatencyAwareRoutingLogic {
+  def apply(within: FiniteDuration, decayTime: FiniteDuration, context: ExecutionContext): LatencyAwareRoutingLogic =
+    new LatencyAwareRoutingLogic(within, decayTime, context)
+
+  /**
+   * Java API
+   */
+  def create(
+      within: java.time.Duration,
+      decayTime: java.time.Duration,
+      context: ExecutionContext): LatencyAwareRoutingLogic =
+    apply(within.asScala, decayTime.asScala, context)
+}
+
+/**
+ * INTERNAL API
+ */
+@SerialVersionUID(1L)
+private[pekko] final case class LatencyAwareRoutee(
+    routee: Routee,
+    within: FiniteDuration,
+    stats: LatencyAwareRouteeStats[Routee])(implicit ec: ExecutionContext)
+    extends Routee {
+
+  override def send(message: Any, sender: ActorRef): Unit = {
+    implicit val timeout: Timeout = Timeout(within)
+    routee match {
+      case ActorRefRoutee(ref) =>
+        track(ref.ask(message)).pipeTo(sender)
+      case ActorSelectionRoutee(sel) =>
+        track(sel.ask(message)).pipeTo(sender)
+      case other =>
+        other.send(message, sender)
+    }
+  }
+
+  private def track[T](f: => Future[T]): Future[T] = {
+    val start = stats.started(routee)
+    val result = f
+    result.onComplete(_ => stats.completed(routee, start))
+    result
+  }
+}
+
+/**
+ * A router pool that routes each message to the less loaded of two randomly picked routees, where the load
+ * of a routee is its smoothed response time multiplied by the number of requests that are in flight to it.
+ * Intended for cases where a reply is expected for each message.
+ *
+ * Refer to [[pekko.routing.LatencyAwareRoutingLogic]] for details of the routing algorithm and how the
+ * replies are forwarded to the sender.
+ *
+ * The configuration parameter trumps the constructor arguments. This means that
+ * if you provide `nrOfInstances` during instantiation they will be ignored if
+ * the router is defined in the configuration file for the actor being used.
+ *
+ * <h1>Supervision Setup</h1>
+ *
+ * Any routees that are created by a router will be created as the router's children.
+ * The router is therefore also the children's supervisor.
+ *
+ * The supervision strategy of the router actor can be configured with
+ * [[#withSupervisorStrategy]]. If no strategy is provided, routers default to
+ * a strategy of “always escalate”. This means that errors are passed up to the
+ * router's supervisor for handling.
+ *
+ * The router's supervisor will treat the error as an error with the router itself.
+ * Therefore a directive to stop or restart will cause the router itself to stop or
+ * restart. The router, in turn, will cause its children to stop and restart.
+ *
+ * @param nrOfInstances initial number of routees in the pool
+ *
+ * @param resizer optional resizer that dynamically adjust the pool size
+ *
+ * @param within expecting a reply within this duration, otherwise
+ *   it will reply with [[pekko.pattern.AskTimeoutException]] in a [[pekko.actor.Status.Failure]]
+ *
+ * @param decayTime time constant of the exponentially weighted moving average of the response times
+ *
+ * @param supervisorStrategy strategy for supervising the routees, see 'Supervision Setup'
+ *
+ * @param routerDispatcher dispatcher to use for the router head actor, which handles
+ *   supervision, death watch and router management messages
+ */
+@SerialVersionUID(1L)
+final case class LatencyAwarePool(
+    nrOfInstances: Int,
+    override val resizer: Option[Resizer] = None,
+    within: FiniteDuration,
+    decayTime: FiniteDuration = 10.seconds,
+    override val supervisorStrategy: SupervisorStrategy = Pool.defaultSupervisorStrategy,
+    override val routerDispatcher: String = Dispatchers.DefaultDispatcherId,
+    override val usePoolDispatcher: Boolean = false)
+    extends Pool
+    with PoolOverrideUnsetConfig[LatencyAwarePool] {
+
+  def this(config: Config) =
+    this(
+      nrOfInstances = config.getInt("nr-of-instances"),
+      within = config.getMillisDuration("within"),
+      decayTime = config.getMillisDuration("latency-aware-router.decay-time"),
+      resizer = Resizer.fromConfig(config),
+      usePoolDispatcher = config.hasPath("pool-dispatcher"))
+
+  /**
+   * Java API
+   * @param nr initial number of routees in the pool
+   * @param within expecting a reply within this duration, otherwise
+   *   it will reply with [[pekko.pattern.AskTimeoutException]] in a [[pekko.actor.Status.Failure]]
+   */
+  def this(nr: Int, within: java.time.Duration) =
+    this(nrOfInstances = nr, within = within.asScala)
+
+  override def createRouter(system: ActorSystem): Router =
+    new Router(LatencyAwareRoutingLogic(within, decayTime, system.dispatchers.lookup(routerDispatcher)))
+
+  override def nrOfInstances(sys: ActorSystem) = this.nrOfInstances
+
+  /**
+   * Setting the supervisor strategy to be used for the “head” Router actor.
+   */
+  def withSupervisorStrategy(strategy: SupervisorStrategy): LatencyAwarePool = copy(supervisorStrategy = strategy)
+
+  /**
+   * Setting the resizer to be used.
+   */
+  def withResizer(resizer: Resizer): LatencyAwarePool = copy(resizer = Some(resizer))
+
+  /**
+   * Setting the dispatcher to be used for the router head actor,  which handles
+   * supervision, death watch and router management messages.
+   */
+  def withDispatcher(dispatcherId: String): LatencyAwarePool = copy(routerDispatcher = dispatcherId)
+
+  /**
+   * Setting the time constant of the exponentially weighted moving average of the response times.
+   */
+  def withDecayTime(decayTime: java.time.Duration): LatencyAwarePool = copy(decayTime = decayTime.asScala)
+
+  /**
+   * Uses the resizer and/or the supervisor strategy of the given RouterConfig
+   * if this RouterConfig doesn't have one, i.e. the resizer defined in code is used if
+   * resizer was not defined in config.
+   */
+  override def withFallback(other: RouterConfig): RouterConfig = this.overrideUnsetConfig(other)
+
+}
+
+/**
+ * A router group that routes each message to the less loaded of two randomly picked routees, where the load
+ * of a routee is its smoothed response time multiplied by the number of requests that are in flight to it.
+ * Intended for cases where a reply is expected for each message. It can also be used as the local router
+ * of a `ClusterRouterGroup` to route to backends on different cluster nodes.
+ *
+ * Refer to [[pekko.routing.LatencyAwareRoutingLogic]] for details of the routing algorithm and how the
+ * replies are forwarded to the sender.
+ *
+ * The configuration parameter trumps the constructor arguments. This means that
+ * if you provide `paths` during instantiation they will be ignored if
+ * the router is defined in the configuration file for the actor being used.
+ *
+ * @param paths string representation of the actor paths of the routees, messages are
+ *   sent with [[pekko.actor.ActorSelection]] to these paths
+ *
+ * @param within expecting a reply within this duration, otherwise
+ *   it will reply with [[pekko.pattern.AskTimeoutException]] in a [[pekko.actor.Status.Failure]]
+ *
+ * @param decayTime time constant of the exponentially weighted moving average of the response times
+ *
+ * @param routerDispatcher dispatcher to use for the router head actor, which handles
+ *   router management messages
+ */
+@SerialVersionUID(1L)
+final case class LatencyAwareGroup(
+    paths: immutable.Iterable[String],
+    within: FiniteDuration,
+    decayTime: FiniteDuration = 10.seconds,
+    override val routerDispatcher: String = Dispatchers.DefaultDispatcherId)
+    extends Group {
+
+  def this(config: Config) =
+    this(
+      paths = immutableSeq(config.getStringList("routees.paths")),
+      within = config.getMillisDuration("within"),
+      decayTime = config.getMillisDuration("latency-aware-router.decay-time"))
+
+  /**
+   * Java API
+   * @param routeePaths string representation of the actor paths of the routees, messages are
+   *   sent with [[pekko.actor.ActorSelection]] to these paths
+   * @param within expecting a reply within this duration, otherwise
+   *   it will reply with [[pekko.pattern.AskTimeoutException]] in a [[pekko.actor.Status.Failure]]
+   */
+  def this(routeePaths: java.lang.Iterable[String], within: java.time.Duration) =
+    this(paths = immutableSeq(routeePaths), within = within.asScala)
+
+  override def createRouter(system: ActorSystem): Router =
+    new Router(LatencyAwareRoutingLogic(within, decayTime, system.dispatchers.lookup(routerDispatcher)))
+
+  override def paths(system: ActorSystem): immutable.Iterable[String] = this.paths
+
+  /**
+   * Setting the dispatcher to be used for the router head actor, which handles
+   * router management messages
+   */
+  def withDispatcher(dispatcherId: String): LatencyAwareGroup = copy(routerDispatcher = dispatcherId)
+
+  /**
+   * Setting the time constant of the exponentially weighted moving average of the response times.
+   */
+  def withDecayTime(decayTime: java.time.Duration): LatencyAwareGroup = copy(decayTime = decayTime.asScala)
+
+}
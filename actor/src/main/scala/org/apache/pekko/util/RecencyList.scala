@@ -15,7 +15,7 @@ package org.apache.pekko.util
 
 import org.apache.pekko.annotation.InternalApi
 
-import scala.collection.{ immutable, mutable }
+import scala.collection.{ immutable, AbstractIterator }
 import scala.concurrent.duration.FiniteDuration
 
 /**
@@ -25,9 +25,12 @@ import scala.concurrent.duration.FiniteDuration
 private[pekko] object RecencyList {
   def empty[A]: RecencyList[A] = new RecencyList[A](new NanoClock)
 
-  private final class Node[A](val value: A) {
-    var lessRecent, moreRecent: OptionVal[Node[A]] = OptionVal.None
-    var timestamp: Long = 0L
+  private final val InitialCapacity = 16
+  private final val NoSlot = -1
+
+  private def hash(value: Any): Int = {
+    val h = value.hashCode
+    h ^ (h >>> 16)
   }
 
   trait Clock {
@@ -46,97 +49,257 @@ private[pekko] object RecencyList {
  *
  * Mutable non-thread-safe recency list.
  * Used for tracking recency of elements for implementing least/most recently used eviction policies.
- * Implemented using a doubly-linked list plus hash map for lookup, so that all operations are constant time.
+ * Implemented as a doubly-linked list kept in parallel primitive arrays indexed by slot, with the links between
+ * slots as array indexes, and an open addressing hash index of slots for lookup, so that all operations are
+ * constant time. There is no node or map entry object per element, which keeps the memory overhead low when
+ * tracking millions of elements, such as entities in a shard.
  */
 @InternalApi
 private[pekko] final class RecencyList[A](clock: RecencyList.Clock) {
-  import RecencyList.Node
+  import RecencyList._
 
-  private val recency = new DoubleLinkedList[Node[A]](
-    getPrevious = _.lessRecent,
-    getNext = _.moreRecent,
-    setPrevious = (node, previous) => node.lessRecent = previous,
-    setNext = (node, next) => node.moreRecent = next)
+  private var capacity = InitialCapacity
+  private var values = new Array[AnyRef](capacity)
+  private var timestamps = new Array[Long](capacity)
+  private var lessRecent = new Array[Int](capacity)
+  private var moreRecent = new Array[Int](capacity)
+  private var first = NoSlot
+  private var last = NoSlot
+  // removed slots are reused, linked through moreRecent
+  private var freeSlots = NoSlot
+  private var usedSlots = 0
+  private var count = 0
 
-  private val lookupNode = mutable.Map.empty[A, Node[A]]
+  // linear probing hash index, with slot + 1 as entries and 0 for empty, at most half full
+  private var index = new Array[Int](capacity * 2)
 
-  def size: Int = lookupNode.size
+  def size: Int = count
 
   def update(value: A): RecencyList[A] = {
-    if (lookupNode.contains(value)) {
-      val node = lookupNode(value)
-      node.timestamp = clock.currentTime()
-      recency.moveToBack(node)
+    val slot = findSlot(value)
+    if (slot != NoSlot) {
+      timestamps(slot) = clock.currentTime()
+      moveToBack(slot)
     } else {
-      val node = new Node(value)
-      node.timestamp = clock.currentTime()
-      recency.append(node)
-      lookupNode += value -> node
+      val newSlot = allocateSlot()
+      values(newSlot) = value.asInstanceOf[AnyRef]
+      timestamps(newSlot) = clock.currentTime()
+      append(newSlot)
+      addToIndex(value, newSlot)
+      count += 1
     }
     this
   }
 
   def remove(value: A): RecencyList[A] = {
-    if (lookupNode.contains(value)) {
-      removeNode(lookupNode(value))
+    val slot = findSlot(value)
+    if (slot != NoSlot) {
+      removeSlot(slot)
+      shrinkIfSparse()
     }
     this
   }
 
-  def contains(value: A): Boolean = lookupNode.contains(value)
+  def contains(value: A): Boolean = findSlot(value) != NoSlot
 
-  def leastRecent: OptionVal[A] = recency.getFirst match {
-    case OptionVal.Some(first) => OptionVal.Some(first.value)
-    case _                     => OptionVal.none
-  }
+  def leastRecent: OptionVal[A] =
+    if (first == NoSlot) OptionVal.none
+    else OptionVal.Some(valueAt(first))
 
-  def mostRecent: OptionVal[A] = recency.getLast match {
-    case OptionVal.Some(last) => OptionVal.Some(last.value)
-    case _                    => OptionVal.none
-  }
+  def mostRecent: OptionVal[A] =
+    if (last == NoSlot) OptionVal.none
+    else OptionVal.Some(valueAt(last))
 
-  def leastToMostRecent: Iterator[A] = recency.forwardIterator.map(_.value)
+  def leastToMostRecent: Iterator[A] = slots(first, forward = true).map(valueAt)
 
-  def mostToLeastRecent: Iterator[A] = recency.backwardIterator.map(_.value)
+  def mostToLeastRecent: Iterator[A] = slots(last, forward = false).map(valueAt)
 
   def removeLeastRecent(n: Int): immutable.Seq[A] =
-    if (n == 1) removeLeastRecent() // optimised removal of just 1 node
-    else recency.forwardIterator.take(n).map(removeNode).toList
+    removeSlots(first, forward = true, skip = 0, n, _ => true)
 
   def removeLeastRecent(n: Int, skip: Int): immutable.Seq[A] =
-    recency.forwardIterator.slice(skip, skip + n).map(removeNode).toList
+    removeSlots(first, forward = true, skip, n, _ => true)
 
-  def removeLeastRecent(): immutable.Seq[A] = recency.getFirst match {
-    case OptionVal.Some(first) => List(removeNode(first))
-    case _                     => Nil
-  }
+  def removeLeastRecent(): immutable.Seq[A] = removeLeastRecent(1)
 
   def removeMostRecent(n: Int): immutable.Seq[A] =
-    if (n == 1) removeMostRecent() // optimised removal of just 1 node
-    else recency.backwardIterator.take(n).map(removeNode).toList
+    removeSlots(last, forward = false, skip = 0, n, _ => true)
 
   def removeMostRecent(n: Int, skip: Int): immutable.Seq[A] =
-    recency.backwardIterator.slice(skip, skip + n).map(removeNode).toList
+    removeSlots(last, forward = false, skip, n, _ => true)
 
-  def removeMostRecent(): immutable.Seq[A] = recency.getLast match {
-    case OptionVal.Some(last) => List(removeNode(last))
-    case _                    => Nil
-  }
+  def removeMostRecent(): immutable.Seq[A] = removeMostRecent(1)
 
   def removeLeastRecentOutside(duration: FiniteDuration): immutable.Seq[A] = {
     val min = clock.earlierTime(duration)
-    recency.forwardIterator.takeWhile(_.timestamp < min).map(removeNode).toList
+    removeSlots(first, forward = true, skip = 0, Int.MaxValue, slot => timestamps(slot) < min)
   }
 
   def removeMostRecentWithin(duration: FiniteDuration): immutable.Seq[A] = {
     val max = clock.earlierTime(duration)
-    recency.backwardIterator.takeWhile(_.timestamp > max).map(removeNode).toList
+    removeSlots(last, forward = false, skip = 0, Int.MaxValue, slot => timestamps(slot) > max)
+  }
+
+  private def valueAt(slot: Int): A = values(slot).asInstanceOf[A]
+
+  private def next(slot: Int, forward: Boolean): Int =
+    if (forward) moreRecent(slot) else lessRecent(slot)
+
+  private def slots(start: Int, forward: Boolean): Iterator[Int] = new AbstractIterator[Int] {
+    private[this] var current = start
+    override def hasNext: Boolean = current != NoSlot
+    override def next(): Int = {
+      val slot = current
+      current = RecencyList.this.next(slot, forward)
+      slot
+    }
   }
 
-  private def removeNode(node: Node[A]): A = {
-    val value = node.value
-    recency.remove(node)
-    lookupNode -= value
-    value
+  private def removeSlots(
+      start: Int,
+      forward: Boolean,
+      skip: Int,
+      n: Int,
+      condition: Int => Boolean): immutable.Seq[A] = {
+    var slot = start
+    var skipped = 0
+    while (slot != NoSlot && skipped < skip) {
+      slot = next(slot, forward)
+      skipped += 1
+    }
+    val removed = List.newBuilder[A]
+    var taken = 0
+    while (slot != NoSlot && taken < n && condition(slot)) {
+      val nextSlot = next(slot, forward)
+      removed += valueAt(slot)
+      removeSlot(slot)
+      slot = nextSlot
+      taken += 1
+    }
+    // only shrink after the removals, since shrinking moves the slots
+    if (taken > 0) shrinkIfSparse()
+    removed.result()
+  }
+
+  private def append(slot: Int): Unit = {
+    lessRecent(slot) = last
+    moreRecent(slot) = NoSlot
+    if (last != NoSlot) moreRecent(last) = slot
+    else first = slot
+    last = slot
+  }
+
+  private def unlink(slot: Int): Unit = {
+    val previous = lessRecent(slot)
+    val following = moreRecent(slot)
+    if (previous != NoSlot) moreRecent(previous) = following
+    else first = following
+    if (following != NoSlot) lessRecent(following) = previous
+    else last = previous
+  }
+
+  private def moveToBack(slot: Int): Unit =
+    if (last != slot) {
+      unlink(slot)
+      append(slot)
+    }
+
+  private def allocateSlot(): Int = {
+    if (freeSlots != NoSlot) {
+      val slot = freeSlots
+      freeSlots = moreRecent(slot)
+      slot
+    } else {
+      if (usedSlots == capacity) resize(capacity * 2)
+      val slot = usedSlots
+      usedSlots += 1
+      slot
+    }
+  }
+
+  private def removeSlot(slot: Int): Unit = {
+    unlink(slot)
+    removeFromIndex(values(slot))
+    values(slot) = null
+    moreRecent(slot) = freeSlots
+    freeSlots = slot
+    count -= 1
+  }
+
+  private def shrinkIfSparse(): Unit =
+    if (capacity > InitialCapacity && count < capacity / 4) resize(capacity / 2)
+
+  // copies the elements in recency order to new arrays, which also compacts the free slots
+  private def resize(newCapacity: Int): Unit = {
+    val newValues = new Array[AnyRef](newCapacity)
+    val newTimestamps = new Array[Long](newCapacity)
+    val newLessRecent = new Array[Int](newCapacity)
+    val newMoreRecent = new Array[Int](newCapacity)
+    var slot = first
+    var i = 0
+    while (slot != NoSlot) {
+      newValues(i) = values(slot)
+      newTimestamps(i) = timestamps(slot)
+      newLessRecent(i) = i - 1
+      newMoreRecent(i) = i + 1
+      slot = moreRecent(slot)
+      i += 1
+    }
+    if (i > 0) newMoreRecent(i - 1) = NoSlot
+    first = if (i > 0) 0 else NoSlot
+    last = i - 1
+    capacity = newCapacity
+    values = newValues
+    timestamps = newTimestamps
+    lessRecent = newLessRecent
+    moreRecent = newMoreRecent
+    freeSlots = NoSlot
+    usedSlots = i
+    index = new Array[Int](newCapacity * 2)
+    var s = 0
+    while (s < i) {
+      addToIndex(values(s), s)
+      s += 1
+    }
+  }
+
+  private def findSlot(value: Any): Int = {
+    val mask = index.length - 1
+    var i = hash(value) & mask
+    var slot = NoSlot
+    var searching = true
+    while (searching) {
+      val entry = index(i)
+      if (entry == 0) searching = false
+      else if (values(entry - 1) == value) {
+        slot = entry - 1
+        searching = false
+      } else i = (i + 1) & mask
+    }
+    slot
+  }
+
+  private def addToIndex(value: Any, slot: Int): Unit = {
+    val mask = index.length - 1
+    var i = hash(value) & mask
+    while (index(i) != 0) i = (i + 1) & mask
+    index(i) = slot + 1
+  }
+
+  // backward shift deletion, moves following entries of the probe sequence into the gap
+  private def removeFromIndex(value: Any): Unit = {
+    val mask = index.length - 1
+    var gap = hash(value) & mask
+    while (values(index(gap) - 1) != value) gap = (gap + 1) & mask
+    var i = (gap + 1) & mask
+    while (index(i) != 0) {
+      val home = hash(values(index(i) - 1)) & mask
+      if (((i - home) & mask) >= ((i - gap) & mask)) {
+        index(gap) = index(i)
+        gap = i
+      }
+      i = (i + 1) & mask
+    }
+    index(gap) = 0
   }
 }
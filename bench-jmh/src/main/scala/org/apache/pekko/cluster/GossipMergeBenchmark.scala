@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster
+
+import java.util.concurrent.TimeUnit
+
+import scala.collection.immutable
+
+import org.openjdk.jmh.annotations.{ Scope => JmhScope }
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+
+import org.apache.pekko
+import pekko.actor.Address
+import pekko.util.Version
+
+/**
+ * Cost of merging the membership `Gossip` of two nodes that have seen concurrent changes, in large clusters.
+ */
+@Fork(1)
+@State(JmhScope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput))
+@Warmup(iterations = 4)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+class GossipMergeBenchmark {
+
+  @Param(Array("500", "1000", "2000"))
+  var numberOfNodes = 0
+
+  var gossip1: Gossip = _
+  var gossip2: Gossip = _
+
+  @Setup(Level.Trial)
+  def setup(): Unit = {
+    val nodes = (1 to numberOfNodes).map { n =>
+      UniqueAddress(Address("pekko", "Sys", s"host-$n", 7355), n.toLong)
+    }
+    val members = nodes.zipWithIndex.map {
+      case (node, n) =>
+        Member(node, Set(ClusterSettings.DcRolePrefix + ClusterSettings.DefaultDataCenter), Version.Zero).copyUp(n)
+    }
+    val version = nodes.foldLeft(VectorClock()) { (vclock, node) =>
+      vclock :+ VectorClock.Node(Gossip.vclockName(node))
+    }
+    // a few nodes have observed a few unreachable nodes
+    val reachability = nodes.take(5).foldLeft(Reachability.empty) { (r, observer) =>
+      nodes.takeRight(3).foldLeft(r)((r2, subject) => r2.unreachable(observer, subject))
+    }
+    val base = Gossip(
+      immutable.SortedSet.empty[Member] ++ members,
+      GossipOverview(Set.empty, reachability),
+      version,
+      (1 to 10).map(n => UniqueAddress(Address("pekko", "Sys", s"removed-$n", 7355), n.toLong) -> 1L).toMap)
+
+    // concurrent changes on two of the nodes
+    gossip1 = (base :+ VectorClock.Node(Gossip.vclockName(nodes(1))))
+      .copy(members = base.members - members(1) + members(1).copy(MemberStatus.Leaving))
+    gossip2 = (base :+ VectorClock.Node(Gossip.vclockName(nodes(2))))
+      .copy(overview = GossipOverview(Set.empty, reachability.unreachable(nodes(2), nodes(3))))
+  }
+
+  @Benchmark
+  def merge(): Gossip =
+    gossip1.merge(gossip2)
+
+  @Benchmark
+  def compareVersions(): VectorClock.Ordering =
+    gossip1.version.compareTo(gossip2.version)
+
+  @Benchmark
+  def mergeReachability(): Reachability =
+    gossip1.overview.reachability.merge(gossip1.members.map(_.uniqueAddress), gossip2.overview.reachability)
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.ddata
+
+import java.util.concurrent.TimeUnit
+
+import scala.concurrent.Await
+import scala.concurrent.duration._
+
+import com.typesafe.config.ConfigFactory
+import org.openjdk.jmh.annotations.{ Scope => JmhScope }
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import org.openjdk.jmh.annotations.Warmup
+
+import org.apache.pekko
+import pekko.actor.ActorSystem
+import pekko.cluster.Cluster
+import pekko.cluster.ddata.Replicator.Internal.DataEnvelope
+import pekko.cluster.ddata.Replicator.Internal.Delta
+import pekko.cluster.ddata.Replicator.Internal.DeltaPropagation
+import pekko.serialization.SerializationExtension
+import pekko.serialization.Serializers
+
+/**
+ * Serialization of `DeltaPropagation` with deltas of `ORMap` entries, with and without compression.
+ * The size of the serialized message is printed after each iteration.
+ */
+@Fork(1)
+@State(JmhScope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput))
+@Warmup(iterations = 4)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.SECONDS)
+class DeltaPropagationSerializationBenchmark {
+
+  @Param(Array("10", "500"))
+  var numberOfKeys: Int = _
+
+  @Param(Array("off", "1024"))
+  var compressionThreshold: String = _
+
+  var system: ActorSystem = _
+  var deltaPropagation: DeltaPropagation = _
+  var serializerId: Int = _
+  var manifest: String = _
+  var bytes: Array[Byte] = _
+
+  @Setup
+  def setup(): Unit = {
+    val config = ConfigFactory.parseString(s"""
+      pekko.actor.provider=cluster
+      pekko.remote.artery.canonical.port = 0
+      pekko.cluster.distributed-data.delta-crdt.compression-threshold = $compressionThreshold
+      """)
+    system = ActorSystem("DeltaPropagationSerializationBenchmark", config)
+    val node = SelfUniqueAddress(Cluster(system).selfUniqueAddress)
+
+    val deltas = (1 to numberOfKeys).map { n =>
+      val map = (1 to 10).foldLeft(ORMap.empty[String, ORSet[String]]) {
+        case (acc, i) => acc.updated(node, s"entry-$i", ORSet.empty[String])(_.add(node, s"element-$n-$i"))
+      }
+      s"key-$n" -> Delta(DataEnvelope(map.delta.get), 1L, 1L)
+    }.toMap
+    deltaPropagation = DeltaPropagation(node.uniqueAddress, reply = false, deltas)
+
+    val serialization = SerializationExtension(system)
+    val serializer = serialization.findSerializerFor(deltaPropagation)
+    serializerId = serializer.identifier
+    manifest = Serializers.manifestFor(serializer, deltaPropagation)
+    bytes = serialization.serialize(deltaPropagation).get
+  }
+
+  @TearDown
+  def shutdown(): Unit = {
+    println(s"Serialized size of DeltaPropagation with [$numberOfKeys] keys: [${bytes.length}] bytes")
+    Await.result(system.terminate(), 5.seconds)
+  }
+
+  @Benchmark
+  def serialize(): Array[Byte] =
+    SerializationExtension(system).serialize(deltaPropagation).get
+
+  @Benchmark
+  def deserialize(): AnyRef =
+    SerializationExtension(system).deserialize(bytes, serializerId, manifest).get
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.sharding
+
+import java.util.concurrent.TimeUnit
+
+import scala.concurrent.Await
+import scala.concurrent.duration._
+
+import com.typesafe.config.ConfigFactory
+import org.openjdk.jmh.annotations._
+
+import org.apache.pekko
+import pekko.actor.Actor
+import pekko.actor.ActorRef
+import pekko.actor.ActorSystem
+import pekko.actor.Props
+import pekko.cluster.sharding.ShardRegion.EntityId
+import pekko.cluster.sharding.internal.RememberEntityStarter
+import pekko.testkit.TestProbe
+
+object RememberEntitiesBenchmark {
+
+  /** Acks all starts immediately, like a region where the entities start instantly. */
+  class AckingRegion extends Actor {
+    override def receive: Receive = {
+      case ShardRegion.StartEntity(entityId) => sender() ! ShardRegion.StartEntityAck(entityId, "1")
+    }
+  }
+}
+
+/**
+ * Restart of the remembered entities of a shard, through the `RememberEntityStarter`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.SingleShotTime))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+class RememberEntitiesBenchmark {
+  import RememberEntitiesBenchmark._
+
+  @Param(Array("100000", "1000000"))
+  var numberOfEntities: Int = _
+
+  @Param(Array("all", "constant"))
+  var strategy: String = _
+
+  var system: ActorSystem = _
+  var settings: ClusterShardingSettings = _
+  var region: ActorRef = _
+  var ids: Set[EntityId] = _
+
+  @Setup
+  def setup(): Unit = {
+    val config = ConfigFactory.parseString(s"""
+      pekko.cluster.sharding {
+        entity-recovery-strategy = $strategy
+        entity-recovery-constant-rate-strategy {
+          frequency = 1 ms
+          number-of-entities = 10000
+        }
+      }
+      """).withFallback(ConfigFactory.load())
+    system = ActorSystem("RememberEntitiesBenchmark", config)
+    settings = ClusterShardingSettings(system)
+    region = system.actorOf(Props[AckingRegion](), "region")
+    ids = (1 to numberOfEntities).iterator.map(_.toString).toSet
+  }
+
+  @TearDown
+  def tearDown(): Unit = {
+    system.terminate()
+    Await.ready(system.whenTerminated, 15.seconds)
+  }
+
+  @Benchmark
+  def startRememberedEntities(): Unit = {
+    val probe = TestProbe()(system)
+    val starter = system.actorOf(RememberEntityStarter.props(region, probe.ref, "1", ids, settings))
+    probe.watch(starter)
+    probe.expectTerminated(starter, 5.minutes)
+  }
+}
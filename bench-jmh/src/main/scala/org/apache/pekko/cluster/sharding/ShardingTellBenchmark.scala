@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.sharding
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+import scala.concurrent.Await
+import scala.concurrent.duration._
+
+import com.typesafe.config.ConfigFactory
+import org.openjdk.jmh.annotations._
+
+import org.apache.pekko
+import pekko.actor.Actor
+import pekko.actor.ActorRef
+import pekko.actor.ActorSystem
+import pekko.actor.Props
+import pekko.cluster.Cluster
+import pekko.cluster.MemberStatus
+
+object ShardingTellBenchmark {
+  final val NumberOfMessages = 100000
+  final val NumberOfEntities = 1000
+
+  final case class Envelope(entityId: String, payload: Int)
+
+  @volatile var latch: CountDownLatch = new CountDownLatch(0)
+
+  class Entity extends Actor {
+    override def receive: Receive = {
+      case _: Int => latch.countDown()
+    }
+  }
+
+  class Extractor(numberOfShards: Int) extends ShardRegion.HashCodeMessageExtractor(numberOfShards) {
+    override def entityId(message: Any): String = message match {
+      case Envelope(entityId, _) => entityId
+      case _                     => null
+    }
+    override def entityMessage(message: Any): Any = message match {
+      case Envelope(_, payload) => payload
+      case other                => other
+    }
+  }
+}
+
+/**
+ * Throughput of `tell` through the `ShardRegion` to entities that are already started on the same node.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+class ShardingTellBenchmark {
+  import ShardingTellBenchmark._
+
+  @Param(Array("100", "1000"))
+  var numberOfShards: Int = _
+
+  var system: ActorSystem = _
+  var region: ActorRef = _
+  val messages: Array[Envelope] =
+    Array.tabulate(NumberOfMessages)(n => Envelope((n % NumberOfEntities).toString, n))
+
+  @Setup
+  def setup(): Unit = {
+    val config = ConfigFactory.parseString("""
+      pekko.actor.provider = cluster
+      pekko.remote.artery.canonical.port = 0
+      pekko.cluster.jmx.enabled = off
+      pekko.cluster.sharding.distributed-data.durable.keys = []
+      pekko.loglevel = WARNING
+      """).withFallback(ConfigFactory.load())
+    system = ActorSystem("ShardingTellBenchmark", config)
+    val cluster = Cluster(system)
+    cluster.join(cluster.selfAddress)
+    while (cluster.selfMember.status != MemberStatus.Up) Thread.sleep(10)
+
+    region = ClusterSharding(system).start(
+      "entity",
+      Props[Entity](),
+      ClusterShardingSettings(system),
+      new Extractor(numberOfShards))
+
+    // start all shards and entities before measuring
+    sendAll()
+  }
+
+  @TearDown
+  def tearDown(): Unit = {
+    system.terminate()
+    Await.ready(system.whenTerminated, 15.seconds)
+  }
+
+  private def sendAll(): Unit = {
+    val l = new CountDownLatch(NumberOfMessages)
+    latch = l
+    var i = 0
+    while (i < NumberOfMessages) {
+      region ! messages(i)
+      i += 1
+    }
+    if (!l.await(30, TimeUnit.SECONDS))
+      throw new IllegalStateException(s"Not all messages delivered, [${l.getCount}] remaining")
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(NumberOfMessages)
+  def tell(): Unit =
+    sendAll()
+}
@@ -0,0 +1,31 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.persistence
+
+import com.typesafe.config.Config
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.annotations.Scope
+
+/**
+ * Same as [[PersistentActorThroughputBenchmark]] but with the LevelDB journal serializing events
+ * in parallel on the `serialization-dispatcher`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput))
+class PersistentActorParallelSerializationThroughputBenchmark extends PersistentActorThroughputBenchmark {
+
+  override val config: Config = PersistenceSpec.config(
+    "leveldb",
+    "benchmark",
+    extraConfig = Some("""
+      pekko.persistence.journal.leveldb.serialization-dispatcher = "pekko.persistence.dispatchers.default-replay-dispatcher"
+      """))
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.util
+
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Fork
+import org.openjdk.jmh.annotations.Measurement
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.Warmup
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Run with `-prof gc` to see the memory used for tracking `size` elements, reported as
+ * `gc.alloc.rate.norm` of the `fill` benchmark.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 20, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+class RecencyListBenchmark {
+  private[this] val GeneratedSize = 1 << 16
+  private final val IndexMask = 0xFFFF
+
+  @Param(Array("100000", "1000000"))
+  var size: Int = _
+
+  private[this] var ids: Array[String] = _
+  private[this] var recency: RecencyList[String] = _
+  private[this] var generated: Array[String] = _
+  private[this] var index: Int = 0
+
+  @Setup
+  def setup(): Unit = {
+    ids = Array.tabulate(size)(_.toString)
+    recency = RecencyList.empty[String]
+    ids.foreach(recency.update)
+    generated = new Array[String](GeneratedSize)
+    val generator = ZipfianGenerator(size)
+    for (i <- 0 until GeneratedSize) {
+      generated(i) = ids(generator.next().intValue % size)
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Array(Mode.SingleShotTime))
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  def fill(): RecencyList[String] = {
+    val list = RecencyList.empty[String]
+    var i = 0
+    while (i < size) {
+      list.update(ids(i))
+      i += 1
+    }
+    list
+  }
+
+  @Benchmark
+  def update(): Unit = {
+    recency.update(generated(index & IndexMask))
+    index += 1
+  }
+
+  @Benchmark
+  def removeLeastRecentAndUpdate(): Unit = {
+    val removed = recency.removeLeastRecent()
+    if (removed.nonEmpty) recency.update(removed.head)
+  }
+}
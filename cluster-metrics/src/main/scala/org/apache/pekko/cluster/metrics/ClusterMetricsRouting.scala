@@ -292,6 +292,7 @@ case object HeapMetricsSelector extends CapacityMetricsSelector {
  * In modern Linux kernels: CpuCombined + CpuStolen + CpuIdle = 1.0  or 100%.
  * Combined CPU is sum of User + Sys + Nice + Wait times, as percentage.
  * Stolen CPU is the amount of CPU taken away from this virtual machine by the hypervisor, as percentage.
+ * Stolen CPU is not available from the [[JvmMetricsCollector]], and is then counted as 0.
  *
  * Low CPU capacity => small node weight.
  */
@@ -318,9 +319,9 @@ case object CpuMetricsSelector extends CapacityMetricsSelector {
 
   override def capacity(nodeMetrics: Set[NodeMetrics]): Map[Address, Double] = {
     nodeMetrics.collect {
-      case Cpu(address, _, _, Some(cpuCombined), Some(cpuStolen), _) =>
+      case Cpu(address, _, _, Some(cpuCombined), cpuStolen, _) =>
         // Arbitrary load rating function which skews in favor of stolen time.
-        val load = cpuCombined + cpuStolen * (1.0 + factor)
+        val load = cpuCombined + cpuStolen.getOrElse(0.0) * (1.0 + factor)
         val capacity = if (load >= 1.0) 0.0 else 1.0 - load
         (address, capacity)
     }.toMap
@@ -352,6 +353,55 @@ case object SystemLoadAverageMetricsSelector extends CapacityMetricsSelector {
   }
 }
 
+/**
+ * MetricsSelector that uses the fraction of time spent in garbage collection pauses,
+ * as sampled by the [[JvmMetricsCollector]]. A node that spends [[GcPauseMetricsSelector.maxGcPauseRatio]]
+ * or more of its time in garbage collection pauses has no remaining capacity.
+ * Much time in garbage collection => small weight.
+ */
+@SerialVersionUID(1L)
+case object GcPauseMetricsSelector extends CapacityMetricsSelector {
+  import pekko.cluster.metrics.StandardMetrics.GcPauseRatio
+
+  /**
+   * Java API: get the singleton instance
+   */
+  def getInstance = this
+
+  /** Fraction of time spent in garbage collection pauses that is considered as full utilization. */
+  val maxGcPauseRatio = 0.1
+
+  override def capacity(nodeMetrics: Set[NodeMetrics]): Map[Address, Double] = {
+    nodeMetrics.iterator.flatMap { nm =>
+      nm.metric(GcPauseRatio).map { ratio =>
+        (nm.address, 1.0 - math.min(1.0, ratio.smoothValue / maxGcPauseRatio))
+      }
+    }.toMap
+  }
+}
+
+/**
+ * MetricsSelector that uses the number of tasks, typically actor mailboxes, that are waiting
+ * for a thread of the dispatcher, per thread, as sampled by the [[JvmMetricsCollector]].
+ * Remaining capacity is 1 / (1 + backlog), i.e. 1.0 when nothing is waiting.
+ * Large backlog => small weight.
+ */
+@SerialVersionUID(1L)
+case object BacklogMetricsSelector extends CapacityMetricsSelector {
+  import pekko.cluster.metrics.StandardMetrics.DispatcherBacklog
+
+  /**
+   * Java API: get the singleton instance
+   */
+  def getInstance = this
+
+  override def capacity(nodeMetrics: Set[NodeMetrics]): Map[Address, Double] = {
+    nodeMetrics.iterator.flatMap { nm =>
+      nm.metric(DispatcherBacklog).map(backlog => (nm.address, 1.0 / (1.0 + backlog.smoothValue)))
+    }.toMap
+  }
+}
+
 /**
  * Singleton instance of the default MixMetricsSelector, which uses [org.apache.pekko.cluster.routing.HeapMetricsSelector],
  * [org.apache.pekko.cluster.routing.CpuMetricsSelector], and [org.apache.pekko.cluster.routing.SystemLoadAverageMetricsSelector]
@@ -407,10 +457,12 @@ abstract class MixMetricsSelectorBase(selectors: immutable.IndexedSeq[CapacityMe
 object MetricsSelector {
   def fromConfig(config: Config, dynamicAccess: DynamicAccess) =
     config.getString("metrics-selector") match {
-      case "mix"  => MixMetricsSelector
-      case "heap" => HeapMetricsSelector
-      case "cpu"  => CpuMetricsSelector
-      case "load" => SystemLoadAverageMetricsSelector
+      case "mix"      => MixMetricsSelector
+      case "heap"     => HeapMetricsSelector
+      case "cpu"      => CpuMetricsSelector
+      case "load"     => SystemLoadAverageMetricsSelector
+      case "gc-pause" => GcPauseMetricsSelector
+      case "backlog"  => BacklogMetricsSelector
       case fqn =>
         val args = List(classOf[Config] -> config)
         dynamicAccess
@@ -132,6 +132,22 @@ object StandardMetrics {
   /** Amount of CPU time left after combined and stolen are removed. */
   final val CpuIdle = "cpu-idle"
 
+  /** CPU usage of the JVM process. See [[JvmMetricsCollector]] */
+  final val ProcessCpuLoad = "process-cpu-load"
+
+  // Constants for the JVM runtime related Metric names, see [[JvmMetricsCollector]]
+  /** Fraction of time spent in garbage collection pauses. */
+  final val GcPauseRatio = "gc-pause-ratio"
+
+  /** Number of bytes allocated in the heap per second. */
+  final val HeapAllocationRate = "heap-allocation-rate"
+
+  /** Number of tasks (mailboxes) waiting for a thread of the dispatcher, per thread. */
+  final val DispatcherBacklog = "dispatcher-backlog"
+
+  /** Fraction of the threads of the dispatcher that are running tasks. */
+  final val DispatcherUtilization = "dispatcher-utilization"
+
   object HeapMemory {
 
     /**
@@ -15,10 +15,18 @@ package org.apache.pekko.cluster.metrics
 
 import java.io.Closeable
 import java.lang.System.{ currentTimeMillis => newTimestamp }
+import java.lang.management.GarbageCollectorMXBean
 import java.lang.management.ManagementFactory
 import java.lang.management.MemoryMXBean
 import java.lang.management.MemoryUsage
 import java.lang.management.OperatingSystemMXBean
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.ForkJoinWorkerThread
+
+import scala.annotation.nowarn
+import scala.collection.immutable
+import scala.collection.mutable
+import scala.concurrent.ExecutionContext
 
 import org.hyperic.sigar.SigarProxy
 
@@ -29,6 +37,7 @@ import pekko.actor.Address
 import pekko.actor.ExtendedActorSystem
 import pekko.cluster.Cluster
 import pekko.event.Logging
+import pekko.util.ccompat.JavaConverters._
 
 /**
  * Metrics sampler.
@@ -53,18 +62,23 @@ trait MetricsCollector extends Closeable {
  * Metrics collector instantiation priority order:
  * 1) Provided custom collector
  * 2) Internal [[SigarMetricsCollector]]
- * 3) Internal [[JmxMetricsCollector]]
+ * 3) Internal [[JvmMetricsCollector]]
+ * 4) Internal [[JmxMetricsCollector]]
  */
 private[metrics] object MetricsCollector {
 
   /** Try to create collector instance in the order of priority. */
-  def apply(system: ActorSystem): MetricsCollector = {
+  def apply(system: ActorSystem): MetricsCollector =
+    apply(system, classOf[SigarMetricsCollector].getName)
+
+  /** The Sigar collector can be replaced in tests, since Sigar may or may not be available. */
+  def apply(system: ActorSystem, collectorSigar: String): MetricsCollector = {
     val log = Logging(system, classOf[MetricsCollector])
     val settings = ClusterMetricsSettings(system.settings.config)
     import settings._
 
     val collectorCustom = CollectorProvider
-    val collectorSigar = classOf[SigarMetricsCollector].getName
+    val collectorJvm = classOf[JvmMetricsCollector].getName
     val collectorJMX = classOf[JmxMetricsCollector].getName
 
     val useCustom = !CollectorFallback
@@ -83,9 +97,12 @@ private[metrics] object MetricsCollector {
       if (useCustom)
         create(collectorCustom)
       else if (useInternal)
-        create(collectorSigar).orElse(create(collectorJMX))
+        create(collectorSigar).orElse(create(collectorJvm)).orElse(create(collectorJMX))
       else // Use complete fall back chain.
-        create(collectorCustom).orElse(create(collectorSigar)).orElse(create(collectorJMX))
+        create(collectorCustom)
+          .orElse(create(collectorSigar))
+          .orElse(create(collectorJvm))
+          .orElse(create(collectorJMX))
 
     collector.recover {
       case e => throw new ConfigurationException(s"Could not create metrics collector: ${e.getMessage}", e)
@@ -180,6 +197,182 @@ class JmxMetricsCollector(address: Address, decayFactor: Double) extends Metrics
 
 }
 
+/**
+ * Loads JVM and system metrics through the `com.sun.management` extensions of the JMX monitoring beans,
+ * without any native library. In addition to the metrics of the [[JmxMetricsCollector]] it samples
+ * the CPU utilization, the fraction of time spent in garbage collection pauses, the heap allocation rate,
+ * and the backlog and utilization of the dispatcher that runs the actors.
+ *
+ * The constructor will by design throw exception if the `com.sun.management` beans are not available.
+ *
+ * @param address The [[pekko.actor.Address]] of the node being sampled
+ * @param decayFactor how quickly the exponential weighting of past data is decayed
+ * @param dispatcher the dispatcher of which the backlog and utilization is sampled, only
+ *   sampled when it is backed by a `ForkJoinPool`
+ */
+class JvmMetricsCollector(address: Address, decayFactor: Double, dispatcher: ExecutionContext)
+    extends JmxMetricsCollector(address, decayFactor) {
+
+  import StandardMetrics._
+
+  def this(address: Address, settings: ClusterMetricsSettings, dispatcher: ExecutionContext) =
+    this(address, EWMA.alpha(settings.CollectorMovingAverageHalfLife, settings.CollectorSampleInterval), dispatcher)
+
+  /**
+   * This constructor is used when creating an instance from configured FQCN
+   */
+  def this(system: ActorSystem) =
+    this(Cluster(system).selfAddress, ClusterMetricsExtension(system).settings, system.dispatcher)
+
+  private val decayFactorOption = Some(decayFactor)
+
+  private val sunOsMBean =
+    ManagementFactory.getOperatingSystemMXBean.asInstanceOf[com.sun.management.OperatingSystemMXBean]
+
+  private val sunThreadMBean = ManagementFactory.getThreadMXBean.asInstanceOf[com.sun.management.ThreadMXBean]
+
+  // the "Cycles" and "Concurrent" beans of ZGC, Shenandoah and G1 measure concurrent work, not pauses
+  private val gcMBeans: immutable.Seq[GarbageCollectorMXBean] =
+    ManagementFactory.getGarbageCollectorMXBeans.asScala.iterator.filterNot { gc =>
+      gc.getName.endsWith("Cycles") || gc.getName.contains("Concurrent")
+    }.toList
+
+  // discovered by running a task on the dispatcher
+  @volatile private var dispatcherPool: Option[ForkJoinPool] = None
+
+  private var previousSampleNanos = System.nanoTime()
+  private var previousGcTimeMillis = totalGcTimeMillis()
+  private var previousAllocatedBytes = mutable.LongMap.empty[Long]
+  allocatedBytesSinceLastSample()
+
+  /**
+   * Verify at the end of construction that the beans are operational.
+   */
+  metrics()
+
+  // Construction complete.
+
+  override def metrics(): Set[Metric] = {
+    val now = System.nanoTime()
+    val elapsedNanos = math.max(1L, now - previousSampleNanos)
+    previousSampleNanos = now
+    if (dispatcherPool.isEmpty) discoverDispatcherPool()
+    super
+      .metrics()
+      .union(
+        Set(
+          cpuCombined,
+          processCpuLoad,
+          gcPauseRatio(elapsedNanos),
+          heapAllocationRate(elapsedNanos),
+          dispatcherBacklog,
+          dispatcherUtilization).flatten)
+  }
+
+  /**
+   * (JMX) Returns the recent CPU usage of the whole system, in percentage ([0.0 - 1.0]).
+   * Takes container CPU limits into account on JVMs that support containers.
+   *
+   * Creates a new instance each time.
+   */
+  @nowarn("msg=deprecated")
+  def cpuCombined: Option[Metric] =
+    Metric.create(name = CpuCombined, value = sunOsMBean.getSystemCpuLoad, decayFactor = decayFactorOption)
+
+  /**
+   * (JMX) Returns the recent CPU usage of the JVM process, in percentage ([0.0 - 1.0]).
+   *
+   * Creates a new instance each time.
+   */
+  def processCpuLoad: Option[Metric] =
+    Metric.create(name = ProcessCpuLoad, value = sunOsMBean.getProcessCpuLoad, decayFactor = decayFactorOption)
+
+  /**
+   * (JMX) Returns the fraction of the time since the previous sample that was spent in garbage collection
+   * pauses, in percentage ([0.0 - 1.0]).
+   *
+   * Creates a new instance each time.
+   */
+  def gcPauseRatio(elapsedNanos: Long): Option[Metric] = {
+    val gcTimeMillis = totalGcTimeMillis()
+    val ratio = math.min(1.0, (gcTimeMillis - previousGcTimeMillis) * 1000000.0 / elapsedNanos)
+    previousGcTimeMillis = gcTimeMillis
+    Metric.create(name = GcPauseRatio, value = ratio, decayFactor = decayFactorOption)
+  }
+
+  /**
+   * (JMX) Returns the number of bytes that were allocated in the heap per second since the previous
+   * sample, if allocation measurement is supported and enabled in the JVM.
+   *
+   * Creates a new instance each time.
+   */
+  def heapAllocationRate(elapsedNanos: Long): Option[Metric] =
+    if (sunThreadMBean.isThreadAllocatedMemorySupported && sunThreadMBean.isThreadAllocatedMemoryEnabled) {
+      val rate = allocatedBytesSinceLastSample() * 1000000000.0 / elapsedNanos
+      Metric.create(name = HeapAllocationRate, value = rate, decayFactor = decayFactorOption)
+    } else None
+
+  /**
+   * Returns the number of tasks, typically actor mailboxes, that are waiting for a thread of the
+   * dispatcher, per thread of the dispatcher.
+   *
+   * Creates a new instance each time.
+   */
+  def dispatcherBacklog: Option[Metric] =
+    dispatcherPool.flatMap { pool =>
+      val queued = pool.getQueuedSubmissionCount + pool.getQueuedTaskCount
+      Metric.create(
+        name = DispatcherBacklog,
+        value = queued.toDouble / pool.getParallelism,
+        decayFactor = decayFactorOption)
+    }
+
+  /**
+   * Returns the fraction of the threads of the dispatcher that are running tasks, in percentage ([0.0 - 1.0]).
+   *
+   * Creates a new instance each time.
+   */
+  def dispatcherUtilization: Option[Metric] =
+    dispatcherPool.flatMap { pool =>
+      val utilization = math.min(1.0, pool.getActiveThreadCount.toDouble / pool.getParallelism)
+      Metric.create(name = DispatcherUtilization, value = utilization, decayFactor = decayFactorOption)
+    }
+
+  private def totalGcTimeMillis(): Long =
+    gcMBeans.foldLeft(0L) { (acc, gc) =>
+      val time = gc.getCollectionTime
+      if (time > 0L) acc + time else acc
+    }
+
+  private def allocatedBytesSinceLastSample(): Long = {
+    val ids = sunThreadMBean.getAllThreadIds
+    val allocated = sunThreadMBean.getThreadAllocatedBytes(ids)
+    val current = new mutable.LongMap[Long](ids.length)
+    var total = 0L
+    var i = 0
+    while (i < ids.length) {
+      val bytes = allocated(i)
+      if (bytes >= 0L) {
+        // threads started since the previous sample are counted from 0
+        total += bytes - previousAllocatedBytes.getOrElse(ids(i), 0L)
+        current.update(ids(i), bytes)
+      }
+      i += 1
+    }
+    previousAllocatedBytes = current
+    math.max(0L, total)
+  }
+
+  private def discoverDispatcherPool(): Unit =
+    dispatcher.execute(new Runnable {
+      override def run(): Unit = Thread.currentThread match {
+        case t: ForkJoinWorkerThread => dispatcherPool = Some(t.getPool)
+        case _                       =>
+      }
+    })
+
+}
+
 /**
  * Loads metrics through Hyperic SIGAR and JMX monitoring beans. This
  * loads wider and more accurate range of metrics compared to JmxMetricsCollector
@@ -45,6 +45,8 @@ class MessageSerializer(val system: ExtendedActorSystem) extends SerializerWithS
   private val CpuMetricsSelectorManifest = "d"
   private val HeapMetricsSelectorManifest = "e"
   private val SystemLoadAverageMetricsSelectorManifest = "f"
+  private val GcPauseMetricsSelectorManifest = "g"
+  private val BacklogMetricsSelectorManifest = "h"
 
   private lazy val serialization = SerializationExtension(system)
 
@@ -55,6 +57,8 @@ class MessageSerializer(val system: ExtendedActorSystem) extends SerializerWithS
     case CpuMetricsSelector               => CpuMetricsSelectorManifest
     case HeapMetricsSelector              => HeapMetricsSelectorManifest
     case SystemLoadAverageMetricsSelector => SystemLoadAverageMetricsSelectorManifest
+    case GcPauseMetricsSelector           => GcPauseMetricsSelectorManifest
+    case BacklogMetricsSelector           => BacklogMetricsSelectorManifest
     case _ =>
       throw new IllegalArgumentException(s"Can't serialize object of type ${obj.getClass} in [${getClass.getName}]")
   }
@@ -66,6 +70,8 @@ class MessageSerializer(val system: ExtendedActorSystem) extends SerializerWithS
     case CpuMetricsSelector               => Array.emptyByteArray
     case HeapMetricsSelector              => Array.emptyByteArray
     case SystemLoadAverageMetricsSelector => Array.emptyByteArray
+    case GcPauseMetricsSelector           => Array.emptyByteArray
+    case BacklogMetricsSelector           => Array.emptyByteArray
     case _ =>
       throw new IllegalArgumentException(s"Can't serialize object of type ${obj.getClass} in [${getClass.getName}]")
   }
@@ -102,6 +108,8 @@ class MessageSerializer(val system: ExtendedActorSystem) extends SerializerWithS
     case CpuMetricsSelectorManifest               => CpuMetricsSelector
     case HeapMetricsSelectorManifest              => HeapMetricsSelector
     case SystemLoadAverageMetricsSelectorManifest => SystemLoadAverageMetricsSelector
+    case GcPauseMetricsSelectorManifest           => GcPauseMetricsSelector
+    case BacklogMetricsSelectorManifest           => BacklogMetricsSelector
     case _ =>
       throw new NotSerializableException(
         s"Unimplemented deserialization of message with manifest [$manifest] in [${getClass.getName}")
@@ -45,7 +45,9 @@ class MetricsSelectorSpec extends AnyWordSpec with Matchers {
       Metric.create(CpuCombined, 0.2, decayFactor),
       Metric.create(CpuStolen, 0.1, decayFactor),
       Metric.create(SystemLoadAverage, 0.5, None),
-      Metric.create(Processors, 8, None)).flatten)
+      Metric.create(Processors, 8, None),
+      Metric.create(GcPauseRatio, 0.01, decayFactor),
+      Metric.create(DispatcherBacklog, 0.0, decayFactor)).flatten)
 
   val nodeMetricsB = NodeMetrics(
     b1,
@@ -57,7 +59,9 @@ class MetricsSelectorSpec extends AnyWordSpec with Matchers {
       Metric.create(CpuCombined, 0.4, decayFactor),
       Metric.create(CpuStolen, 0.2, decayFactor),
       Metric.create(SystemLoadAverage, 1.0, None),
-      Metric.create(Processors, 16, None)).flatten)
+      Metric.create(Processors, 16, None),
+      Metric.create(GcPauseRatio, 0.05, decayFactor),
+      Metric.create(DispatcherBacklog, 1.0, decayFactor)).flatten)
 
   val nodeMetricsC = NodeMetrics(
     c1,
@@ -69,7 +73,9 @@ class MetricsSelectorSpec extends AnyWordSpec with Matchers {
       Metric.create(CpuCombined, 0.6, decayFactor),
       Metric.create(CpuStolen, 0.3, decayFactor),
       Metric.create(SystemLoadAverage, 16.0, None),
-      Metric.create(Processors, 16, None)).flatten)
+      Metric.create(Processors, 16, None),
+      Metric.create(GcPauseRatio, 0.2, decayFactor),
+      Metric.create(DispatcherBacklog, 3.0, decayFactor)).flatten)
 
   val nodeMetricsD = NodeMetrics(
     d1,
@@ -116,6 +122,16 @@ class MetricsSelectorSpec extends AnyWordSpec with Matchers {
       capacity(c1) should ===(1.0 - 0.6 - 0.3 * (1.0 + factor) +- 0.0001)
       capacity.contains(d1) should ===(false)
     }
+
+    "calculate capacity of cpuCombined metrics without cpuStolen metrics" in {
+      // JvmMetricsCollector and JmxMetricsCollector don't collect cpuStolen
+      val withoutStolen = nodeMetrics.map(nm => nm.copy(metrics = nm.metrics.filterNot(_.name == CpuStolen)))
+      val capacity = CpuMetricsSelector.capacity(withoutStolen)
+      capacity(a1) should ===(1.0 - 0.2 +- 0.0001)
+      capacity(b1) should ===(1.0 - 0.4 +- 0.0001)
+      capacity(c1) should ===(1.0 - 0.6 +- 0.0001)
+      capacity.contains(d1) should ===(false)
+    }
   }
 
   "SystemLoadAverageMetricsSelector" must {
@@ -128,6 +144,26 @@ class MetricsSelectorSpec extends AnyWordSpec with Matchers {
     }
   }
 
+  "GcPauseMetricsSelector" must {
+    "calculate capacity of gcPauseRatio metrics" in {
+      val capacity = GcPauseMetricsSelector.capacity(nodeMetrics)
+      capacity(a1) should ===(0.9 +- 0.0001)
+      capacity(b1) should ===(0.5 +- 0.0001)
+      capacity(c1) should ===(0.0 +- 0.0001)
+      capacity.contains(d1) should ===(false)
+    }
+  }
+
+  "BacklogMetricsSelector" must {
+    "calculate capacity of dispatcherBacklog metrics" in {
+      val capacity = BacklogMetricsSelector.capacity(nodeMetrics)
+      capacity(a1) should ===(1.0 +- 0.0001)
+      capacity(b1) should ===(0.5 +- 0.0001)
+      capacity(c1) should ===(0.25 +- 0.0001)
+      capacity.contains(d1) should ===(false)
+    }
+  }
+
   "MixMetricsSelector" must {
     "aggregate capacity of all metrics" in {
       val capacity = MixMetricsSelector.capacity(nodeMetrics)
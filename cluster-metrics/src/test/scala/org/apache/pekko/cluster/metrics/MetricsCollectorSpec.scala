@@ -19,7 +19,10 @@ import scala.util.Try
 
 import scala.annotation.nowarn
 
+import com.typesafe.config.ConfigFactory
+
 import org.apache.pekko
+import pekko.actor.ActorSystem
 import pekko.cluster.metrics.StandardMetrics._
 import pekko.testkit._
 
@@ -103,6 +106,40 @@ class MetricsCollectorSpec
       c.processors.isDefined should ===(true)
     }
 
+    "collect JVM metrics without Sigar" in {
+      val c = collectorJvm
+      try {
+        awaitAssert {
+          val metrics = c.sample().metrics.collect { case m => (m.name, m.value) }.toMap
+          metrics.contains(GcPauseRatio) should ===(true)
+          metrics.contains(DispatcherBacklog) should ===(true)
+          metrics.foreach {
+            case (CpuCombined | ProcessCpuLoad | GcPauseRatio | DispatcherUtilization, b) =>
+              b.doubleValue should be <= 1.0
+              b.doubleValue should be >= 0.0
+            case (HeapAllocationRate | DispatcherBacklog, b) =>
+              b.doubleValue should be >= 0.0
+            case _ =>
+          }
+        }
+      } finally c.close()
+    }
+
+    "fall back to JvmMetricsCollector when Sigar is not available" in {
+      val clusterSystem = ActorSystem(
+        "MetricsCollectorSpec-fallback",
+        ConfigFactory.parseString("""
+          pekko.actor.provider = cluster
+          pekko.remote.classic.netty.tcp.port = 0
+          pekko.remote.artery.canonical.port = 0
+          """).withFallback(system.settings.config))
+      try {
+        val c = MetricsCollector(clusterSystem, classOf[UnavailableSigarMetricsCollector].getName)
+        try c.getClass should ===(classOf[JvmMetricsCollector])
+        finally c.close()
+      } finally shutdown(clusterSystem)
+    }
+
     "collect 50 node metrics samples in an acceptable duration" taggedAs LongRunningTest in within(10 seconds) {
       (1 to 50).foreach { _ =>
         val sample = collector.sample()
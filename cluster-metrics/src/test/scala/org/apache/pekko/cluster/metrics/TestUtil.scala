@@ -128,6 +128,10 @@ trait MetricsCollectorFactory { this: PekkoSpec =>
   def collectorJMX: MetricsCollector =
     new JmxMetricsCollector(selfAddress, defaultDecayFactor)
 
+  /** Create JVM collector. */
+  def collectorJvm: MetricsCollector =
+    new JvmMetricsCollector(selfAddress, defaultDecayFactor, system.dispatcher)
+
   /** Create Sigar collector. Rely on java agent injection. */
   def collectorSigarDefault: MetricsCollector =
     new SigarMetricsCollector(selfAddress, defaultDecayFactor, new Sigar())
@@ -151,6 +155,16 @@ class MockitoSigarMetricsCollector(system: ActorSystem)
       MetricsConfig.defaultDecayFactor,
       MockitoSigarProvider().createSigarInstance) {}
 
+/**
+ * Fails like [[SigarMetricsCollector]] when the Sigar native library is not available.
+ */
+class UnavailableSigarMetricsCollector(system: ActorSystem) extends MetricsCollector {
+  override def sample(): NodeMetrics = throw new UnsupportedOperationException
+  override def close(): Unit = ()
+
+  throw new UnsatisfiedLinkError(s"no sigar in java.library.path of [${system.name}]")
+}
+
 /**
  * Metrics test configurations.
  */
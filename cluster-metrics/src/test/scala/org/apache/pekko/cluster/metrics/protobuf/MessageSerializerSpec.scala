@@ -82,6 +82,11 @@ class MessageSerializerSpec extends PekkoSpec("""
         routerDispatcher = "my-dispatcher",
         usePoolDispatcher = true)
       checkSerialization(complicatedPool)
+
+      val jvmPool = AdaptiveLoadBalancingPool(
+        metricsSelector = MixMetricsSelector(Vector(GcPauseMetricsSelector, BacklogMetricsSelector)),
+        nrOfInstances = 3)
+      checkSerialization(jvmPool)
     }
   }
 }
@@ -108,7 +108,9 @@ object ClusterShardingSettings {
         coordinatorStateWriteMajorityPlus = settings.tuningParameters.coordinatorStateWriteMajorityPlus,
         coordinatorStateReadMajorityPlus = settings.tuningParameters.coordinatorStateReadMajorityPlus,
         leastShardAllocationAbsoluteLimit = settings.tuningParameters.leastShardAllocationAbsoluteLimit,
-        leastShardAllocationRelativeLimit = settings.tuningParameters.leastShardAllocationRelativeLimit),
+        leastShardAllocationRelativeLimit = settings.tuningParameters.leastShardAllocationRelativeLimit,
+        coordinatorStateRegionsSubscribe = settings.tuningParameters.coordinatorStateRegionsSubscribe,
+        handOffWarmUpEntities = settings.tuningParameters.handOffWarmUpEntities),
       coordinatorSingletonOverrideRole = settings.coordinatorSingletonOverrideRole,
       new ClassicClusterSingletonManagerSettings(
         settings.coordinatorSingletonSettings.singletonName,
@@ -184,8 +186,37 @@ object ClusterShardingSettings {
       val activeEntityLimit: Option[Int],
       val replacementPolicySettings: Option[PassivationStrategySettings.PolicySettings],
       val admissionSettings: Option[PassivationStrategySettings.AdmissionSettings],
+      val adaptiveLimitSettings: Option[PassivationStrategySettings.AdaptiveLimitSettings],
       private[pekko] val oldSettingUsed: Boolean) {
 
+    private[pekko] def this(
+        idleEntitySettings: Option[PassivationStrategySettings.IdleSettings],
+        activeEntityLimit: Option[Int],
+        replacementPolicySettings: Option[PassivationStrategySettings.PolicySettings],
+        admissionSettings: Option[PassivationStrategySettings.AdmissionSettings],
+        oldSettingUsed: Boolean) =
+      this(
+        idleEntitySettings,
+        activeEntityLimit,
+        replacementPolicySettings,
+        admissionSettings,
+        adaptiveLimitSettings = None,
+        oldSettingUsed)
+
+    def this(
+        idleEntitySettings: Option[PassivationStrategySettings.IdleSettings],
+        activeEntityLimit: Option[Int],
+        replacementPolicySettings: Option[PassivationStrategySettings.PolicySettings],
+        admissionSettings: Option[PassivationStrategySettings.AdmissionSettings],
+        adaptiveLimitSettings: Option[PassivationStrategySettings.AdaptiveLimitSettings]) =
+      this(
+        idleEntitySettings,
+        activeEntityLimit,
+        replacementPolicySettings,
+        admissionSettings,
+        adaptiveLimitSettings,
+        oldSettingUsed = false)
+
     private[pekko] def this(
         idleEntitySettings: Option[PassivationStrategySettings.IdleSettings],
         activeEntityLimit: Option[Int],
@@ -248,12 +279,26 @@ object ClusterShardingSettings {
     def withAdmission(settings: AdmissionSettings): PassivationStrategySettings =
       copy(admissionSettings = Some(settings))
 
+    /**
+     * Adapt the active entity limit of the shard regions to the heap pressure. Only used when
+     * an active entity limit is defined and remember entities is not enabled.
+     */
+    def withAdaptiveLimit(settings: AdaptiveLimitSettings): PassivationStrategySettings =
+      copy(adaptiveLimitSettings = Some(settings))
+
+    def withAdaptiveLimit(): PassivationStrategySettings =
+      withAdaptiveLimit(AdaptiveLimitSettings.defaults)
+
+    def withoutAdaptiveLimit(): PassivationStrategySettings =
+      copy(adaptiveLimitSettings = None)
+
     private[pekko] def withOldIdleStrategy(timeout: FiniteDuration): PassivationStrategySettings =
       copy(
         idleEntitySettings = Some(new IdleSettings(timeout, None)),
         activeEntityLimit = None,
         replacementPolicySettings = None,
         admissionSettings = None,
+        adaptiveLimitSettings = None,
         oldSettingUsed = true)
 
     private def copy(
@@ -261,12 +306,14 @@ object ClusterShardingSettings {
         activeEntityLimit: Option[Int] = activeEntityLimit,
         replacementPolicySettings: Option[PolicySettings] = replacementPolicySettings,
         admissionSettings: Option[AdmissionSettings] = admissionSettings,
+        adaptiveLimitSettings: Option[AdaptiveLimitSettings] = adaptiveLimitSettings,
         oldSettingUsed: Boolean = oldSettingUsed): PassivationStrategySettings =
       new PassivationStrategySettings(
         idleEntitySettings,
         activeEntityLimit,
         replacementPolicySettings,
         admissionSettings,
+        adaptiveLimitSettings,
         oldSettingUsed)
   }
 
@@ -282,6 +329,7 @@ object ClusterShardingSettings {
       activeEntityLimit = None,
       replacementPolicySettings = None,
       admissionSettings = None,
+      adaptiveLimitSettings = None,
       oldSettingUsed = false)
 
     val disabled: PassivationStrategySettings = defaults
@@ -292,6 +340,7 @@ object ClusterShardingSettings {
         classic.activeEntityLimit,
         classic.replacementPolicySettings.map(PolicySettings.apply),
         classic.admissionSettings.map(AdmissionSettings.apply),
+        classic.adaptiveLimitSettings.map(AdaptiveLimitSettings.apply),
         classic.oldSettingUsed)
 
     def toClassic(settings: PassivationStrategySettings): ClassicPassivationStrategySettings =
@@ -300,6 +349,7 @@ object ClusterShardingSettings {
         settings.activeEntityLimit,
         settings.replacementPolicySettings.map(PolicySettings.toClassic),
         settings.admissionSettings.map(AdmissionSettings.toClassic),
+        settings.adaptiveLimitSettings.map(AdaptiveLimitSettings.toClassic),
         settings.oldSettingUsed)
 
     object IdleSettings {
@@ -650,6 +700,77 @@ object ClusterShardingSettings {
         new AdmissionSettings(filter, window)
     }
 
+    object AdaptiveLimitSettings {
+      val defaults: AdaptiveLimitSettings = AdaptiveLimitSettings(
+        ClassicPassivationStrategySettings.AdaptiveLimitSettings.defaults)
+
+      def apply(classic: ClassicPassivationStrategySettings.AdaptiveLimitSettings): AdaptiveLimitSettings =
+        new AdaptiveLimitSettings(
+          classic.interval,
+          classic.lowHeapWatermark,
+          classic.highHeapWatermark,
+          classic.increaseFactor,
+          classic.decreaseFactor,
+          classic.minimumLimitFactor,
+          classic.maximumLimitFactor)
+
+      def toClassic(settings: AdaptiveLimitSettings): ClassicPassivationStrategySettings.AdaptiveLimitSettings =
+        new ClassicPassivationStrategySettings.AdaptiveLimitSettings(
+          settings.interval,
+          settings.lowHeapWatermark,
+          settings.highHeapWatermark,
+          settings.increaseFactor,
+          settings.decreaseFactor,
+          settings.minimumLimitFactor,
+          settings.maximumLimitFactor)
+    }
+
+    /**
+     * Settings for adapting the active entity limit to the heap pressure. The limit is increased when the
+     * heap used after garbage collection is below the low watermark and decreased when it is above the high
+     * watermark, and kept within the limit factors of the configured active entity limit.
+     */
+    final class AdaptiveLimitSettings(
+        val interval: FiniteDuration,
+        val lowHeapWatermark: Double,
+        val highHeapWatermark: Double,
+        val increaseFactor: Double,
+        val decreaseFactor: Double,
+        val minimumLimitFactor: Double,
+        val maximumLimitFactor: Double) {
+
+      def withInterval(interval: FiniteDuration): AdaptiveLimitSettings = copy(interval = interval)
+
+      def withInterval(interval: java.time.Duration): AdaptiveLimitSettings = withInterval(interval.asScala)
+
+      def withHeapWatermarks(low: Double, high: Double): AdaptiveLimitSettings =
+        copy(lowHeapWatermark = low, highHeapWatermark = high)
+
+      def withIncreaseFactor(factor: Double): AdaptiveLimitSettings = copy(increaseFactor = factor)
+
+      def withDecreaseFactor(factor: Double): AdaptiveLimitSettings = copy(decreaseFactor = factor)
+
+      def withLimitFactors(minimum: Double, maximum: Double): AdaptiveLimitSettings =
+        copy(minimumLimitFactor = minimum, maximumLimitFactor = maximum)
+
+      private def copy(
+          interval: FiniteDuration = interval,
+          lowHeapWatermark: Double = lowHeapWatermark,
+          highHeapWatermark: Double = highHeapWatermark,
+          increaseFactor: Double = increaseFactor,
+          decreaseFactor: Double = decreaseFactor,
+          minimumLimitFactor: Double = minimumLimitFactor,
+          maximumLimitFactor: Double = maximumLimitFactor): AdaptiveLimitSettings =
+        new AdaptiveLimitSettings(
+          interval,
+          lowHeapWatermark,
+          highHeapWatermark,
+          increaseFactor,
+          decreaseFactor,
+          minimumLimitFactor,
+          maximumLimitFactor)
+    }
+
     private[pekko] def oldDefault(idleTimeout: FiniteDuration): PassivationStrategySettings =
       disabled.withOldIdleStrategy(idleTimeout)
   }
@@ -676,7 +797,9 @@ object ClusterShardingSettings {
       val coordinatorStateWriteMajorityPlus: Int,
       val coordinatorStateReadMajorityPlus: Int,
       val leastShardAllocationAbsoluteLimit: Int,
-      val leastShardAllocationRelativeLimit: Double) {
+      val leastShardAllocationRelativeLimit: Double,
+      val coordinatorStateRegionsSubscribe: Boolean,
+      val handOffWarmUpEntities: Int) {
 
     def this(classic: ClassicShardingSettings.TuningParameters) =
       this(
@@ -700,7 +823,9 @@ object ClusterShardingSettings {
         coordinatorStateWriteMajorityPlus = classic.coordinatorStateWriteMajorityPlus,
         coordinatorStateReadMajorityPlus = classic.coordinatorStateReadMajorityPlus,
         leastShardAllocationAbsoluteLimit = classic.leastShardAllocationAbsoluteLimit,
-        leastShardAllocationRelativeLimit = classic.leastShardAllocationRelativeLimit)
+        leastShardAllocationRelativeLimit = classic.leastShardAllocationRelativeLimit,
+        coordinatorStateRegionsSubscribe = classic.coordinatorStateRegionsSubscribe,
+        handOffWarmUpEntities = classic.handOffWarmUpEntities)
 
     require(
       entityRecoveryStrategy == "all" || entityRecoveryStrategy == "constant",
@@ -748,6 +873,10 @@ object ClusterShardingSettings {
       copy(leastShardAllocationAbsoluteLimit = value)
     def withLeastShardAllocationRelativeLimit(value: Double): TuningParameters =
       copy(leastShardAllocationRelativeLimit = value)
+    def withCoordinatorStateRegionsSubscribe(value: Boolean): TuningParameters =
+      copy(coordinatorStateRegionsSubscribe = value)
+    def withHandOffWarmUpEntities(value: Int): TuningParameters =
+      copy(handOffWarmUpEntities = value)
 
     private def copy(
         bufferSize: Int = bufferSize,
@@ -770,7 +899,9 @@ object ClusterShardingSettings {
         coordinatorStateWriteMajorityPlus: Int = coordinatorStateWriteMajorityPlus,
         coordinatorStateReadMajorityPlus: Int = coordinatorStateReadMajorityPlus,
         leastShardAllocationAbsoluteLimit: Int = leastShardAllocationAbsoluteLimit,
-        leastShardAllocationRelativeLimit: Double = leastShardAllocationRelativeLimit): TuningParameters =
+        leastShardAllocationRelativeLimit: Double = leastShardAllocationRelativeLimit,
+        coordinatorStateRegionsSubscribe: Boolean = coordinatorStateRegionsSubscribe,
+        handOffWarmUpEntities: Int = handOffWarmUpEntities): TuningParameters =
       new TuningParameters(
         bufferSize = bufferSize,
         coordinatorFailureBackoff = coordinatorFailureBackoff,
@@ -792,10 +923,12 @@ object ClusterShardingSettings {
         coordinatorStateWriteMajorityPlus = coordinatorStateWriteMajorityPlus,
         coordinatorStateReadMajorityPlus = coordinatorStateReadMajorityPlus,
         leastShardAllocationAbsoluteLimit = leastShardAllocationAbsoluteLimit,
-        leastShardAllocationRelativeLimit = leastShardAllocationRelativeLimit)
+        leastShardAllocationRelativeLimit = leastShardAllocationRelativeLimit,
+        coordinatorStateRegionsSubscribe = coordinatorStateRegionsSubscribe,
+        handOffWarmUpEntities = handOffWarmUpEntities)
 
     override def toString =
-      s"""TuningParameters($bufferSize,$coordinatorFailureBackoff,$entityRecoveryConstantRateStrategyFrequency,$entityRecoveryConstantRateStrategyNumberOfEntities,$entityRecoveryStrategy,$entityRestartBackoff,$handOffTimeout,$keepNrOfBatches,$leastShardAllocationMaxSimultaneousRebalance,$leastShardAllocationRebalanceThreshold,$rebalanceInterval,$retryInterval,$shardFailureBackoff,$shardStartTimeout,$snapshotAfter,$updatingStateTimeout,$waitingForStateTimeout,$coordinatorStateReadMajorityPlus,$coordinatorStateReadMajorityPlus,$leastShardAllocationAbsoluteLimit,$leastShardAllocationRelativeLimit)"""
+      s"""TuningParameters($bufferSize,$coordinatorFailureBackoff,$entityRecoveryConstantRateStrategyFrequency,$entityRecoveryConstantRateStrategyNumberOfEntities,$entityRecoveryStrategy,$entityRestartBackoff,$handOffTimeout,$keepNrOfBatches,$leastShardAllocationMaxSimultaneousRebalance,$leastShardAllocationRebalanceThreshold,$rebalanceInterval,$retryInterval,$shardFailureBackoff,$shardStartTimeout,$snapshotAfter,$updatingStateTimeout,$waitingForStateTimeout,$coordinatorStateReadMajorityPlus,$coordinatorStateReadMajorityPlus,$leastShardAllocationAbsoluteLimit,$leastShardAllocationRelativeLimit,$coordinatorStateRegionsSubscribe,$handOffWarmUpEntities)"""
   }
 }
 
@@ -21,6 +21,7 @@ import java.util.concurrent.ConcurrentHashMap
 
 import scala.compat.java8.FutureConverters._
 import scala.concurrent.Future
+import scala.runtime.AbstractPartialFunction
 
 import org.apache.pekko
 import pekko.actor.ActorRefProvider
@@ -87,6 +88,24 @@ import pekko.util.JavaDurationConverters._
   override def toString: String = delegate.toString
 }
 
+/**
+ * INTERNAL API
+ * `ShardRegion.ExtractEntityId` for the [[ExtractorAdapter]] that evaluates the entityId once
+ * when it is applied, instead of both in the guard and in the result of a partial function literal.
+ */
+@InternalApi private[pekko] final class ExtractEntityIdAdapter[M](extractorAdapter: ExtractorAdapter[_, M])
+    extends AbstractPartialFunction[Any, (String, Any)] {
+
+  override def isDefinedAt(message: Any): Boolean =
+    extractorAdapter.entityId(message) != null
+
+  override def applyOrElse[A1 <: Any, B1 >: (String, Any)](message: A1, default: A1 => B1): B1 = {
+    val entityId = extractorAdapter.entityId(message)
+    if (entityId == null) default(message)
+    else (entityId, extractorAdapter.unwrapMessage(message))
+  }
+}
+
 /**
  * INTERNAL API
  */
@@ -173,11 +192,7 @@ import pekko.util.JavaDurationConverters._
       allocationStrategy: Option[ShardAllocationStrategy]): ActorRef[E] = {
 
     val extractorAdapter = new ExtractorAdapter(extractor)
-    val extractEntityId: ShardRegion.ExtractEntityId = {
-      // TODO is it possible to avoid the double evaluation of entityId
-      case message if extractorAdapter.entityId(message) != null =>
-        (extractorAdapter.entityId(message), extractorAdapter.unwrapMessage(message))
-    }
+    val extractEntityId: ShardRegion.ExtractEntityId = new ExtractEntityIdAdapter(extractorAdapter)
     val extractShardId: ShardRegion.ExtractShardId = { message =>
       extractorAdapter.entityId(message) match {
         case null => null
@@ -839,7 +839,8 @@ private[pekko] class ClusterShardingGuardian extends Actor {
                 extractEntityId = extractEntityId,
                 extractShardId = extractShardId,
                 handOffStopMessage = handOffStopMessage,
-                rememberEntitiesStoreProvider)
+                rememberEntitiesStoreProvider,
+                replicator = rep)
               .withDispatcher(context.props.dispatcher),
             name = encName)
         }
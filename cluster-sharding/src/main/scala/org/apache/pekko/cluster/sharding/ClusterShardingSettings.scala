@@ -96,7 +96,9 @@ object ClusterShardingSettings {
       coordinatorStateWriteMajorityPlus = configMajorityPlus("coordinator-state.write-majority-plus"),
       coordinatorStateReadMajorityPlus = configMajorityPlus("coordinator-state.read-majority-plus"),
       leastShardAllocationAbsoluteLimit = config.getInt("least-shard-allocation-strategy.rebalance-absolute-limit"),
-      leastShardAllocationRelativeLimit = config.getDouble("least-shard-allocation-strategy.rebalance-relative-limit"))
+      leastShardAllocationRelativeLimit = config.getDouble("least-shard-allocation-strategy.rebalance-relative-limit"),
+      coordinatorStateRegionsSubscribe = config.getBoolean("coordinator-state.regions-subscribe"),
+      handOffWarmUpEntities = config.getInt("handoff-warm-up-entities"))
 
     val coordinatorSingletonSettings = ClusterSingletonManagerSettings(config.getConfig("coordinator-singleton"))
 
@@ -149,8 +151,37 @@ object ClusterShardingSettings {
       val activeEntityLimit: Option[Int],
       val replacementPolicySettings: Option[PassivationStrategySettings.PolicySettings],
       val admissionSettings: Option[PassivationStrategySettings.AdmissionSettings],
+      val adaptiveLimitSettings: Option[PassivationStrategySettings.AdaptiveLimitSettings],
       private[pekko] val oldSettingUsed: Boolean) {
 
+    private[pekko] def this(
+        idleEntitySettings: Option[PassivationStrategySettings.IdleSettings],
+        activeEntityLimit: Option[Int],
+        replacementPolicySettings: Option[PassivationStrategySettings.PolicySettings],
+        admissionSettings: Option[PassivationStrategySettings.AdmissionSettings],
+        oldSettingUsed: Boolean) =
+      this(
+        idleEntitySettings,
+        activeEntityLimit,
+        replacementPolicySettings,
+        admissionSettings,
+        adaptiveLimitSettings = None,
+        oldSettingUsed)
+
+    def this(
+        idleEntitySettings: Option[PassivationStrategySettings.IdleSettings],
+        activeEntityLimit: Option[Int],
+        replacementPolicySettings: Option[PassivationStrategySettings.PolicySettings],
+        admissionSettings: Option[PassivationStrategySettings.AdmissionSettings],
+        adaptiveLimitSettings: Option[PassivationStrategySettings.AdaptiveLimitSettings]) =
+      this(
+        idleEntitySettings,
+        activeEntityLimit,
+        replacementPolicySettings,
+        admissionSettings,
+        adaptiveLimitSettings,
+        oldSettingUsed = false)
+
     private[pekko] def this(
         idleEntitySettings: Option[PassivationStrategySettings.IdleSettings],
         activeEntityLimit: Option[Int],
@@ -213,12 +244,26 @@ object ClusterShardingSettings {
     def withAdmission(settings: AdmissionSettings): PassivationStrategySettings =
       copy(admissionSettings = Some(settings))
 
+    /**
+     * Adapt the active entity limit of the shard regions to the heap pressure. Only used when
+     * an active entity limit is defined and remember entities is not enabled.
+     */
+    def withAdaptiveLimit(settings: AdaptiveLimitSettings): PassivationStrategySettings =
+      copy(adaptiveLimitSettings = Some(settings))
+
+    def withAdaptiveLimit(): PassivationStrategySettings =
+      withAdaptiveLimit(AdaptiveLimitSettings.defaults)
+
+    def withoutAdaptiveLimit(): PassivationStrategySettings =
+      copy(adaptiveLimitSettings = None)
+
     private[pekko] def withOldIdleStrategy(timeout: FiniteDuration): PassivationStrategySettings =
       copy(
         idleEntitySettings = Some(new IdleSettings(timeout, None)),
         activeEntityLimit = None,
         replacementPolicySettings = None,
         admissionSettings = None,
+        adaptiveLimitSettings = None,
         oldSettingUsed = true)
 
     private def copy(
@@ -226,12 +271,14 @@ object ClusterShardingSettings {
         activeEntityLimit: Option[Int] = activeEntityLimit,
         replacementPolicySettings: Option[PolicySettings] = replacementPolicySettings,
         admissionSettings: Option[AdmissionSettings] = admissionSettings,
+        adaptiveLimitSettings: Option[AdaptiveLimitSettings] = adaptiveLimitSettings,
         oldSettingUsed: Boolean = oldSettingUsed): PassivationStrategySettings =
       new PassivationStrategySettings(
         idleEntitySettings,
         activeEntityLimit,
         replacementPolicySettings,
         admissionSettings,
+        adaptiveLimitSettings,
         oldSettingUsed)
   }
 
@@ -245,6 +292,7 @@ object ClusterShardingSettings {
       activeEntityLimit = None,
       replacementPolicySettings = None,
       admissionSettings = None,
+      adaptiveLimitSettings = None,
       oldSettingUsed = false)
 
     val disabled: PassivationStrategySettings = defaults
@@ -571,6 +619,84 @@ object ClusterShardingSettings {
         new AdmissionSettings(filter, window)
     }
 
+    object AdaptiveLimitSettings {
+      val defaults: AdaptiveLimitSettings = new AdaptiveLimitSettings(
+        interval = 10.seconds,
+        lowHeapWatermark = 0.5,
+        highHeapWatermark = 0.75,
+        increaseFactor = 1.05,
+        decreaseFactor = 0.8,
+        minimumLimitFactor = 0.1,
+        maximumLimitFactor = 10.0)
+
+      def apply(config: Config): AdaptiveLimitSettings =
+        new AdaptiveLimitSettings(
+          interval = config.getDuration("interval", MILLISECONDS).millis,
+          lowHeapWatermark = config.getDouble("low-heap-watermark"),
+          highHeapWatermark = config.getDouble("high-heap-watermark"),
+          increaseFactor = config.getDouble("increase-factor"),
+          decreaseFactor = config.getDouble("decrease-factor"),
+          minimumLimitFactor = config.getDouble("minimum-limit-factor"),
+          maximumLimitFactor = config.getDouble("maximum-limit-factor"))
+
+      def optional(config: Config): Option[AdaptiveLimitSettings] =
+        if (config.getBoolean("enabled")) Some(AdaptiveLimitSettings(config)) else None
+    }
+
+    /**
+     * Settings for adapting the active entity limit to the heap pressure. The limit is increased when the
+     * heap used after garbage collection is below the low watermark and decreased when it is above the high
+     * watermark, and kept within the limit factors of the configured active entity limit.
+     */
+    final class AdaptiveLimitSettings(
+        val interval: FiniteDuration,
+        val lowHeapWatermark: Double,
+        val highHeapWatermark: Double,
+        val increaseFactor: Double,
+        val decreaseFactor: Double,
+        val minimumLimitFactor: Double,
+        val maximumLimitFactor: Double) {
+      require(
+        0.0 < lowHeapWatermark && lowHeapWatermark < highHeapWatermark && highHeapWatermark < 1.0,
+        "adaptive-limit heap watermarks must be 0.0 < low-heap-watermark < high-heap-watermark < 1.0")
+      require(increaseFactor > 1.0, "adaptive-limit.increase-factor must be > 1.0")
+      require(0.0 < decreaseFactor && decreaseFactor < 1.0, "adaptive-limit.decrease-factor must be > 0.0 and < 1.0")
+      require(
+        0.0 < minimumLimitFactor && minimumLimitFactor <= 1.0 && maximumLimitFactor >= 1.0,
+        "adaptive-limit limit factors must be 0.0 < minimum-limit-factor <= 1.0 <= maximum-limit-factor")
+
+      def withInterval(interval: FiniteDuration): AdaptiveLimitSettings = copy(interval = interval)
+
+      def withInterval(interval: java.time.Duration): AdaptiveLimitSettings = withInterval(interval.asScala)
+
+      def withHeapWatermarks(low: Double, high: Double): AdaptiveLimitSettings =
+        copy(lowHeapWatermark = low, highHeapWatermark = high)
+
+      def withIncreaseFactor(factor: Double): AdaptiveLimitSettings = copy(increaseFactor = factor)
+
+      def withDecreaseFactor(factor: Double): AdaptiveLimitSettings = copy(decreaseFactor = factor)
+
+      def withLimitFactors(minimum: Double, maximum: Double): AdaptiveLimitSettings =
+        copy(minimumLimitFactor = minimum, maximumLimitFactor = maximum)
+
+      private def copy(
+          interval: FiniteDuration = interval,
+          lowHeapWatermark: Double = lowHeapWatermark,
+          highHeapWatermark: Double = highHeapWatermark,
+          increaseFactor: Double = increaseFactor,
+          decreaseFactor: Double = decreaseFactor,
+          minimumLimitFactor: Double = minimumLimitFactor,
+          maximumLimitFactor: Double = maximumLimitFactor): AdaptiveLimitSettings =
+        new AdaptiveLimitSettings(
+          interval,
+          lowHeapWatermark,
+          highHeapWatermark,
+          increaseFactor,
+          decreaseFactor,
+          minimumLimitFactor,
+          maximumLimitFactor)
+    }
+
     /**
      * API MAY CHANGE: Settings and configuration for passivation strategies may change after additional
      * testing and feedback.
@@ -589,11 +715,13 @@ object ClusterShardingSettings {
           }
           val replacementPolicySettings = PolicySettings.optional(strategyConfig.getConfig("replacement"))
           val admissionSettings = AdmissionSettings.optional(strategyConfig.getConfig("admission"))
+          val adaptiveLimitSettings = AdaptiveLimitSettings.optional(config.getConfig("adaptive-limit"))
           new PassivationStrategySettings(
             idleEntitySettings,
             activeEntityLimit,
             replacementPolicySettings,
-            admissionSettings)
+            admissionSettings,
+            adaptiveLimitSettings)
       }
     }
 
@@ -932,12 +1060,66 @@ object ClusterShardingSettings {
       val coordinatorStateWriteMajorityPlus: Int,
       val coordinatorStateReadMajorityPlus: Int,
       val leastShardAllocationAbsoluteLimit: Int,
-      val leastShardAllocationRelativeLimit: Double) {
+      val leastShardAllocationRelativeLimit: Double,
+      val coordinatorStateRegionsSubscribe: Boolean,
+      val handOffWarmUpEntities: Int) {
 
     require(
       entityRecoveryStrategy == "all" || entityRecoveryStrategy == "constant",
       s"Unknown 'entity-recovery-strategy' [$entityRecoveryStrategy], valid values are 'all' or 'constant'")
 
+    // included for binary compatibility
+    @deprecated(
+      "Use the ClusterShardingSettings factory methods or the constructor including " +
+      "coordinatorStateRegionsSubscribe and handOffWarmUpEntities instead",
+      since = "1.1.0")
+    def this(
+        coordinatorFailureBackoff: FiniteDuration,
+        retryInterval: FiniteDuration,
+        bufferSize: Int,
+        handOffTimeout: FiniteDuration,
+        shardStartTimeout: FiniteDuration,
+        shardFailureBackoff: FiniteDuration,
+        entityRestartBackoff: FiniteDuration,
+        rebalanceInterval: FiniteDuration,
+        snapshotAfter: Int,
+        keepNrOfBatches: Int,
+        leastShardAllocationRebalanceThreshold: Int,
+        leastShardAllocationMaxSimultaneousRebalance: Int,
+        waitingForStateTimeout: FiniteDuration,
+        updatingStateTimeout: FiniteDuration,
+        entityRecoveryStrategy: String,
+        entityRecoveryConstantRateStrategyFrequency: FiniteDuration,
+        entityRecoveryConstantRateStrategyNumberOfEntities: Int,
+        coordinatorStateWriteMajorityPlus: Int,
+        coordinatorStateReadMajorityPlus: Int,
+        leastShardAllocationAbsoluteLimit: Int,
+        leastShardAllocationRelativeLimit: Double) =
+      this(
+        coordinatorFailureBackoff,
+        retryInterval,
+        bufferSize,
+        handOffTimeout,
+        shardStartTimeout,
+        shardFailureBackoff,
+        entityRestartBackoff,
+        rebalanceInterval,
+        snapshotAfter,
+        keepNrOfBatches,
+        leastShardAllocationRebalanceThreshold,
+        leastShardAllocationMaxSimultaneousRebalance,
+        waitingForStateTimeout,
+        updatingStateTimeout,
+        entityRecoveryStrategy,
+        entityRecoveryConstantRateStrategyFrequency,
+        entityRecoveryConstantRateStrategyNumberOfEntities,
+        coordinatorStateWriteMajorityPlus,
+        coordinatorStateReadMajorityPlus,
+        leastShardAllocationAbsoluteLimit,
+        leastShardAllocationRelativeLimit,
+        coordinatorStateRegionsSubscribe = false,
+        handOffWarmUpEntities = 0)
+
     // included for binary compatibility
     @deprecated(
       "Use the ClusterShardingSettings factory methods or the constructor including " +
@@ -984,7 +1166,9 @@ object ClusterShardingSettings {
         coordinatorStateWriteMajorityPlus,
         coordinatorStateReadMajorityPlus,
         leastShardAllocationAbsoluteLimit = 100,
-        leastShardAllocationRelativeLimit = 0.1)
+        leastShardAllocationRelativeLimit = 0.1,
+        coordinatorStateRegionsSubscribe = false,
+        handOffWarmUpEntities = 0)
 
     // included for binary compatibility
     @deprecated(
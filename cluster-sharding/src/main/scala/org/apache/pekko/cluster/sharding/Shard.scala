@@ -93,6 +93,13 @@ private[pekko] object Shard {
   final case class LeaseAcquireResult(acquired: Boolean, reason: Option[Throwable]) extends DeadLetterSuppression
   final case class LeaseLost(reason: Option[Throwable]) extends DeadLetterSuppression
 
+  /**
+   * Sent to the parent region when the shard is handed off, with the entities that were active
+   * in the shard, so that they can be started on the new home of the shard.
+   */
+  final case class HandOffActiveEntities(shardId: ShardRegion.ShardId, entityIds: Set[EntityId])
+      extends NoSerializationVerificationNeeded
+
   case object LeaseRetry extends DeadLetterSuppression
   private val LeaseRetryTimer = "lease-retry"
 
@@ -452,6 +459,9 @@ private[pekko] class Shard(
 
   private val rememberEntities: Boolean = rememberEntitiesProvider.isDefined
 
+  private val handOffWarmUpEntities =
+    if (rememberEntities) 0 else settings.tuningParameters.handOffWarmUpEntities
+
   private val flightRecorder = ShardingFlightRecorder(context.system)
 
   @InternalStableApi
@@ -886,6 +896,8 @@ private[pekko] class Shard(
           shardId,
           activeEntities.size)
         activeEntities.foreach(context.unwatch)
+        if (handOffWarmUpEntities > 0)
+          context.parent ! HandOffActiveEntities(shardId, entities.activeEntityIds().take(handOffWarmUpEntities))
         handOffStopper = Some(
           context.watch(context.actorOf(
             HandOffStopper.props(typeName, shardId, replyTo, activeEntities, handOffStopMessage, entityHandOffTimeout),
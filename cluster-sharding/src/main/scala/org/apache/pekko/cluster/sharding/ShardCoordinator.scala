@@ -85,6 +85,15 @@ object ShardCoordinator {
         majorityMinCap,
         rememberEntitiesStoreProvider)).withDeploy(Deploy.local)
 
+  /**
+   * INTERNAL API
+   * The key of the coordinator state in Distributed Data, used by the `DDataShardCoordinator`
+   * and by the regions that subscribe to the replicated shard homes.
+   */
+  @InternalApi
+  private[pekko] def coordinatorStateKey(typeName: String): LWWRegisterKey[Internal.State] =
+    LWWRegisterKey[Internal.State](s"${typeName}CoordinatorState")
+
   /**
    * Java API: `ShardAllocationStrategy` that  allocates new shards to the `ShardRegion` (node) with least
    * number of previously allocated shards.
@@ -106,6 +115,26 @@ object ShardCoordinator {
   def leastShardAllocationStrategy(absoluteLimit: Int, relativeLimit: Double): ShardAllocationStrategy =
     ShardAllocationStrategy.leastShardAllocationStrategy(absoluteLimit, relativeLimit)
 
+  /**
+   * Java API: `ShardAllocationStrategy` that balances the regions by the number of active entities in their
+   * shards instead of by the number of shards.
+   *
+   * New shards are allocated to the `ShardRegion` (node) with least total load, where the load of a shard
+   * is its number of active entities as reported by `ShardRegion.GetShardRegionStats`. In each rebalance
+   * round the entity counts are collected from all regions and shards are moved from the most loaded
+   * regions to the least loaded regions until the load is even within 10% of the average region load.
+   * The amount of shards to rebalance in each round is limited in the same way as for the
+   * `leastShardAllocationStrategy`.
+   *
+   * It will not rebalance when there is already an ongoing rebalance in progress.
+   *
+   * @param absoluteLimit the maximum number of shards that will be rebalanced in one rebalance round
+   * @param relativeLimit fraction (< 1.0) of total number of (known) shards that will be rebalanced
+   *                      in one rebalance round
+   */
+  def loadAwareShardAllocationStrategy(absoluteLimit: Int, relativeLimit: Double): ShardAllocationStrategy =
+    ShardAllocationStrategy.loadAwareShardAllocationStrategy(absoluteLimit, relativeLimit)
+
   object ShardAllocationStrategy {
 
     /**
@@ -128,6 +157,26 @@ object ShardCoordinator {
      */
     def leastShardAllocationStrategy(absoluteLimit: Int, relativeLimit: Double): ShardAllocationStrategy =
       new internal.LeastShardAllocationStrategy(absoluteLimit, relativeLimit)
+
+    /**
+     * Scala API: `ShardAllocationStrategy` that balances the regions by the number of active entities in their
+     * shards instead of by the number of shards.
+     *
+     * New shards are allocated to the `ShardRegion` (node) with least total load, where the load of a shard
+     * is its number of active entities as reported by `ShardRegion.GetShardRegionStats`. In each rebalance
+     * round the entity counts are collected from all regions and shards are moved from the most loaded
+     * regions to the least loaded regions until the load is even within 10% of the average region load.
+     * The amount of shards to rebalance in each round is limited in the same way as for the
+     * `leastShardAllocationStrategy`.
+     *
+     * It will not rebalance when there is already an ongoing rebalance in progress.
+     *
+     * @param absoluteLimit the maximum number of shards that will be rebalanced in one rebalance round
+     * @param relativeLimit fraction (< 1.0) of total number of (known) shards that will be rebalanced
+     *                      in one rebalance round
+     */
+    def loadAwareShardAllocationStrategy(absoluteLimit: Int, relativeLimit: Double): ShardAllocationStrategy =
+      new internal.LoadAwareShardAllocationStrategy(absoluteLimit, relativeLimit)
   }
 
   /**
@@ -1482,7 +1531,7 @@ private[pekko] class DDataShardCoordinator(
 
   implicit val node: Cluster = Cluster(context.system)
   private implicit val selfUniqueAddress: SelfUniqueAddress = SelfUniqueAddress(node.selfUniqueAddress)
-  private val CoordinatorStateKey = LWWRegisterKey[State](s"${typeName}CoordinatorState")
+  private val CoordinatorStateKey = ShardCoordinator.coordinatorStateKey(typeName)
   private val initEmptyState = State.empty.withRememberEntities(settings.rememberEntities)
 
   private var terminating = false
@@ -32,8 +32,10 @@ import pekko.cluster.ClusterSettings
 import pekko.cluster.ClusterSettings.DataCenter
 import pekko.cluster.Member
 import pekko.cluster.MemberStatus
+import pekko.cluster.ddata.Replicator
 import pekko.cluster.sharding.ClusterShardingSettings.PassivationStrategy
 import pekko.cluster.sharding.Shard.ShardStats
+import pekko.cluster.sharding.internal.AdaptiveActiveEntityLimit
 import pekko.cluster.sharding.internal.RememberEntitiesProvider
 import pekko.event.Logging
 import pekko.pattern.ask
@@ -58,7 +60,8 @@ object ShardRegion {
       extractEntityId: ShardRegion.ExtractEntityId,
       extractShardId: ShardRegion.ExtractShardId,
       handOffStopMessage: Any,
-      rememberEntitiesProvider: Option[RememberEntitiesProvider]): Props =
+      rememberEntitiesProvider: Option[RememberEntitiesProvider],
+      replicator: ActorRef): Props =
     Props(
       new ShardRegion(
         typeName,
@@ -69,7 +72,32 @@ object ShardRegion {
         extractEntityId,
         extractShardId,
         handOffStopMessage,
-        rememberEntitiesProvider)).withDeploy(Deploy.local)
+        rememberEntitiesProvider,
+        replicator)).withDeploy(Deploy.local)
+
+  /**
+   * INTERNAL API
+   * Factory method for the [[pekko.actor.Props]] of the [[ShardRegion]] actor.
+   */
+  private[pekko] def props(
+      typeName: String,
+      entityProps: String => Props,
+      settings: ClusterShardingSettings,
+      coordinatorPath: String,
+      extractEntityId: ShardRegion.ExtractEntityId,
+      extractShardId: ShardRegion.ExtractShardId,
+      handOffStopMessage: Any,
+      rememberEntitiesProvider: Option[RememberEntitiesProvider]): Props =
+    props(
+      typeName,
+      entityProps,
+      settings,
+      coordinatorPath,
+      extractEntityId,
+      extractShardId,
+      handOffStopMessage,
+      rememberEntitiesProvider,
+      replicator = ActorRef.noSender)
 
   /**
    * INTERNAL API
@@ -160,13 +188,19 @@ object ShardRegion {
 
   object HashCodeMessageExtractor {
 
+    // the shard ids of the common number of shards are shared to not allocate a new String for every message
+    private val cachedShardIds: Array[String] = Array.tabulate(1024)(_.toString)
+
     /** INTERNAL API */
     @InternalApi
     private[sharding] def shardId(id: String, maxNumberOfShards: Int): String = {
       // It would be better to have abs(id.hashCode % maxNumberOfShards), see issue #25034
       // but to avoid getting different values when rolling upgrade we keep the old way,
       // and it doesn't have any serious consequences
-      (math.abs(id.hashCode) % maxNumberOfShards).toString
+      val shard = math.abs(id.hashCode) % maxNumberOfShards
+      // negative for Int.MinValue hashCode
+      if (shard >= 0 && shard < cachedShardIds.length) cachedShardIds(shard)
+      else shard.toString
     }
   }
 
@@ -476,6 +510,11 @@ object ShardRegion {
    */
   private case object RegisterRetry extends ShardRegionCommand
 
+  /**
+   * Periodic tick to adapt the active entity limit when `passivation.adaptive-limit` is enabled.
+   */
+  private case object AdaptActiveEntityLimit extends ShardRegionCommand
+
   /**
    * When an remembering entities and the shard stops unexpected (e.g. persist failure), we
    * restart it after a back off using this message.
@@ -620,10 +659,33 @@ private[pekko] class ShardRegion(
     extractEntityId: ShardRegion.ExtractEntityId,
     extractShardId: ShardRegion.ExtractShardId,
     handOffStopMessage: Any,
-    rememberEntitiesProvider: Option[RememberEntitiesProvider])
+    rememberEntitiesProvider: Option[RememberEntitiesProvider],
+    replicator: ActorRef)
     extends Actor
     with Timers {
 
+  def this(
+      typeName: String,
+      entityProps: Option[String => Props],
+      dataCenter: Option[DataCenter],
+      settings: ClusterShardingSettings,
+      coordinatorPath: String,
+      extractEntityId: ShardRegion.ExtractEntityId,
+      extractShardId: ShardRegion.ExtractShardId,
+      handOffStopMessage: Any,
+      rememberEntitiesProvider: Option[RememberEntitiesProvider]) =
+    this(
+      typeName,
+      entityProps,
+      dataCenter,
+      settings,
+      coordinatorPath,
+      extractEntityId,
+      extractShardId,
+      handOffStopMessage,
+      rememberEntitiesProvider,
+      replicator = ActorRef.noSender)
+
   import ShardCoordinator.Internal._
   import ShardRegion._
   import ShardingQueries.ShardsQueryResult
@@ -654,6 +716,32 @@ private[pekko] class ShardRegion(
   var gracefulShutdownInProgress = false
   var preparingForShutdown = false
 
+  // shard homes are also learnt from the coordinator state replicated with Distributed Data
+  private val subscribeToReplicatedShardHomes =
+    entityProps.isDefined && replicator != ActorRef.noSender && replicator != context.system.deadLetters &&
+    settings.stateStoreMode == ClusterShardingSettings.StateStoreModeDData &&
+    settings.tuningParameters.coordinatorStateRegionsSubscribe
+  private val coordinatorStateKey = ShardCoordinator.coordinatorStateKey(typeName)
+
+  private val adaptiveActiveEntityLimit: Option[AdaptiveActiveEntityLimit] =
+    if (entityProps.isDefined && !settings.rememberEntities)
+      for {
+        adaptiveLimitSettings <- settings.passivationStrategySettings.adaptiveLimitSettings
+        limit <- AdaptiveActiveEntityLimit.activeEntityLimit(settings.passivationStrategy)
+      } yield new AdaptiveActiveEntityLimit(
+        adaptiveLimitSettings,
+        limit,
+        () => AdaptiveActiveEntityLimit.heapUsageAfterGc())
+    else None
+  // the replicated state may still point at the previous home of shards that are handed off
+  // and at regions that have terminated, until the coordinator has updated it
+  private var replicatedShardHomes = Map.empty[ShardId, ActorRef]
+  private var handOffHomes = Map.empty[ShardId, ActorRef]
+  private var terminatedRegions = Set.empty[ActorRef]
+
+  // entities that were active in shards being handed off, started on the new home after the hand off
+  private var handOffWarmUp = Map.empty[ShardId, Set[EntityId]]
+
   import context.dispatcher
   var retryCount = 0
   val initRegistrationDelay: FiniteDuration = 100.millis.max(retryInterval / 2 / 2 / 2)
@@ -677,6 +765,11 @@ private[pekko] class ShardRegion(
     timers.startTimerWithFixedDelay(Retry, Retry, retryInterval)
     startRegistration()
     logPassivationStrategy()
+    if (subscribeToReplicatedShardHomes)
+      replicator ! Replicator.Subscribe(coordinatorStateKey, self)
+    adaptiveActiveEntityLimit.foreach { adaptive =>
+      timers.startTimerWithFixedDelay(AdaptActiveEntityLimit, AdaptActiveEntityLimit, adaptive.settings.interval)
+    }
   }
 
   override def postStop(): Unit = {
@@ -684,6 +777,8 @@ private[pekko] class ShardRegion(
     log.debug("{}: Region stopped", typeName)
     coordinator.foreach(_ ! RegionStopped(context.self))
     cluster.unsubscribe(self)
+    if (subscribeToReplicatedShardHomes)
+      replicator ! Replicator.Unsubscribe(coordinatorStateKey, self)
     gracefulShutdownProgress.trySuccess(Done)
   }
 
@@ -762,7 +857,10 @@ private[pekko] class ShardRegion(
     case query: ShardRegionQuery                 => receiveQuery(query)
     case msg: RestartShard                       => deliverMessage(msg, sender())
     case msg: StartEntity                        => deliverStartEntity(msg, sender())
-    case msg: SetActiveEntityLimit               => deliverToAllShards(msg, sender())
+    case msg: SetActiveEntityLimit               => setActiveEntityLimit(msg, sender())
+    case msg: Shard.HandOffActiveEntities        => receiveHandOffActiveEntities(msg)
+    case c @ Replicator.Changed(`coordinatorStateKey`) =>
+      receiveReplicatedShardHomes(c.get(coordinatorStateKey).value)
     case msg if extractEntityId.isDefinedAt(msg) => deliverMessage(msg, sender())
     case unknownMsg =>
       log.warning("{}: Message does not have an extractor defined in shard so it was ignored: {}", typeName, unknownMsg)
@@ -833,6 +931,7 @@ private[pekko] class ShardRegion(
       }
 
     case ShardHome(shard, shardRegionRef) =>
+      handOffHomes -= shard
       receiveShardHome(shard, shardRegionRef)
 
     case ShardHomes(homes) =>
@@ -852,6 +951,11 @@ private[pekko] class ShardRegion(
     case BeginHandOff(shard) =>
       log.debug("{}: BeginHandOff shard [{}]", typeName, shard)
       if (!preparingForShutdown) {
+        if (subscribeToReplicatedShardHomes) {
+          regionByShard.get(shard).orElse(replicatedShardHomes.get(shard)).foreach { previousHome =>
+            handOffHomes = handOffHomes.updated(shard, previousHome)
+          }
+        }
         if (regionByShard.contains(shard)) {
           val regionRef = regionByShard(shard)
           val updatedShards = regions(regionRef) - shard
@@ -894,6 +998,14 @@ private[pekko] class ShardRegion(
 
   def receiveCommand(cmd: ShardRegionCommand): Unit = cmd match {
 
+    case AdaptActiveEntityLimit =>
+      adaptiveActiveEntityLimit.foreach { adaptive =>
+        adaptive.adapt().foreach { newLimit =>
+          log.debug("{}: Adapted active entity limit to [{}]", typeName, newLimit)
+          deliverToAllShards(SetActiveEntityLimit(newLimit), self)
+        }
+      }
+
     case Retry =>
       // retryCount is used to avoid flooding the logs
       // it's used inside register() whenever shardBuffers.nonEmpty
@@ -986,6 +1098,8 @@ private[pekko] class ShardRegion(
       val shards = regions(ref)
       regionByShard --= shards
       regions -= ref
+      if (subscribeToReplicatedShardHomes)
+        terminatedRegions += ref
       if (log.isDebugEnabled) {
         if (verboseDebug)
           log.debug(
@@ -1009,6 +1123,10 @@ private[pekko] class ShardRegion(
       if (handingOff.contains(ref)) {
         handingOff = handingOff - ref
         log.debug("{}: Shard [{}] handoff complete", typeName, shardId)
+        handOffWarmUp.get(shardId).foreach { entityIds =>
+          handOffWarmUp -= shardId
+          startEntitiesOnNewHome(shardId, entityIds)
+        }
       } else {
         // if persist fails it will stop
         log.debug("{}: Shard [{}]  terminated while not being handed off", typeName, shardId)
@@ -1044,6 +1162,54 @@ private[pekko] class ShardRegion(
       deliverBufferedMessages(shard, shardRegionRef)
   }
 
+  /**
+   * Shard homes from the coordinator state that is replicated with Distributed Data. Only shards
+   * hosted by other regions and not known by this region are taken from it, so that already
+   * allocated shards can be resolved without a `GetShardHome` round trip to the coordinator.
+   * Shards are still only hosted by this region when the coordinator sends `HostShard`.
+   */
+  def receiveReplicatedShardHomes(state: ShardCoordinator.Internal.State): Unit = {
+    replicatedShardHomes = state.shards
+    terminatedRegions = terminatedRegions.intersect(state.regions.keySet)
+    handOffHomes = handOffHomes.filter { case (shard, home) => state.shards.get(shard).contains(home) }
+
+    var count = 0
+    state.shards.foreach {
+      case (shard, shardRegionRef) =>
+        if (shardRegionRef != self && !regionByShard.contains(shard) && !terminatedRegions.contains(shardRegionRef) &&
+          !handOffHomes.contains(shard)) {
+          receiveShardHome(shard, shardRegionRef)
+          count += 1
+        }
+    }
+    if (count > 0)
+      log.debug("{}: Got [{}] shard homes from replicated coordinator state", typeName, count)
+  }
+
+  def receiveHandOffActiveEntities(msg: Shard.HandOffActiveEntities): Unit = {
+    if (handingOff.contains(sender()))
+      handOffWarmUp = handOffWarmUp.updated(msg.shardId, msg.entityIds)
+  }
+
+  /**
+   * Start the entities that were active in a handed off shard on the new home of the shard,
+   * so that they are recovered before the next messages for them arrive. The `StartEntity`
+   * messages are buffered until the home of the shard is known, like any other message.
+   */
+  private def startEntitiesOnNewHome(shardId: ShardId, entityIds: Set[EntityId]): Unit = {
+    log.debug("{}: Starting [{}] entities of handed off shard [{}] on its new home", typeName, entityIds.size, shardId)
+    regionByShard.get(shardId) match {
+      case Some(shardRegionRef) if shardRegionRef != self =>
+        entityIds.foreach(entityId => shardRegionRef.tell(StartEntity(entityId), ActorRef.noSender))
+      case _ =>
+        if (!shardBuffers.contains(shardId)) {
+          log.debug("{}: Request shard [{}] home. Coordinator [{}]", typeName, shardId, coordinator)
+          coordinator.foreach(_ ! GetShardHome(shardId))
+        }
+        entityIds.foreach(entityId => bufferMessage(shardId, StartEntity(entityId), ActorRef.noSender))
+    }
+  }
+
   def replyToRegionStateQuery(ref: ActorRef): Unit = {
     queryShards[Shard.CurrentShardState](shards, Shard.GetCurrentShardState)
       .map { qr =>
@@ -1270,6 +1436,11 @@ private[pekko] class ShardRegion(
   def deliverToAllShards(msg: Any, snd: ActorRef): Unit =
     shards.values.foreach(_.tell(msg, snd))
 
+  private def setActiveEntityLimit(msg: SetActiveEntityLimit, snd: ActorRef): Unit = {
+    adaptiveActiveEntityLimit.foreach(_.limitUpdated(msg.perRegionLimit))
+    deliverToAllShards(msg, snd)
+  }
+
   def deliverMessage(msg: Any, snd: ActorRef): Unit =
     msg match {
       case RestartShard(shardId) =>
@@ -1293,31 +1464,39 @@ private[pekko] class ShardRegion(
 
       case _ =>
         val shardId = extractShardId(msg)
-        regionByShard.get(shardId) match {
-          case Some(shardRegionRef) if shardRegionRef == self =>
-            getShard(shardId) match {
-              case Some(shard) =>
-                if (shardBuffers.contains(shardId)) {
-                  // Since now messages to a shard is buffered then those messages must be in right order
-                  bufferMessage(shardId, msg, snd)
-                  deliverBufferedMessages(shardId, shard)
-                } else shard.tell(msg, snd)
-              case None => bufferMessage(shardId, msg, snd)
-            }
-          case Some(shardRegionRef) =>
-            if (verboseDebug)
-              log.debug("{}: Forwarding message for shard [{}] to [{}]", typeName, shardId, shardRegionRef)
-            shardRegionRef.tell(msg, snd)
-          case None if shardId == null || shardId == "" =>
-            log.warning("{}: Shard must not be empty, dropping message [{}]", typeName, msg.getClass.getName)
-            context.system.deadLetters ! msg
-          case None =>
-            if (!shardBuffers.contains(shardId)) {
-              log.debug("{}: Request shard [{}] home. Coordinator [{}]", typeName, shardId, coordinator)
-              coordinator.foreach(_ ! GetShardHome(shardId))
-            }
-            bufferMessage(shardId, msg, snd)
+        val localShard = if (regionByShard.getOrElse(shardId, null) eq self) shards.getOrElse(shardId, null) else null
+        if ((localShard ne null) && !startingShards.contains(shardId) && !shardBuffers.contains(shardId))
+          // fast path for the common case of a started local shard, without allocations
+          localShard.tell(msg, snd)
+        else
+          deliverMessageToShardHome(shardId, msg, snd)
+    }
+
+  private def deliverMessageToShardHome(shardId: ShardId, msg: Any, snd: ActorRef): Unit =
+    regionByShard.get(shardId) match {
+      case Some(shardRegionRef) if shardRegionRef == self =>
+        getShard(shardId) match {
+          case Some(shard) =>
+            if (shardBuffers.contains(shardId)) {
+              // Since now messages to a shard is buffered then those messages must be in right order
+              bufferMessage(shardId, msg, snd)
+              deliverBufferedMessages(shardId, shard)
+            } else shard.tell(msg, snd)
+          case None => bufferMessage(shardId, msg, snd)
+        }
+      case Some(shardRegionRef) =>
+        if (verboseDebug)
+          log.debug("{}: Forwarding message for shard [{}] to [{}]", typeName, shardId, shardRegionRef)
+        shardRegionRef.tell(msg, snd)
+      case None if shardId == null || shardId == "" =>
+        log.warning("{}: Shard must not be empty, dropping message [{}]", typeName, msg.getClass.getName)
+        context.system.deadLetters ! msg
+      case None =>
+        if (!shardBuffers.contains(shardId)) {
+          log.debug("{}: Request shard [{}] home. Coordinator [{}]", typeName, shardId, coordinator)
+          coordinator.foreach(_ ! GetShardHome(shardId))
         }
+        bufferMessage(shardId, msg, snd)
     }
 
   def getShard(id: ShardId): Option[ActorRef] = {
@@ -1347,6 +1526,10 @@ private[pekko] class ShardRegion(
             shardsByRef = shardsByRef.updated(shard, id)
             shards = shards.updated(id, shard)
             startingShards += id
+            adaptiveActiveEntityLimit.foreach { adaptive =>
+              // the shard starts with the configured limit
+              if (adaptive.limit != adaptive.configuredLimit) shard ! SetActiveEntityLimit(adaptive.limit)
+            }
             if (settings.passivationStrategy != ClusterShardingSettings.NoPassivationStrategy) {
               shards.values.foreach(_ ! ShardsUpdated(shards.size))
             }
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.sharding.internal
+
+import java.lang.management.ManagementFactory
+import java.lang.management.MemoryType
+
+import org.apache.pekko
+import pekko.annotation.InternalApi
+import pekko.cluster.sharding.ClusterShardingSettings
+
+/**
+ * INTERNAL API
+ */
+@InternalApi
+private[pekko] object AdaptiveActiveEntityLimit {
+
+  /**
+   * The configured active entity limit of the passivation strategy, if it is limit based.
+   */
+  def activeEntityLimit(strategy: ClusterShardingSettings.PassivationStrategy): Option[Int] =
+    strategy match {
+      case s: ClusterShardingSettings.LeastRecentlyUsedPassivationStrategy   => Some(s.limit)
+      case s: ClusterShardingSettings.MostRecentlyUsedPassivationStrategy    => Some(s.limit)
+      case s: ClusterShardingSettings.LeastFrequentlyUsedPassivationStrategy => Some(s.limit)
+      case s: ClusterShardingSettings.CompositePassivationStrategy           => Some(s.limit)
+      case _                                                                 => None
+    }
+
+  /**
+   * Fraction of the maximum heap that was in use after the latest garbage collection of each heap memory pool,
+   * which approximates the live data rather than the current usage that includes garbage.
+   */
+  def heapUsageAfterGc(): Double = {
+    import pekko.util.ccompat.JavaConverters._
+    val maxHeap = Runtime.getRuntime.maxMemory
+    if (maxHeap <= 0L || maxHeap == Long.MaxValue) 0.0
+    else {
+      val used = ManagementFactory.getMemoryPoolMXBeans.asScala.iterator
+        .filter(pool => pool.getType == MemoryType.HEAP && pool.isValid)
+        .map(pool => Option(pool.getCollectionUsage).fold(0L)(_.getUsed))
+        .sum
+      used.toDouble / maxHeap
+    }
+  }
+}
+
+/**
+ * INTERNAL API
+ *
+ * Adapts the active entity limit of a shard region to the heap pressure, with additive increase and
+ * multiplicative decrease like congestion control. The limit is raised when the live heap data is below
+ * the low watermark, so that fewer entities need to be passivated and activated again, and lowered when
+ * it is above the high watermark, trading activations for memory. The limit is kept within the configured
+ * factors of the configured limit.
+ */
+@InternalApi
+private[pekko] final class AdaptiveActiveEntityLimit(
+    val settings: ClusterShardingSettings.PassivationStrategySettings.AdaptiveLimitSettings,
+    val configuredLimit: Int,
+    heapUsage: () => Double) {
+
+  private val minimumLimit = math.max(1, (configuredLimit * settings.minimumLimitFactor).toInt)
+  private val maximumLimit = math.max(minimumLimit, (configuredLimit * settings.maximumLimitFactor).toInt)
+  private val increaseStep = math.max(1, (configuredLimit * (settings.increaseFactor - 1.0)).toInt)
+
+  private var currentLimit = configuredLimit
+
+  def limit: Int = currentLimit
+
+  /**
+   * The limit was set explicitly, continue adapting from that limit.
+   */
+  def limitUpdated(newLimit: Int): Unit =
+    currentLimit = newLimit
+
+  /**
+   * Check the heap usage and return the new limit if it was changed.
+   */
+  def adapt(): Option[Int] = {
+    val usage = heapUsage()
+    val newLimit =
+      if (usage > settings.highHeapWatermark)
+        math.max(minimumLimit, (currentLimit * settings.decreaseFactor).toInt)
+      else if (usage < settings.lowHeapWatermark)
+        math.min(maximumLimit, currentLimit + increaseStep)
+      else currentLimit
+
+    if (newLimit != currentLimit) {
+      currentLimit = newLimit
+      Some(newLimit)
+    } else None
+  }
+}
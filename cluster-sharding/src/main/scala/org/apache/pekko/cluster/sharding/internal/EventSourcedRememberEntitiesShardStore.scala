@@ -84,6 +84,14 @@ private[pekko] final class EventSourcedRememberEntitiesShardStore(
 
   private val maxUpdatesPerWrite = context.system.settings.config
     .getInt("pekko.cluster.sharding.event-sourced-remember-entities-store.max-updates-per-write")
+  private val snapshotAfterEntitiesFraction = context.system.settings.config
+    .getDouble("pekko.cluster.sharding.event-sourced-remember-entities-store.snapshot-after-entities-fraction")
+
+  // number of events since the latest snapshot, including the replayed events
+  private var eventsSinceSnapshot = 0L
+  // sequence numbers of the latest snapshots, at most keepNrOfBatches + 1 and the latest last, the
+  // number of events between them varies with the number of entities
+  private var snapshotSequenceNrs = Vector.empty[Long]
 
   log.debug("Starting up EventSourcedRememberEntitiesStore")
   private var state = State()
@@ -92,9 +100,16 @@ private[pekko] final class EventSourcedRememberEntitiesShardStore(
   override def snapshotPluginId: String = settings.snapshotPluginId
 
   override def receiveRecover: Receive = {
-    case EntitiesStarted(ids)              => state = state.copy(state.entities.union(ids))
-    case EntitiesStopped(ids)              => state = state.copy(state.entities.diff(ids))
-    case SnapshotOffer(_, snapshot: State) => state = snapshot
+    case EntitiesStarted(ids) =>
+      state = state.copy(state.entities.union(ids))
+      eventsSinceSnapshot += 1
+    case EntitiesStopped(ids) =>
+      state = state.copy(state.entities.diff(ids))
+      eventsSinceSnapshot += 1
+    case SnapshotOffer(metadata, snapshot: State) =>
+      state = snapshot
+      eventsSinceSnapshot = 0
+      snapshotSequenceNrs = Vector(metadata.sequenceNr)
     case RecoveryCompleted =>
       log.debug("Recovery completed for shard [{}] with [{}] entities", shardId, state.entities.size)
   }
@@ -110,6 +125,7 @@ private[pekko] final class EventSourcedRememberEntitiesShardStore(
       def persistEventsAndHandleComplete(evts: List[StateChange]): Unit = {
         persistAll(evts) { _ =>
           left -= 1
+          eventsSinceSnapshot += 1
           saveSnap = saveSnap || isSnapshotNeeded
           if (left == 0) {
             sender() ! RememberEntitiesShardStore.UpdateDone(started, stopped)
@@ -131,24 +147,18 @@ private[pekko] final class EventSourcedRememberEntitiesShardStore(
     case RememberEntitiesShardStore.GetEntities =>
       sender() ! RememberEntitiesShardStore.RememberedEntities(state.entities)
 
-    case e: SaveSnapshotSuccess =>
+    case SaveSnapshotSuccess(metadata) =>
       log.debug("Snapshot saved successfully")
-      internalDeleteMessagesBeforeSnapshot(e, keepNrOfBatches, snapshotAfter)
+      deleteMessagesBeforeSnapshot(metadata.sequenceNr)
 
     case SaveSnapshotFailure(_, reason) =>
       log.warning("Snapshot failure: [{}]", reason.getMessage)
 
     case DeleteMessagesSuccess(toSequenceNr) =>
+      // the snapshot at toSequenceNr is kept, all older snapshots are deleted
       val deleteTo = toSequenceNr - 1
-      // keeping one additional batch of messages in case snapshotAfter has been delayed to the end of a processed batch
-      val keepNrOfBatchesWithSafetyBatch = if (keepNrOfBatches == 0) 0 else keepNrOfBatches + 1
-      val deleteFrom = math.max(0, deleteTo - (keepNrOfBatchesWithSafetyBatch * snapshotAfter))
-      log.debug(
-        "Messages to [{}] deleted successfully. Deleting snapshots from [{}] to [{}]",
-        toSequenceNr,
-        deleteFrom,
-        deleteTo)
-      deleteSnapshots(SnapshotSelectionCriteria(minSequenceNr = deleteFrom, maxSequenceNr = deleteTo))
+      log.debug("Messages to [{}] deleted successfully. Deleting snapshots to [{}]", toSequenceNr, deleteTo)
+      deleteSnapshots(SnapshotSelectionCriteria(maxSequenceNr = deleteTo))
 
     case DeleteMessagesFailure(reason, toSequenceNr) =>
       log.warning("Messages to [{}] deletion failure: [{}]", toSequenceNr, reason.getMessage)
@@ -174,10 +184,30 @@ private[pekko] final class EventSourcedRememberEntitiesShardStore(
 
   private def saveSnapshot(): Unit = {
     log.debug("Saving snapshot, sequence number [{}]", snapshotSequenceNr)
+    eventsSinceSnapshot = 0
     saveSnapshot(state)
   }
 
+  /**
+   * Deletes the events up to the snapshot `keepNrOfBatches` before the latest snapshot. The intervals
+   * between the snapshots are not fixed, so the bound is taken from the sequence numbers of the saved
+   * snapshots. Nothing is deleted until that snapshot is known, the snapshots before the one used for
+   * recovery are not.
+   */
+  private def deleteMessagesBeforeSnapshot(sequenceNr: Long): Unit = {
+    snapshotSequenceNrs = (snapshotSequenceNrs :+ sequenceNr).takeRight(keepNrOfBatches + 1)
+    if (snapshotSequenceNrs.size == keepNrOfBatches + 1)
+      deleteMessages(snapshotSequenceNrs.head)
+  }
+
+  /**
+   * The snapshot contains all remembered entities of the shard, so for shards with many entities
+   * the snapshot is only saved once the events since the previous snapshot are at least a fraction
+   * of the number of entities. That keeps the amount of data written for snapshots proportional to
+   * the number of updates, while the recovery doesn't replay more events than that fraction.
+   */
   private def isSnapshotNeeded = {
-    lastSequenceNr % snapshotAfter == 0 && lastSequenceNr != 0
+    eventsSinceSnapshot >= snapshotAfter &&
+    eventsSinceSnapshot >= snapshotAfterEntitiesFraction * state.entities.size
   }
 }
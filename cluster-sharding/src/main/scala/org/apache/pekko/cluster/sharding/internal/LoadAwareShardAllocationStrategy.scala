@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.sharding.internal
+
+import scala.collection.immutable
+import scala.concurrent.ExecutionContext
+import scala.concurrent.Future
+import scala.concurrent.duration._
+import scala.util.control.NonFatal
+
+import org.apache.pekko
+import pekko.actor.ActorRef
+import pekko.actor.ActorSystem
+import pekko.annotation.InternalApi
+import pekko.cluster.sharding.ShardRegion
+import pekko.cluster.sharding.ShardRegion.ShardId
+import pekko.cluster.sharding.internal.AbstractLeastShardAllocationStrategy.RegionEntry
+import pekko.cluster.sharding.internal.AbstractLeastShardAllocationStrategy.ShardSuitabilityOrdering
+import pekko.dispatch.ExecutionContexts
+import pekko.pattern.ask
+import pekko.util.Timeout
+
+/**
+ * INTERNAL API
+ */
+@InternalApi private[pekko] object LoadAwareShardAllocationStrategy {
+  private val emptyRebalanceResult = Future.successful(Set.empty[ShardId])
+
+  /**
+   * The load of a shard is the number of active entities plus one, so that shards without
+   * any active entities are still spread over the regions like the least shard strategy would.
+   */
+  def shardLoad(entityCount: Int): Long = entityCount.toLong + 1L
+}
+
+/**
+ * INTERNAL API: Use `ShardCoordinator.ShardAllocationStrategy.loadAwareShardAllocationStrategy` factory method.
+ *
+ * `ShardAllocationStrategy` that balances the regions by the load of their shards rather than by the number
+ * of shards. The load of each shard is the number of active entities in it, as reported by the
+ * `ShardRegion.GetShardRegionStats` query that is sent to all regions in each rebalance round.
+ *
+ * New shards are allocated to the `ShardRegion` with least total load. Shards that have no measured load yet
+ * are counted with the average load of the known shards.
+ *
+ * The rebalance repeatedly picks the shard from the most loaded region that narrows the gap to the least loaded
+ * region the most, until the gap is within `rebalanceThreshold` of the average region load or the limit of shards
+ * to rebalance in one round has been reached.
+ *
+ * It will not rebalance when there is already an ongoing rebalance in progress.
+ *
+ * @param absoluteLimit the maximum number of shards that will be rebalanced in one rebalance round
+ * @param relativeLimit fraction (< 1.0) of total number of (known) shards that will be rebalanced
+ *                      in one rebalance round
+ * @param rebalanceThreshold fraction of the average region load that the most and least loaded regions
+ *                           may differ by before a rebalance is triggered
+ * @param statsTimeout timeout for the `GetShardRegionStats` query to each region
+ */
+@InternalApi private[pekko] class LoadAwareShardAllocationStrategy(
+    absoluteLimit: Int,
+    relativeLimit: Double,
+    rebalanceThreshold: Double,
+    statsTimeout: FiniteDuration)
+    extends AbstractLeastShardAllocationStrategy {
+  import LoadAwareShardAllocationStrategy._
+
+  def this(absoluteLimit: Int, relativeLimit: Double) =
+    this(absoluteLimit, relativeLimit, rebalanceThreshold = 0.1, statsTimeout = 3.seconds)
+
+  @volatile private var system: ActorSystem = _
+
+  // last known entity count per shard, updated in each rebalance round
+  @volatile private var entityCounts: Map[ShardId, Int] = Map.empty
+
+  override def start(system: ActorSystem): Unit = {
+    super.start(system)
+    this.system = system
+  }
+
+  /**
+   * Collects the number of active entities per shard from all regions. A region that fails to
+   * reply keeps the previously known counts for its shards.
+   *
+   * Protected for testability.
+   */
+  protected def fetchEntityCounts(regions: Iterable[ActorRef]): Future[Map[ShardId, Int]] = {
+    implicit val timeout: Timeout = statsTimeout
+    implicit val ec: ExecutionContext = system.dispatcher
+    Future
+      .traverse(regions) { region =>
+        (region ? ShardRegion.GetShardRegionStats)
+          .mapTo[ShardRegion.ShardRegionStats]
+          .map(_.stats)
+          .recover { case NonFatal(_) => Map.empty[ShardId, Int] }
+      }
+      .map(_.foldLeft(Map.empty[ShardId, Int])(_ ++ _))
+  }
+
+  private def loadFunction(counts: Map[ShardId, Int]): ShardId => Long = {
+    val averageLoad =
+      if (counts.isEmpty) shardLoad(0)
+      else math.max(1L, counts.valuesIterator.map(c => shardLoad(c)).sum / counts.size)
+
+    shardId =>
+      counts.get(shardId) match {
+        case Some(count) => shardLoad(count)
+        case None        => averageLoad
+      }
+  }
+
+  override def allocateShard(
+      requester: ActorRef,
+      shardId: ShardId,
+      currentShardAllocations: Map[ActorRef, immutable.IndexedSeq[ShardId]]): Future[ActorRef] = {
+    val regionEntries = regionEntriesFor(currentShardAllocations)
+    if (regionEntries.isEmpty) {
+      // cluster state view not updated yet, let the least shard logic retry
+      super.allocateShard(requester, shardId, currentShardAllocations)
+    } else {
+      val load = loadFunction(entityCounts)
+      // prefer regions that are not leaving and have the latest app version, then least load
+      val bestByStatus = regionEntries.min(ShardSuitabilityOrdering)
+      val candidates = regionEntries.filter { entry =>
+        entry.member.status == bestByStatus.member.status && entry.member.appVersion == bestByStatus.member.appVersion
+      }
+      val leastLoaded = candidates.minBy(entry => (entry.shardIds.iterator.map(load).sum, entry.shardIds.size))
+      Future.successful(leastLoaded.region)
+    }
+  }
+
+  override def rebalance(
+      currentShardAllocations: Map[ActorRef, immutable.IndexedSeq[ShardId]],
+      rebalanceInProgress: Set[ShardId]): Future[Set[ShardId]] = {
+    if (rebalanceInProgress.nonEmpty) {
+      // one rebalance at a time
+      emptyRebalanceResult
+    } else {
+      val regionEntries = regionEntriesFor(currentShardAllocations).toVector
+      if (!isAGoodTimeToRebalance(regionEntries)) {
+        emptyRebalanceResult
+      } else {
+        fetchEntityCounts(currentShardAllocations.keys).map { fetched =>
+          // keep previous counts of shards in regions that didn't reply, drop shards that are gone
+          val allocated = currentShardAllocations.valuesIterator.flatten.toSet
+          val counts = (entityCounts ++ fetched).filter { case (shardId, _) => allocated(shardId) }
+          entityCounts = counts
+          selectShardsToRebalance(regionEntries, counts)
+        }(ExecutionContexts.parasitic)
+      }
+    }
+  }
+
+  private def selectShardsToRebalance(regionEntries: Vector[RegionEntry], counts: Map[ShardId, Int]): Set[ShardId] = {
+    val numberOfShards = regionEntries.iterator.map(_.shardIds.size).sum
+    if (regionEntries.size < 2 || numberOfShards == 0) {
+      Set.empty
+    } else {
+      val load = loadFunction(counts)
+      val limit = math.max(1, math.min((relativeLimit * numberOfShards).toInt, absoluteLimit))
+
+      val regionLoads = Array.tabulate(regionEntries.size)(i => regionEntries(i).shardIds.iterator.map(load).sum)
+      val remaining = Array.tabulate(regionEntries.size)(i => regionEntries(i).shardIds.toVector)
+      val threshold = math.max(1L, (rebalanceThreshold * regionLoads.sum / regionLoads.length).toLong)
+
+      @annotation.tailrec
+      def loop(selected: Set[ShardId]): Set[ShardId] = {
+        if (selected.size >= limit) selected
+        else {
+          val most = regionLoads.indices.maxBy(i => regionLoads(i))
+          val least = regionLoads.indices.minBy(i => regionLoads(i))
+          val gap = regionLoads(most) - regionLoads(least)
+          if (gap <= threshold) selected
+          else {
+            // moving a shard with load l changes the gap to |gap - 2l|, the best shard is the one closest to gap / 2
+            val candidates = remaining(most).filter(shardId => load(shardId) < gap)
+            if (candidates.isEmpty) selected
+            else {
+              val shardId = candidates.minBy(shardId => math.abs(gap - 2 * load(shardId)))
+              val movedLoad = load(shardId)
+              regionLoads(most) -= movedLoad
+              regionLoads(least) += movedLoad
+              remaining(most) = remaining(most).filterNot(_ == shardId)
+              loop(selected + shardId)
+            }
+          }
+        }
+      }
+
+      loop(Set.empty)
+    }
+  }
+
+  override def toString: String =
+    s"LoadAwareShardAllocationStrategy($absoluteLimit,$relativeLimit,$rebalanceThreshold)"
+}
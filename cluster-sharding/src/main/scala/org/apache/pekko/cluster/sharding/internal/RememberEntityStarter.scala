@@ -28,6 +28,7 @@ import pekko.cluster.sharding.ShardRegion.EntityId
 import pekko.cluster.sharding.ShardRegion.ShardId
 
 import scala.collection.immutable.Set
+import scala.collection.mutable
 import scala.concurrent.ExecutionContext
 
 /**
@@ -66,7 +67,9 @@ private[pekko] final class RememberEntityStarter(
 
   require(ids.nonEmpty)
 
-  private var idsLeftToStart = Set.empty[EntityId]
+  // mutable and insertion ordered so that taking the next batch and removing acked ids don't
+  // copy the remaining ids, which matters for shards with a very large number of remembered entities
+  private val idsLeftToStart = mutable.LinkedHashSet.empty[EntityId]
   private var waitingForAck = Set.empty[EntityId]
   private var entitiesMoved = Set.empty[EntityId]
 
@@ -77,11 +80,10 @@ private[pekko] final class RememberEntityStarter(
 
   settings.tuningParameters.entityRecoveryStrategy match {
     case "all" =>
-      idsLeftToStart = Set.empty
       startBatch(ids)
     case "constant" =>
       import settings.tuningParameters
-      idsLeftToStart = ids
+      idsLeftToStart ++= ids
       timers.startTimerWithFixedDelay(
         "constant",
         StartBatch(tuningParameters.entityRecoveryConstantRateStrategyNumberOfEntities),
@@ -111,8 +113,8 @@ private[pekko] final class RememberEntityStarter(
 
   private def startBatch(batchSize: Int): Unit = {
     log.debug("Starting batch of [{}] remembered entities", batchSize)
-    val (batch, newIdsLeftToStart) = idsLeftToStart.splitAt(batchSize)
-    idsLeftToStart = newIdsLeftToStart
+    val batch = idsLeftToStart.iterator.take(batchSize).toSet
+    idsLeftToStart --= batch
     startBatch(batch)
   }
 
@@ -830,5 +830,66 @@ class ClusterShardingSettingsSpec extends AnyWordSpec with Matchers {
         interval = 2.5.minutes)
     }
 
+    "have adaptive active entity limit disabled by default" in {
+      defaultSettings.passivationStrategySettings.adaptiveLimitSettings shouldBe None
+    }
+
+    "allow adaptive active entity limit to be configured (via config)" in {
+      val adaptiveLimit = settings("""
+        pekko.cluster.sharding.passivation {
+          strategy = default-strategy
+          adaptive-limit {
+            enabled = on
+            interval = 5s
+            low-heap-watermark = 0.4
+            high-heap-watermark = 0.8
+            minimum-limit-factor = 0.5
+            maximum-limit-factor = 2.0
+          }
+        }
+      """).passivationStrategySettings.adaptiveLimitSettings.get
+      adaptiveLimit.interval shouldBe 5.seconds
+      adaptiveLimit.lowHeapWatermark shouldBe 0.4
+      adaptiveLimit.highHeapWatermark shouldBe 0.8
+      adaptiveLimit.increaseFactor shouldBe 1.05
+      adaptiveLimit.decreaseFactor shouldBe 0.8
+      adaptiveLimit.minimumLimitFactor shouldBe 0.5
+      adaptiveLimit.maximumLimitFactor shouldBe 2.0
+    }
+
+    "allow adaptive active entity limit to be configured (via factory method)" in {
+      val adaptiveLimit = defaultSettings
+        .withPassivationStrategy(
+          ClusterShardingSettings.PassivationStrategySettings.defaults
+            .withActiveEntityLimit(1000)
+            .withAdaptiveLimit(
+              ClusterShardingSettings.PassivationStrategySettings.AdaptiveLimitSettings.defaults
+                .withInterval(5.seconds)
+                .withHeapWatermarks(low = 0.4, high = 0.8)))
+        .passivationStrategySettings
+        .adaptiveLimitSettings
+        .get
+      adaptiveLimit.interval shouldBe 5.seconds
+      adaptiveLimit.lowHeapWatermark shouldBe 0.4
+      adaptiveLimit.highHeapWatermark shouldBe 0.8
+    }
+
+    "have regions subscribe to the coordinator state disabled by default" in {
+      defaultSettings.tuningParameters.coordinatorStateRegionsSubscribe shouldBe false
+    }
+
+    "allow regions to subscribe to the coordinator state to be enabled (via config)" in {
+      settings("""
+        pekko.cluster.sharding.coordinator-state.regions-subscribe = on
+      """).tuningParameters.coordinatorStateRegionsSubscribe shouldBe true
+    }
+
+    "allow the number of entities warmed up after hand off to be configured (via config)" in {
+      defaultSettings.tuningParameters.handOffWarmUpEntities shouldBe 0
+      settings("""
+        pekko.cluster.sharding.handoff-warm-up-entities = 100
+      """).tuningParameters.handOffWarmUpEntities shouldBe 100
+    }
+
   }
 }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.sharding
+
+import scala.concurrent.duration._
+
+import com.typesafe.config.ConfigFactory
+
+import org.apache.pekko
+import pekko.actor.Actor
+import pekko.actor.ActorRef
+import pekko.actor.ActorSystem
+import pekko.actor.Address
+import pekko.actor.Props
+import pekko.cluster.Cluster
+import pekko.cluster.MemberStatus
+import pekko.testkit.PekkoSpec
+import pekko.testkit.TestProbe
+
+object HandOffWarmUpSpec {
+  val config = ConfigFactory.parseString("""
+    pekko.loglevel = INFO
+    pekko.actor.provider = "cluster"
+    pekko.remote.artery.canonical.port = 0
+    pekko.remote.classic.netty.tcp.port = 0
+    pekko.cluster.jmx.enabled = off
+    pekko.cluster.sharding.handoff-warm-up-entities = 100
+    pekko.cluster.sharding.distributed-data.durable.keys = []
+    """)
+
+  final case class Started(entityId: String, address: Address)
+
+  class EntityActor(probe: ActorRef) extends Actor {
+    override def preStart(): Unit =
+      probe ! Started(self.path.name, Cluster(context.system).selfAddress)
+
+    override def receive: Receive = {
+      case msg => sender() ! msg
+    }
+  }
+
+  val extractEntityId: ShardRegion.ExtractEntityId = {
+    case msg: Int => (msg.toString, msg)
+  }
+
+  val extractShardId: ShardRegion.ExtractShardId = {
+    case msg: Int                    => (msg % 10).toString
+    case ShardRegion.StartEntity(id) => (id.toInt % 10).toString
+    case _                           => throw new IllegalArgumentException()
+  }
+}
+
+class HandOffWarmUpSpec extends PekkoSpec(HandOffWarmUpSpec.config) {
+  import HandOffWarmUpSpec._
+
+  private val sysA = system
+  private val sysB = ActorSystem(system.name, system.settings.config)
+
+  private val probe = TestProbe()(sysA)
+
+  private def startRegion(sys: ActorSystem): ActorRef =
+    ClusterSharding(sys).start(
+      "WarmUp",
+      Props(new EntityActor(probe.ref)),
+      ClusterShardingSettings(sys),
+      extractEntityId,
+      extractShardId)
+
+  override def beforeTermination(): Unit =
+    shutdown(sysB)
+
+  "Shard hand off with handoff-warm-up-entities" must {
+
+    "start the previously active entities on the new home of the shard" in {
+      Cluster(sysA).join(Cluster(sysA).selfAddress)
+      awaitAssert(Cluster(sysA).selfMember.status should ===(MemberStatus.Up))
+      Cluster(sysB).join(Cluster(sysA).selfAddress)
+      awaitAssert(Cluster(sysB).selfMember.status should ===(MemberStatus.Up))
+
+      val regionA = startRegion(sysA)
+      val regionB = startRegion(sysB)
+      val regionsProbe = TestProbe()(sysA)
+      awaitAssert {
+        regionA.tell(ShardRegion.GetCurrentRegions, regionsProbe.ref)
+        regionsProbe.expectMsgType[ShardRegion.CurrentRegions].regions.size should ===(2)
+      }
+
+      (1 to 10).foreach(n => regionA.tell(n, probe.ref))
+      val startedOnB = probe
+        .receiveN(20, 10.seconds)
+        .collect { case Started(entityId, address) if address == Cluster(sysB).selfAddress => entityId }
+        .toSet
+      startedOnB should not be empty
+
+      regionB ! ShardRegion.GracefulShutdown
+
+      // the entities are started on A without any new messages to them
+      val restartedOnA = probe
+        .receiveN(startedOnB.size, 10.seconds)
+        .collect { case Started(entityId, address) if address == Cluster(sysA).selfAddress => entityId }
+        .toSet
+      restartedOnA should ===(startedOnB)
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.sharding
+
+import org.scalatest.matchers.should.Matchers
+import org.scalatest.wordspec.AnyWordSpec
+
+class HashCodeMessageExtractorSpec extends AnyWordSpec with Matchers {
+
+  private def expectedShardId(id: String, maxNumberOfShards: Int): String =
+    (math.abs(id.hashCode) % maxNumberOfShards).toString
+
+  "HashCodeMessageExtractor.shardId" should {
+    "keep the shard ids stable" in {
+      for {
+        maxNumberOfShards <- List(1, 10, 1000, 1024, 1025, 100000)
+        n <- 0 until 10000
+      } {
+        val id = s"entity-$n"
+        ShardRegion.HashCodeMessageExtractor.shardId(id, maxNumberOfShards) should ===(
+          expectedShardId(id, maxNumberOfShards))
+      }
+    }
+
+    "handle an entity id with Int.MinValue hashCode" in {
+      val id = "polygenelubricants"
+      id.hashCode should ===(Int.MinValue)
+      ShardRegion.HashCodeMessageExtractor.shardId(id, 1000) should ===(expectedShardId(id, 1000))
+      ShardRegion.HashCodeMessageExtractor.shardId(id, 100000) should ===(expectedShardId(id, 100000))
+    }
+
+    "not allocate new shard ids for common number of shards" in {
+      val shardId1 = ShardRegion.HashCodeMessageExtractor.shardId("a", 1000)
+      val shardId2 = ShardRegion.HashCodeMessageExtractor.shardId("a", 1000)
+      (shardId1 should be).theSameInstanceAs(shardId2)
+    }
+  }
+}
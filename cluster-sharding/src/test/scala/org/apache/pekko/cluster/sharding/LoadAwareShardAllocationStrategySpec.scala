@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.sharding
+
+import scala.collection.immutable.SortedSet
+import scala.concurrent.Future
+
+import org.apache.pekko
+import pekko.actor.ActorRef
+import pekko.cluster.ClusterEvent
+import pekko.cluster.ClusterEvent.CurrentClusterState
+import pekko.cluster.Member
+import pekko.cluster.sharding.ShardRegion.ShardId
+import pekko.cluster.sharding.internal.LoadAwareShardAllocationStrategy
+import pekko.testkit.PekkoSpec
+
+class LoadAwareShardAllocationStrategySpec extends PekkoSpec {
+  import LeastShardAllocationStrategySpec._
+
+  val memberA = newUpMember("127.0.0.1")
+  val memberB = newUpMember("127.0.0.2")
+  val memberC = newUpMember("127.0.0.3")
+
+  val regionA = newFakeRegion("regionA", memberA)
+  val regionB = newFakeRegion("regionB", memberB)
+  val regionC = newFakeRegion("regionC", memberC)
+
+  private def strategyWithFakeCluster(
+      entityCounts: Map[ShardId, Int],
+      absoluteLimit: Int = 1000,
+      relativeLimit: Double = 1.0) =
+    // we don't really "start" it as we fake the cluster access and the stats query
+    new LoadAwareShardAllocationStrategy(absoluteLimit, relativeLimit) {
+      override protected def clusterState: ClusterEvent.CurrentClusterState =
+        CurrentClusterState(SortedSet(memberA, memberB, memberC))
+      override protected def selfMember: Member = memberA
+      override protected def fetchEntityCounts(regions: Iterable[ActorRef]): Future[Map[ShardId, Int]] =
+        Future.successful(entityCounts)
+    }
+
+  private val hotAllocations: Map[ActorRef, Vector[ShardId]] =
+    Map(
+      regionA -> Vector("001", "002", "003", "004"),
+      regionB -> Vector("005", "006"),
+      regionC -> Vector("007", "008"))
+
+  private val hotEntityCounts: Map[ShardId, Int] =
+    Map("001" -> 50, "002" -> 50, "003" -> 50, "004" -> 50, "005" -> 0, "006" -> 0, "007" -> 0, "008" -> 0)
+
+  "LoadAwareShardAllocationStrategy" must {
+    "allocate to region with least number of shards when the load is unknown" in {
+      val allocationStrategy = strategyWithFakeCluster(Map.empty)
+      val allocations = Map(regionA -> Vector("001"), regionB -> Vector("002"), regionC -> Vector.empty[ShardId])
+      allocationStrategy.allocateShard(regionA, "003", allocations).futureValue should ===(regionC)
+    }
+
+    "allocate to region with least load" in {
+      val allocationStrategy = strategyWithFakeCluster(Map("001" -> 2, "002" -> 100, "003" -> 100))
+      val allocations = Map(regionA -> Vector("001", "002"), regionB -> Vector("003"), regionC -> Vector("004"))
+      // the entity counts are collected in the rebalance round
+      allocationStrategy.rebalance(allocations, Set.empty).futureValue
+      // "004" has unknown load and is counted with the average load
+      allocationStrategy.allocateShard(regionA, "005", allocations).futureValue should ===(regionC)
+    }
+
+    "rebalance shards from the hot region" in {
+      val allocationStrategy = strategyWithFakeCluster(hotEntityCounts)
+      val result = allocationStrategy.rebalance(hotAllocations, Set.empty).futureValue
+      result.size should ===(2)
+      result.subsetOf(hotAllocations(regionA).toSet) should ===(true)
+
+      val allocationsAfter = afterRebalance(allocationStrategy, hotAllocations, result)
+      allocationsAfter(regionA).size should ===(2)
+      allocationsAfter(regionB).size should ===(3)
+      allocationsAfter(regionC).size should ===(3)
+    }
+
+    "not rebalance when the load is even although the number of shards differ" in {
+      val counts = ("001" -> 99) :: (2 to 11).map(n => f"$n%03d" -> 9).toList
+      val allocationStrategy = strategyWithFakeCluster(counts.toMap)
+      val allocations = Map(regionA -> Vector("001"), regionB -> (2 to 11).map(n => f"$n%03d").toVector)
+      allocationStrategy.rebalance(allocations, Set.empty).futureValue should ===(Set.empty[ShardId])
+    }
+
+    "respect absolute limit of number shards" in {
+      val allocationStrategy = strategyWithFakeCluster(hotEntityCounts, absoluteLimit = 1)
+      allocationStrategy.rebalance(hotAllocations, Set.empty).futureValue.size should ===(1)
+    }
+
+    "respect relative limit of number shards" in {
+      val allocationStrategy = strategyWithFakeCluster(hotEntityCounts, relativeLimit = 0.1)
+      allocationStrategy.rebalance(hotAllocations, Set.empty).futureValue.size should ===(1)
+    }
+
+    "not rebalance when in progress" in {
+      val allocationStrategy = strategyWithFakeCluster(hotEntityCounts)
+      allocationStrategy.rebalance(hotAllocations, Set("002")).futureValue should ===(Set.empty[ShardId])
+    }
+  }
+}
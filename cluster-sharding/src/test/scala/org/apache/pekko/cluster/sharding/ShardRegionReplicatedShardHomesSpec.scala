@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.sharding
+
+import scala.concurrent.duration._
+
+import com.typesafe.config.ConfigFactory
+
+import org.apache.pekko
+import pekko.actor.ActorRef
+import pekko.actor.PoisonPill
+import pekko.cluster.Cluster
+import pekko.cluster.ddata.LWWRegister
+import pekko.cluster.ddata.Replicator
+import pekko.cluster.ddata.SelfUniqueAddress
+import pekko.cluster.sharding.ShardCoordinator.Internal._
+import pekko.testkit.ImplicitSender
+import pekko.testkit.PekkoSpec
+import pekko.testkit.TestActors
+import pekko.testkit.TestProbe
+
+object ShardRegionReplicatedShardHomesSpec {
+  val config = ConfigFactory.parseString("""
+    pekko.actor.provider = "cluster"
+    pekko.remote.artery.canonical.port = 0
+    pekko.remote.classic.netty.tcp.port = 0
+    pekko.cluster.sharding.coordinator-state.regions-subscribe = on
+    pekko.cluster.jmx.enabled = off
+    """)
+
+  val extractEntityId: ShardRegion.ExtractEntityId = {
+    case msg: Int => (msg.toString, msg)
+  }
+
+  val extractShardId: ShardRegion.ExtractShardId = {
+    case msg: Int => (msg % 10).toString
+    case _        => throw new IllegalArgumentException()
+  }
+}
+
+class ShardRegionReplicatedShardHomesSpec
+    extends PekkoSpec(ShardRegionReplicatedShardHomesSpec.config)
+    with ImplicitSender {
+  import ShardRegionReplicatedShardHomesSpec._
+
+  private val typeName = "replicated-homes"
+  private val stateKey = ShardCoordinator.coordinatorStateKey(typeName)
+  private val selfUniqueAddress = SelfUniqueAddress(Cluster(system).selfUniqueAddress)
+
+  private def startRegion(replicator: ActorRef): ActorRef =
+    system.actorOf(
+      ShardRegion.props(
+        typeName,
+        _ => TestActors.echoActorProps,
+        ClusterShardingSettings(system),
+        // no coordinator, the homes must come from the replicated state
+        "/system/sharding/replicated-homes-coordinator/singleton/coordinator",
+        extractEntityId,
+        extractShardId,
+        PoisonPill,
+        None,
+        replicator))
+
+  private def changed(state: State): Replicator.Changed[LWWRegister[State]] =
+    Replicator.Changed(stateKey)(LWWRegister(selfUniqueAddress, state))
+
+  private def stateWithHome(shard: String, home: ActorRef): State =
+    State.empty.updated(ShardRegionRegistered(home)).updated(ShardHomeAllocated(shard, home))
+
+  "ShardRegion with regions-subscribe enabled" must {
+
+    "route to the shard home from the replicated coordinator state" in {
+      val replicator = TestProbe()
+      val otherRegion = TestProbe()
+      val region = startRegion(replicator.ref)
+      replicator.expectMsg(Replicator.Subscribe(stateKey, region))
+
+      region ! changed(stateWithHome("1", otherRegion.ref))
+      region ! 1
+      otherRegion.expectMsg(1)
+      region ! 11
+      otherRegion.expectMsg(11)
+    }
+
+    "not use the previous home of a shard that is handed off" in {
+      val replicator = TestProbe()
+      val otherRegion = TestProbe()
+      val newRegion = TestProbe()
+      val region = startRegion(replicator.ref)
+      replicator.expectMsg(Replicator.Subscribe(stateKey, region))
+
+      val state = stateWithHome("2", otherRegion.ref)
+      region ! changed(state)
+      region ! 2
+      otherRegion.expectMsg(2)
+
+      region ! BeginHandOff("2")
+      expectMsg(BeginHandOffAck("2"))
+      // the replicated state has not been updated yet
+      region ! changed(state.updated(ShardRegionRegistered(newRegion.ref)))
+      region ! 12
+      otherRegion.expectNoMessage(200.millis)
+
+      region ! ShardHome("2", newRegion.ref)
+      newRegion.expectMsg(12)
+    }
+  }
+}
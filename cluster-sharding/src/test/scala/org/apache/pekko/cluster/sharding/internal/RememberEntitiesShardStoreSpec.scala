@@ -13,6 +13,8 @@
 
 package org.apache.pekko.cluster.sharding.internal
 
+import java.io.File
+import java.net.URLEncoder
 import java.util.UUID
 
 import org.apache.pekko
@@ -144,4 +146,44 @@ class EventSourcedRememberEntitiesShardStoreSpec extends RememberEntitiesShardSt
   override def storeProps(shardId: ShardId, typeName: String, settings: ClusterShardingSettings): Props =
     EventSourcedRememberEntitiesShardStore.props(typeName, shardId, settings)
 
+  private def savedSnapshotSequenceNrs(persistenceId: String): Set[Long] = {
+    val dir = new File(system.settings.config.getString("pekko.persistence.snapshot-store.local.dir"))
+    val prefix = s"snapshot-${URLEncoder.encode(persistenceId, "UTF-8")}-"
+    Option(dir.listFiles()).fold(Set.empty[Long]) { files =>
+      files.iterator
+        .map(_.getName)
+        .collect {
+          case name if name.startsWith(prefix) => name.drop(prefix.length).takeWhile(_ != '-').toLong
+        }
+        .toSet
+    }
+  }
+
+  s"The $storeName" must {
+
+    "delete old snapshots when the interval between the snapshots shrinks" in {
+      // snapshot-after = 2 and keep-nr-of-batches = 2
+      val store =
+        system.actorOf(storeProps("FakeShardIdShrinking", "FakeTypeNameShrinking", ClusterShardingSettings(system)))
+      val update = (started: Set[String], stopped: Set[String]) => {
+        store ! RememberEntitiesShardStore.Update(started, stopped)
+        expectMsg(RememberEntitiesShardStore.UpdateDone(started, stopped))
+      }
+
+      // with more than 100 entities the snapshots are at least 10 events apart
+      val ids = (1 to 100).map(_.toString).toSet ++ (1 to 40).map(n => s"x-$n")
+      update((1 to 100).map(_.toString).toSet, Set.empty)
+      (1 to 40).foreach(n => update(Set(s"x-$n"), Set.empty))
+      // with few entities the snapshots are snapshot-after events apart
+      update(Set.empty, ids)
+      (1 to 20).foreach(n => update(Set(s"y-$n"), Set.empty))
+
+      awaitAssert {
+        val sequenceNrs = savedSnapshotSequenceNrs("/sharding/FakeTypeNameShrinkingShard/FakeShardIdShrinking")
+        sequenceNrs should have size 3
+        (sequenceNrs.max - sequenceNrs.min) should ===(4L)
+      }
+    }
+  }
+
 }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.sharding.passivation
+
+import scala.concurrent.duration._
+
+import org.apache.pekko
+import pekko.cluster.sharding.ClusterShardingSettings.PassivationStrategySettings.AdaptiveLimitSettings
+import pekko.cluster.sharding.internal.AdaptiveActiveEntityLimit
+import org.scalatest.matchers.should.Matchers
+import org.scalatest.wordspec.AnyWordSpec
+
+class AdaptiveActiveEntityLimitSpec extends AnyWordSpec with Matchers {
+
+  private val settings = new AdaptiveLimitSettings(
+    interval = 1.second,
+    lowHeapWatermark = 0.5,
+    highHeapWatermark = 0.75,
+    increaseFactor = 1.1,
+    decreaseFactor = 0.5,
+    minimumLimitFactor = 0.25,
+    maximumLimitFactor = 1.5)
+
+  private var heapUsage = 0.6
+
+  private def create(limit: Int = 1000) = new AdaptiveActiveEntityLimit(settings, limit, () => heapUsage)
+
+  "AdaptiveActiveEntityLimit" must {
+
+    "keep the limit between the watermarks" in {
+      val adaptive = create()
+      heapUsage = 0.6
+      adaptive.adapt() shouldBe None
+      adaptive.limit shouldBe 1000
+    }
+
+    "increase the limit additively when the heap usage is low" in {
+      val adaptive = create()
+      heapUsage = 0.2
+      adaptive.adapt() shouldBe Some(1100)
+      adaptive.adapt() shouldBe Some(1200)
+    }
+
+    "decrease the limit multiplicatively when the heap usage is high" in {
+      val adaptive = create()
+      heapUsage = 0.9
+      adaptive.adapt() shouldBe Some(500)
+      adaptive.adapt() shouldBe Some(250)
+    }
+
+    "keep the limit within the limit factors" in {
+      val adaptive = create()
+      heapUsage = 0.9
+      (1 to 10).foreach(_ => adaptive.adapt())
+      adaptive.limit shouldBe 250
+      adaptive.adapt() shouldBe None
+
+      heapUsage = 0.1
+      (1 to 20).foreach(_ => adaptive.adapt())
+      adaptive.limit shouldBe 1500
+      adaptive.adapt() shouldBe None
+    }
+
+    "continue from an explicitly set limit" in {
+      val adaptive = create()
+      adaptive.limitUpdated(800)
+      heapUsage = 0.9
+      adaptive.adapt() shouldBe Some(400)
+    }
+  }
+}
@@ -8949,6 +8949,1825 @@ public final class DistributedPubSubMessages {
 
   }
 
+  public interface PublishBatchOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:PublishBatch)
+      org.apache.pekko.protobufv3.internal.MessageOrBuilder {
+
+    /**
+     * <code>repeated .PublishBatch.Entry entries = 1;</code>
+     */
+    java.util.List<org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry> 
+        getEntriesList();
+    /**
+     * <code>repeated .PublishBatch.Entry entries = 1;</code>
+     */
+    org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry getEntries(int index);
+    /**
+     * <code>repeated .PublishBatch.Entry entries = 1;</code>
+     */
+    int getEntriesCount();
+    /**
+     * <code>repeated .PublishBatch.Entry entries = 1;</code>
+     */
+    java.util.List<? extends org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.EntryOrBuilder> 
+        getEntriesOrBuilderList();
+    /**
+     * <code>repeated .PublishBatch.Entry entries = 1;</code>
+     */
+    org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.EntryOrBuilder getEntriesOrBuilder(
+        int index);
+  }
+  /**
+   * <pre>
+   **
+   * Messages published to topics with subscribers on the destination node,
+   * when publish-batching is enabled.
+   * </pre>
+   *
+   * Protobuf type {@code PublishBatch}
+   */
+  public  static final class PublishBatch extends
+      org.apache.pekko.protobufv3.internal.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:PublishBatch)
+      PublishBatchOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PublishBatch.newBuilder() to construct.
+    private PublishBatch(org.apache.pekko.protobufv3.internal.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PublishBatch() {
+      entries_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        org.apache.pekko.protobufv3.internal.GeneratedMessageV3.UnusedPrivateParameter unused) {
+      return new PublishBatch();
+    }
+
+    @java.lang.Override
+    public final org.apache.pekko.protobufv3.internal.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private PublishBatch(
+        org.apache.pekko.protobufv3.internal.CodedInputStream input,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      org.apache.pekko.protobufv3.internal.UnknownFieldSet.Builder unknownFields =
+          org.apache.pekko.protobufv3.internal.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                entries_ = new java.util.ArrayList<org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              entries_.add(
+                  input.readMessage(org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.PARSER, extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          entries_ = java.util.Collections.unmodifiableList(entries_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
+        getDescriptor() {
+      return org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.internal_static_PublishBatch_descriptor;
+    }
+
+    @java.lang.Override
+    protected org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.internal_static_PublishBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.class, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Builder.class);
+    }
+
+    public interface EntryOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:PublishBatch.Entry)
+        org.apache.pekko.protobufv3.internal.MessageOrBuilder {
+
+      /**
+       * <code>required string path = 1;</code>
+       * @return Whether the path field is set.
+       */
+      boolean hasPath();
+      /**
+       * <code>required string path = 1;</code>
+       * @return The path.
+       */
+      java.lang.String getPath();
+      /**
+       * <code>required string path = 1;</code>
+       * @return The bytes for path.
+       */
+      org.apache.pekko.protobufv3.internal.ByteString
+          getPathBytes();
+
+      /**
+       * <code>required .Payload payload = 2;</code>
+       * @return Whether the payload field is set.
+       */
+      boolean hasPayload();
+      /**
+       * <code>required .Payload payload = 2;</code>
+       * @return The payload.
+       */
+      org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload getPayload();
+      /**
+       * <code>required .Payload payload = 2;</code>
+       */
+      org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PayloadOrBuilder getPayloadOrBuilder();
+
+      /**
+       * <code>optional string sender = 3;</code>
+       * @return Whether the sender field is set.
+       */
+      boolean hasSender();
+      /**
+       * <code>optional string sender = 3;</code>
+       * @return The sender.
+       */
+      java.lang.String getSender();
+      /**
+       * <code>optional string sender = 3;</code>
+       * @return The bytes for sender.
+       */
+      org.apache.pekko.protobufv3.internal.ByteString
+          getSenderBytes();
+    }
+    /**
+     * Protobuf type {@code PublishBatch.Entry}
+     */
+    public  static final class Entry extends
+        org.apache.pekko.protobufv3.internal.GeneratedMessageV3 implements
+        // @@protoc_insertion_point(message_implements:PublishBatch.Entry)
+        EntryOrBuilder {
+    private static final long serialVersionUID = 0L;
+      // Use Entry.newBuilder() to construct.
+      private Entry(org.apache.pekko.protobufv3.internal.GeneratedMessageV3.Builder<?> builder) {
+        super(builder);
+      }
+      private Entry() {
+        path_ = "";
+        sender_ = "";
+      }
+
+      @java.lang.Override
+      @SuppressWarnings({"unused"})
+      protected java.lang.Object newInstance(
+          org.apache.pekko.protobufv3.internal.GeneratedMessageV3.UnusedPrivateParameter unused) {
+        return new Entry();
+      }
+
+      @java.lang.Override
+      public final org.apache.pekko.protobufv3.internal.UnknownFieldSet
+      getUnknownFields() {
+        return this.unknownFields;
+      }
+      private Entry(
+          org.apache.pekko.protobufv3.internal.CodedInputStream input,
+          org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+          throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+        this();
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        int mutable_bitField0_ = 0;
+        org.apache.pekko.protobufv3.internal.UnknownFieldSet.Builder unknownFields =
+            org.apache.pekko.protobufv3.internal.UnknownFieldSet.newBuilder();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                org.apache.pekko.protobufv3.internal.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000001;
+                path_ = bs;
+                break;
+              }
+              case 18: {
+                org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload.Builder subBuilder = null;
+                if (((bitField0_ & 0x00000002) != 0)) {
+                  subBuilder = payload_.toBuilder();
+                }
+                payload_ = input.readMessage(org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload.PARSER, extensionRegistry);
+                if (subBuilder != null) {
+                  subBuilder.mergeFrom(payload_);
+                  payload_ = subBuilder.buildPartial();
+                }
+                bitField0_ |= 0x00000002;
+                break;
+              }
+              case 26: {
+                org.apache.pekko.protobufv3.internal.ByteString bs = input.readBytes();
+                bitField0_ |= 0x00000004;
+                sender_ = bs;
+                break;
+              }
+              default: {
+                if (!parseUnknownField(
+                    input, unknownFields, extensionRegistry, tag)) {
+                  done = true;
+                }
+                break;
+              }
+            }
+          }
+        } catch (org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(this);
+        } catch (java.io.IOException e) {
+          throw new org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException(
+              e).setUnfinishedMessage(this);
+        } finally {
+          this.unknownFields = unknownFields.build();
+          makeExtensionsImmutable();
+        }
+      }
+      public static final org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
+          getDescriptor() {
+        return org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.internal_static_PublishBatch_Entry_descriptor;
+      }
+
+      @java.lang.Override
+      protected org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.internal_static_PublishBatch_Entry_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.class, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int PATH_FIELD_NUMBER = 1;
+      private volatile java.lang.Object path_;
+      /**
+       * <code>required string path = 1;</code>
+       * @return Whether the path field is set.
+       */
+      public boolean hasPath() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required string path = 1;</code>
+       * @return The path.
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          org.apache.pekko.protobufv3.internal.ByteString bs = 
+              (org.apache.pekko.protobufv3.internal.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            path_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>required string path = 1;</code>
+       * @return The bytes for path.
+       */
+      public org.apache.pekko.protobufv3.internal.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof java.lang.String) {
+          org.apache.pekko.protobufv3.internal.ByteString b = 
+              org.apache.pekko.protobufv3.internal.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (org.apache.pekko.protobufv3.internal.ByteString) ref;
+        }
+      }
+
+      public static final int PAYLOAD_FIELD_NUMBER = 2;
+      private org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload payload_;
+      /**
+       * <code>required .Payload payload = 2;</code>
+       * @return Whether the payload field is set.
+       */
+      public boolean hasPayload() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>required .Payload payload = 2;</code>
+       * @return The payload.
+       */
+      public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload getPayload() {
+        return payload_ == null ? org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload.getDefaultInstance() : payload_;
+      }
+      /**
+       * <code>required .Payload payload = 2;</code>
+       */
+      public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PayloadOrBuilder getPayloadOrBuilder() {
+        return payload_ == null ? org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload.getDefaultInstance() : payload_;
+      }
+
+      public static final int SENDER_FIELD_NUMBER = 3;
+      private volatile java.lang.Object sender_;
+      /**
+       * <code>optional string sender = 3;</code>
+       * @return Whether the sender field is set.
+       */
+      public boolean hasSender() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string sender = 3;</code>
+       * @return The sender.
+       */
+      public java.lang.String getSender() {
+        java.lang.Object ref = sender_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          org.apache.pekko.protobufv3.internal.ByteString bs = 
+              (org.apache.pekko.protobufv3.internal.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            sender_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string sender = 3;</code>
+       * @return The bytes for sender.
+       */
+      public org.apache.pekko.protobufv3.internal.ByteString
+          getSenderBytes() {
+        java.lang.Object ref = sender_;
+        if (ref instanceof java.lang.String) {
+          org.apache.pekko.protobufv3.internal.ByteString b = 
+              org.apache.pekko.protobufv3.internal.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          sender_ = b;
+          return b;
+        } else {
+          return (org.apache.pekko.protobufv3.internal.ByteString) ref;
+        }
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        if (!hasPath()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        if (!hasPayload()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        if (!getPayload().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(org.apache.pekko.protobufv3.internal.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          org.apache.pekko.protobufv3.internal.GeneratedMessageV3.writeString(output, 1, path_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          output.writeMessage(2, getPayload());
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          org.apache.pekko.protobufv3.internal.GeneratedMessageV3.writeString(output, 3, sender_);
+        }
+        unknownFields.writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          size += org.apache.pekko.protobufv3.internal.GeneratedMessageV3.computeStringSize(1, path_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          size += org.apache.pekko.protobufv3.internal.CodedOutputStream
+            .computeMessageSize(2, getPayload());
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          size += org.apache.pekko.protobufv3.internal.GeneratedMessageV3.computeStringSize(3, sender_);
+        }
+        size += unknownFields.getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry)) {
+          return super.equals(obj);
+        }
+        org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry other = (org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry) obj;
+
+        if (hasPath() != other.hasPath()) return false;
+        if (hasPath()) {
+          if (!getPath()
+              .equals(other.getPath())) return false;
+        }
+        if (hasPayload() != other.hasPayload()) return false;
+        if (hasPayload()) {
+          if (!getPayload()
+              .equals(other.getPayload())) return false;
+        }
+        if (hasSender() != other.hasSender()) return false;
+        if (hasSender()) {
+          if (!getSender()
+              .equals(other.getSender())) return false;
+        }
+        if (!unknownFields.equals(other.unknownFields)) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasPath()) {
+          hash = (37 * hash) + PATH_FIELD_NUMBER;
+          hash = (53 * hash) + getPath().hashCode();
+        }
+        if (hasPayload()) {
+          hash = (37 * hash) + PAYLOAD_FIELD_NUMBER;
+          hash = (53 * hash) + getPayload().hashCode();
+        }
+        if (hasSender()) {
+          hash = (37 * hash) + SENDER_FIELD_NUMBER;
+          hash = (53 * hash) + getSender().hashCode();
+        }
+        hash = (29 * hash) + unknownFields.hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry parseFrom(
+          java.nio.ByteBuffer data)
+          throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry parseFrom(
+          java.nio.ByteBuffer data,
+          org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+          throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry parseFrom(
+          org.apache.pekko.protobufv3.internal.ByteString data)
+          throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry parseFrom(
+          org.apache.pekko.protobufv3.internal.ByteString data,
+          org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+          throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry parseFrom(byte[] data)
+          throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry parseFrom(
+          byte[] data,
+          org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+          throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry parseFrom(
+          java.io.InputStream input,
+          org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+      public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry parseDelimitedFrom(
+          java.io.InputStream input,
+          org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry parseFrom(
+          org.apache.pekko.protobufv3.internal.CodedInputStream input)
+          throws java.io.IOException {
+        return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+            .parseWithIOException(PARSER, input);
+      }
+      public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry parseFrom(
+          org.apache.pekko.protobufv3.internal.CodedInputStream input,
+          org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          org.apache.pekko.protobufv3.internal.GeneratedMessageV3.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code PublishBatch.Entry}
+       */
+      public static final class Builder extends
+          org.apache.pekko.protobufv3.internal.GeneratedMessageV3.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:PublishBatch.Entry)
+          org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.EntryOrBuilder {
+        public static final org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
+            getDescriptor() {
+          return org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.internal_static_PublishBatch_Entry_descriptor;
+        }
+
+        @java.lang.Override
+        protected org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.internal_static_PublishBatch_Entry_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.class, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.Builder.class);
+        }
+
+        // Construct using org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.newBuilder()
+        private Builder() {
+          maybeForceBuilderInitialization();
+        }
+
+        private Builder(
+            org.apache.pekko.protobufv3.internal.GeneratedMessageV3.BuilderParent parent) {
+          super(parent);
+          maybeForceBuilderInitialization();
+        }
+        private void maybeForceBuilderInitialization() {
+          if (org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+                  .alwaysUseFieldBuilders) {
+            getPayloadFieldBuilder();
+          }
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          path_ = "";
+          bitField0_ = (bitField0_ & ~0x00000001);
+          if (payloadBuilder_ == null) {
+            payload_ = null;
+          } else {
+            payloadBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000002);
+          sender_ = "";
+          bitField0_ = (bitField0_ & ~0x00000004);
+          return this;
+        }
+
+        @java.lang.Override
+        public org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
+            getDescriptorForType() {
+          return org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.internal_static_PublishBatch_Entry_descriptor;
+        }
+
+        @java.lang.Override
+        public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry getDefaultInstanceForType() {
+          return org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry build() {
+          org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry buildPartial() {
+          org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry result = new org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry(this);
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            to_bitField0_ |= 0x00000001;
+          }
+          result.path_ = path_;
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            if (payloadBuilder_ == null) {
+              result.payload_ = payload_;
+            } else {
+              result.payload_ = payloadBuilder_.build();
+            }
+            to_bitField0_ |= 0x00000002;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            to_bitField0_ |= 0x00000004;
+          }
+          result.sender_ = sender_;
+          result.bitField0_ = to_bitField0_;
+          onBuilt();
+          return result;
+        }
+
+        @java.lang.Override
+        public Builder clone() {
+          return super.clone();
+        }
+        @java.lang.Override
+        public Builder setField(
+            org.apache.pekko.protobufv3.internal.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.setField(field, value);
+        }
+        @java.lang.Override
+        public Builder clearField(
+            org.apache.pekko.protobufv3.internal.Descriptors.FieldDescriptor field) {
+          return super.clearField(field);
+        }
+        @java.lang.Override
+        public Builder clearOneof(
+            org.apache.pekko.protobufv3.internal.Descriptors.OneofDescriptor oneof) {
+          return super.clearOneof(oneof);
+        }
+        @java.lang.Override
+        public Builder setRepeatedField(
+            org.apache.pekko.protobufv3.internal.Descriptors.FieldDescriptor field,
+            int index, java.lang.Object value) {
+          return super.setRepeatedField(field, index, value);
+        }
+        @java.lang.Override
+        public Builder addRepeatedField(
+            org.apache.pekko.protobufv3.internal.Descriptors.FieldDescriptor field,
+            java.lang.Object value) {
+          return super.addRepeatedField(field, value);
+        }
+        @java.lang.Override
+        public Builder mergeFrom(org.apache.pekko.protobufv3.internal.Message other) {
+          if (other instanceof org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry) {
+            return mergeFrom((org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry other) {
+          if (other == org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.getDefaultInstance()) return this;
+          if (other.hasPath()) {
+            bitField0_ |= 0x00000001;
+            path_ = other.path_;
+            onChanged();
+          }
+          if (other.hasPayload()) {
+            mergePayload(other.getPayload());
+          }
+          if (other.hasSender()) {
+            bitField0_ |= 0x00000004;
+            sender_ = other.sender_;
+            onChanged();
+          }
+          this.mergeUnknownFields(other.unknownFields);
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          if (!hasPath()) {
+            return false;
+          }
+          if (!hasPayload()) {
+            return false;
+          }
+          if (!getPayload().isInitialized()) {
+            return false;
+          }
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            org.apache.pekko.protobufv3.internal.CodedInputStream input,
+            org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry parsedMessage = null;
+          try {
+            parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+          } catch (org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException e) {
+            parsedMessage = (org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry) e.getUnfinishedMessage();
+            throw e.unwrapIOException();
+          } finally {
+            if (parsedMessage != null) {
+              mergeFrom(parsedMessage);
+            }
+          }
+          return this;
+        }
+        private int bitField0_;
+
+        private java.lang.Object path_ = "";
+        /**
+         * <code>required string path = 1;</code>
+         * @return Whether the path field is set.
+         */
+        public boolean hasPath() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <code>required string path = 1;</code>
+         * @return The path.
+         */
+        public java.lang.String getPath() {
+          java.lang.Object ref = path_;
+          if (!(ref instanceof java.lang.String)) {
+            org.apache.pekko.protobufv3.internal.ByteString bs =
+                (org.apache.pekko.protobufv3.internal.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              path_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>required string path = 1;</code>
+         * @return The bytes for path.
+         */
+        public org.apache.pekko.protobufv3.internal.ByteString
+            getPathBytes() {
+          java.lang.Object ref = path_;
+          if (ref instanceof String) {
+            org.apache.pekko.protobufv3.internal.ByteString b = 
+                org.apache.pekko.protobufv3.internal.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            path_ = b;
+            return b;
+          } else {
+            return (org.apache.pekko.protobufv3.internal.ByteString) ref;
+          }
+        }
+        /**
+         * <code>required string path = 1;</code>
+         * @param value The path to set.
+         * @return This builder for chaining.
+         */
+        public Builder setPath(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          path_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required string path = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearPath() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          path_ = getDefaultInstance().getPath();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>required string path = 1;</code>
+         * @param value The bytes for path to set.
+         * @return This builder for chaining.
+         */
+        public Builder setPathBytes(
+            org.apache.pekko.protobufv3.internal.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+          path_ = value;
+          onChanged();
+          return this;
+        }
+
+        private org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload payload_;
+        private org.apache.pekko.protobufv3.internal.SingleFieldBuilderV3<
+            org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload.Builder, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PayloadOrBuilder> payloadBuilder_;
+        /**
+         * <code>required .Payload payload = 2;</code>
+         * @return Whether the payload field is set.
+         */
+        public boolean hasPayload() {
+          return ((bitField0_ & 0x00000002) != 0);
+        }
+        /**
+         * <code>required .Payload payload = 2;</code>
+         * @return The payload.
+         */
+        public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload getPayload() {
+          if (payloadBuilder_ == null) {
+            return payload_ == null ? org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload.getDefaultInstance() : payload_;
+          } else {
+            return payloadBuilder_.getMessage();
+          }
+        }
+        /**
+         * <code>required .Payload payload = 2;</code>
+         */
+        public Builder setPayload(org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload value) {
+          if (payloadBuilder_ == null) {
+            if (value == null) {
+              throw new NullPointerException();
+            }
+            payload_ = value;
+            onChanged();
+          } else {
+            payloadBuilder_.setMessage(value);
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>required .Payload payload = 2;</code>
+         */
+        public Builder setPayload(
+            org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload.Builder builderForValue) {
+          if (payloadBuilder_ == null) {
+            payload_ = builderForValue.build();
+            onChanged();
+          } else {
+            payloadBuilder_.setMessage(builderForValue.build());
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>required .Payload payload = 2;</code>
+         */
+        public Builder mergePayload(org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload value) {
+          if (payloadBuilder_ == null) {
+            if (((bitField0_ & 0x00000002) != 0) &&
+                payload_ != null &&
+                payload_ != org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload.getDefaultInstance()) {
+              payload_ =
+                org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload.newBuilder(payload_).mergeFrom(value).buildPartial();
+            } else {
+              payload_ = value;
+            }
+            onChanged();
+          } else {
+            payloadBuilder_.mergeFrom(value);
+          }
+          bitField0_ |= 0x00000002;
+          return this;
+        }
+        /**
+         * <code>required .Payload payload = 2;</code>
+         */
+        public Builder clearPayload() {
+          if (payloadBuilder_ == null) {
+            payload_ = null;
+            onChanged();
+          } else {
+            payloadBuilder_.clear();
+          }
+          bitField0_ = (bitField0_ & ~0x00000002);
+          return this;
+        }
+        /**
+         * <code>required .Payload payload = 2;</code>
+         */
+        public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload.Builder getPayloadBuilder() {
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return getPayloadFieldBuilder().getBuilder();
+        }
+        /**
+         * <code>required .Payload payload = 2;</code>
+         */
+        public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PayloadOrBuilder getPayloadOrBuilder() {
+          if (payloadBuilder_ != null) {
+            return payloadBuilder_.getMessageOrBuilder();
+          } else {
+            return payload_ == null ?
+                org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload.getDefaultInstance() : payload_;
+          }
+        }
+        /**
+         * <code>required .Payload payload = 2;</code>
+         */
+        private org.apache.pekko.protobufv3.internal.SingleFieldBuilderV3<
+            org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload.Builder, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PayloadOrBuilder> 
+            getPayloadFieldBuilder() {
+          if (payloadBuilder_ == null) {
+            payloadBuilder_ = new org.apache.pekko.protobufv3.internal.SingleFieldBuilderV3<
+                org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.Payload.Builder, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PayloadOrBuilder>(
+                    getPayload(),
+                    getParentForChildren(),
+                    isClean());
+            payload_ = null;
+          }
+          return payloadBuilder_;
+        }
+
+        private java.lang.Object sender_ = "";
+        /**
+         * <code>optional string sender = 3;</code>
+         * @return Whether the sender field is set.
+         */
+        public boolean hasSender() {
+          return ((bitField0_ & 0x00000004) != 0);
+        }
+        /**
+         * <code>optional string sender = 3;</code>
+         * @return The sender.
+         */
+        public java.lang.String getSender() {
+          java.lang.Object ref = sender_;
+          if (!(ref instanceof java.lang.String)) {
+            org.apache.pekko.protobufv3.internal.ByteString bs =
+                (org.apache.pekko.protobufv3.internal.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              sender_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string sender = 3;</code>
+         * @return The bytes for sender.
+         */
+        public org.apache.pekko.protobufv3.internal.ByteString
+            getSenderBytes() {
+          java.lang.Object ref = sender_;
+          if (ref instanceof String) {
+            org.apache.pekko.protobufv3.internal.ByteString b = 
+                org.apache.pekko.protobufv3.internal.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            sender_ = b;
+            return b;
+          } else {
+            return (org.apache.pekko.protobufv3.internal.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string sender = 3;</code>
+         * @param value The sender to set.
+         * @return This builder for chaining.
+         */
+        public Builder setSender(
+            java.lang.String value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          sender_ = value;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string sender = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearSender() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          sender_ = getDefaultInstance().getSender();
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string sender = 3;</code>
+         * @param value The bytes for sender to set.
+         * @return This builder for chaining.
+         */
+        public Builder setSenderBytes(
+            org.apache.pekko.protobufv3.internal.ByteString value) {
+          if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+          sender_ = value;
+          onChanged();
+          return this;
+        }
+        @java.lang.Override
+        public final Builder setUnknownFields(
+            final org.apache.pekko.protobufv3.internal.UnknownFieldSet unknownFields) {
+          return super.setUnknownFields(unknownFields);
+        }
+
+        @java.lang.Override
+        public final Builder mergeUnknownFields(
+            final org.apache.pekko.protobufv3.internal.UnknownFieldSet unknownFields) {
+          return super.mergeUnknownFields(unknownFields);
+        }
+
+
+        // @@protoc_insertion_point(builder_scope:PublishBatch.Entry)
+      }
+
+      // @@protoc_insertion_point(class_scope:PublishBatch.Entry)
+      private static final org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry();
+      }
+
+      public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      @java.lang.Deprecated public static final org.apache.pekko.protobufv3.internal.Parser<Entry>
+          PARSER = new org.apache.pekko.protobufv3.internal.AbstractParser<Entry>() {
+        @java.lang.Override
+        public Entry parsePartialFrom(
+            org.apache.pekko.protobufv3.internal.CodedInputStream input,
+            org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+            throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+          return new Entry(input, extensionRegistry);
+        }
+      };
+
+      public static org.apache.pekko.protobufv3.internal.Parser<Entry> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.apache.pekko.protobufv3.internal.Parser<Entry> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    public static final int ENTRIES_FIELD_NUMBER = 1;
+    private java.util.List<org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry> entries_;
+    /**
+     * <code>repeated .PublishBatch.Entry entries = 1;</code>
+     */
+    public java.util.List<org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry> getEntriesList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .PublishBatch.Entry entries = 1;</code>
+     */
+    public java.util.List<? extends org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.EntryOrBuilder> 
+        getEntriesOrBuilderList() {
+      return entries_;
+    }
+    /**
+     * <code>repeated .PublishBatch.Entry entries = 1;</code>
+     */
+    public int getEntriesCount() {
+      return entries_.size();
+    }
+    /**
+     * <code>repeated .PublishBatch.Entry entries = 1;</code>
+     */
+    public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry getEntries(int index) {
+      return entries_.get(index);
+    }
+    /**
+     * <code>repeated .PublishBatch.Entry entries = 1;</code>
+     */
+    public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.EntryOrBuilder getEntriesOrBuilder(
+        int index) {
+      return entries_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      for (int i = 0; i < getEntriesCount(); i++) {
+        if (!getEntries(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(org.apache.pekko.protobufv3.internal.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < entries_.size(); i++) {
+        output.writeMessage(1, entries_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < entries_.size(); i++) {
+        size += org.apache.pekko.protobufv3.internal.CodedOutputStream
+          .computeMessageSize(1, entries_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch)) {
+        return super.equals(obj);
+      }
+      org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch other = (org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch) obj;
+
+      if (!getEntriesList()
+          .equals(other.getEntriesList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getEntriesCount() > 0) {
+        hash = (37 * hash) + ENTRIES_FIELD_NUMBER;
+        hash = (53 * hash) + getEntriesList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch parseFrom(
+        java.nio.ByteBuffer data)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch parseFrom(
+        java.nio.ByteBuffer data,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch parseFrom(
+        org.apache.pekko.protobufv3.internal.ByteString data)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch parseFrom(
+        org.apache.pekko.protobufv3.internal.ByteString data,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch parseFrom(byte[] data)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch parseFrom(
+        byte[] data,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch parseFrom(
+        java.io.InputStream input,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch parseFrom(
+        org.apache.pekko.protobufv3.internal.CodedInputStream input)
+        throws java.io.IOException {
+      return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch parseFrom(
+        org.apache.pekko.protobufv3.internal.CodedInputStream input,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        org.apache.pekko.protobufv3.internal.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     **
+     * Messages published to topics with subscribers on the destination node,
+     * when publish-batching is enabled.
+     * </pre>
+     *
+     * Protobuf type {@code PublishBatch}
+     */
+    public static final class Builder extends
+        org.apache.pekko.protobufv3.internal.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:PublishBatch)
+        org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatchOrBuilder {
+      public static final org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
+          getDescriptor() {
+        return org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.internal_static_PublishBatch_descriptor;
+      }
+
+      @java.lang.Override
+      protected org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.internal_static_PublishBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.class, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Builder.class);
+      }
+
+      // Construct using org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          org.apache.pekko.protobufv3.internal.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getEntriesFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          entriesBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.internal_static_PublishBatch_descriptor;
+      }
+
+      @java.lang.Override
+      public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch getDefaultInstanceForType() {
+        return org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch build() {
+        org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch buildPartial() {
+        org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch result = new org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (entriesBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            entries_ = java.util.Collections.unmodifiableList(entries_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.entries_ = entries_;
+        } else {
+          result.entries_ = entriesBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          org.apache.pekko.protobufv3.internal.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          org.apache.pekko.protobufv3.internal.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          org.apache.pekko.protobufv3.internal.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          org.apache.pekko.protobufv3.internal.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          org.apache.pekko.protobufv3.internal.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(org.apache.pekko.protobufv3.internal.Message other) {
+        if (other instanceof org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch) {
+          return mergeFrom((org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch other) {
+        if (other == org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.getDefaultInstance()) return this;
+        if (entriesBuilder_ == null) {
+          if (!other.entries_.isEmpty()) {
+            if (entries_.isEmpty()) {
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureEntriesIsMutable();
+              entries_.addAll(other.entries_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.entries_.isEmpty()) {
+            if (entriesBuilder_.isEmpty()) {
+              entriesBuilder_.dispose();
+              entriesBuilder_ = null;
+              entries_ = other.entries_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              entriesBuilder_ = 
+                org.apache.pekko.protobufv3.internal.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getEntriesFieldBuilder() : null;
+            } else {
+              entriesBuilder_.addAllMessages(other.entries_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        for (int i = 0; i < getEntriesCount(); i++) {
+          if (!getEntries(i).isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          org.apache.pekko.protobufv3.internal.CodedInputStream input,
+          org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException e) {
+          parsedMessage = (org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry> entries_ =
+        java.util.Collections.emptyList();
+      private void ensureEntriesIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          entries_ = new java.util.ArrayList<org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry>(entries_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private org.apache.pekko.protobufv3.internal.RepeatedFieldBuilderV3<
+          org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.Builder, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.EntryOrBuilder> entriesBuilder_;
+
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public java.util.List<org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry> getEntriesList() {
+        if (entriesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(entries_);
+        } else {
+          return entriesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public int getEntriesCount() {
+        if (entriesBuilder_ == null) {
+          return entries_.size();
+        } else {
+          return entriesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry getEntries(int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);
+        } else {
+          return entriesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public Builder setEntries(
+          int index, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.set(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public Builder setEntries(
+          int index, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public Builder addEntries(org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public Builder addEntries(
+          int index, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry value) {
+        if (entriesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureEntriesIsMutable();
+          entries_.add(index, value);
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public Builder addEntries(
+          org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public Builder addEntries(
+          int index, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.Builder builderForValue) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          entriesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public Builder addAllEntries(
+          java.lang.Iterable<? extends org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry> values) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          org.apache.pekko.protobufv3.internal.AbstractMessageLite.Builder.addAll(
+              values, entries_);
+          onChanged();
+        } else {
+          entriesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public Builder clearEntries() {
+        if (entriesBuilder_ == null) {
+          entries_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          entriesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public Builder removeEntries(int index) {
+        if (entriesBuilder_ == null) {
+          ensureEntriesIsMutable();
+          entries_.remove(index);
+          onChanged();
+        } else {
+          entriesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.Builder getEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.EntryOrBuilder getEntriesOrBuilder(
+          int index) {
+        if (entriesBuilder_ == null) {
+          return entries_.get(index);  } else {
+          return entriesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public java.util.List<? extends org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.EntryOrBuilder> 
+           getEntriesOrBuilderList() {
+        if (entriesBuilder_ != null) {
+          return entriesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(entries_);
+        }
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.Builder addEntriesBuilder() {
+        return getEntriesFieldBuilder().addBuilder(
+            org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.Builder addEntriesBuilder(
+          int index) {
+        return getEntriesFieldBuilder().addBuilder(
+            index, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .PublishBatch.Entry entries = 1;</code>
+       */
+      public java.util.List<org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.Builder> 
+           getEntriesBuilderList() {
+        return getEntriesFieldBuilder().getBuilderList();
+      }
+      private org.apache.pekko.protobufv3.internal.RepeatedFieldBuilderV3<
+          org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.Builder, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.EntryOrBuilder> 
+          getEntriesFieldBuilder() {
+        if (entriesBuilder_ == null) {
+          entriesBuilder_ = new org.apache.pekko.protobufv3.internal.RepeatedFieldBuilderV3<
+              org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.Entry.Builder, org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch.EntryOrBuilder>(
+                  entries_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          entries_ = null;
+        }
+        return entriesBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final org.apache.pekko.protobufv3.internal.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final org.apache.pekko.protobufv3.internal.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:PublishBatch)
+    }
+
+    // @@protoc_insertion_point(class_scope:PublishBatch)
+    private static final org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch();
+    }
+
+    public static org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final org.apache.pekko.protobufv3.internal.Parser<PublishBatch>
+        PARSER = new org.apache.pekko.protobufv3.internal.AbstractParser<PublishBatch>() {
+      @java.lang.Override
+      public PublishBatch parsePartialFrom(
+          org.apache.pekko.protobufv3.internal.CodedInputStream input,
+          org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+          throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+        return new PublishBatch(input, extensionRegistry);
+      }
+    };
+
+    public static org.apache.pekko.protobufv3.internal.Parser<PublishBatch> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.apache.pekko.protobufv3.internal.Parser<PublishBatch> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.apache.pekko.cluster.pubsub.protobuf.msg.DistributedPubSubMessages.PublishBatch getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
   public interface PayloadOrBuilder extends
       // @@protoc_insertion_point(interface_extends:Payload)
       org.apache.pekko.protobufv3.internal.MessageOrBuilder {
@@ -9730,6 +11549,16 @@ public final class DistributedPubSubMessages {
   private static final 
     org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable
       internal_static_SendToOneSubscriber_fieldAccessorTable;
+  private static final org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
+    internal_static_PublishBatch_descriptor;
+  private static final 
+    org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PublishBatch_fieldAccessorTable;
+  private static final org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
+    internal_static_PublishBatch_Entry_descriptor;
+  private static final 
+    org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable
+      internal_static_PublishBatch_Entry_fieldAccessorTable;
   private static final org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
     internal_static_Payload_descriptor;
   private static final 
@@ -9760,7 +11589,10 @@ public final class DistributedPubSubMessages {
       "tSelf\030\002 \002(\010\022\031\n\007payload\030\003 \002(\0132\010.Payload\"3" +
       "\n\007Publish\022\r\n\005topic\030\001 \002(\t\022\031\n\007payload\030\003 \002(" +
       "\0132\010.Payload\"0\n\023SendToOneSubscriber\022\031\n\007pa" +
-      "yload\030\001 \002(\0132\010.Payload\"Q\n\007Payload\022\027\n\017encl" +
+      "yload\030\001 \002(\0132\010.Payload\"v\n\014PublishBatch\022$\n" +
+      "\007entries\030\001 \003(\0132\023.PublishBatch.Entry\032@\n\005E" +
+      "ntry\022\014\n\004path\030\001 \002(\t\022\031\n\007payload\030\002 \002(\0132\010.Pa" +
+      "yload\022\016\n\006sender\030\003 \001(\t\"Q\n\007Payload\022\027\n\017encl" +
       "osedMessage\030\001 \002(\014\022\024\n\014serializerId\030\002 \002(\005\022" +
       "\027\n\017messageManifest\030\004 \001(\014B0\n,org.apache.p" +
       "ekko.cluster.pubsub.protobuf.msgH\001"
@@ -9829,8 +11661,20 @@ public final class DistributedPubSubMessages {
       org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable(
         internal_static_SendToOneSubscriber_descriptor,
         new java.lang.String[] { "Payload", });
-    internal_static_Payload_descriptor =
+    internal_static_PublishBatch_descriptor =
       getDescriptor().getMessageTypes().get(7);
+    internal_static_PublishBatch_fieldAccessorTable = new
+      org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PublishBatch_descriptor,
+        new java.lang.String[] { "Entries", });
+    internal_static_PublishBatch_Entry_descriptor =
+      internal_static_PublishBatch_descriptor.getNestedTypes().get(0);
+    internal_static_PublishBatch_Entry_fieldAccessorTable = new
+      org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_PublishBatch_Entry_descriptor,
+        new java.lang.String[] { "Path", "Payload", "Sender", });
+    internal_static_Payload_descriptor =
+      getDescriptor().getMessageTypes().get(8);
     internal_static_Payload_fieldAccessorTable = new
       org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Payload_descriptor,
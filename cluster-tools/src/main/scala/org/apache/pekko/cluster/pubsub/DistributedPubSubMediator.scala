@@ -21,6 +21,7 @@ import scala.collection.immutable
 import scala.collection.immutable.Set
 import scala.collection.immutable.TreeMap
 import scala.concurrent.duration._
+import scala.util.control.NonFatal
 
 import com.typesafe.config.Config
 
@@ -40,6 +41,9 @@ import pekko.routing.Routee
 import pekko.routing.Router
 import pekko.routing.RouterEnvelope
 import pekko.routing.RoutingLogic
+import pekko.serialization.Serialization
+import pekko.serialization.SerializationExtension
+import pekko.serialization.Serializers
 
 object DistributedPubSubSettings {
 
@@ -69,7 +73,10 @@ object DistributedPubSubSettings {
       gossipInterval = config.getDuration("gossip-interval", MILLISECONDS).millis,
       removedTimeToLive = config.getDuration("removed-time-to-live", MILLISECONDS).millis,
       maxDeltaElements = config.getInt("max-delta-elements"),
-      sendToDeadLettersWhenNoSubscribers = config.getBoolean("send-to-dead-letters-when-no-subscribers"))
+      sendToDeadLettersWhenNoSubscribers = config.getBoolean("send-to-dead-letters-when-no-subscribers"),
+      publishBatchingEnabled = config.getBoolean("publish-batching.enabled"),
+      publishBatchMaxDelay = config.getDuration("publish-batching.max-delay", MILLISECONDS).millis,
+      publishBatchMaxBytes = config.getBytes("publish-batching.max-bytes").toInt)
 
   /**
    * Java API: Create settings from the default configuration
@@ -99,6 +106,10 @@ object DistributedPubSubSettings {
  * @param maxDeltaElements Maximum number of elements to transfer in one message when synchronizing
  *   the registries. Next chunk will be transferred in next round of gossip.
  * @param sendToDeadLettersWhenNoSubscribers When a message is published to a topic with no subscribers send it to the dead letters.
+ * @param publishBatchingEnabled Coalesce the messages that are published to topics with subscribers on other nodes
+ *   into one remote message per node.
+ * @param publishBatchMaxDelay Maximum time a published message is held back for batching.
+ * @param publishBatchMaxBytes A batch is sent when the serialized size of its messages exceeds this number of bytes.
  */
 final class DistributedPubSubSettings(
     val role: Option[String],
@@ -106,9 +117,30 @@ final class DistributedPubSubSettings(
     val gossipInterval: FiniteDuration,
     val removedTimeToLive: FiniteDuration,
     val maxDeltaElements: Int,
-    val sendToDeadLettersWhenNoSubscribers: Boolean)
+    val sendToDeadLettersWhenNoSubscribers: Boolean,
+    val publishBatchingEnabled: Boolean,
+    val publishBatchMaxDelay: FiniteDuration,
+    val publishBatchMaxBytes: Int)
     extends NoSerializationVerificationNeeded {
 
+  def this(
+      role: Option[String],
+      routingLogic: RoutingLogic,
+      gossipInterval: FiniteDuration,
+      removedTimeToLive: FiniteDuration,
+      maxDeltaElements: Int,
+      sendToDeadLettersWhenNoSubscribers: Boolean) =
+    this(
+      role,
+      routingLogic,
+      gossipInterval,
+      removedTimeToLive,
+      maxDeltaElements,
+      sendToDeadLettersWhenNoSubscribers,
+      publishBatchingEnabled = false,
+      publishBatchMaxDelay = 5.millis,
+      publishBatchMaxBytes = 64 * 1024)
+
   @deprecated("Use the other constructor instead.", "Akka 2.5.5")
   def this(
       role: Option[String],
@@ -127,6 +159,8 @@ final class DistributedPubSubSettings(
   require(
     !routingLogic.isInstanceOf[ConsistentHashingRoutingLogic],
     "'ConsistentHashingRoutingLogic' can't be used by the pub-sub mediator")
+  require(publishBatchMaxDelay > Duration.Zero, "publish-batching.max-delay must be > 0")
+  require(publishBatchMaxBytes > 0, "publish-batching.max-bytes must be > 0")
 
   def withRole(role: String): DistributedPubSubSettings = copy(role = DistributedPubSubSettings.roleOption(role))
 
@@ -147,20 +181,35 @@ final class DistributedPubSubSettings(
   def withSendToDeadLettersWhenNoSubscribers(sendToDeadLetterWhenNoSubscribers: Boolean): DistributedPubSubSettings =
     copy(sendToDeadLettersWhenNoSubscribers = sendToDeadLetterWhenNoSubscribers)
 
+  def withPublishBatchingEnabled(publishBatchingEnabled: Boolean): DistributedPubSubSettings =
+    copy(publishBatchingEnabled = publishBatchingEnabled)
+
+  def withPublishBatchMaxDelay(publishBatchMaxDelay: FiniteDuration): DistributedPubSubSettings =
+    copy(publishBatchMaxDelay = publishBatchMaxDelay)
+
+  def withPublishBatchMaxBytes(publishBatchMaxBytes: Int): DistributedPubSubSettings =
+    copy(publishBatchMaxBytes = publishBatchMaxBytes)
+
   private def copy(
       role: Option[String] = role,
       routingLogic: RoutingLogic = routingLogic,
       gossipInterval: FiniteDuration = gossipInterval,
       removedTimeToLive: FiniteDuration = removedTimeToLive,
       maxDeltaElements: Int = maxDeltaElements,
-      sendToDeadLettersWhenNoSubscribers: Boolean = sendToDeadLettersWhenNoSubscribers): DistributedPubSubSettings =
+      sendToDeadLettersWhenNoSubscribers: Boolean = sendToDeadLettersWhenNoSubscribers,
+      publishBatchingEnabled: Boolean = publishBatchingEnabled,
+      publishBatchMaxDelay: FiniteDuration = publishBatchMaxDelay,
+      publishBatchMaxBytes: Int = publishBatchMaxBytes): DistributedPubSubSettings =
     new DistributedPubSubSettings(
       role,
       routingLogic,
       gossipInterval,
       removedTimeToLive,
       maxDeltaElements,
-      sendToDeadLettersWhenNoSubscribers)
+      sendToDeadLettersWhenNoSubscribers,
+      publishBatchingEnabled,
+      publishBatchMaxDelay,
+      publishBatchMaxBytes)
 }
 
 object DistributedPubSubMediator {
@@ -319,6 +368,27 @@ object DistributedPubSubMediator {
     @SerialVersionUID(1L)
     final case class SendToOneSubscriber(msg: Any)
 
+    case object FlushPublishBatches
+
+    /**
+     * A published message that is serialized once by the publishing mediator and shared by
+     * the batches to all other nodes.
+     */
+    final case class SerializedPayload(bytes: Array[Byte], serializerId: Int, manifest: String)
+
+    /**
+     * @param path the key of the topic actor in the registry
+     */
+    @SerialVersionUID(1L)
+    final case class BatchedPublish(path: String, msg: Any, sender: ActorRef)
+
+    /**
+     * Messages published to topics with subscribers on the destination node, sent from the mediator of
+     * the publishing node to the mediator of the destination node when `publish-batching` is enabled.
+     */
+    @SerialVersionUID(1L)
+    final case class PublishBatch(entries: immutable.Seq[BatchedPublish]) extends DistributedPubSubMessage
+
     /**
      * Messages used to encode protocol to make sure that we do not send Subscribe/Unsubscribe message to
      * child (mediator -&gt; topic, topic -&gt; group) during a period of transition. Protects from situations like:
@@ -539,6 +609,8 @@ trait DistributedPubSubMessage extends Serializable
  * and then delivered to all subscribers of the local topic representation. This is the
  * true pub/sub mode. A typical usage of this mode is a chat room in an instant messaging
  * application.
+ * With `publish-batching` enabled the messages to the same node are coalesced into one
+ * remote message within a small time window.
  *
  * 4. [[DistributedPubSubMediator.Publish]] with sendOneMessageToEachGroup -
  * Actors may be subscribed to a named topic with an optional property `group`.
@@ -597,6 +669,10 @@ class DistributedPubSubMediator(settings: DistributedPubSubSettings)
   var nodes: Set[Address] = Set.empty
   var deltaCount = 0L
 
+  val publishBatches = new PublishBatchBuffer(publishBatchMaxBytes)
+  var flushPublishBatchesScheduled = false
+  private lazy val serialization = SerializationExtension(context.system)
+
   // the version is a timestamp because it is also used when pruning removed entries
   val nextVersion = {
     var version = 0L
@@ -618,6 +694,7 @@ class DistributedPubSubMediator(settings: DistributedPubSubSettings)
     cluster.unsubscribe(self)
     gossipTask.cancel()
     pruneTask.cancel()
+    flushPublishBatches()
   }
 
   def matchingRole(m: Member): Boolean = role.forall(m.hasRole)
@@ -645,9 +722,27 @@ class DistributedPubSubMediator(settings: DistributedPubSubSettings)
     case Publish(topic, msg, sendOneMessageToEachGroup) =>
       if (sendOneMessageToEachGroup)
         publishToEachGroup(mkKey(self.path / encName(topic)), msg)
+      else if (publishBatchingEnabled)
+        publishBatched(mkKey(self.path / encName(topic)), msg)
       else
         publish(mkKey(self.path / encName(topic)), msg)
 
+    case PublishBatch(entries) =>
+      val content = registry(selfAddress).content
+      entries.foreach { entry =>
+        content.get(entry.path) match {
+          case Some(ValueHolder(_, Some(topicRef))) =>
+            topicRef.tell(entry.msg, entry.sender)
+          case _ =>
+            if (sendToDeadLettersWhenNoSubscribers)
+              context.system.deadLetters ! DeadLetter(entry.msg, entry.sender, self)
+        }
+      }
+
+    case FlushPublishBatches =>
+      flushPublishBatchesScheduled = false
+      flushPublishBatches()
+
     case Put(ref: ActorRef) =>
       if (ref.path.address.hasGlobalScope)
         log.warning("Registered actor must be local: [{}]", ref)
@@ -767,12 +862,14 @@ class DistributedPubSubMediator(settings: DistributedPubSubSettings)
       if (matchingRole(m)) {
         nodes -= m.address
         registry -= m.address
+        publishBatches.remove(m.address)
       }
 
     case MemberDowned(m) =>
       if (matchingRole(m)) {
         nodes -= m.address
         registry -= m.address
+        publishBatches.remove(m.address)
       }
 
     case MemberRemoved(m, _) =>
@@ -781,6 +878,7 @@ class DistributedPubSubMediator(settings: DistributedPubSubSettings)
       else if (matchingRole(m)) {
         nodes -= m.address
         registry -= m.address
+        publishBatches.remove(m.address)
       }
 
     case _: MemberEvent => // not of interest
@@ -821,6 +919,59 @@ class DistributedPubSubMediator(settings: DistributedPubSubSettings)
     else refs.foreach(_.forward(msg))
   }
 
+  /**
+   * Publish to the local topic actor directly and add the message to the batches of the other
+   * nodes with the topic. The message is serialized only once for all those nodes.
+   */
+  def publishBatched(path: String, msg: Any): Unit = {
+    lazy val payload = serializePayload(msg)
+    var delivered = false
+    registry.foreach {
+      case (address, bucket) =>
+        bucket.content.get(path) match {
+          case Some(ValueHolder(_, Some(ref))) =>
+            delivered = true
+            if (address == selfAddress)
+              ref.forward(msg)
+            else
+              payload.foreach { p =>
+                publishBatches.add(address, BatchedPublish(path, p, sender()), p.bytes.length) match {
+                  case Some(batch) => sendPublishBatch(address, batch)
+                  case None =>
+                    if (!flushPublishBatchesScheduled) {
+                      flushPublishBatchesScheduled = true
+                      context.system.scheduler.scheduleOnce(publishBatchMaxDelay, self, FlushPublishBatches)
+                    }
+                }
+              }
+          case _ =>
+        }
+    }
+    if (!delivered) ignoreOrSendToDeadLetters(msg)
+  }
+
+  private def serializePayload(msg: Any): Option[SerializedPayload] = {
+    val m = msg.asInstanceOf[AnyRef]
+    try {
+      Serialization.withTransportInformation(context.system.asInstanceOf[ExtendedActorSystem]) { () =>
+        val serializer = serialization.findSerializerFor(m)
+        Some(SerializedPayload(serializer.toBinary(m), serializer.identifier, Serializers.manifestFor(serializer, m)))
+      }
+    } catch {
+      case NonFatal(e) =>
+        log.error(e, "Failed to serialize published message of type [{}], not sent to other nodes", m.getClass.getName)
+        None
+    }
+  }
+
+  def flushPublishBatches(): Unit =
+    publishBatches.removeAll().foreach {
+      case (address, batch) => sendPublishBatch(address, batch)
+    }
+
+  def sendPublishBatch(address: Address, batch: PublishBatch): Unit =
+    context.actorSelection(self.path.toStringWithAddress(address)) ! batch
+
   def publishToEachGroup(path: String, msg: Any): Unit = {
     val prefix = path + '/'
     val lastKey = path + '0' // '0' is the next char of '/'
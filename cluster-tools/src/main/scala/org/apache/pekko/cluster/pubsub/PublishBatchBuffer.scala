@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.pubsub
+
+import scala.collection.immutable
+import scala.collection.mutable
+
+import org.apache.pekko
+import pekko.actor.Address
+import pekko.annotation.InternalApi
+import pekko.cluster.pubsub.DistributedPubSubMediator.Internal.BatchedPublish
+import pekko.cluster.pubsub.DistributedPubSubMediator.Internal.PublishBatch
+
+/**
+ * INTERNAL API
+ *
+ * Messages published via the [[DistributedPubSubMediator]] that are waiting to be sent to other nodes,
+ * one batch per destination node, when `pekko.cluster.pub-sub.publish-batching` is enabled.
+ *
+ * Not thread safe, only used from within the mediator actor.
+ */
+@InternalApi private[pubsub] final class PublishBatchBuffer(maxBytes: Int) {
+
+  private final class Batch {
+    val entries = Vector.newBuilder[BatchedPublish]
+    var bytes = 0
+  }
+
+  private val batches = mutable.HashMap.empty[Address, Batch]
+
+  def isEmpty: Boolean = batches.isEmpty
+
+  /**
+   * Add a message of `size` serialized bytes to the batch of the `node`. Returns the batch when
+   * it has reached `maxBytes` and should be sent immediately.
+   */
+  def add(node: Address, entry: BatchedPublish, size: Int): Option[PublishBatch] = {
+    val batch = batches.getOrElseUpdate(node, new Batch)
+    batch.entries += entry
+    batch.bytes += size + entry.path.length
+    if (batch.bytes >= maxBytes) {
+      batches -= node
+      Some(PublishBatch(batch.entries.result()))
+    } else
+      None
+  }
+
+  /**
+   * Remove and return all batches, to be sent when the batching window has elapsed.
+   */
+  def removeAll(): immutable.Seq[(Address, PublishBatch)] =
+    if (batches.isEmpty) Nil
+    else {
+      val result = batches.iterator.map { case (node, batch) => node -> PublishBatch(batch.entries.result()) }.toList
+      batches.clear()
+      result
+    }
+
+  /**
+   * Discard the pending messages to a node that has left the cluster.
+   */
+  def remove(node: Address): Unit =
+    batches -= node
+
+}
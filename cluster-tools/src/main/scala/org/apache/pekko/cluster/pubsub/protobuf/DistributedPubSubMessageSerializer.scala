@@ -49,6 +49,7 @@ private[pekko] class DistributedPubSubMessageSerializer(val system: ExtendedActo
   private val SendToAllManifest = "D"
   private val PublishManifest = "E"
   private val SendToOneSubscriberManifest = "F"
+  private val PublishBatchManifest = "G"
 
   private val fromBinaryMap = collection.immutable.HashMap[String, Array[Byte] => AnyRef](
     StatusManifest -> statusFromBinary,
@@ -56,7 +57,8 @@ private[pekko] class DistributedPubSubMessageSerializer(val system: ExtendedActo
     SendManifest -> sendFromBinary,
     SendToAllManifest -> sendToAllFromBinary,
     PublishManifest -> publishFromBinary,
-    SendToOneSubscriberManifest -> sendToOneSubscriberFromBinary)
+    SendToOneSubscriberManifest -> sendToOneSubscriberFromBinary,
+    PublishBatchManifest -> publishBatchFromBinary)
 
   override def manifest(obj: AnyRef): String = obj match {
     case _: Status              => StatusManifest
@@ -65,6 +67,7 @@ private[pekko] class DistributedPubSubMessageSerializer(val system: ExtendedActo
     case _: SendToAll           => SendToAllManifest
     case _: Publish             => PublishManifest
     case _: SendToOneSubscriber => SendToOneSubscriberManifest
+    case _: PublishBatch        => PublishBatchManifest
     case _ =>
       throw new IllegalArgumentException(s"Can't serialize object of type ${obj.getClass} in [${getClass.getName}]")
   }
@@ -76,6 +79,7 @@ private[pekko] class DistributedPubSubMessageSerializer(val system: ExtendedActo
     case m: SendToAll           => sendToAllToProto(m).toByteArray
     case m: Publish             => publishToProto(m).toByteArray
     case m: SendToOneSubscriber => sendToOneSubscriberToProto(m).toByteArray
+    case m: PublishBatch        => publishBatchToProto(m).toByteArray
     case _ =>
       throw new IllegalArgumentException(s"Can't serialize object of type ${obj.getClass} in [${getClass.getName}]")
   }
@@ -234,6 +238,39 @@ private[pekko] class DistributedPubSubMessageSerializer(val system: ExtendedActo
   private def sendToOneSubscriberFromProto(sendToOneSubscriber: dm.SendToOneSubscriber): SendToOneSubscriber =
     SendToOneSubscriber(payloadFromProto(sendToOneSubscriber.getPayload))
 
+  private def publishBatchToProto(batch: PublishBatch): dm.PublishBatch = {
+    val builder = dm.PublishBatch.newBuilder()
+    batch.entries.foreach { entry =>
+      val payload = entry.msg match {
+        case p: SerializedPayload => serializedPayloadToProto(p)
+        case msg                  => payloadToProto(msg)
+      }
+      val entryBuilder = dm.PublishBatch.Entry.newBuilder().setPath(entry.path).setPayload(payload)
+      if ((entry.sender ne null) && entry.sender != system.deadLetters)
+        entryBuilder.setSender(Serialization.serializedActorPath(entry.sender))
+      builder.addEntries(entryBuilder)
+    }
+    builder.build()
+  }
+
+  private def publishBatchFromBinary(bytes: Array[Byte]): PublishBatch =
+    publishBatchFromProto(dm.PublishBatch.parseFrom(bytes))
+
+  private def publishBatchFromProto(batch: dm.PublishBatch): PublishBatch =
+    PublishBatch(batch.getEntriesList.asScala.iterator.map { entry =>
+      val sender = if (entry.hasSender) resolveActorRef(entry.getSender) else ActorRef.noSender
+      BatchedPublish(entry.getPath, payloadFromProto(entry.getPayload), sender)
+    }.toVector)
+
+  private def serializedPayloadToProto(payload: SerializedPayload): dm.Payload = {
+    val builder = dm.Payload
+      .newBuilder()
+      .setEnclosedMessage(ByteStringUtils.toProtoByteStringUnsafe(payload.bytes))
+      .setSerializerId(payload.serializerId)
+    if (payload.manifest.nonEmpty) builder.setMessageManifest(ByteString.copyFromUtf8(payload.manifest))
+    builder.build()
+  }
+
   private def payloadToProto(msg: Any): dm.Payload = {
     val m = msg.asInstanceOf[AnyRef]
     val msgSerializer = serialization.findSerializerFor(m)
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.pubsub
+
+import scala.concurrent.duration._
+
+import org.apache.pekko
+import pekko.actor.ActorSystem
+import pekko.actor.Address
+import pekko.cluster.Cluster
+import pekko.cluster.pubsub.DistributedPubSubMediator._
+import pekko.cluster.pubsub.DistributedPubSubMediator.Internal._
+import pekko.testkit._
+
+object DistributedPubSubMediatorPublishBatchingSpec {
+  val config = """
+    pekko.loglevel = INFO
+    pekko.actor.provider = "cluster"
+    pekko.remote.artery.canonical.port = 0
+    pekko.remote.log-remote-lifecycle-events = off
+    pekko.cluster.pub-sub {
+      gossip-interval = 100ms
+      publish-batching {
+        enabled = on
+        # the batches are only sent when full or flushed by the test
+        max-delay = 1 hour
+        max-bytes = 1 KiB
+      }
+    }
+  """
+}
+
+class DistributedPubSubMediatorPublishBatchingSpec
+    extends PekkoSpec(DistributedPubSubMediatorPublishBatchingSpec.config)
+    with DeadLettersProbe {
+
+  val mediator = DistributedPubSub(system).mediator
+
+  val peerSystem = ActorSystem(system.name, system.settings.config)
+
+  override def afterTermination(): Unit = shutdown(peerSystem)
+
+  def topicKey(topic: String): String = mkKey(mediator.path / encName(topic))
+
+  "A DistributedPubSubMediator with publish batching" must {
+
+    "publish to local subscribers directly" in {
+      mediator ! Subscribe("local", testActor)
+      expectMsgType[SubscribeAck]
+      mediator ! Publish("local", "hello")
+      expectMsg("hello")
+    }
+
+    "deliver the messages of a batch to the local topic in order, with the original sender" in {
+      val publisher = TestProbe()
+      mediator ! Subscribe("batched", testActor)
+      expectMsgType[SubscribeAck]
+      mediator ! PublishBatch(
+        Vector(
+          BatchedPublish(topicKey("batched"), "a", publisher.ref),
+          BatchedPublish(topicKey("batched"), "b", publisher.ref),
+          BatchedPublish(topicKey("local"), "c", publisher.ref)))
+      expectMsg("a")
+      lastSender should ===(publisher.ref)
+      expectMsg("b")
+      // also subscribed to "local" in previous test
+      expectMsg("c")
+    }
+
+    "send the messages of a batch to dead letters when the topic doesn't exist" in {
+      mediator ! PublishBatch(Vector(BatchedPublish(topicKey("nowhere"), "a", testActor)))
+      expectDeadLetter()
+    }
+
+    "batch the messages to subscribers on other nodes until FlushPublishBatches" in {
+      Cluster(system).join(Cluster(system).selfAddress)
+      Cluster(peerSystem).join(Cluster(system).selfAddress)
+      val peerSubscriber = TestProbe()(peerSystem)
+      DistributedPubSub(peerSystem).mediator.tell(Subscribe("remote", peerSubscriber.ref), peerSubscriber.ref)
+      peerSubscriber.expectMsgType[SubscribeAck]
+      awaitAssert {
+        mediator ! GetTopics
+        expectMsgType[CurrentTopics].topics should contain("remote")
+      }
+
+      val publisher = TestProbe()
+      mediator.tell(Publish("remote", "a"), publisher.ref)
+      mediator.tell(Publish("remote", "b"), publisher.ref)
+      mediator.tell(Publish("remote", "c"), publisher.ref)
+      peerSubscriber.expectNoMessage(300.millis)
+
+      mediator ! FlushPublishBatches
+      peerSubscriber.expectMsg("a")
+      peerSubscriber.expectMsg("b")
+      peerSubscriber.expectMsg("c")
+      // the original sender is kept
+      peerSubscriber.reply("ack")
+      publisher.expectMsg("ack")
+    }
+
+    "send the batch to the other node when it reaches max-bytes" in {
+      val peerSubscriber = TestProbe()(peerSystem)
+      DistributedPubSub(peerSystem).mediator.tell(Subscribe("remote-large", peerSubscriber.ref), peerSubscriber.ref)
+      peerSubscriber.expectMsgType[SubscribeAck]
+      awaitAssert {
+        mediator ! GetTopics
+        expectMsgType[CurrentTopics].topics should contain("remote-large")
+      }
+
+      mediator ! Publish("remote-large", "small")
+      peerSubscriber.expectNoMessage(300.millis)
+      val large = "x" * 2000
+      mediator ! Publish("remote-large", large)
+      peerSubscriber.expectMsg("small")
+      peerSubscriber.expectMsg(large)
+    }
+  }
+
+  "A PublishBatchBuffer" must {
+    val node1 = Address("pekko", "Sys", "host1", 7355)
+    val node2 = Address("pekko", "Sys", "host2", 7355)
+    def entry(msg: String) = BatchedPublish("/topic", msg, testActor)
+
+    "return the batch of a node when it is full" in {
+      val buffer = new PublishBatchBuffer(maxBytes = 100)
+      buffer.add(node1, entry("a"), 40) should ===(None)
+      buffer.add(node2, entry("b"), 40) should ===(None)
+      buffer.add(node1, entry("c"), 40) should ===(Some(PublishBatch(Vector(entry("a"), entry("c")))))
+      buffer.removeAll() should ===(List(node2 -> PublishBatch(Vector(entry("b")))))
+      buffer.isEmpty should ===(true)
+    }
+
+    "discard the messages to removed nodes" in {
+      val buffer = new PublishBatchBuffer(maxBytes = 100)
+      buffer.add(node1, entry("a"), 10) should ===(None)
+      buffer.add(node2, entry("b"), 10) should ===(None)
+      buffer.remove(node1)
+      buffer.removeAll() should ===(List(node2 -> PublishBatch(Vector(entry("b")))))
+    }
+  }
+}
@@ -20,6 +20,10 @@ import pekko.actor.{ Address, ExtendedActorSystem }
 import pekko.actor.Props
 import pekko.cluster.pubsub.DistributedPubSubMediator._
 import pekko.cluster.pubsub.DistributedPubSubMediator.Internal._
+import pekko.cluster.pubsub.protobuf.msg.{ DistributedPubSubMessages => dm }
+import pekko.serialization.Serialization
+import pekko.serialization.SerializationExtension
+import pekko.serialization.Serializers
 import pekko.testkit.PekkoSpec
 
 class DistributedPubSubMessageSerializerSpec extends PekkoSpec {
@@ -52,6 +56,44 @@ class DistributedPubSubMessageSerializerSpec extends PekkoSpec {
       checkSerialization(SendToAll("/user/u3", "hello", allButSelf = true))
       checkSerialization(Publish("mytopic", "hello"))
       checkSerialization(SendToOneSubscriber("hello"))
+      checkSerialization(
+        PublishBatch(
+          Vector(
+            BatchedPublish("/system/distributedPubSubMediator/mytopic", "hello", u1),
+            BatchedPublish("/system/distributedPubSubMediator/mytopic", "world", null),
+            BatchedPublish("/system/distributedPubSubMediator/other", 17, u2))))
+    }
+
+    "serialize PublishBatch with pre-serialized payload" in {
+      val stringSerializer = SerializationExtension(system).findSerializerFor("hello")
+      val payload = SerializedPayload(
+        stringSerializer.toBinary("hello"),
+        stringSerializer.identifier,
+        Serializers.manifestFor(stringSerializer, "hello"))
+      val batch = PublishBatch(Vector(BatchedPublish("/system/distributedPubSubMediator/mytopic", payload, null)))
+      val blob = serializer.toBinary(batch)
+      serializer.fromBinary(blob, serializer.manifest(batch)) should ===(
+        PublishBatch(Vector(BatchedPublish("/system/distributedPubSubMediator/mytopic", "hello", null))))
+    }
+
+    "serialize PublishBatch as the PublishBatch protobuf message" in {
+      val u1 = system.actorOf(Props.empty, "batch-u1")
+      val batch = PublishBatch(
+        Vector(
+          BatchedPublish("/system/distributedPubSubMediator/mytopic", "hello", u1),
+          BatchedPublish("/system/distributedPubSubMediator/other", "world", system.deadLetters)))
+      val proto = dm.PublishBatch.parseFrom(serializer.toBinary(batch))
+      proto.getEntriesCount should ===(2)
+      proto.getEntries(0).getPath should ===("/system/distributedPubSubMediator/mytopic")
+      proto.getEntries(0).getSender should ===(Serialization.serializedActorPath(u1))
+      proto.getEntries(1).getPath should ===("/system/distributedPubSubMediator/other")
+      proto.getEntries(1).hasSender should ===(false)
+
+      serializer.fromBinary(proto.toByteArray, serializer.manifest(batch)) should ===(
+        PublishBatch(
+          Vector(
+            BatchedPublish("/system/distributedPubSubMediator/mytopic", "hello", u1),
+            BatchedPublish("/system/distributedPubSubMediator/other", "world", null))))
     }
   }
 }
@@ -23,8 +23,10 @@ import pekko.actor.typed.Extension
 import pekko.actor.typed.ExtensionId
 import pekko.actor.typed.ExtensionSetup
 import pekko.actor.typed.javadsl.Behaviors
+import pekko.annotation.ApiMayChange
 import pekko.annotation.DoNotInherit
 import pekko.annotation.InternalApi
+import pekko.cluster.ddata.LocalReadView
 import pekko.cluster.ddata.ReplicatedData
 import pekko.cluster.ddata.SelfUniqueAddress
 import pekko.util.JavaDurationConverters._
@@ -92,6 +94,13 @@ abstract class DistributedData extends Extension {
   def replicator: ActorRef[Replicator.Command]
 
   def selfUniqueAddress: SelfUniqueAddress
+
+  /**
+   * Read-only view of the local values of the [[Replicator]], see [[pekko.cluster.ddata.LocalReadView]].
+   * It is enabled with `pekko.cluster.distributed-data.local-read-view`.
+   */
+  @ApiMayChange
+  def localReadView: LocalReadView
 }
 
 /**
@@ -105,6 +114,9 @@ abstract class DistributedData extends Extension {
   override val selfUniqueAddress: SelfUniqueAddress =
     pekko.cluster.ddata.typed.scaladsl.DistributedData(system).selfUniqueAddress
 
+  override def localReadView: LocalReadView =
+    pekko.cluster.ddata.typed.scaladsl.DistributedData(system).localReadView
+
 }
 
 object DistributedDataSetup {
@@ -23,9 +23,11 @@ import pekko.actor.typed.{ ActorRef, ActorSystem, Extension, ExtensionId, Props
 import pekko.actor.typed.Behavior
 import pekko.actor.typed.scaladsl.Behaviors
 import pekko.actor.typed.scaladsl.LoggerOps
+import pekko.annotation.ApiMayChange
 import pekko.annotation.InternalApi
 import pekko.cluster.{ ddata => dd }
 import pekko.cluster.Cluster
+import pekko.cluster.ddata.LocalReadView
 import pekko.cluster.ddata.ReplicatedData
 import pekko.cluster.ddata.SelfUniqueAddress
 import pekko.util.JavaDurationConverters._
@@ -91,6 +93,13 @@ class DistributedData(system: ActorSystem[_]) extends Extension {
 
   implicit val selfUniqueAddress: SelfUniqueAddress = dd.DistributedData(classicSystem).selfUniqueAddress
 
+  /**
+   * Read-only view of the local values of the [[Replicator]], see [[pekko.cluster.ddata.LocalReadView]].
+   * It is enabled with `pekko.cluster.distributed-data.local-read-view`.
+   */
+  @ApiMayChange
+  def localReadView: LocalReadView = dd.DistributedData(classicSystem).localReadView
+
   /**
    * `ActorRef` of the [[Replicator]].
    *
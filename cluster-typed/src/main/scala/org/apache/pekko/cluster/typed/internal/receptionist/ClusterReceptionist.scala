@@ -20,12 +20,13 @@ import pekko.actor.Address
 import pekko.actor.typed.{ ActorRef, Behavior }
 import pekko.actor.typed.internal.receptionist.{
   AbstractServiceKey,
+  ListingNotifications,
   ReceptionistBehaviorProvider,
   ReceptionistMessages
 }
 import pekko.actor.typed.receptionist.Receptionist.Command
 import pekko.actor.typed.receptionist.ServiceKey
-import pekko.actor.typed.scaladsl.{ ActorContext, Behaviors, LoggerOps }
+import pekko.actor.typed.scaladsl.{ ActorContext, Behaviors, LoggerOps, TimerScheduler }
 import pekko.actor.typed.scaladsl.adapter._
 import pekko.annotation.InternalApi
 import pekko.cluster.{ Cluster, ClusterEvent, UniqueAddress }
@@ -81,8 +82,15 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
   private final case class NodeReachable(addresses: UniqueAddress) extends InternalCommand
   private final case class ChangeFromReplicator(key: DDataKey, value: ORMultiMap[ServiceKey[_], Entry])
       extends InternalCommand
+  private final case class FindFromReplicator(
+      key: DDataKey,
+      value: Option[ORMultiMap[ServiceKey[_], Entry]],
+      find: ReceptionistMessages.Find[_])
+      extends InternalCommand
+  private final case class DdataKeysFromReplicator(keyIds: Set[String]) extends InternalCommand
   private case object RemoveTick extends InternalCommand
   private case object PruneTombstonesTick extends InternalCommand
+  private case object NotifySubscribersTick extends InternalCommand
 
   /**
    * @param registry The last seen state from the replicator - only updated when we get an update from th replicator
@@ -90,12 +98,14 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
    * @param tombstones Local actors that were stopped and should not be re-added to the available set of actors
    *                   for a key.
    * @param subscriptions Locally subscriptions, not replicated
+   * @param notifications Last notified listings and pending changes per service key with local subscribers
    */
   final case class State(
       registry: ShardedServiceRegistry,
       servicesPerActor: Map[ActorRef[_], Set[AbstractServiceKey]],
       tombstones: Map[ActorRef[_], Set[(AbstractServiceKey, Deadline)]],
-      subscriptions: SubscriptionRegistry) {
+      subscriptions: SubscriptionRegistry,
+      notifications: ListingNotifications = ListingNotifications.empty) {
 
     /** tombstone all services actor is registered for */
     def addTombstone(actor: ActorRef[_], deadline: Deadline): State = {
@@ -138,7 +148,7 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
         key: ServiceKey[T],
         selfUniqueAddress: UniqueAddress): (Set[ActorRef[T]], Set[ActorRef[T]]) = {
       val ddataKey = registry.ddataKeyFor(key)
-      val entries = registry.serviceRegistries(ddataKey).entriesFor(key)
+      val entries = registry.registryFor(ddataKey).entriesFor(key)
       val selfAddress = selfUniqueAddress.address
       val reachable = Set.newBuilder[ActorRef[T]]
       val all = Set.newBuilder[ActorRef[T]]
@@ -181,15 +191,34 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
       addTombstone(serviceInstance, key, tombstoneDeadline).copy(servicesPerActor = newServicesForActor)
     }
 
-    def removeSubscriber[T](subscriber: ActorRef[ReceptionistMessages.Listing[T]]): ClusterReceptionist.State =
-      copy(subscriptions = subscriptions.valueRemoved(subscriber))
+    def removeSubscriber[T](subscriber: ActorRef[ReceptionistMessages.Listing[T]]): ClusterReceptionist.State = {
+      val newSubscriptions = subscriptions.valueRemoved(subscriber)
+      val unsubscribedKeys = subscriptions.keySet.diff(newSubscriptions.keySet)
+      copy(
+        subscriptions = newSubscriptions,
+        notifications = unsubscribedKeys.foldLeft(notifications)(_.unsubscribed(_)))
+    }
+
+    /** send the current listing, including the changes since the previous listing, to the subscribers of the key */
+    def notifySubscribers(
+        key: AbstractServiceKey,
+        servicesWereAddedOrRemoved: Boolean,
+        selfUniqueAddress: UniqueAddress): State = {
+      val serviceKey = key.asServiceKey
+      val (reachable, all) = activeActorRefsFor(serviceKey, selfUniqueAddress)
+      val (listing, newNotifications) =
+        notifications.listing(serviceKey, reachable, all, servicesWereAddedOrRemoved)
+      subscriptions.get(key).foreach(_ ! listing)
+      copy(notifications = newNotifications)
+    }
 
   }
 
   // captures setup/dependencies so we can avoid doing it over and over again
-  final class Setup(ctx: ActorContext[Command]) {
+  final class Setup(ctx: ActorContext[Command], val timers: TimerScheduler[Command]) {
     val classicSystem = ctx.system.toClassic
     val settings = ClusterReceptionistSettings(ctx.system)
+    val notifySubscribersInterval = ListingNotifications.notifySubscribersInterval(ctx.system)
     val selfSystemUid = AddressUidExtension(classicSystem).longAddressUid
     lazy val keepTombstonesFor = cluster.settings.PruneGossipTombstonesAfter match {
       case f: FiniteDuration => f
@@ -202,6 +231,30 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
 
     val replicator = ctx.actorOf(Replicator.props(settings.replicatorSettings), "replicator")
 
+    // subscribe to changes from other nodes, and the replies to Get with one ddata key per service key
+    val replicatorMessageAdapter: ActorRef[Replicator.ReplicatorMessage] =
+      ctx.messageAdapter[Replicator.ReplicatorMessage] {
+        case changed: Replicator.Changed[_] @unchecked =>
+          ChangeFromReplicator(
+            changed.key.asInstanceOf[DDataKey],
+            changed.dataValue.asInstanceOf[ORMultiMap[ServiceKey[_], Entry]])
+        case success: Replicator.GetSuccess[_] @unchecked =>
+          FindFromReplicator(
+            success.key.asInstanceOf[DDataKey],
+            Some(success.dataValue.asInstanceOf[ORMultiMap[ServiceKey[_], Entry]]),
+            success.request.get.asInstanceOf[ReceptionistMessages.Find[_]])
+        case notFound: Replicator.NotFound[_] @unchecked =>
+          // nothing registered for the service key yet
+          FindFromReplicator(
+            notFound.key.asInstanceOf[DDataKey],
+            None,
+            notFound.request.get.asInstanceOf[ReceptionistMessages.Find[_]])
+        case _ => throw new IllegalArgumentException() // compiler exhaustiveness check pleaser
+      }
+
+    val keyIdsAdapter: ActorRef[Replicator.GetKeyIdsResult] =
+      ctx.messageAdapter[Replicator.GetKeyIdsResult](result => DdataKeysFromReplicator(result.keyIds))
+
     def newTombstoneDeadline() = Deadline(keepTombstonesFor)
     def selfUniqueAddress: UniqueAddress = cluster.selfUniqueAddress
   }
@@ -210,23 +263,17 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
     Behaviors.setup { ctx =>
       ctx.setLoggerName(classOf[ClusterReceptionist])
       Behaviors.withTimers { timers =>
-        val setup = new Setup(ctx)
+        val setup = new Setup(ctx, timers)
         // include selfUniqueAddress so that it can be used locally before joining cluster
         val initialRegistry =
-          ShardedServiceRegistry(setup.settings.distributedKeyCount).addNode(setup.selfUniqueAddress)
-
-        // subscribe to changes from other nodes
-        val replicatorMessageAdapter: ActorRef[Replicator.ReplicatorMessage] =
-          ctx.messageAdapter[Replicator.ReplicatorMessage] {
-            case changed: Replicator.Changed[_] @unchecked =>
-              ChangeFromReplicator(
-                changed.key.asInstanceOf[DDataKey],
-                changed.dataValue.asInstanceOf[ORMultiMap[ServiceKey[_], Entry]])
-            case _ => throw new IllegalArgumentException() // compiler exhaustiveness check pleaser
-          }
+          if (setup.settings.distributedKeyPerServiceKey)
+            ShardedServiceRegistry.perServiceKey().addNode(setup.selfUniqueAddress)
+          else
+            ShardedServiceRegistry(setup.settings.distributedKeyCount).addNode(setup.selfUniqueAddress)
 
+        // with one ddata key per service key the keys are subscribed to when first used, see track
         initialRegistry.allDdataKeys.foreach(key =>
-          setup.replicator ! Replicator.Subscribe(key, replicatorMessageAdapter.toClassic))
+          setup.replicator ! Replicator.Subscribe(key, setup.replicatorMessageAdapter.toClassic))
 
         // keep track of cluster members
         // remove entries when members are removed
@@ -322,27 +369,93 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
         }
       }
 
-      def reachabilityChanged(keysForNode: Set[AbstractServiceKey], newState: State): Unit = {
+      def reachabilityChanged(keysForNode: Set[AbstractServiceKey], newState: State): State = {
         notifySubscribers(keysForNode, servicesWereAddedOrRemoved = false, newState)
       }
 
       def notifySubscribers(
           changedKeys: Set[AbstractServiceKey],
           servicesWereAddedOrRemoved: Boolean,
-          newState: State): Unit = {
-        changedKeys.foreach { changedKey =>
-          val serviceKey = changedKey.asServiceKey
-
-          val subscribers = newState.subscriptions.get(changedKey)
-          if (subscribers.nonEmpty) {
-            val (reachable, all) = newState.activeActorRefsFor(serviceKey, selfUniqueAddress)
-            val listing =
-              ReceptionistMessages.Listing(serviceKey, reachable, all, servicesWereAddedOrRemoved)
-            subscribers.foreach(_ ! listing)
+          newState: State): State = {
+        val keysWithSubscribers = changedKeys.filter(key => newState.subscriptions.get(key).nonEmpty)
+        if (notifySubscribersInterval == Duration.Zero)
+          keysWithSubscribers.foldLeft(newState)(_.notifySubscribers(_, servicesWereAddedOrRemoved, selfUniqueAddress))
+        else {
+          // coalesce the changes within the interval into one listing per key
+          if (keysWithSubscribers.nonEmpty && !timers.isTimerActive(NotifySubscribersTick))
+            timers.startSingleTimer(NotifySubscribersTick, notifySubscribersInterval)
+          val newNotifications = keysWithSubscribers.foldLeft(newState.notifications) { (notifications, key) =>
+            notifications.changed(key, servicesWereAddedOrRemoved)
           }
+          newState.copy(notifications = newNotifications)
         }
       }
 
+      // with one ddata key per service key the replicator is only subscribed to the ddata keys of the
+      // service keys that are used on this node
+      def track(s: State, ddataKey: DDataKey): State =
+        if (!settings.distributedKeyPerServiceKey || s.registry.hasDdataKey(ddataKey)) s
+        else {
+          replicator ! Replicator.Subscribe(ddataKey, replicatorMessageAdapter.toClassic)
+          s.copy(registry = s.registry.withDdataKey(ddataKey))
+        }
+
+      def changeFromReplicator(s: State, ddataKey: DDataKey, value: ORMultiMap[ServiceKey[_], Entry]): State = {
+        val newRegistry = ServiceRegistry(value)
+        val changedKeys = s.registry.collectChangedKeys(ddataKey, newRegistry)
+        val newState = s.copy(registry = s.registry.withServiceRegistry(ddataKey, newRegistry))
+
+        if (changedKeys.nonEmpty) {
+          if (ctx.log.isDebugEnabled) {
+            ctx.log.debugN(
+              "ClusterReceptionist [{}] - Change from replicator: [{}], changes: [{}], tombstones [{}]",
+              cluster.selfAddress,
+              newRegistry.entries.entries,
+              changedKeys
+                .map(key => key.asServiceKey.id -> newRegistry.entriesFor(key).mkString("[", ", ", "]"))
+                .mkString(", "),
+              s.tombstones.mkString(", "))
+          }
+
+          val notifiedState = notifySubscribers(changedKeys, servicesWereAddedOrRemoved = true, newState)
+
+          changedKeys.foreach { changedKey =>
+            val serviceKey = changedKey.asServiceKey
+
+            // because of how ORMultiMap/ORset works, we could have a case where an actor we removed
+            // is re-introduced because of a concurrent update, in that case we need to re-remove it
+            val tombstonedButReAdded = newRegistry.actorRefsFor(serviceKey).filter(s.hasTombstone(serviceKey))
+            if (tombstonedButReAdded.nonEmpty) {
+              if (ctx.log.isDebugEnabled)
+                ctx.log.debug2(
+                  "ClusterReceptionist [{}] - Saw ActorRefs that were tomstoned [{}], re-removing.",
+                  cluster.selfAddress,
+                  tombstonedButReAdded.mkString(", "))
+
+              replicator ! Replicator.Update(ddataKey, EmptyORMultiMap, settings.writeConsistency) { registry =>
+                tombstonedButReAdded
+                  .foldLeft(ServiceRegistry(registry)) { (acc, ref) =>
+                    acc.removeBinding(serviceKey, Entry(ref, setup.selfSystemUid)(0L))
+                  }
+                  .toORMultiMap
+              }
+            }
+          }
+
+          notifiedState
+        } else {
+          s
+        }
+      }
+
+      def replyWithListing[T](
+          key: ServiceKey[T],
+          replyTo: ActorRef[ReceptionistMessages.Listing[T]],
+          s: State): Unit = {
+        val (reachable, all) = s.activeActorRefsFor(key, selfUniqueAddress)
+        replyTo ! ReceptionistMessages.Listing(key, reachable, all, servicesWereAddedOrRemoved = true)()
+      }
+
       def onCommand(cmd: Command): Behavior[Command] = cmd match {
         case ReceptionistMessages.Register(key, serviceInstance, maybeReplyTo) =>
           if (serviceInstance.path.address.hasLocalScope) {
@@ -361,7 +474,7 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
             replicator ! Replicator.Update(ddataKey, EmptyORMultiMap, settings.writeConsistency) { registry =>
               ServiceRegistry(registry).addBinding(key, entry).toORMultiMap
             }
-            behavior(setup, state.addLocalService(serviceInstance, key))
+            behavior(setup, track(state, ddataKey).addLocalService(serviceInstance, key))
           } else {
             ctx.log.error("ClusterReceptionist [{}] - Register of non-local [{}] is not supported", serviceInstance)
             Behaviors.same
@@ -396,23 +509,40 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
             Behaviors.same
           }
 
-        case ReceptionistMessages.Find(key, replyTo) =>
-          val (reachable, all) = state.activeActorRefsFor(key, selfUniqueAddress)
-          replyTo ! ReceptionistMessages.Listing(key.asServiceKey, reachable, all, servicesWereAddedOrRemoved = true)
+        case find @ ReceptionistMessages.Find(key, replyTo) =>
+          val ddataKey = state.registry.ddataKeyFor(key)
+          if (settings.distributedKeyPerServiceKey && !state.registry.hasDdataKey(ddataKey)) {
+            // first use of the service key on this node, reply when the local replica has been read
+            replicator.tell(
+              Replicator.Get(ddataKey, Replicator.ReadLocal, Some(find)),
+              replicatorMessageAdapter.toClassic)
+          } else {
+            replyWithListing(key, replyTo, state)
+          }
           Behaviors.same
 
         case ReceptionistMessages.Subscribe(key, subscriber) =>
           if (subscriber.path.address.hasLocalScope) {
             ctx.watchWith(subscriber, SubscriberTerminated(subscriber))
 
-            // immediately reply with initial listings to the new subscriber
-            val listing = {
-              val (reachable, all) = state.activeActorRefsFor(key, selfUniqueAddress)
-              ReceptionistMessages.Listing(key.asServiceKey, reachable, all, servicesWereAddedOrRemoved = true)
-            }
-            subscriber ! listing
-
-            behavior(setup, state.copy(subscriptions = state.subscriptions.inserted(key)(subscriber)))
+            // pending changes are notified to the existing subscribers first, so that all subscribers
+            // of the key have seen the same listing when the next changes are notified
+            val notifiedState =
+              if (state.notifications.isPending(key))
+                state.notifySubscribers(key, state.notifications.pending(key), selfUniqueAddress)
+              else state
+
+            // immediately reply with initial listings to the new subscriber, with one ddata key per service
+            // key the subscriber is notified again when the replicator has delivered the entries of a new key
+            val (reachable, all) = notifiedState.activeActorRefsFor(key, selfUniqueAddress)
+            subscriber ! ReceptionistMessages.Listing(key, reachable, all, servicesWereAddedOrRemoved = true)()
+
+            val newState = track(notifiedState, notifiedState.registry.ddataKeyFor(key))
+            behavior(
+              setup,
+              newState.copy(
+                subscriptions = newState.subscriptions.inserted(key)(subscriber),
+                notifications = newState.notifications.subscribed(key, reachable)))
           } else {
             ctx.log.error("ClusterReceptionist [{}] - Subscriptions from non-local [{}] is not supported", subscriber)
             Behaviors.same
@@ -452,51 +582,25 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
 
         case ChangeFromReplicator(ddataKey, value) =>
           // every change will come back this way - this is where the local notifications happens
-          val newRegistry = ServiceRegistry(value)
-          val changedKeys = state.registry.collectChangedKeys(ddataKey, newRegistry)
-          val newState = state.copy(registry = state.registry.withServiceRegistry(ddataKey, newRegistry))
-
-          if (changedKeys.nonEmpty) {
-            if (ctx.log.isDebugEnabled) {
-              ctx.log.debugN(
-                "ClusterReceptionist [{}] - Change from replicator: [{}], changes: [{}], tombstones [{}]",
-                cluster.selfAddress,
-                newRegistry.entries.entries,
-                changedKeys
-                  .map(key => key.asServiceKey.id -> newRegistry.entriesFor(key).mkString("[", ", ", "]"))
-                  .mkString(", "),
-                state.tombstones.mkString(", "))
-            }
-
-            notifySubscribers(changedKeys, servicesWereAddedOrRemoved = true, newState)
-
-            changedKeys.foreach { changedKey =>
-              val serviceKey = changedKey.asServiceKey
-
-              // because of how ORMultiMap/ORset works, we could have a case where an actor we removed
-              // is re-introduced because of a concurrent update, in that case we need to re-remove it
-              val tombstonedButReAdded = newRegistry.actorRefsFor(serviceKey).filter(state.hasTombstone(serviceKey))
-              if (tombstonedButReAdded.nonEmpty) {
-                if (ctx.log.isDebugEnabled)
-                  ctx.log.debug2(
-                    "ClusterReceptionist [{}] - Saw ActorRefs that were tomstoned [{}], re-removing.",
-                    cluster.selfAddress,
-                    tombstonedButReAdded.mkString(", "))
-
-                replicator ! Replicator.Update(ddataKey, EmptyORMultiMap, settings.writeConsistency) { registry =>
-                  tombstonedButReAdded
-                    .foldLeft(ServiceRegistry(registry)) { (acc, ref) =>
-                      acc.removeBinding(serviceKey, Entry(ref, setup.selfSystemUid)(0L))
-                    }
-                    .toORMultiMap
-                }
-              }
-            }
+          val newState = changeFromReplicator(state, ddataKey, value)
+          if (newState eq state) Behaviors.same
+          else behavior(setup, newState)
+
+        case FindFromReplicator(ddataKey, value, find) =>
+          val trackedState = track(state, ddataKey)
+          val newState = value match {
+            case Some(v) => changeFromReplicator(trackedState, ddataKey, v)
+            case None    => trackedState
+          }
+          replyWithListing(find.key, find.replyTo, newState)
+          behavior(setup, newState)
 
-            behavior(setup, newState)
-          } else {
-            Behaviors.same
+        case DdataKeysFromReplicator(keyIds) =>
+          val newState = keyIds.foldLeft(state) { (s, keyId) =>
+            if (ShardedServiceRegistry.isPerServiceKey(keyId)) track(s, ShardedServiceRegistry.ddataKeyForId(keyId))
+            else s
           }
+          behavior(setup, newState)
 
         case NodeAdded(uniqueAddress) =>
           if (state.registry.nodes.contains(uniqueAddress)) {
@@ -509,12 +613,11 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
                 "ClusterReceptionist [{}] - Node with registered services added [{}]",
                 cluster.selfAddress,
                 uniqueAddress)
-              notifySubscribers(keysForNode, servicesWereAddedOrRemoved = true, newState)
+              behavior(setup, notifySubscribers(keysForNode, servicesWereAddedOrRemoved = true, newState))
             } else {
               ctx.log.debug2("ClusterReceptionist [{}] - Node added [{}]", cluster.selfAddress, uniqueAddress)
+              behavior(setup, newState)
             }
-
-            behavior(setup, newState)
           }
 
         case NodeRemoved(uniqueAddress) =>
@@ -526,14 +629,15 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
           } else if (state.registry.nodes.contains(uniqueAddress)) {
 
             val keysForNode = state.registry.keysFor(uniqueAddress)
-            val newState = state.copy(registry = state.registry.removeNode(uniqueAddress))
-            if (keysForNode.nonEmpty) {
-              ctx.log.debug2(
-                "ClusterReceptionist [{}] - Node with registered services removed [{}]",
-                cluster.selfAddress,
-                uniqueAddress)
-              notifySubscribers(keysForNode, servicesWereAddedOrRemoved = true, newState)
-            }
+            val removedState = state.copy(registry = state.registry.removeNode(uniqueAddress))
+            val newState =
+              if (keysForNode.nonEmpty) {
+                ctx.log.debug2(
+                  "ClusterReceptionist [{}] - Node with registered services removed [{}]",
+                  cluster.selfAddress,
+                  uniqueAddress)
+                notifySubscribers(keysForNode, servicesWereAddedOrRemoved = true, removedState)
+              } else removedState
 
             // Ok to update from several nodes but more efficient to try to do it from one node.
             if (isLeader) {
@@ -557,9 +661,9 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
               "ClusterReceptionist [{}] - Node with registered services unreachable [{}]",
               cluster.selfAddress,
               uniqueAddress)
-            reachabilityChanged(keysForNode, newState)
-          }
-          behavior(setup, newState)
+            behavior(setup, reachabilityChanged(keysForNode, newState))
+          } else
+            behavior(setup, newState)
 
         case NodeReachable(uniqueAddress) =>
           val keysForNode = state.registry.keysFor(uniqueAddress)
@@ -569,9 +673,9 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
               "ClusterReceptionist [{}] - Node with registered services reachable again [{}]",
               cluster.selfAddress,
               uniqueAddress)
-            reachabilityChanged(keysForNode, newState)
-          }
-          behavior(setup, newState)
+            behavior(setup, reachabilityChanged(keysForNode, newState))
+          } else
+            behavior(setup, newState)
 
         case RemoveTick =>
           // ok to update from several nodes but more efficient to try to do it from one node
@@ -588,9 +692,20 @@ private[typed] object ClusterReceptionist extends ReceptionistBehaviorProvider {
                   notInCluster.mkString(","))
               nodesRemoved(notInCluster, onlyRemoveOldEntries = true)
             }
+            // with one ddata key per service key the leader also tracks the service keys that are not used
+            // on this node, so that the entries of removed nodes are removed from all of them
+            if (settings.distributedKeyPerServiceKey)
+              replicator.tell(Replicator.GetKeyIds, keyIdsAdapter.toClassic)
           }
           Behaviors.same
 
+        case NotifySubscribersTick =>
+          val notifiedState = state.notifications.pending.foldLeft(state) {
+            case (s, (key, servicesWereAddedOrRemoved)) =>
+              s.notifySubscribers(key, servicesWereAddedOrRemoved, selfUniqueAddress)
+          }
+          behavior(setup, notifiedState)
+
         case PruneTombstonesTick =>
           val prunedState = state.pruneTombstones()
           if (prunedState eq state) Behaviors.same
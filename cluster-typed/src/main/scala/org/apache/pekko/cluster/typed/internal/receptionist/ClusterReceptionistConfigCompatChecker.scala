@@ -17,21 +17,36 @@ import com.typesafe.config.Config
 
 import org.apache.pekko
 import pekko.annotation.InternalApi
-import pekko.cluster.{ ConfigValidation, JoinConfigCompatChecker, Valid }
+import pekko.cluster.{ ConfigValidation, Invalid, JoinConfigCompatChecker, Valid }
 
 /**
  * INTERNAL API
  *
- * Verifies that receptionist distributed-key-count are the same across cluster nodes
+ * Verifies that receptionist distributed-key-count and distributed-key-per-service-key are the same across
+ * cluster nodes
  */
 @InternalApi
 private[pekko] final class ClusterReceptionistConfigCompatChecker extends JoinConfigCompatChecker {
 
-  override def requiredKeys = "pekko.cluster.typed.receptionist.distributed-key-count" :: Nil
+  private val DistributedKeyCount = "pekko.cluster.typed.receptionist.distributed-key-count"
+  private val DistributedKeyPerServiceKey = "pekko.cluster.typed.receptionist.distributed-key-per-service-key"
 
-  override def check(toCheck: Config, actualConfig: Config): ConfigValidation =
-    if (toCheck.hasPath(requiredKeys.head))
-      JoinConfigCompatChecker.fullMatch(requiredKeys, toCheck, actualConfig)
-    else
-      Valid // support for rolling update, property doesn't exist in previous versions
+  override def requiredKeys = DistributedKeyCount :: DistributedKeyPerServiceKey :: Nil
+
+  override def check(toCheck: Config, actualConfig: Config): ConfigValidation = {
+    val distributedKeyCount =
+      if (toCheck.hasPath(DistributedKeyCount))
+        JoinConfigCompatChecker.fullMatch(DistributedKeyCount :: Nil, toCheck, actualConfig)
+      else
+        Valid // support for rolling update, property doesn't exist in previous versions
+
+    // distributed-key-per-service-key doesn't exist in previous versions, where it is always off
+    val keyPerServiceKey =
+      toCheck.hasPath(DistributedKeyPerServiceKey) && toCheck.getBoolean(DistributedKeyPerServiceKey)
+    val distributedKeyPerServiceKey =
+      if (keyPerServiceKey == actualConfig.getBoolean(DistributedKeyPerServiceKey)) Valid
+      else Invalid(s"$DistributedKeyPerServiceKey is incompatible" :: Nil)
+
+    distributedKeyCount ++ distributedKeyPerServiceKey
+  }
 }
@@ -56,7 +56,8 @@ private[pekko] object ClusterReceptionistSettings {
       pruningInterval = config.getDuration("pruning-interval", MILLISECONDS).millis,
       pruneRemovedOlderThan = config.getDuration("prune-removed-older-than", MILLISECONDS).millis,
       config.getInt("distributed-key-count"),
-      replicatorSettingsWithoutDurableStore)
+      replicatorSettingsWithoutDurableStore,
+      config.getBoolean("distributed-key-per-service-key"))
   }
 }
 
@@ -69,4 +70,5 @@ private[pekko] case class ClusterReceptionistSettings(
     pruningInterval: FiniteDuration,
     pruneRemovedOlderThan: FiniteDuration,
     distributedKeyCount: Int,
-    replicatorSettings: ReplicatorSettings)
+    replicatorSettings: ReplicatorSettings,
+    distributedKeyPerServiceKey: Boolean = false)
@@ -34,6 +34,22 @@ import pekko.cluster.typed.internal.receptionist.ClusterReceptionist.{ DDataKey,
     new ShardedServiceRegistry(emptyRegistries, Set.empty, Set.empty)
   }
 
+  final val PerServiceKeyPrefix = "ReceptionistServiceKey_"
+
+  /**
+   * One Distributed Data key per service key, added when the service key is first used or seen.
+   */
+  def perServiceKey(): ShardedServiceRegistry =
+    new ShardedServiceRegistry(Map.empty, Set.empty, Set.empty, perServiceKey = true)
+
+  def isPerServiceKey(ddataKeyId: String): Boolean = ddataKeyId.startsWith(PerServiceKeyPrefix)
+
+  def ddataKeyForServiceKeyId(serviceKeyId: String): DDataKey =
+    ORMultiMapKey[ServiceKey[_], Entry](PerServiceKeyPrefix + serviceKeyId)
+
+  def ddataKeyForId(ddataKeyId: String): DDataKey =
+    ORMultiMapKey[ServiceKey[_], Entry](ddataKeyId)
+
 }
 
 /**
@@ -45,16 +61,28 @@ import pekko.cluster.typed.internal.receptionist.ClusterReceptionist.{ DDataKey,
 @InternalApi private[pekko] final case class ShardedServiceRegistry(
     serviceRegistries: Map[DDataKey, ServiceRegistry],
     nodes: Set[UniqueAddress],
-    unreachable: Set[UniqueAddress]) {
+    unreachable: Set[UniqueAddress],
+    perServiceKey: Boolean = false) {
+
+  // only used with a fixed number of keys
+  private lazy val keys = serviceRegistries.keySet.toArray
 
-  private val keys = serviceRegistries.keySet.toArray
+  def registryFor(ddataKey: DDataKey): ServiceRegistry = serviceRegistries.getOrElse(ddataKey, ServiceRegistry.Empty)
 
-  def registryFor(ddataKey: DDataKey): ServiceRegistry = serviceRegistries(ddataKey)
+  def allDdataKeys: Iterable[DDataKey] = serviceRegistries.keys
 
-  def allDdataKeys: Iterable[DDataKey] = keys
+  def hasDdataKey(ddataKey: DDataKey): Boolean = serviceRegistries.contains(ddataKey)
 
   def ddataKeyFor(serviceKey: ServiceKey[_]): DDataKey =
-    keys(math.abs(serviceKey.id.hashCode() % serviceRegistries.size))
+    if (perServiceKey) ShardedServiceRegistry.ddataKeyForServiceKeyId(serviceKey.id)
+    else keys(math.abs(serviceKey.id.hashCode() % serviceRegistries.size))
+
+  /**
+   * Add an empty registry for the `ddataKey` if it is not tracked yet, only used with one key per service key.
+   */
+  def withDdataKey(ddataKey: DDataKey): ShardedServiceRegistry =
+    if (hasDdataKey(ddataKey)) this
+    else copy(serviceRegistries.updated(ddataKey, ServiceRegistry.Empty))
 
   def allServices: Iterator[(ServiceKey[_], Set[Entry])] =
     serviceRegistries.valuesIterator.flatMap(_.entries.entries)
@@ -63,7 +91,7 @@ import pekko.cluster.typed.internal.receptionist.ClusterReceptionist.{ DDataKey,
 
   def actorRefsFor[T](key: ServiceKey[T]): Set[ActorRef[T]] = {
     val ddataKey = ddataKeyFor(key)
-    serviceRegistries(ddataKey).actorRefsFor(key)
+    registryFor(ddataKey).actorRefsFor(key)
   }
 
   /**
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.typed.internal.receptionist
+
+import com.typesafe.config.{ Config, ConfigFactory }
+import org.scalatest.matchers.should.Matchers
+import org.scalatest.wordspec.AnyWordSpec
+
+import org.apache.pekko
+import pekko.cluster.{ Invalid, Valid }
+
+class ClusterReceptionistConfigCompatCheckerSpec extends AnyWordSpec with Matchers {
+
+  val checker = new ClusterReceptionistConfigCompatChecker
+
+  def config(s: String): Config =
+    ConfigFactory.parseString(s"pekko.cluster.typed.receptionist { $s }")
+
+  val keyPerServiceKeyOff = config("distributed-key-count = 5, distributed-key-per-service-key = off")
+  val keyPerServiceKeyOn = config("distributed-key-count = 5, distributed-key-per-service-key = on")
+
+  "The ClusterReceptionistConfigCompatChecker" must {
+
+    "accept the same settings" in {
+      checker.check(keyPerServiceKeyOn, keyPerServiceKeyOn) should ===(Valid)
+      checker.check(keyPerServiceKeyOff, keyPerServiceKeyOff) should ===(Valid)
+    }
+
+    "reject a different distributed-key-count" in {
+      val otherKeyCount = config("distributed-key-count = 7, distributed-key-per-service-key = off")
+      checker.check(otherKeyCount, keyPerServiceKeyOff) shouldBe an[Invalid]
+    }
+
+    "reject a different distributed-key-per-service-key" in {
+      checker.check(keyPerServiceKeyOn, keyPerServiceKeyOff) shouldBe an[Invalid]
+      checker.check(keyPerServiceKeyOff, keyPerServiceKeyOn) shouldBe an[Invalid]
+    }
+
+    "treat a missing distributed-key-per-service-key as off" in {
+      // joining node of a previous version
+      val previousVersion = config("distributed-key-count = 5")
+      checker.check(previousVersion, keyPerServiceKeyOff) should ===(Valid)
+      checker.check(previousVersion, keyPerServiceKeyOn) should ===(
+        Invalid(List("pekko.cluster.typed.receptionist.distributed-key-per-service-key is incompatible")))
+      checker.check(ConfigFactory.empty, keyPerServiceKeyOn) shouldBe an[Invalid]
+    }
+  }
+}
@@ -879,5 +879,58 @@ class ClusterReceptionistSpec extends AnyWordSpec with Matchers with LogCapturin
         testKit.shutdownTestKit()
       }
     }
+
+    "replicate registrations with one distributed data key per service key".taggedAs(
+      LongRunningTest,
+      GHExcludeAeronTest) in {
+      val config = ConfigFactory
+        .parseString("pekko.cluster.typed.receptionist.distributed-key-per-service-key = on")
+        .withFallback(ClusterReceptionistSpec.config)
+      val testKit1 = ActorTestKit("ClusterReceptionistSpec-test-15", config)
+      val system1 = testKit1.system
+      val testKit2 = ActorTestKit(system1.name, system1.settings.config)
+      val system2 = testKit2.system
+      try {
+        val clusterNode1 = Cluster(system1)
+        clusterNode1.manager ! Join(clusterNode1.selfMember.address)
+        val clusterNode2 = Cluster(system2)
+        clusterNode2.manager ! Join(clusterNode1.selfMember.address)
+
+        val regProbe1 = TestProbe[Any]()(system1)
+        val regProbe2 = TestProbe[Any]()(system2)
+        regProbe1.awaitAssert(clusterNode1.state.members.count(_.status == MemberStatus.Up) should ===(2), 10.seconds)
+
+        system2.receptionist ! Subscribe(PingKey, regProbe2.ref)
+        regProbe2.expectMessage(Listing(PingKey, Set.empty[ActorRef[PingProtocol]]))
+
+        val service1 = testKit1.spawn(pingPongBehavior)
+        system1.receptionist ! Register(PingKey, service1, regProbe1.ref)
+        regProbe1.expectMessage(Registered(PingKey, service1))
+        val service2 = testKit1.spawn(pingPongBehavior)
+        system1.receptionist ! Register(AnotherKey, service2, regProbe1.ref)
+        regProbe1.expectMessage(Registered(AnotherKey, service2))
+
+        val listing = regProbe2.expectMessageType[Listing]
+        listing.isForKey(PingKey) should ===(true)
+        listing.serviceInstances(PingKey).size should ===(1)
+        listing.addedServiceInstances(PingKey) should ===(listing.serviceInstances(PingKey))
+        // no listing for the change of the other service key
+        regProbe2.expectNoMessage()
+
+        // first lookup of a service key that is not used on the node
+        regProbe2.awaitAssert {
+          system2.receptionist ! Find(AnotherKey, regProbe2.ref)
+          regProbe2.expectMessageType[Listing].serviceInstances(AnotherKey).size should ===(1)
+        }
+
+        service1 ! Perish
+        val removedListing = regProbe2.expectMessageType[Listing]
+        removedListing.serviceInstances(PingKey) should ===(Set.empty[ActorRef[PingProtocol]])
+        removedListing.removedServiceInstances(PingKey).size should ===(1)
+      } finally {
+        testKit1.shutdownTestKit()
+        testKit2.shutdownTestKit()
+      }
+    }
   }
 }
@@ -72,6 +72,24 @@ class ClusterReceptionistStateSpec extends ScalaTestWithActorTestKit with AnyWor
       state.tombstones shouldBe empty
     }
 
+    "use one ddata key per service key" in {
+      val self = UniqueAddress(Address("127.0.0.1", "MySystem"), 555L)
+      val registry = ShardedServiceRegistry.perServiceKey().addNode(self)
+      val ddataKey = registry.ddataKeyFor(SomeService)
+      ddataKey should !==(registry.ddataKeyFor(SomeOtherService))
+      ShardedServiceRegistry.isPerServiceKey(ddataKey.id) should ===(true)
+      registry.hasDdataKey(ddataKey) should ===(false)
+      registry.allDdataKeys shouldBe empty
+
+      val state = emptyState().copy(registry = registry.withDdataKey(ddataKey))
+      state.registry.hasDdataKey(ddataKey) should ===(true)
+      state.registry.allDdataKeys.toSet should ===(Set(ddataKey))
+      // not tracked service keys have no services
+      val (reachable, all) = state.activeActorRefsFor(SomeOtherService, self)
+      reachable shouldBe empty
+      all shouldBe empty
+    }
+
   }
 
 }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster
+
+import scala.collection.mutable
+import scala.concurrent.duration._
+
+import org.apache.pekko.annotation.InternalApi
+
+/**
+ * INTERNAL API
+ */
+@InternalApi private[cluster] object AdaptiveHeartbeat {
+
+  // number of round trip samples before a link can be considered stable
+  val MinSamples = 3
+
+  final class Link {
+    var samples: Int = 0
+    var smoothedRttNanos: Long = 0L
+    var rttVarianceNanos: Long = 0L
+    // explicit heartbeats are sent every `stride` tick
+    var stride: Int = 1
+    var ticksSinceSent: Int = 0
+    var awaitingResponse: Boolean = false
+  }
+}
+
+/**
+ * INTERNAL API
+ *
+ * Decides which heartbeat ticks of the [[ClusterHeartbeatSender]] result in an explicit heartbeat
+ * to a monitored node, when `pekko.cluster.failure-detector.adaptive-heartbeat` is enabled.
+ *
+ * The round trip time and its variation (jitter) of each link are estimated from the heartbeat
+ * responses, in the same way as TCP retransmission timers. While the responses of a link arrive
+ * with a low jitter and well within the heartbeat interval the link is considered stable and the
+ * interval between explicit heartbeats is increased additively, one heartbeat interval at a time,
+ * up to `maxInterval`. A response that arrives late or with a high jitter, a missing response, or
+ * a delayed tick of the sender (e.g. a GC pause) reset the link to a heartbeat every tick.
+ *
+ * Not thread safe, only used from within the `ClusterHeartbeatSender` actor.
+ */
+@InternalApi private[cluster] final class AdaptiveHeartbeat(
+    heartbeatInterval: FiniteDuration,
+    maxInterval: FiniteDuration,
+    maxJitter: FiniteDuration) {
+  import AdaptiveHeartbeat._
+
+  private val heartbeatIntervalNanos = heartbeatInterval.toNanos
+  private val maxJitterNanos = maxJitter.toNanos
+  private val maxStride = math.max(1, (maxInterval.toNanos / heartbeatIntervalNanos).toInt)
+
+  private val links = mutable.HashMap.empty[UniqueAddress, Link]
+
+  /**
+   * Called for each tick and monitored node, `true` if an explicit heartbeat should be sent to
+   * the node in this tick.
+   */
+  def shouldSend(node: UniqueAddress): Boolean = {
+    val link = links.getOrElseUpdate(node, new Link)
+    link.ticksSinceSent += 1
+    if (link.ticksSinceSent >= link.stride) {
+      // the previous heartbeat was not answered within the stride
+      if (link.awaitingResponse) link.stride = 1
+      link.ticksSinceSent = 0
+      link.awaitingResponse = true
+      true
+    } else
+      false
+  }
+
+  /**
+   * Called for each heartbeat response with the measured round trip time.
+   */
+  def responseReceived(node: UniqueAddress, rttNanos: Long): Unit =
+    links.get(node) match {
+      case Some(link) =>
+        link.awaitingResponse = false
+        if (rttNanos >= 0L) {
+          if (link.samples == 0) {
+            link.smoothedRttNanos = rttNanos
+            link.rttVarianceNanos = rttNanos / 2
+          } else {
+            // RTTVAR = 3/4 RTTVAR + 1/4 |SRTT - R|, SRTT = 7/8 SRTT + 1/8 R
+            link.rttVarianceNanos = link.rttVarianceNanos - (link.rttVarianceNanos >> 2) +
+              (math.abs(link.smoothedRttNanos - rttNanos) >> 2)
+            link.smoothedRttNanos = link.smoothedRttNanos - (link.smoothedRttNanos >> 3) + (rttNanos >> 3)
+          }
+          link.samples += 1
+
+          val stable = link.samples >= MinSamples &&
+            link.rttVarianceNanos <= maxJitterNanos &&
+            link.smoothedRttNanos + 4 * link.rttVarianceNanos < heartbeatIntervalNanos &&
+            rttNanos < heartbeatIntervalNanos
+          link.stride = if (stable) math.min(link.stride + 1, maxStride) else 1
+        }
+      case None =>
+    }
+
+  /**
+   * The heartbeat ticks were delayed, e.g. because of a GC pause or thread starvation. Go back
+   * to a heartbeat every tick for all links.
+   */
+  def reset(): Unit =
+    links.valuesIterator.foreach { link =>
+      link.stride = 1
+      link.ticksSinceSent = 0
+    }
+
+  /**
+   * Forget the links to nodes that are no longer monitored.
+   */
+  def retain(nodes: Set[UniqueAddress]): Unit =
+    if (links.keysIterator.exists(n => !nodes(n)))
+      links --= links.keys.filterNot(nodes).toList
+
+  def smoothedRtt(node: UniqueAddress): Option[FiniteDuration] =
+    links.get(node).collect { case link if link.samples > 0 => link.smoothedRttNanos.nanos }
+
+  def jitter(node: UniqueAddress): Option[FiniteDuration] =
+    links.get(node).collect { case link if link.samples > 0 => link.rttVarianceNanos.nanos }
+
+  def interval(node: UniqueAddress): FiniteDuration =
+    heartbeatInterval * links.get(node).fold(1)(_.stride)
+
+}
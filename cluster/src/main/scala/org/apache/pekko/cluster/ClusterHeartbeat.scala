@@ -140,6 +140,11 @@ private[cluster] class ClusterHeartbeatSender extends Actor {
     oldReceiversNowUnreachable = Set.empty[UniqueAddress],
     failureDetector)
 
+  private val adaptiveHeartbeat: Option[AdaptiveHeartbeat] =
+    if (AdaptiveHeartbeatEnabled)
+      Some(new AdaptiveHeartbeat(HeartbeatInterval, AdaptiveHeartbeatMaxInterval, AdaptiveHeartbeatMaxJitter))
+    else None
+
   // start periodic heartbeat to other nodes in cluster
   val heartbeatTask =
     scheduler.scheduleWithFixedDelay(
@@ -220,16 +225,20 @@ private[cluster] class ClusterHeartbeatSender extends Actor {
 
   def heartbeat(): Unit = {
     val nextHB = selfHeartbeat()
+    adaptiveHeartbeat.foreach(_.retain(state.activeReceivers))
     state.activeReceivers.foreach { to =>
       if (failureDetector.isMonitoring(to.address)) {
-        if (verboseHeartbeat) logDebug("Heartbeat to [{}]", to.address)
+        if (adaptiveHeartbeat.forall(_.shouldSend(to))) {
+          if (verboseHeartbeat) logDebug("Heartbeat to [{}]", to.address)
+          heartbeatReceiver(to.address) ! nextHB
+        }
       } else {
         if (verboseHeartbeat) logDebug("First Heartbeat to [{}]", to.address)
         // schedule the expected first heartbeat for later, which will give the
         // other side a chance to reply, and also trigger some resends if needed
         scheduler.scheduleOnce(HeartbeatExpectedResponseAfter, self, ExpectedFirstHeartbeat(to))
+        heartbeatReceiver(to.address) ! nextHB
       }
-      heartbeatReceiver(to.address) ! nextHB
     }
 
     checkTickInterval()
@@ -237,7 +246,8 @@ private[cluster] class ClusterHeartbeatSender extends Actor {
 
   private def checkTickInterval(): Unit = {
     val now = System.nanoTime()
-    if ((now - tickTimestamp) >= (HeartbeatInterval.toNanos * 2))
+    if ((now - tickTimestamp) >= (HeartbeatInterval.toNanos * 2)) {
+      adaptiveHeartbeat.foreach(_.reset())
       logWarning(
         ClusterLogMarker.heartbeatStarvation,
         "Scheduled sending of heartbeat was delayed. " +
@@ -245,13 +255,24 @@ private[cluster] class ClusterHeartbeatSender extends Actor {
         "to mark members as unreachable. The reason can be thread starvation, CPU overload, or GC.",
         TimeUnit.NANOSECONDS.toMillis(now - tickTimestamp),
         HeartbeatInterval.toMillis)
+    }
     tickTimestamp = now
 
   }
 
   def heartbeatRsp(response: HeartbeatRsp): Unit = {
-    // TODO: log response time and validate sequence nrs once serialisation of sendTime is released
-    if (verboseHeartbeat) logDebug("Heartbeat response from [{}]", response.from.address)
+    // responses from old versions don't include the sequenceNr and creationTimeNanos
+    val rttNanos = if (response.sequenceNr > 0) System.nanoTime() - response.creationTimeNanos else -1L
+    if (verboseHeartbeat) {
+      if (rttNanos >= 0L)
+        logDebug(
+          "Heartbeat response from [{}], round trip time [{}] ms",
+          response.from.address,
+          TimeUnit.NANOSECONDS.toMillis(rttNanos))
+      else
+        logDebug("Heartbeat response from [{}]", response.from.address)
+    }
+    adaptiveHeartbeat.foreach(_.responseReceived(response.from, rttNanos))
     state = state.heartbeatRsp(response.from)
   }
 
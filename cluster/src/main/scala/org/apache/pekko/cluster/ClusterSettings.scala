@@ -61,6 +61,13 @@ final class ClusterSettings(val config: Config, val systemName: String) {
   val MonitoredByNrOfMembers: Int = {
     FailureDetectorConfig.getInt("monitored-by-nr-of-members")
   }.requiring(_ > 0, "failure-detector.monitored-by-nr-of-members must be > 0")
+  val AdaptiveHeartbeatEnabled: Boolean = FailureDetectorConfig.getBoolean("adaptive-heartbeat.enabled")
+  val AdaptiveHeartbeatMaxInterval: FiniteDuration = {
+    FailureDetectorConfig.getMillisDuration("adaptive-heartbeat.max-interval")
+  }.requiring(_ >= HeartbeatInterval, "failure-detector.adaptive-heartbeat.max-interval must be >= heartbeat-interval")
+  val AdaptiveHeartbeatMaxJitter: FiniteDuration = {
+    FailureDetectorConfig.getMillisDuration("adaptive-heartbeat.max-jitter")
+  }.requiring(_ >= Duration.Zero, "failure-detector.adaptive-heartbeat.max-jitter must be >= 0")
 
   final class CrossDcFailureDetectorSettings(val config: Config) {
     val ImplementationClass: String = config.getString("implementation-class")
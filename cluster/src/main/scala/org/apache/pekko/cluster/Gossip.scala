@@ -180,7 +180,15 @@ private[cluster] final case class Gossip(
     val mergedTombstones = tombstones ++ that.tombstones
 
     // 2. merge vector clocks (but remove entries for tombstoned nodes)
-    val mergedVClock = mergedTombstones.keys.foldLeft(this.version.merge(that.version)) { (vclock, node) =>
+    // The version never contains entries of the own tombstones, since those are pruned when the tombstone
+    // is added and when merging, so only the tombstones that the other side doesn't have must be pruned.
+    val newTombstones =
+      if (this.tombstones.isEmpty) that.tombstones.keysIterator
+      else if (that.tombstones.isEmpty) this.tombstones.keysIterator
+      else
+        this.tombstones.keysIterator.filterNot(that.tombstones.contains) ++
+        that.tombstones.keysIterator.filterNot(this.tombstones.contains)
+    val mergedVClock = newTombstones.foldLeft(this.version.merge(that.version)) { (vclock, node) =>
       vclock.prune(VectorClock.Node(Gossip.vclockName(node)))
     }
 
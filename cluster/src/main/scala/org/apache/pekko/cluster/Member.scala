@@ -188,19 +188,25 @@ object Member {
       a: Set[Member],
       b: Set[Member],
       tombstones: Map[UniqueAddress, Long]): Set[Member] = {
-    // group all members by Address => Seq[Member]
-    val groupedByAddress = (a.toSeq ++ b.toSeq).groupBy(_.uniqueAddress)
-    // pick highest MemberStatus
-    groupedByAddress.foldLeft(Member.none) {
-      case (acc, (_, members)) =>
-        if (members.size == 2) acc + members.reduceLeft(highestPriorityOf)
-        else {
-          val m = members.head
-          if (tombstones.contains(m.uniqueAddress) || MembershipState.removeUnreachableWithMemberStatus(m.status))
-            acc // removed
-          else acc + m
-        }
+    def isRemoved(m: Member): Boolean =
+      tombstones.contains(m.uniqueAddress) || MembershipState.removeUnreachableWithMemberStatus(m.status)
+
+    // Member equality is defined by the uniqueAddress, so the members of `b` can be looked up by the members
+    // of `a` without grouping all of them
+    val bByAddress = b.iterator.map(m => m.uniqueAddress -> m).toMap
+    val builder = Set.newBuilder[Member]
+    a.foreach { m1 =>
+      bByAddress.get(m1.uniqueAddress) match {
+        case Some(m2)               => builder += highestPriorityOf(m1, m2) // pick highest MemberStatus
+        case None if !isRemoved(m1) => builder += m1
+        case None                   => // removed
+      }
+    }
+    b.foreach { m2 =>
+      if (!a.contains(m2) && !isRemoved(m2))
+        builder += m2
     }
+    builder.result()
   }
 
   /**
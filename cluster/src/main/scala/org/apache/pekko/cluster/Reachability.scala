@@ -174,7 +174,12 @@ private[cluster] class Reachability private (
     val recordBuilder = new immutable.VectorBuilder[Record]
     recordBuilder.sizeHint(math.max(this.records.size, other.records.size))
     var newVersions = versions
-    allowed.foreach { observer =>
+    // Only observers with a version can have records, so those are visited instead of all allowed
+    // nodes, which is much fewer than all members of a large cluster.
+    val observers =
+      this.versions.keysIterator.filter(allowed) ++
+      other.versions.keysIterator.filter(observer => allowed(observer) && !this.versions.contains(observer))
+    observers.foreach { observer =>
       val observerVersion1 = this.currentVersion(observer)
       val observerVersion2 = other.currentVersion(observer)
 
@@ -13,6 +13,7 @@
 
 package org.apache.pekko.cluster
 
+import java.nio.charset.StandardCharsets
 import java.security.MessageDigest
 
 import scala.annotation.tailrec
@@ -36,12 +37,21 @@ private[cluster] object VectorClock {
 
     def fromHash(hash: String): Node = hash
 
+    private val hexDigits = "0123456789abcdef".toCharArray
+
     private def hash(name: String): String = {
       val digester = MessageDigest.getInstance("MD5")
-      digester.update(name.getBytes("UTF-8"))
-      digester.digest.map { h =>
-        "%02x".format(0xFF & h)
-      }.mkString
+      digester.update(name.getBytes(StandardCharsets.UTF_8))
+      val digest = digester.digest
+      val chars = new Array[Char](digest.length * 2)
+      var i = 0
+      while (i < digest.length) {
+        val b = digest(i) & 0xFF
+        chars(i * 2) = hexDigits(b >>> 4)
+        chars(i * 2 + 1) = hexDigits(b & 0x0F)
+        i += 1
+      }
+      new String(chars)
     }
   }
 
@@ -189,13 +199,35 @@ final case class VectorClock(versions: TreeMap[VectorClock.Node, Long] = TreeMap
    * Merges this VectorClock with another VectorClock. E.g. merges its versioned history.
    */
   def merge(that: VectorClock): VectorClock = {
-    var mergedVersions = that.versions
-    for ((node, time) <- versions) {
-      val mergedVersionsCurrentTime = mergedVersions.getOrElse(node, Timestamp.Zero)
-      if (time > mergedVersionsCurrentTime)
-        mergedVersions = mergedVersions.updated(node, time)
+    if (versions.isEmpty) that
+    else if (that.versions.isEmpty) this
+    else {
+      // one pass over both sorted clocks, instead of updating the persistent map once per entry,
+      // which is significant for the clocks of large clusters
+      val builder = TreeMap.newBuilder[Node, Long]
+      val i1 = versions.iterator
+      val i2 = that.versions.iterator
+      var e1 = if (i1.hasNext) i1.next() else null
+      var e2 = if (i2.hasNext) i2.next() else null
+      while ((e1 ne null) || (e2 ne null)) {
+        val c =
+          if (e1 eq null) 1
+          else if (e2 eq null) -1
+          else e1._1.compareTo(e2._1)
+        if (c < 0) {
+          builder += e1
+          e1 = if (i1.hasNext) i1.next() else null
+        } else if (c > 0) {
+          builder += e2
+          e2 = if (i2.hasNext) i2.next() else null
+        } else {
+          builder += (if (e1._2 >= e2._2) e1 else e2)
+          e1 = if (i1.hasNext) i1.next() else null
+          e2 = if (i2.hasNext) i2.next() else null
+        }
+      }
+      VectorClock(builder.result())
     }
-    VectorClock(mergedVersions)
   }
 
   def prune(removedNode: Node): VectorClock =
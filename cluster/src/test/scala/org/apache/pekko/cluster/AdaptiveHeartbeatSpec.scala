@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster
+
+import scala.concurrent.duration._
+
+import org.scalatest.matchers.should.Matchers
+import org.scalatest.wordspec.AnyWordSpec
+
+import org.apache.pekko.actor.Address
+
+class AdaptiveHeartbeatSpec extends AnyWordSpec with Matchers {
+
+  private val node = UniqueAddress(Address("pekko", "sys", "a", 7355), 1L)
+  private val stableRtt = 2.millis.toNanos
+
+  private def create() = new AdaptiveHeartbeat(1.second, maxInterval = 3.seconds, maxJitter = 20.millis)
+
+  // one tick where a heartbeat is expected to be sent and answered
+  private def roundTrip(adaptive: AdaptiveHeartbeat, rttNanos: Long): Unit = {
+    adaptive.shouldSend(node) shouldBe true
+    adaptive.responseReceived(node, rttNanos)
+  }
+
+  "AdaptiveHeartbeat" must {
+
+    "send a heartbeat every tick until the link is stable" in {
+      val adaptive = create()
+      roundTrip(adaptive, stableRtt)
+      roundTrip(adaptive, stableRtt)
+      adaptive.interval(node) shouldBe 1.second
+      roundTrip(adaptive, stableRtt)
+      adaptive.interval(node) shouldBe 2.seconds
+      adaptive.smoothedRtt(node) shouldBe Some(stableRtt.nanos)
+    }
+
+    "increase the interval additively up to the max-interval for a stable link" in {
+      val adaptive = create()
+      (1 to 3).foreach(_ => roundTrip(adaptive, stableRtt))
+      adaptive.shouldSend(node) shouldBe false
+      roundTrip(adaptive, stableRtt)
+      adaptive.interval(node) shouldBe 3.seconds
+      adaptive.shouldSend(node) shouldBe false
+      adaptive.shouldSend(node) shouldBe false
+      roundTrip(adaptive, stableRtt)
+      adaptive.interval(node) shouldBe 3.seconds
+    }
+
+    "go back to a heartbeat every tick for a high jitter" in {
+      val adaptive = create()
+      (1 to 3).foreach(_ => roundTrip(adaptive, stableRtt))
+      adaptive.interval(node) shouldBe 2.seconds
+      adaptive.shouldSend(node) shouldBe false
+      roundTrip(adaptive, 500.millis.toNanos)
+      adaptive.interval(node) shouldBe 1.second
+      adaptive.jitter(node).get should be > 20.millis
+    }
+
+    "go back to a heartbeat every tick when a response is missing" in {
+      val adaptive = create()
+      (1 to 3).foreach(_ => roundTrip(adaptive, stableRtt))
+      adaptive.shouldSend(node) shouldBe false
+      adaptive.shouldSend(node) shouldBe true
+      // no response
+      adaptive.shouldSend(node) shouldBe false
+      adaptive.shouldSend(node) shouldBe true
+      adaptive.interval(node) shouldBe 1.second
+      adaptive.shouldSend(node) shouldBe true
+    }
+
+    "go back to a heartbeat every tick when the ticks were delayed" in {
+      val adaptive = create()
+      (1 to 3).foreach(_ => roundTrip(adaptive, stableRtt))
+      adaptive.interval(node) shouldBe 2.seconds
+      adaptive.reset()
+      adaptive.interval(node) shouldBe 1.second
+      adaptive.shouldSend(node) shouldBe true
+    }
+
+    "forget nodes that are no longer monitored" in {
+      val adaptive = create()
+      (1 to 3).foreach(_ => roundTrip(adaptive, stableRtt))
+      adaptive.retain(Set.empty)
+      adaptive.smoothedRtt(node) shouldBe None
+      adaptive.interval(node) shouldBe 1.second
+    }
+  }
+}
@@ -51,6 +51,9 @@ class ClusterConfigSpec extends PekkoSpec {
       HeartbeatInterval should ===(1 second)
       MonitoredByNrOfMembers should ===(9)
       HeartbeatExpectedResponseAfter should ===(1 seconds)
+      AdaptiveHeartbeatEnabled should ===(false)
+      AdaptiveHeartbeatMaxInterval should ===(2 seconds)
+      AdaptiveHeartbeatMaxJitter should ===(20 millis)
       LeaderActionsInterval should ===(1 second)
       UnreachableNodesReaperInterval should ===(1 second)
       PublishStatsInterval should ===(Duration.Undefined)
@@ -27,6 +27,19 @@ class VectorClockSpec extends PekkoSpec {
       clock.versions should ===(TreeMap.empty[VectorClock.Node, Long])
     }
 
+    "use the hex encoded MD5 of the node name as node hash" in {
+      Node("node1") should ===("164546f60261c7e4be0c5f5f9aaeec86")
+    }
+
+    "take the highest version of each node when merging concurrent clocks" in {
+      val clock1 = VectorClock(TreeMap(Node("1") -> 3L, Node("2") -> 1L, Node("4") -> 1L))
+      val clock2 = VectorClock(TreeMap(Node("1") -> 2L, Node("2") -> 5L, Node("3") -> 1L))
+      val expected = VectorClock(TreeMap(Node("1") -> 3L, Node("2") -> 5L, Node("3") -> 1L, Node("4") -> 1L))
+
+      clock1.merge(clock2) should ===(expected)
+      clock2.merge(clock1) should ===(expected)
+    }
+
     "not happen before itself" in {
       val clock1 = VectorClock()
       val clock2 = VectorClock()
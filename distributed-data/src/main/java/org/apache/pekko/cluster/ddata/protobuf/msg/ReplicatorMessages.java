@@ -23768,6 +23768,865 @@ public final class ReplicatorMessages {
 
   }
 
+  public interface GetDataDeletedOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:org.apache.pekko.cluster.ddata.GetDataDeleted)
+      org.apache.pekko.protobufv3.internal.MessageOrBuilder {
+
+    /**
+     * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    boolean hasKey();
+    /**
+     * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+     * @return The key.
+     */
+    org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getKey();
+    /**
+     * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+     */
+    org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getKeyOrBuilder();
+
+    /**
+     * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+     * @return Whether the request field is set.
+     */
+    boolean hasRequest();
+    /**
+     * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+     * @return The request.
+     */
+    org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getRequest();
+    /**
+     * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+     */
+    org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getRequestOrBuilder();
+  }
+  /**
+   * Protobuf type {@code org.apache.pekko.cluster.ddata.GetDataDeleted}
+   */
+  public  static final class GetDataDeleted extends
+      org.apache.pekko.protobufv3.internal.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:org.apache.pekko.cluster.ddata.GetDataDeleted)
+      GetDataDeletedOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetDataDeleted.newBuilder() to construct.
+    private GetDataDeleted(org.apache.pekko.protobufv3.internal.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetDataDeleted() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        org.apache.pekko.protobufv3.internal.GeneratedMessageV3.UnusedPrivateParameter unused) {
+      return new GetDataDeleted();
+    }
+
+    @java.lang.Override
+    public final org.apache.pekko.protobufv3.internal.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetDataDeleted(
+        org.apache.pekko.protobufv3.internal.CodedInputStream input,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      org.apache.pekko.protobufv3.internal.UnknownFieldSet.Builder unknownFields =
+          org.apache.pekko.protobufv3.internal.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) != 0)) {
+                subBuilder = key_.toBuilder();
+              }
+              key_ = input.readMessage(org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(key_);
+                key_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) != 0)) {
+                subBuilder = request_.toBuilder();
+              }
+              request_ = input.readMessage(org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(request_);
+                request_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
+        getDescriptor() {
+      return org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.internal_static_org_apache_pekko_cluster_ddata_GetDataDeleted_descriptor;
+    }
+
+    @java.lang.Override
+    protected org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.internal_static_org_apache_pekko_cluster_ddata_GetDataDeleted_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted.class, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage key_;
+    /**
+     * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+     * @return Whether the key field is set.
+     */
+    public boolean hasKey() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+     * @return The key.
+     */
+    public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getKey() {
+      return key_ == null ? org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance() : key_;
+    }
+    /**
+     * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+     */
+    public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getKeyOrBuilder() {
+      return key_ == null ? org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance() : key_;
+    }
+
+    public static final int REQUEST_FIELD_NUMBER = 2;
+    private org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage request_;
+    /**
+     * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+     * @return Whether the request field is set.
+     */
+    public boolean hasRequest() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+     * @return The request.
+     */
+    public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getRequest() {
+      return request_ == null ? org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance() : request_;
+    }
+    /**
+     * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+     */
+    public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getRequestOrBuilder() {
+      return request_ == null ? org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance() : request_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      if (!hasKey()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!getKey().isInitialized()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasRequest()) {
+        if (!getRequest().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(org.apache.pekko.protobufv3.internal.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(1, getKey());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(2, getRequest());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += org.apache.pekko.protobufv3.internal.CodedOutputStream
+          .computeMessageSize(1, getKey());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += org.apache.pekko.protobufv3.internal.CodedOutputStream
+          .computeMessageSize(2, getRequest());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted)) {
+        return super.equals(obj);
+      }
+      org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted other = (org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted) obj;
+
+      if (hasKey() != other.hasKey()) return false;
+      if (hasKey()) {
+        if (!getKey()
+            .equals(other.getKey())) return false;
+      }
+      if (hasRequest() != other.hasRequest()) return false;
+      if (hasRequest()) {
+        if (!getRequest()
+            .equals(other.getRequest())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasKey()) {
+        hash = (37 * hash) + KEY_FIELD_NUMBER;
+        hash = (53 * hash) + getKey().hashCode();
+      }
+      if (hasRequest()) {
+        hash = (37 * hash) + REQUEST_FIELD_NUMBER;
+        hash = (53 * hash) + getRequest().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted parseFrom(
+        java.nio.ByteBuffer data)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted parseFrom(
+        java.nio.ByteBuffer data,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted parseFrom(
+        org.apache.pekko.protobufv3.internal.ByteString data)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted parseFrom(
+        org.apache.pekko.protobufv3.internal.ByteString data,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted parseFrom(byte[] data)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted parseFrom(
+        byte[] data,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted parseFrom(
+        java.io.InputStream input,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted parseDelimitedFrom(
+        java.io.InputStream input,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted parseFrom(
+        org.apache.pekko.protobufv3.internal.CodedInputStream input)
+        throws java.io.IOException {
+      return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted parseFrom(
+        org.apache.pekko.protobufv3.internal.CodedInputStream input,
+        org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        org.apache.pekko.protobufv3.internal.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code org.apache.pekko.cluster.ddata.GetDataDeleted}
+     */
+    public static final class Builder extends
+        org.apache.pekko.protobufv3.internal.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:org.apache.pekko.cluster.ddata.GetDataDeleted)
+        org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeletedOrBuilder {
+      public static final org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
+          getDescriptor() {
+        return org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.internal_static_org_apache_pekko_cluster_ddata_GetDataDeleted_descriptor;
+      }
+
+      @java.lang.Override
+      protected org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.internal_static_org_apache_pekko_cluster_ddata_GetDataDeleted_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted.class, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted.Builder.class);
+      }
+
+      // Construct using org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          org.apache.pekko.protobufv3.internal.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (org.apache.pekko.protobufv3.internal.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getKeyFieldBuilder();
+          getRequestFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (keyBuilder_ == null) {
+          key_ = null;
+        } else {
+          keyBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (requestBuilder_ == null) {
+          request_ = null;
+        } else {
+          requestBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.internal_static_org_apache_pekko_cluster_ddata_GetDataDeleted_descriptor;
+      }
+
+      @java.lang.Override
+      public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted getDefaultInstanceForType() {
+        return org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted build() {
+        org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted buildPartial() {
+        org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted result = new org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          if (keyBuilder_ == null) {
+            result.key_ = key_;
+          } else {
+            result.key_ = keyBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          if (requestBuilder_ == null) {
+            result.request_ = request_;
+          } else {
+            result.request_ = requestBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          org.apache.pekko.protobufv3.internal.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          org.apache.pekko.protobufv3.internal.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          org.apache.pekko.protobufv3.internal.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          org.apache.pekko.protobufv3.internal.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          org.apache.pekko.protobufv3.internal.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(org.apache.pekko.protobufv3.internal.Message other) {
+        if (other instanceof org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted) {
+          return mergeFrom((org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted other) {
+        if (other == org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          mergeKey(other.getKey());
+        }
+        if (other.hasRequest()) {
+          mergeRequest(other.getRequest());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        if (!hasKey()) {
+          return false;
+        }
+        if (!getKey().isInitialized()) {
+          return false;
+        }
+        if (hasRequest()) {
+          if (!getRequest().isInitialized()) {
+            return false;
+          }
+        }
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          org.apache.pekko.protobufv3.internal.CodedInputStream input,
+          org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException e) {
+          parsedMessage = (org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage key_;
+      private org.apache.pekko.protobufv3.internal.SingleFieldBuilderV3<
+          org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> keyBuilder_;
+      /**
+       * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+       * @return Whether the key field is set.
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+       * @return The key.
+       */
+      public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getKey() {
+        if (keyBuilder_ == null) {
+          return key_ == null ? org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance() : key_;
+        } else {
+          return keyBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+       */
+      public Builder setKey(org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
+        if (keyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          key_ = value;
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+       */
+      public Builder setKey(
+          org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder builderForValue) {
+        if (keyBuilder_ == null) {
+          key_ = builderForValue.build();
+          onChanged();
+        } else {
+          keyBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+       */
+      public Builder mergeKey(org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
+        if (keyBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+              key_ != null &&
+              key_ != org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance()) {
+            key_ =
+              org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.newBuilder(key_).mergeFrom(value).buildPartial();
+          } else {
+            key_ = value;
+          }
+          onChanged();
+        } else {
+          keyBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+       */
+      public Builder clearKey() {
+        if (keyBuilder_ == null) {
+          key_ = null;
+          onChanged();
+        } else {
+          keyBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+       */
+      public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder getKeyBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getKeyFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+       */
+      public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getKeyOrBuilder() {
+        if (keyBuilder_ != null) {
+          return keyBuilder_.getMessageOrBuilder();
+        } else {
+          return key_ == null ?
+              org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance() : key_;
+        }
+      }
+      /**
+       * <code>required .org.apache.pekko.cluster.ddata.OtherMessage key = 1;</code>
+       */
+      private org.apache.pekko.protobufv3.internal.SingleFieldBuilderV3<
+          org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> 
+          getKeyFieldBuilder() {
+        if (keyBuilder_ == null) {
+          keyBuilder_ = new org.apache.pekko.protobufv3.internal.SingleFieldBuilderV3<
+              org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder>(
+                  getKey(),
+                  getParentForChildren(),
+                  isClean());
+          key_ = null;
+        }
+        return keyBuilder_;
+      }
+
+      private org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage request_;
+      private org.apache.pekko.protobufv3.internal.SingleFieldBuilderV3<
+          org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> requestBuilder_;
+      /**
+       * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+       * @return Whether the request field is set.
+       */
+      public boolean hasRequest() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+       * @return The request.
+       */
+      public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage getRequest() {
+        if (requestBuilder_ == null) {
+          return request_ == null ? org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance() : request_;
+        } else {
+          return requestBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+       */
+      public Builder setRequest(org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
+        if (requestBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          request_ = value;
+          onChanged();
+        } else {
+          requestBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+       */
+      public Builder setRequest(
+          org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder builderForValue) {
+        if (requestBuilder_ == null) {
+          request_ = builderForValue.build();
+          onChanged();
+        } else {
+          requestBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+       */
+      public Builder mergeRequest(org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage value) {
+        if (requestBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+              request_ != null &&
+              request_ != org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance()) {
+            request_ =
+              org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.newBuilder(request_).mergeFrom(value).buildPartial();
+          } else {
+            request_ = value;
+          }
+          onChanged();
+        } else {
+          requestBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+       */
+      public Builder clearRequest() {
+        if (requestBuilder_ == null) {
+          request_ = null;
+          onChanged();
+        } else {
+          requestBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+      /**
+       * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+       */
+      public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder getRequestBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getRequestFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+       */
+      public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder getRequestOrBuilder() {
+        if (requestBuilder_ != null) {
+          return requestBuilder_.getMessageOrBuilder();
+        } else {
+          return request_ == null ?
+              org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.getDefaultInstance() : request_;
+        }
+      }
+      /**
+       * <code>optional .org.apache.pekko.cluster.ddata.OtherMessage request = 2;</code>
+       */
+      private org.apache.pekko.protobufv3.internal.SingleFieldBuilderV3<
+          org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder> 
+          getRequestFieldBuilder() {
+        if (requestBuilder_ == null) {
+          requestBuilder_ = new org.apache.pekko.protobufv3.internal.SingleFieldBuilderV3<
+              org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessage.Builder, org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.OtherMessageOrBuilder>(
+                  getRequest(),
+                  getParentForChildren(),
+                  isClean());
+          request_ = null;
+        }
+        return requestBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final org.apache.pekko.protobufv3.internal.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final org.apache.pekko.protobufv3.internal.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:org.apache.pekko.cluster.ddata.GetDataDeleted)
+    }
+
+    // @@protoc_insertion_point(class_scope:org.apache.pekko.cluster.ddata.GetDataDeleted)
+    private static final org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted();
+    }
+
+    public static org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    @java.lang.Deprecated public static final org.apache.pekko.protobufv3.internal.Parser<GetDataDeleted>
+        PARSER = new org.apache.pekko.protobufv3.internal.AbstractParser<GetDataDeleted>() {
+      @java.lang.Override
+      public GetDataDeleted parsePartialFrom(
+          org.apache.pekko.protobufv3.internal.CodedInputStream input,
+          org.apache.pekko.protobufv3.internal.ExtensionRegistryLite extensionRegistry)
+          throws org.apache.pekko.protobufv3.internal.InvalidProtocolBufferException {
+        return new GetDataDeleted(input, extensionRegistry);
+      }
+    };
+
+    public static org.apache.pekko.protobufv3.internal.Parser<GetDataDeleted> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.apache.pekko.protobufv3.internal.Parser<GetDataDeleted> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public org.apache.pekko.cluster.ddata.protobuf.msg.ReplicatorMessages.GetDataDeleted getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
   private static final org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
     internal_static_org_apache_pekko_cluster_ddata_Get_descriptor;
   private static final 
@@ -23898,6 +24757,11 @@ public final class ReplicatorMessages {
   private static final 
     org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable
       internal_static_org_apache_pekko_cluster_ddata_DurableDataEnvelope_fieldAccessorTable;
+  private static final org.apache.pekko.protobufv3.internal.Descriptors.Descriptor
+    internal_static_org_apache_pekko_cluster_ddata_GetDataDeleted_descriptor;
+  private static final 
+    org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_apache_pekko_cluster_ddata_GetDataDeleted_fieldAccessorTable;
 
   public static org.apache.pekko.protobufv3.internal.Descriptors.FileDescriptor
       getDescriptor() {
@@ -23986,8 +24850,11 @@ public final class ReplicatorMessages {
       "\002(\0132,.org.apache.pekko.cluster.ddata.Oth" +
       "erMessage\022J\n\007pruning\030\002 \003(\01329.org.apache." +
       "pekko.cluster.ddata.DataEnvelope.Pruning" +
-      "EntryB/\n+org.apache.pekko.cluster.ddata." +
-      "protobuf.msgH\001"
+      "Entry\"\212\001\n\016GetDataDeleted\0229\n\003key\030\001 \002(\0132,." +
+      "org.apache.pekko.cluster.ddata.OtherMess" +
+      "age\022=\n\007request\030\002 \001(\0132,.org.apache.pekko." +
+      "cluster.ddata.OtherMessageB/\n+org.apache" +
+      ".pekko.cluster.ddata.protobuf.msgH\001"
     };
     descriptor = org.apache.pekko.protobufv3.internal.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -24149,6 +25016,12 @@ public final class ReplicatorMessages {
       org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable(
         internal_static_org_apache_pekko_cluster_ddata_DurableDataEnvelope_descriptor,
         new java.lang.String[] { "Data", "Pruning", });
+    internal_static_org_apache_pekko_cluster_ddata_GetDataDeleted_descriptor =
+      getDescriptor().getMessageTypes().get(21);
+    internal_static_org_apache_pekko_cluster_ddata_GetDataDeleted_fieldAccessorTable = new
+      org.apache.pekko.protobufv3.internal.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_apache_pekko_cluster_ddata_GetDataDeleted_descriptor,
+        new java.lang.String[] { "Key", "Request", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
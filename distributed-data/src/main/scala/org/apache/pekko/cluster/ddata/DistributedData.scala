@@ -21,6 +21,7 @@ import pekko.actor.ExtendedActorSystem
 import pekko.actor.Extension
 import pekko.actor.ExtensionId
 import pekko.actor.ExtensionIdProvider
+import pekko.annotation.ApiMayChange
 import pekko.cluster.{ Cluster, UniqueAddress }
 import pekko.event.Logging
 
@@ -45,6 +46,14 @@ class DistributedData(system: ExtendedActorSystem) extends Extension {
 
   implicit val selfUniqueAddress: SelfUniqueAddress = SelfUniqueAddress(Cluster(system).selfUniqueAddress)
 
+  /**
+   * Read-only view of the local values of the [[Replicator]], see [[LocalReadView]].
+   * It is enabled with `pekko.cluster.distributed-data.local-read-view`.
+   */
+  @ApiMayChange
+  val localReadView: LocalReadView =
+    new LocalReadView(system.settings.config.getBoolean("pekko.cluster.distributed-data.local-read-view"))
+
   /**
    * `ActorRef` of the [[Replicator]] .
    */
@@ -61,7 +70,10 @@ class DistributedData(system: ExtendedActorSystem) extends Extension {
           settings.roles.mkString(","): Any)
       system.deadLetters
     } else {
-      system.systemActorOf(Replicator.props(settings), ReplicatorSettings.name(system, None))
+      val props =
+        if (localReadView.isEnabled) Replicator.props(settings, localReadView)
+        else Replicator.props(settings)
+      system.systemActorOf(props, ReplicatorSettings.name(system, None))
     }
 
   /**
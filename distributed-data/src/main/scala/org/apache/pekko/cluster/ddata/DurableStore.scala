@@ -23,6 +23,7 @@ import scala.util.control.NonFatal
 
 import com.typesafe.config.Config
 import org.lmdbjava.Dbi
+import org.lmdbjava.Dbi.MapFullException
 import org.lmdbjava.DbiFlags
 import org.lmdbjava.Env
 import org.lmdbjava.EnvFlags
@@ -113,6 +114,9 @@ object LmdbDurableStore {
     Props(new LmdbDurableStore(config))
 
   private case object WriteBehind extends DeadLetterSuppression
+  private case object GroupCommit extends DeadLetterSuppression
+
+  private[ddata] val LoadBatchSize = 1000
 
   private final case class Lmdb(
       env: Env[ByteBuffer],
@@ -135,6 +139,18 @@ final class LmdbDurableStore(config: Config) extends Actor with ActorLogging {
     case _     => config.getDuration("lmdb.write-behind-interval", MILLISECONDS).millis
   }
 
+  val groupCommitMaxEntries: Int = config.getString("lmdb.group-commit").toLowerCase match {
+    case "off" => 0
+    case _     => config.getInt("lmdb.group-commit")
+  }
+
+  val maxMapSize: Long = config.getString("lmdb.max-map-size").toLowerCase match {
+    case "off" => 0L
+    case _     => config.getBytes("lmdb.max-map-size")
+  }
+
+  private var mapSize: Long = config.getBytes("lmdb.map-size")
+
   val dir = config.getString("lmdb.dir") match {
     case path if path.endsWith("ddata") =>
       new File(s"$path-${context.system.name}-${self.path.parent.name}-${Cluster(context.system).selfAddress.port.get}")
@@ -151,7 +167,6 @@ final class LmdbDurableStore(config: Config) extends Actor with ActorLogging {
       val t0 = System.nanoTime()
       log.info("Using durable data in LMDB directory [{}]", dir.getCanonicalPath)
       val env = {
-        val mapSize = config.getBytes("lmdb.map-size")
         dir.mkdirs()
         Env.create().setMapSize(mapSize).setMaxDbs(1).open(dir, EnvFlags.MDB_NOLOCK)
       }
@@ -181,8 +196,10 @@ final class LmdbDurableStore(config: Config) extends Actor with ActorLogging {
     }
   }
 
-  // pending write behind
-  val pending = new java.util.HashMap[KeyId, DurableDataEnvelope]
+  // pending write behind or group commit
+  val pending = new java.util.LinkedHashMap[KeyId, DurableDataEnvelope]
+  // replies to send when the pending group commit has been completed
+  private var pendingReplies = Vector.empty[StoreReply]
 
   override def postRestart(reason: Throwable): Unit = {
     super.postRestart(reason)
@@ -193,6 +210,7 @@ final class LmdbDurableStore(config: Config) extends Actor with ActorLogging {
   override def postStop(): Unit = {
     super.postStop()
     writeBehind()
+    groupCommit()
     if (isDbInitialized) {
       val l = lmdb()
       Try(l.db.close())
@@ -213,19 +231,28 @@ final class LmdbDurableStore(config: Config) extends Actor with ActorLogging {
         try {
           val iter = l.db.iterate(tx)
           try {
+            // The entries are sent in batches so that the Replicator can merge them while the
+            // next batch is deserialized, instead of waiting for all entries to be loaded.
             var n = 0
-            val loadData = LoadData(iter.asScala.map { entry =>
-              n += 1
+            var batch = Map.newBuilder[KeyId, DurableDataEnvelope]
+            val entries = iter.iterator
+            while (entries.hasNext) {
+              val entry = entries.next()
               val keyArray = new Array[Byte](entry.key.remaining)
               entry.key.get(keyArray)
               val key = new String(keyArray, ByteString.UTF_8)
               val valArray = new Array[Byte](entry.`val`.remaining)
               entry.`val`.get(valArray)
               val envelope = serializer.fromBinary(valArray, manifest).asInstanceOf[DurableDataEnvelope]
-              key -> envelope
-            }.toMap)
-            if (loadData.data.nonEmpty)
-              sender() ! loadData
+              batch += key -> envelope
+              n += 1
+              if (n % LoadBatchSize == 0) {
+                sender() ! LoadData(batch.result())
+                batch = Map.newBuilder[KeyId, DurableDataEnvelope]
+              }
+            }
+            if (n % LoadBatchSize != 0)
+              sender() ! LoadData(batch.result())
             sender() ! LoadAllCompleted
             if (log.isDebugEnabled)
               log.debug("load all of [{}] entries took [{} ms]", n, TimeUnit.NANOSECONDS.toMillis(System.nanoTime - t0))
@@ -250,35 +277,54 @@ final class LmdbDurableStore(config: Config) extends Actor with ActorLogging {
     case Store(key, data, reply) =>
       try {
         lmdb() // init
-        if (writeBehindInterval.length == 0) {
-          dbPut(OptionVal.None, key, data)
+        if (writeBehindInterval.length == 0 && groupCommitMaxEntries > 0) {
+          // the GroupCommit message is queued after the Store messages that are already in the mailbox,
+          // which are then committed together, and the replies are sent after the commit
+          if (pending.isEmpty)
+            self ! GroupCommit
+          pending.put(key, data)
+          reply match {
+            case Some(r) => pendingReplies :+= r
+            case None    =>
+          }
+          if (pending.size >= groupCommitMaxEntries)
+            groupCommit()
+        } else if (writeBehindInterval.length == 0) {
+          withMapGrowth(dbPut(OptionVal.None, key, serializer.toBinary(data)))
+          replySuccess(reply)
         } else {
           if (pending.isEmpty)
             context.system.scheduler.scheduleOnce(writeBehindInterval, self, WriteBehind)(context.dispatcher)
           pending.put(key, data)
-        }
-        reply match {
-          case Some(StoreReply(successMsg, _, replyTo)) =>
-            replyTo ! successMsg
-          case None =>
+          replySuccess(reply)
         }
       } catch {
         case NonFatal(e) =>
           log.error(e, "failed to store [{}]", key)
-          reply match {
-            case Some(StoreReply(_, failureMsg, replyTo)) =>
-              replyTo ! failureMsg
-            case None =>
-          }
+          replyFailure(reply)
       }
 
     case WriteBehind =>
       writeBehind()
+
+    case GroupCommit =>
+      groupCommit()
+  }
+
+  private def replySuccess(reply: Option[StoreReply]): Unit = reply match {
+    case Some(StoreReply(successMsg, _, replyTo)) =>
+      replyTo ! successMsg
+    case None =>
   }
 
-  def dbPut(tx: OptionVal[Txn[ByteBuffer]], key: KeyId, data: DurableDataEnvelope): Unit = {
+  private def replyFailure(reply: Option[StoreReply]): Unit = reply match {
+    case Some(StoreReply(_, failureMsg, replyTo)) =>
+      replyTo ! failureMsg
+    case None =>
+  }
+
+  def dbPut(tx: OptionVal[Txn[ByteBuffer]], key: KeyId, value: Array[Byte]): Unit = {
     try {
-      val value = serializer.toBinary(data)
       ensureValueBufferSize(value.length)
       val l = lmdb()
       l.keyBuffer.put(key.getBytes(ByteString.UTF_8)).flip()
@@ -296,29 +342,89 @@ final class LmdbDurableStore(config: Config) extends Actor with ActorLogging {
 
   def writeBehind(): Unit = {
     if (!pending.isEmpty()) {
-      val t0 = System.nanoTime()
+      try commitPending()
+      catch {
+        case NonFatal(e) =>
+          log.error(e, "failed to store [{}]", pending.keySet.asScala.mkString(","))
+      } finally {
+        pending.clear()
+      }
+    }
+  }
+
+  def groupCommit(): Unit = {
+    if (!pending.isEmpty()) {
+      val replies = pendingReplies
+      pendingReplies = Vector.empty
+      try {
+        commitPending()
+        replies.foreach(r => replySuccess(Some(r)))
+      } catch {
+        case NonFatal(e) =>
+          log.error(e, "failed to store [{}]", pending.keySet.asScala.mkString(","))
+          replies.foreach(r => replyFailure(Some(r)))
+      } finally {
+        pending.clear()
+      }
+    }
+  }
+
+  /**
+   * Store all pending entries in one transaction. Throws if the commit failed.
+   */
+  private def commitPending(): Unit = {
+    val t0 = System.nanoTime()
+    val keys = new Array[KeyId](pending.size)
+    val envelopes = new Array[DurableDataEnvelope](pending.size)
+    var i = 0
+    val iter = pending.entrySet.iterator
+    while (iter.hasNext) {
+      val entry = iter.next()
+      keys(i) = entry.getKey
+      envelopes(i) = entry.getValue
+      i += 1
+    }
+    val values = envelopes.map(serializer.toBinary)
+
+    withMapGrowth {
       val tx = lmdb().env.txnWrite()
       try {
-        val iter = pending.entrySet.iterator
-        while (iter.hasNext) {
-          val entry = iter.next()
-          dbPut(OptionVal.Some(tx), entry.getKey, entry.getValue)
+        var j = 0
+        while (j < keys.length) {
+          dbPut(OptionVal.Some(tx), keys(j), values(j))
+          j += 1
         }
         tx.commit()
-        if (log.isDebugEnabled)
-          log.debug(
-            "store and commit of [{}] entries took [{} ms]",
-            pending.size,
-            TimeUnit.NANOSECONDS.toMillis(System.nanoTime - t0))
       } catch {
         case NonFatal(e) =>
-          import pekko.util.ccompat.JavaConverters._
-          log.error(e, "failed to store [{}]", pending.keySet.asScala.mkString(","))
           tx.abort()
-      } finally {
-        pending.clear()
+          throw e
       }
     }
+
+    if (log.isDebugEnabled)
+      log.debug(
+        "store and commit of [{}] entries took [{} ms]",
+        keys.length,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime - t0))
+  }
+
+  /**
+   * Run `op` and double the map size of LMDB when it's full, up to the `max-map-size`, and run `op` again.
+   */
+  private def withMapGrowth[T](op: => T): T = {
+    try op
+    catch {
+      case e: MapFullException =>
+        if (mapSize >= maxMapSize) throw e
+        else {
+          val newMapSize = math.min(mapSize * 2, maxMapSize)
+          log.info("LMDB map is full, growing map size from [{}] to [{}] bytes", mapSize, newMapSize)
+          lmdb().env.setMapSize(newMapSize)
+          mapSize = newMapSize
+          withMapGrowth(op)
+        }
+    }
   }
 
 }
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.ddata
+
+import java.util.Optional
+
+import org.apache.pekko
+import pekko.annotation.ApiMayChange
+import pekko.annotation.InternalApi
+import pekko.cluster.ddata.Key.KeyId
+
+/**
+ * Read-only view of the local values of the [[Replicator]] of the [[DistributedData]] extension,
+ * which can be read synchronously without sending a `Get` message to the `Replicator`. It is
+ * enabled with `pekko.cluster.distributed-data.local-read-view`.
+ *
+ * The `Replicator` publishes a new immutable snapshot after each change of a value, so reading
+ * it is the same as a `Get` with `ReadLocal`. An `UpdateSuccess` reply is sent after the new
+ * value has been published, so the updated value can be read from the view after that reply.
+ *
+ * In partitioned mode (`replica-count`) only the keys that are held by this node are included.
+ */
+@ApiMayChange
+final class LocalReadView private[ddata] (val isEnabled: Boolean) {
+
+  // only written by the Replicator actor, a single writer
+  @volatile private var snapshot = Map.empty[KeyId, ReplicatedData]
+
+  /**
+   * Scala API: The local value of the `key`, or `None` if there is no value for the key or if it
+   * has been deleted.
+   *
+   * @throws java.lang.IllegalStateException if the view is not enabled
+   */
+  def get[A <: ReplicatedData](key: Key[A]): Option[A] = {
+    if (!isEnabled)
+      throw new IllegalStateException(
+        "LocalReadView is not enabled, see pekko.cluster.distributed-data.local-read-view")
+    snapshot.get(key.id).asInstanceOf[Option[A]]
+  }
+
+  /**
+   * Java API: The local value of the `key`, or empty if there is no value for the key or if it
+   * has been deleted.
+   *
+   * @throws java.lang.IllegalStateException if the view is not enabled
+   */
+  def getValue[A <: ReplicatedData](key: Key[A]): Optional[A] =
+    get(key) match {
+      case Some(value) => Optional.of(value)
+      case None        => Optional.empty()
+    }
+
+  /**
+   * INTERNAL API
+   */
+  @InternalApi private[ddata] def update(key: KeyId, data: ReplicatedData): Unit =
+    if (data == Replicator.Internal.DeletedData) snapshot -= key
+    else snapshot = snapshot.updated(key, data)
+
+}
@@ -15,6 +15,7 @@ package org.apache.pekko.cluster.ddata
 
 import scala.annotation.tailrec
 import scala.collection.immutable
+import scala.collection.mutable
 
 import org.apache.pekko
 import pekko.annotation.InternalApi
@@ -160,9 +161,17 @@ object ORSet {
           else dot
 
         case ManyVersionVector(vs) =>
-          val remaining = vs.toList
-          val newDots = dropDots(remaining, Nil)
-          VersionVector(newDots)
+          // count first, so that the dots can be returned as is when none or all of them are dominated,
+          // which is the common case, instead of rebuilding them
+          var dominated = 0
+          val iter = vs.iterator
+          while (iter.hasNext) {
+            val (node, v1) = iter.next()
+            if (vvector.versionAt(node) >= v1) dominated += 1
+          }
+          if (dominated == 0) dot
+          else if (dominated == vs.size) VersionVector.empty
+          else VersionVector(dropDots(vs.toList, Nil))
       }
     }
   }
@@ -174,29 +183,40 @@ object ORSet {
   @InternalApi private[pekko] def mergeCommonKeys[A](
       commonKeys: Set[A],
       lhs: ORSet[A],
-      rhs: ORSet[A]): Map[A, ORSet.Dot] =
-    mergeCommonKeys(commonKeys.iterator, lhs, rhs)
-
-  private def mergeCommonKeys[A](commonKeys: Iterator[A], lhs: ORSet[A], rhs: ORSet[A]): Map[A, ORSet.Dot] = {
-    commonKeys.foldLeft(Map.empty[A, ORSet.Dot]) {
-      case (acc, k) =>
-        val lhsDots = lhs.elementsMap(k)
-        val rhsDots = rhs.elementsMap(k)
-        (lhsDots, rhsDots) match {
-          case (OneVersionVector(n1, v1), OneVersionVector(n2, v2)) =>
-            if (n1 == n2 && v1 == v2)
-              // one single common dot
-              acc.updated(k, lhsDots)
-            else {
-              // no common, lhsUniqueDots == lhsDots, rhsUniqueDots == rhsDots
-              val lhsKeep = ORSet.subtractDots(lhsDots, rhs.vvector)
-              val rhsKeep = ORSet.subtractDots(rhsDots, lhs.vvector)
-              val merged = lhsKeep.merge(rhsKeep)
-              // Perfectly possible that an item in both sets should be dropped
-              if (merged.isEmpty) acc
-              else acc.updated(k, merged)
-            }
-          case (ManyVersionVector(lhsVs), ManyVersionVector(rhsVs)) =>
+      rhs: ORSet[A]): Map[A, ORSet.Dot] = {
+    val acc = Map.newBuilder[A, ORSet.Dot]
+    mergeCommonKeys(commonKeys.iterator, lhs, rhs, acc)
+    acc.result()
+  }
+
+  // the merged entries are added to a builder rather than to an immutable Map per key,
+  // which matters for large sets where most keys are common
+  private def mergeCommonKeys[A](
+      commonKeys: Iterator[A],
+      lhs: ORSet[A],
+      rhs: ORSet[A],
+      acc: mutable.Builder[(A, ORSet.Dot), Map[A, ORSet.Dot]]): Unit = {
+    commonKeys.foreach { k =>
+      val lhsDots = lhs.elementsMap(k)
+      val rhsDots = rhs.elementsMap(k)
+      (lhsDots, rhsDots) match {
+        case (OneVersionVector(n1, v1), OneVersionVector(n2, v2)) =>
+          if (n1 == n2 && v1 == v2)
+            // one single common dot
+            acc += k -> lhsDots
+          else {
+            // no common, lhsUniqueDots == lhsDots, rhsUniqueDots == rhsDots
+            val lhsKeep = ORSet.subtractDots(lhsDots, rhs.vvector)
+            val rhsKeep = ORSet.subtractDots(rhsDots, lhs.vvector)
+            val merged = lhsKeep.merge(rhsKeep)
+            // Perfectly possible that an item in both sets should be dropped
+            if (!merged.isEmpty) acc += k -> merged
+          }
+        case (ManyVersionVector(lhsVs), ManyVersionVector(rhsVs)) =>
+          if ((lhsVs eq rhsVs) || lhsVs == rhsVs)
+            // all dots are common, which is the typical case when both sides have seen the same adds
+            acc += k -> lhsDots
+          else {
             val commonDots = lhsVs.filter {
               case (thisDotNode, v) => rhsVs.get(thisDotNode).contains(v)
             }
@@ -207,35 +227,33 @@ object ORSet {
             val rhsKeep = ORSet.subtractDots(VersionVector(rhsUniqueDots), lhs.vvector)
             val merged = lhsKeep.merge(rhsKeep).merge(VersionVector(commonDots))
             // Perfectly possible that an item in both sets should be dropped
-            if (merged.isEmpty) acc
-            else acc.updated(k, merged)
-          case (ManyVersionVector(lhsVs), OneVersionVector(n2, v2)) =>
-            val commonDots = lhsVs.filter {
-              case (n1, v1) => v1 == v2 && n1 == n2
-            }
-            val commonDotsKeys = commonDots.keys
-            val lhsUniqueDots = lhsVs -- commonDotsKeys
-            val rhsUnique = if (commonDotsKeys.isEmpty) rhsDots else VersionVector.empty
-            val lhsKeep = ORSet.subtractDots(VersionVector(lhsUniqueDots), rhs.vvector)
-            val rhsKeep = ORSet.subtractDots(rhsUnique, lhs.vvector)
-            val merged = lhsKeep.merge(rhsKeep).merge(VersionVector(commonDots))
-            // Perfectly possible that an item in both sets should be dropped
-            if (merged.isEmpty) acc
-            else acc.updated(k, merged)
-          case (OneVersionVector(n1, v1), ManyVersionVector(rhsVs)) =>
-            val commonDots = rhsVs.filter {
-              case (n2, v2) => v1 == v2 && n1 == n2
-            }
-            val commonDotsKeys = commonDots.keys
-            val lhsUnique = if (commonDotsKeys.isEmpty) lhsDots else VersionVector.empty
-            val rhsUniqueDots = rhsVs -- commonDotsKeys
-            val lhsKeep = ORSet.subtractDots(lhsUnique, rhs.vvector)
-            val rhsKeep = ORSet.subtractDots(VersionVector(rhsUniqueDots), lhs.vvector)
-            val merged = lhsKeep.merge(rhsKeep).merge(VersionVector(commonDots))
-            // Perfectly possible that an item in both sets should be dropped
-            if (merged.isEmpty) acc
-            else acc.updated(k, merged)
-        }
+            if (!merged.isEmpty) acc += k -> merged
+          }
+        case (ManyVersionVector(lhsVs), OneVersionVector(n2, v2)) =>
+          val commonDots = lhsVs.filter {
+            case (n1, v1) => v1 == v2 && n1 == n2
+          }
+          val commonDotsKeys = commonDots.keys
+          val lhsUniqueDots = lhsVs -- commonDotsKeys
+          val rhsUnique = if (commonDotsKeys.isEmpty) rhsDots else VersionVector.empty
+          val lhsKeep = ORSet.subtractDots(VersionVector(lhsUniqueDots), rhs.vvector)
+          val rhsKeep = ORSet.subtractDots(rhsUnique, lhs.vvector)
+          val merged = lhsKeep.merge(rhsKeep).merge(VersionVector(commonDots))
+          // Perfectly possible that an item in both sets should be dropped
+          if (!merged.isEmpty) acc += k -> merged
+        case (OneVersionVector(n1, v1), ManyVersionVector(rhsVs)) =>
+          val commonDots = rhsVs.filter {
+            case (n2, v2) => v1 == v2 && n1 == n2
+          }
+          val commonDotsKeys = commonDots.keys
+          val lhsUnique = if (commonDotsKeys.isEmpty) lhsDots else VersionVector.empty
+          val rhsUniqueDots = rhsVs -- commonDotsKeys
+          val lhsKeep = ORSet.subtractDots(lhsUnique, rhs.vvector)
+          val rhsKeep = ORSet.subtractDots(VersionVector(rhsUniqueDots), lhs.vvector)
+          val merged = lhsKeep.merge(rhsKeep).merge(VersionVector(commonDots))
+          // Perfectly possible that an item in both sets should be dropped
+          if (!merged.isEmpty) acc += k -> merged
+      }
     }
   }
 
@@ -247,24 +265,25 @@ object ORSet {
       keys: Set[A],
       elementsMap: Map[A, ORSet.Dot],
       vvector: VersionVector,
-      accumulator: Map[A, ORSet.Dot]): Map[A, ORSet.Dot] =
-    mergeDisjointKeys(keys.iterator, elementsMap, vvector, accumulator)
+      accumulator: Map[A, ORSet.Dot]): Map[A, ORSet.Dot] = {
+    val acc = Map.newBuilder[A, ORSet.Dot]
+    acc ++= accumulator
+    mergeDisjointKeys(keys.iterator, elementsMap, vvector, acc)
+    acc.result()
+  }
 
   private def mergeDisjointKeys[A](
       keys: Iterator[A],
       elementsMap: Map[A, ORSet.Dot],
       vvector: VersionVector,
-      accumulator: Map[A, ORSet.Dot]): Map[A, ORSet.Dot] = {
-    keys.foldLeft(accumulator) {
-      case (acc, k) =>
-        val dots = elementsMap(k)
-        if (vvector > dots || vvector == dots)
-          acc
-        else {
-          // Optimise the set of stored dots to include only those unseen
-          val newDots = subtractDots(dots, vvector)
-          acc.updated(k, newDots)
-        }
+      acc: mutable.Builder[(A, ORSet.Dot), Map[A, ORSet.Dot]]): Unit = {
+    keys.foreach { k =>
+      val dots = elementsMap(k)
+      // dots that are dominated by the version vector are dropped
+      if (!(vvector > dots || vvector == dots)) {
+        // Optimise the set of stored dots to include only those unseen
+        acc += k -> subtractDots(dots, vvector)
+      }
     }
   }
 }
@@ -447,20 +466,20 @@ final class ORSet[A] private[pekko] (
         this.elementsMap.keysIterator.filter(that.elementsMap.contains)
       else
         that.elementsMap.keysIterator.filter(this.elementsMap.contains)
-    val entries00 = ORSet.mergeCommonKeys(commonKeys, this, that)
-    val entries0 =
-      if (addDeltaOp)
-        entries00 ++ this.elementsMap.filter { case (elem, _) => !that.elementsMap.contains(elem) }
-      else {
-        val thisUniqueKeys = this.elementsMap.keysIterator.filterNot(that.elementsMap.contains)
-        ORSet.mergeDisjointKeys(thisUniqueKeys, this.elementsMap, that.vvector, entries00)
-      }
+    val entries = Map.newBuilder[A, ORSet.Dot]
+    ORSet.mergeCommonKeys(commonKeys, this, that, entries)
+    if (addDeltaOp)
+      entries ++= this.elementsMap.iterator.filter { case (elem, _) => !that.elementsMap.contains(elem) }
+    else {
+      val thisUniqueKeys = this.elementsMap.keysIterator.filterNot(that.elementsMap.contains)
+      ORSet.mergeDisjointKeys(thisUniqueKeys, this.elementsMap, that.vvector, entries)
+    }
     val thatUniqueKeys = that.elementsMap.keysIterator.filterNot(this.elementsMap.contains)
-    val entries = ORSet.mergeDisjointKeys(thatUniqueKeys, that.elementsMap, this.vvector, entries0)
+    ORSet.mergeDisjointKeys(thatUniqueKeys, that.elementsMap, this.vvector, entries)
     val mergedVvector = this.vvector.merge(that.vvector)
 
     clearAncestor()
-    new ORSet(entries, mergedVvector)
+    new ORSet(entries.result(), mergedVvector)
   }
 
   override def mergeDelta(thatDelta: ORSet.DeltaOp): ORSet[A] = {
@@ -13,6 +13,7 @@
 
 package org.apache.pekko.cluster.ddata
 
+import java.nio.charset.StandardCharsets
 import java.security.MessageDigest
 import java.util.Optional
 import java.util.concurrent.ThreadLocalRandom
@@ -30,6 +31,7 @@ import scala.util.Success
 import scala.util.Try
 import scala.util.control.NoStackTrace
 import scala.util.control.NonFatal
+import scala.util.hashing.MurmurHash3
 
 import scala.annotation.nowarn
 import com.typesafe.config.Config
@@ -114,7 +116,9 @@ object ReplicatorSettings {
       deltaCrdtEnabled = config.getBoolean("delta-crdt.enabled"),
       maxDeltaSize = config.getInt("delta-crdt.max-delta-size"),
       preferOldest = config.getBoolean("prefer-oldest"),
-      logDataSizeExceeding = logDataSizeExceeding)
+      logDataSizeExceeding = logDataSizeExceeding,
+      replicaCount = config.getInt("replica-count"),
+      coalesceWrites = config.getBoolean("coalesce-writes"))
   }
 
   /**
@@ -160,6 +164,11 @@ object ReplicatorSettings {
  *        in the `Set`.
  * @param preferOldest Update and Get operations are sent to oldest nodes first.
  * @param logDataSizeExceeding Log data size.
+ * @param replicaCount Number of nodes that each key is replicated to, chosen by
+ *        rendezvous hashing of the key. All nodes are used if 0.
+ * @param coalesceWrites Updates of a key with `WriteMajority`, `WriteAll` or other
+ *        non-local consistency that are performed while an earlier write of the key is
+ *        still in flight are replicated together when that write has completed.
  */
 final class ReplicatorSettings(
     val roles: Set[String],
@@ -176,7 +185,48 @@ final class ReplicatorSettings(
     val deltaCrdtEnabled: Boolean,
     val maxDeltaSize: Int,
     val preferOldest: Boolean,
-    val logDataSizeExceeding: Option[Int]) {
+    val logDataSizeExceeding: Option[Int],
+    val replicaCount: Int,
+    val coalesceWrites: Boolean) {
+
+  require(replicaCount >= 0, "replica-count must be >= 0")
+
+  // for backwards compatibility
+  @deprecated("use full constructor", "Pekko 1.1.0")
+  def this(
+      roles: Set[String],
+      gossipInterval: FiniteDuration,
+      notifySubscribersInterval: FiniteDuration,
+      maxDeltaElements: Int,
+      dispatcher: String,
+      pruningInterval: FiniteDuration,
+      maxPruningDissemination: FiniteDuration,
+      durableStoreProps: Either[(String, Config), Props],
+      durableKeys: Set[KeyId],
+      pruningMarkerTimeToLive: FiniteDuration,
+      durablePruningMarkerTimeToLive: FiniteDuration,
+      deltaCrdtEnabled: Boolean,
+      maxDeltaSize: Int,
+      preferOldest: Boolean,
+      logDataSizeExceeding: Option[Int]) =
+    this(
+      roles,
+      gossipInterval,
+      notifySubscribersInterval,
+      maxDeltaElements,
+      dispatcher,
+      pruningInterval,
+      maxPruningDissemination,
+      durableStoreProps,
+      durableKeys,
+      pruningMarkerTimeToLive,
+      durablePruningMarkerTimeToLive,
+      deltaCrdtEnabled,
+      maxDeltaSize,
+      preferOldest,
+      logDataSizeExceeding,
+      replicaCount = 0,
+      coalesceWrites = false)
 
   // for backwards compatibility
   @deprecated("use full constructor", "Akka 2.6.11")
@@ -428,6 +478,12 @@ final class ReplicatorSettings(
   def withLogDataSizeExceeding(logDataSizeExceeding: Int): ReplicatorSettings =
     copy(logDataSizeExceeding = Some(logDataSizeExceeding))
 
+  def withReplicaCount(replicaCount: Int): ReplicatorSettings =
+    copy(replicaCount = replicaCount)
+
+  def withCoalesceWrites(coalesceWrites: Boolean): ReplicatorSettings =
+    copy(coalesceWrites = coalesceWrites)
+
   private def copy(
       roles: Set[String] = roles,
       gossipInterval: FiniteDuration = gossipInterval,
@@ -443,7 +499,9 @@ final class ReplicatorSettings(
       deltaCrdtEnabled: Boolean = deltaCrdtEnabled,
       maxDeltaSize: Int = maxDeltaSize,
       preferOldest: Boolean = preferOldest,
-      logDataSizeExceeding: Option[Int] = logDataSizeExceeding): ReplicatorSettings =
+      logDataSizeExceeding: Option[Int] = logDataSizeExceeding,
+      replicaCount: Int = replicaCount,
+      coalesceWrites: Boolean = coalesceWrites): ReplicatorSettings =
     new ReplicatorSettings(
       roles,
       gossipInterval,
@@ -459,7 +517,9 @@ final class ReplicatorSettings(
       deltaCrdtEnabled,
       maxDeltaSize,
       preferOldest,
-      logDataSizeExceeding)
+      logDataSizeExceeding,
+      replicaCount,
+      coalesceWrites)
 }
 
 object Replicator {
@@ -474,6 +534,16 @@ object Replicator {
     Props(new Replicator(settings)).withDeploy(Deploy.local).withDispatcher(settings.dispatcher)
   }
 
+  /**
+   * INTERNAL API: Props of the `Replicator` that publishes its values to the `localReadView`.
+   */
+  @InternalApi private[ddata] def props(settings: ReplicatorSettings, localReadView: LocalReadView): Props = {
+    require(
+      settings.durableKeys.isEmpty || (settings.durableStoreProps != Right(Props.empty)),
+      "durableStoreProps must be defined when durableKeys are defined")
+    Props(new Replicator(settings, Some(localReadView))).withDeploy(Deploy.local).withDispatcher(settings.dispatcher)
+  }
+
   val DefaultMajorityMinCap: Int = 0
 
   sealed trait ReadConsistency {
@@ -666,7 +736,9 @@ object Replicator {
   /**
    * The [[Get]] request couldn't be performed because the entry has been deleted.
    */
-  final case class GetDataDeleted[A <: ReplicatedData](key: Key[A], request: Option[Any]) extends GetResponse[A]
+  final case class GetDataDeleted[A <: ReplicatedData](key: Key[A], request: Option[Any])
+      extends GetResponse[A]
+      with ReplicatorMessage
 
   /**
    * Register a subscriber that will be notified with a [[Changed]] message
@@ -942,6 +1014,18 @@ object Replicator {
     case object DeltaPropagationTick
     case object RemovedNodePruningTick
     case object ClockTick
+
+    /**
+     * The `replicaCount` nodes that the key is replicated to in partitioned mode, in order of preference.
+     * The nodes with the highest hash of the key and the node are chosen (rendezvous hashing), so that
+     * only the keys of added or removed nodes are moved to other nodes when the cluster changes.
+     */
+    def replicasFor(key: KeyId, nodes: immutable.SortedSet[UniqueAddress], replicaCount: Int): Vector[UniqueAddress] = {
+      val keyHash = MurmurHash3.stringHash(key)
+      nodes.toVector
+        .sortBy(node => MurmurHash3.finalizeHash(MurmurHash3.mix(keyHash, node.hashCode), 2))(Ordering.Int.reverse)
+        .take(replicaCount)
+    }
     sealed trait SendingSystemUid {
       // FIXME #26566: we can change from Option to UniqueAddress after supporting mixed rolling updates for some versions
       def fromNode: Option[UniqueAddress]
@@ -959,6 +1043,8 @@ object Replicator {
     final case class ReadResult(envelope: Option[DataEnvelope]) extends ReplicatorMessage with DeadLetterSuppression
     final case class ReadRepair(key: KeyId, envelope: DataEnvelope)
     case object ReadRepairAck
+    // request of the local read before an Update of a key that the node isn't a replica of
+    case object ReadBeforeUpdate
     // for testing purposes
     final case class TestFullStateGossip(enabled: Boolean)
 
@@ -1361,7 +1447,11 @@ object Replicator {
  * all data are always cleared from parts associated with tombstoned nodes. </li>
  * </ol>
  */
-final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLogging {
+final class Replicator private[ddata] (settings: ReplicatorSettings, localReadView: Option[LocalReadView])
+    extends Actor
+    with ActorLogging {
+
+  def this(settings: ReplicatorSettings) = this(settings, None)
 
   import PruningState._
   import Replicator._
@@ -1501,6 +1591,32 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
   var statusTotChunks = 0
   // possibility to disable Gossip for testing purpose
   var fullStateGossipEnabled = true
+  // Digest of the chunks, keyed by (chunk, totChunks), that were equal at this node and another node when
+  // receiving Status from that node. Status of such a chunk isn't sent to that node as long as the chunk
+  // hasn't changed, since that node isn't missing anything from it. Cleared on each pruning tick so that
+  // all chunks are compared now and then anyway.
+  var inSyncChunks = Map.empty[UniqueAddress, Map[(Int, Int), Digest]]
+
+  // partitioned mode, when replica-count is defined
+  val partitioned: Boolean = replicaCount > 0
+  // replicas of the keys, in order of preference, cleared when the nodes are changed or when it has
+  // reached ReplicasByKeyMaxEntries, since they are cheap to compute again
+  private val replicasByKey = new mutable.HashMap[KeyId, Vector[UniqueAddress]]
+  private val ReplicasByKeyMaxEntries = 10000
+  // keys with local subscribers that this node isn't a replica of, and the replica that this
+  // Replicator is subscribed to on behalf of the local subscribers
+  var proxySubscriptions = Map.empty[KeyId, (KeyR, UniqueAddress)]
+  // latest Changed from the proxy subscriptions, sent to new local subscribers
+  var proxyChanged = Map.empty[KeyId, Changed[_]]
+  // updates of keys that this node isn't a replica of, waiting for the value to be read from the replicas,
+  // in the order they were received
+  var updatesWaitingForRead = Map.empty[KeyId, Vector[(Update[_], ActorRef)]]
+
+  // coalesce-writes: the WriteAggregator of the write in flight for each key, and the updates
+  // that are waiting for that write to complete, which must all have the same write consistency
+  var writeInFlight = Map.empty[KeyId, ActorRef]
+  var writeInFlightKeys = Map.empty[ActorRef, KeyR]
+  var coalescedWrites = Map.empty[KeyId, (WriteConsistency, Vector[(Option[Any], ActorRef)])]
 
   @nowarn("msg=deprecated")
   val subscribers = new mutable.HashMap[KeyId, mutable.Set[ActorRef]] with mutable.MultiMap[KeyId, ActorRef]
@@ -1527,6 +1643,48 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     }
   }
 
+  private def nodesForReadWrite(key: KeyId, excludeExiting: Boolean): Vector[UniqueAddress] = {
+    val all = nodesForReadWrite(excludeExiting)
+    if (partitioned) {
+      val replicas = replicasFor(key)
+      all.filter(replicas.contains)
+    } else all
+  }
+
+  /**
+   * The nodes that the key is replicated to in partitioned mode, in order of preference.
+   */
+  def replicasFor(key: KeyId): Vector[UniqueAddress] =
+    replicasByKey.get(key) match {
+      case Some(replicas) => replicas
+      case None =>
+        val replicas = Replicator.Internal.replicasFor(key, nodes + selfUniqueAddress, replicaCount)
+        if (replicasByKey.size >= ReplicasByKeyMaxEntries)
+          replicasByKey.clear()
+        replicasByKey.update(key, replicas)
+        replicas
+    }
+
+  def isReplica(key: KeyId, node: UniqueAddress): Boolean =
+    !partitioned || replicasFor(key).contains(node)
+
+  def isLocalReplica(key: KeyId): Boolean =
+    isReplica(key, selfUniqueAddress)
+
+  /**
+   * The replica that requests for a key that this node isn't a replica of are delegated to.
+   */
+  private def primaryReplica(key: KeyId): UniqueAddress = {
+    val replicas = replicasFor(key)
+    replicas.find(node => !unreachable(node)).getOrElse(replicas.head)
+  }
+
+  private def replicaNodesChanged(): Unit =
+    if (partitioned) {
+      replicasByKey.clear()
+      subscriptionKeys.keysIterator.foreach(updateProxySubscription)
+    }
+
   override protected[pekko] def aroundReceive(rcv: Actor.Receive, msg: Any): Unit = {
     replyTo = sender()
     try {
@@ -1667,8 +1825,10 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
           }
       }
 
-    case Get(key, consistency, req)    => receiveGet(key, consistency, req)
-    case u @ Update(key, writeC, req)  => receiveUpdate(key, u.modify, writeC, req)
+    case Get(key, consistency, req) => receiveGet(key, consistency, req)
+    case u @ Update(key, writeC, req) =>
+      if (partitioned && !isLocalReplica(key.id)) receiveUpdateOfOtherReplicas(u)
+      else receiveUpdate(key, u.modify, writeC, req)
     case ReadRepair(key, envelope)     => receiveReadRepair(key, envelope)
     case FlushChanges                  => receiveFlushChanges()
     case DeltaPropagationTick          => receiveDeltaPropagationTick()
@@ -1690,12 +1850,18 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     case RemovedNodePruningTick        => receiveRemovedNodePruningTick()
     case GetReplicaCount               => receiveGetReplicaCount()
     case TestFullStateGossip(enabled)  => fullStateGossipEnabled = enabled
+    case changed: Changed[_]           => receiveProxyChanged(changed)
+    case r: GetResponse[_] if r.request.contains(ReadBeforeUpdate) =>
+      receiveReadBeforeUpdate(r)
   }
 
   def receiveGet(key: KeyR, consistency: ReadConsistency, req: Option[Any]): Unit = {
     val localValue = getData(key.id)
     log.debug("Received Get for key [{}].", key)
-    if (isLocalGet(consistency)) {
+    if (consistency == ReadLocal && partitioned && !isLocalReplica(key.id) && isLocalSender()) {
+      // delegate to a replica of the key, which replies to the sender
+      replica(primaryReplica(key.id)).tell(Get(key, ReadLocal, req), replyTo)
+    } else if (isLocalGet(consistency)) {
       val reply = localValue match {
         case Some(DataEnvelope(DeletedData, _, _)) => GetDataDeleted(key, req)
         case Some(DataEnvelope(data, _, _))        => GetSuccess(key, req)(data)
@@ -1714,11 +1880,12 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
             consistency,
             req,
             selfUniqueAddress,
-            nodesForReadWrite(excludeExiting),
+            nodesForReadWrite(key.id, excludeExiting),
             unreachable,
             !settings.preferOldest,
             localValue,
-            replyTo)
+            replyTo,
+            isLocalReplica(key.id))
           .withDispatcher(context.props.dispatcher))
     }
   }
@@ -1807,31 +1974,40 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
           // of subsequent updates are in sync on the destination nodes.
           // The order is also kept when prefer-oldest is enabled.
           val shuffle = !(settings.preferOldest || writeDelta.exists(_.requiresCausalDeliveryOfDeltas))
-          val excludeExiting = writeConsistency match {
-            case _: WriteMajorityPlus | _: WriteAll => true
-            case _                                  => false
-          }
-          val writeAggregator =
-            context.actorOf(
-              WriteAggregator
-                .props(
-                  key,
-                  writeEnvelope,
-                  writeDelta,
-                  writeConsistency,
-                  req,
-                  selfUniqueAddress,
-                  nodesForReadWrite(excludeExiting),
-                  unreachable,
-                  shuffle,
-                  replyTo,
-                  durable)
-                .withDispatcher(context.props.dispatcher))
-          if (durable) {
-            durableStore ! Store(
-              key.id,
-              new DurableDataEnvelope(newEnvelope),
-              Some(StoreReply(UpdateSuccess(key, req), StoreFailure(key, req), writeAggregator)))
+          val coalesce = coalesceWrites && !durable && !writeDelta.exists(_.requiresCausalDeliveryOfDeltas)
+          if (coalesce && writeInFlight.contains(key.id) && canCoalesceWrite(key.id, writeConsistency)) {
+            // replicated together with other updates when the write in flight has completed
+            val requests = coalescedWrites.get(key.id) match {
+              case Some((_, r)) => r
+              case None         => Vector.empty
+            }
+            coalescedWrites = coalescedWrites.updated(key.id, (writeConsistency, requests :+ (req -> replyTo)))
+          } else {
+            val writeAggregator =
+              context.actorOf(
+                WriteAggregator
+                  .props(
+                    key,
+                    writeEnvelope,
+                    writeDelta,
+                    writeConsistency,
+                    req,
+                    selfUniqueAddress,
+                    nodesForReadWrite(key.id, excludeExitingNodes(writeConsistency)),
+                    unreachable,
+                    shuffle,
+                    replyTo,
+                    durable,
+                    isLocalReplica(key.id))
+                  .withDispatcher(context.props.dispatcher))
+            if (coalesce && !writeInFlight.contains(key.id))
+              writeStarted(key, writeAggregator)
+            if (durable) {
+              durableStore ! Store(
+                key.id,
+                new DurableDataEnvelope(newEnvelope),
+                Some(StoreReply(UpdateSuccess(key, req), StoreFailure(key, req), writeAggregator)))
+            }
           }
         }
       case Failure(e) =>
@@ -1840,6 +2016,129 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     }
   }
 
+  /**
+   * In partitioned mode this node doesn't receive the changes of the keys that it isn't a replica of, so
+   * an Update of such a key is applied to the value that is first read from the replicas, with the read
+   * consistency corresponding to the write consistency. Updates of the key that are received meanwhile
+   * wait for the same read, so that they are applied in the order they were received.
+   */
+  def receiveUpdateOfOtherReplicas(update: Update[_]): Unit = {
+    val key = update.key
+    updatesWaitingForRead.get(key.id) match {
+      case Some(waiting) =>
+        updatesWaitingForRead = updatesWaitingForRead.updated(key.id, waiting :+ (update -> replyTo))
+      case None =>
+        updatesWaitingForRead = updatesWaitingForRead.updated(key.id, Vector(update -> replyTo))
+        val readConsistency = update.writeConsistency match {
+          case WriteLocal                              => ReadMajority(gossipInterval)
+          case WriteTo(n, timeout)                     => ReadFrom(n, timeout)
+          case WriteMajority(timeout, minCap)          => ReadMajority(timeout, minCap)
+          case WriteMajorityPlus(timeout, add, minCap) => ReadMajorityPlus(timeout, add, minCap)
+          case WriteAll(timeout)                       => ReadAll(timeout)
+        }
+        val excludeExiting = readConsistency match {
+          case _: ReadMajorityPlus | _: ReadAll => true
+          case _                                => false
+        }
+        context.actorOf(
+          ReadAggregator
+            .props(
+              key,
+              readConsistency,
+              Some(ReadBeforeUpdate),
+              selfUniqueAddress,
+              nodesForReadWrite(key.id, excludeExiting),
+              unreachable,
+              !settings.preferOldest,
+              getData(key.id),
+              self,
+              selfIsReplica = false)
+            .withDispatcher(context.props.dispatcher))
+    }
+  }
+
+  /**
+   * The value has been read from the replicas and merged into the local value by the ReadRepair,
+   * apply the waiting updates of the key.
+   */
+  def receiveReadBeforeUpdate(response: GetResponse[_]): Unit = {
+    val key = response.key
+    val waiting = updatesWaitingForRead.getOrElse(key.id, Vector.empty)
+    updatesWaitingForRead -= key.id
+    val originalReplyTo = replyTo
+    waiting.foreach {
+      case (update, updateReplyTo) =>
+        replyTo = updateReplyTo
+        response match {
+          case _: GetFailure[_] =>
+            log.debug("Couldn't read [{}] from the replicas before Update.", key)
+            replyTo ! UpdateTimeout(update.key, update.request)
+          case _ =>
+            receiveUpdate(update.key, update.modify, update.writeConsistency, update.request)
+        }
+    }
+    replyTo = originalReplyTo
+  }
+
+  def excludeExitingNodes(writeConsistency: WriteConsistency): Boolean =
+    writeConsistency match {
+      case _: WriteMajorityPlus | _: WriteAll => true
+      case _                                  => false
+    }
+
+  def canCoalesceWrite(key: KeyId, writeConsistency: WriteConsistency): Boolean =
+    coalescedWrites.get(key) match {
+      case Some((consistency, _)) => consistency == writeConsistency
+      case None                   => true
+    }
+
+  def writeStarted(key: KeyR, writeAggregator: ActorRef): Unit = {
+    writeInFlight = writeInFlight.updated(key.id, writeAggregator)
+    writeInFlightKeys = writeInFlightKeys.updated(writeAggregator, key)
+    context.watch(writeAggregator)
+  }
+
+  /**
+   * The write in flight of a key has completed, replicate the updates that were performed meanwhile
+   * with one write of the full state, and reply to all of them when that write has completed.
+   */
+  def receiveWriteCompleted(writeAggregator: ActorRef): Unit = {
+    val key = writeInFlightKeys(writeAggregator)
+    writeInFlightKeys -= writeAggregator
+    writeInFlight -= key.id
+    coalescedWrites.get(key.id) match {
+      case Some((writeConsistency, requests)) =>
+        coalescedWrites -= key.id
+        val (req, replyTo) = requests.head
+        getData(key.id) match {
+          case Some(envelope) if envelope.data != DeletedData =>
+            log.debug("Replicating [{}] coalesced updates of key [{}].", requests.size, key)
+            val aggregator =
+              context.actorOf(
+                WriteAggregator
+                  .props(
+                    key,
+                    envelope,
+                    None,
+                    writeConsistency,
+                    req,
+                    selfUniqueAddress,
+                    nodesForReadWrite(key.id, excludeExitingNodes(writeConsistency)),
+                    unreachable,
+                    !settings.preferOldest,
+                    replyTo,
+                    durable = false,
+                    isLocalReplica(key.id),
+                    coalesced = requests.tail)
+                  .withDispatcher(context.props.dispatcher))
+            writeStarted(key, aggregator)
+          case _ =>
+            requests.foreach { case (r, to) => to ! UpdateDataDeleted(key, r) }
+        }
+      case None =>
+    }
+  }
+
   def isDurable(key: KeyId): Boolean =
     durable(key) || (durableWildcards.nonEmpty && durableWildcards.exists(key.startsWith))
 
@@ -1898,7 +2197,10 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
   }
 
   def receiveReadRepair(key: KeyId, writeEnvelope: DataEnvelope): Unit = {
-    writeAndStore(key, writeEnvelope, reply = false)
+    // in partitioned mode the result of a read is not kept at other nodes than the replicas,
+    // unless it's read before an Update
+    if (isLocalReplica(key) || dataEntries.contains(key) || updatesWaitingForRead.contains(key))
+      writeAndStore(key, writeEnvelope, reply = false)
     replyTo ! ReadRepairAck
   }
 
@@ -1943,11 +2245,12 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
                   consistency,
                   req,
                   selfUniqueAddress,
-                  nodesForReadWrite(excludeExiting),
+                  nodesForReadWrite(key.id, excludeExiting),
                   unreachable,
                   !settings.preferOldest,
                   replyTo,
-                  durable)
+                  durable,
+                  isLocalReplica(key.id))
                 .withDispatcher(context.props.dispatcher))
           if (durable) {
             durableStore ! Store(
@@ -1985,6 +2288,10 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     dataEntries = dataEntries.updated(key, (newEnvelope, dig))
     if (newEnvelope.data == DeletedData)
       deltaPropagationSelector.delete(key)
+    localReadView match {
+      case Some(view) => view.update(key, newEnvelope.data)
+      case None       =>
+    }
     newEnvelope
   }
 
@@ -2035,6 +2342,9 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
           val msg = if (envelope.data == DeletedData) Deleted(key) else Changed(key)(envelope.data)
           subs.foreach { _ ! msg }
         case None =>
+          proxyChanged.get(keyId).foreach { msg =>
+            subs.foreach { _ ! msg }
+          }
       }
     }
 
@@ -2058,10 +2368,21 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
 
   def receiveDeltaPropagationTick(): Unit = {
     deltaPropagationSelector.collectPropagations().foreach {
-      case (node, deltaPropagation) =>
-        // TODO split it to several DeltaPropagation if too many entries
-        if (deltaPropagation.deltas.nonEmpty)
-          replica(node) ! deltaPropagation
+      case (node, propagation) =>
+        val deltaPropagation =
+          if (partitioned)
+            propagation.copy(deltas = propagation.deltas.filter { case (key, _) => isReplica(key, node) })
+          else propagation
+        if (deltaPropagation.deltas.size <= maxDeltaElements) {
+          if (deltaPropagation.deltas.nonEmpty)
+            replica(node) ! deltaPropagation
+        } else {
+          // split it to several DeltaPropagation to not exceed the maximum frame size
+          val to = replica(node)
+          deltaPropagation.deltas.grouped(maxDeltaElements).foreach { deltas =>
+            to ! deltaPropagation.copy(deltas = deltas)
+          }
+        }
     }
 
     if (deltaPropagationSelector.propagationCount % deltaPropagationSelector.gossipIntervalDivisor == 0)
@@ -2140,16 +2461,15 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
   def gossipTo(address: UniqueAddress): Unit = {
     val to = replica(address)
     val toSystemUid = Some(address.longUid)
-    if (dataEntries.size <= maxDeltaElements) {
-      val status = Status(
-        dataEntries.map { case (key, (_, _)) => (key, getDigest(key)) },
-        chunk = 0,
-        totChunks = 1,
-        toSystemUid,
-        selfFromSystemUid)
-      to ! status
+    val entries =
+      if (partitioned) dataEntries.filter { case (key, _) => isReplica(key, address) }
+      else dataEntries
+    if (entries.size <= maxDeltaElements) {
+      val digests = entries.map { case (key, (_, _)) => (key, getDigest(key)) }
+      if (!isChunkInSync(address, chunk = 0, totChunks = 1, digests))
+        to ! Status(digests, chunk = 0, totChunks = 1, toSystemUid, selfFromSystemUid)
     } else {
-      val totChunks = dataEntries.size / maxDeltaElements
+      val totChunks = entries.size / maxDeltaElements
       for (_ <- 1 to math.min(totChunks, 10)) {
         if (totChunks == statusTotChunks)
           statusCount += 1
@@ -2158,14 +2478,43 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
           statusTotChunks = totChunks
         }
         val chunk = (statusCount % totChunks).toInt
-        val status = Status(dataEntries.collect {
-            case (key, (_, _)) if math.abs(key.hashCode % totChunks) == chunk => (key, getDigest(key))
-          }, chunk, totChunks, toSystemUid, selfFromSystemUid)
-        to ! status
+        val digests = entries.collect {
+          case (key, (_, _)) if math.abs(key.hashCode % totChunks) == chunk => (key, getDigest(key))
+        }
+        if (!isChunkInSync(address, chunk, totChunks, digests))
+          to ! Status(digests, chunk, totChunks, toSystemUid, selfFromSystemUid)
       }
     }
   }
 
+  private def isChunkInSync(
+      address: UniqueAddress,
+      chunk: Int,
+      totChunks: Int,
+      digests: Map[KeyId, Digest]): Boolean =
+    inSyncChunks.get(address) match {
+      case Some(chunks) =>
+        chunks.get((chunk, totChunks)) match {
+          case Some(inSyncDigest) => inSyncDigest == chunkDigest(digests)
+          case None               => false
+        }
+      case None => false
+    }
+
+  /**
+   * SHA-1 digest of the digests of all keys in a gossip chunk, i.e. an inner node of a digest tree.
+   */
+  def chunkDigest(digests: Map[KeyId, Digest]): Digest = {
+    val md = MessageDigest.getInstance("SHA-1")
+    digests.toVector.sortBy(_._1).foreach {
+      case (key, dig) =>
+        md.update(key.getBytes(StandardCharsets.UTF_8))
+        md.update(dig.length.toByte)
+        md.update(dig.toArrayUnsafe())
+    }
+    ByteString.fromArrayUnsafe(md.digest())
+  }
+
   def selectRandomNode(addresses: immutable.IndexedSeq[UniqueAddress]): Option[UniqueAddress] =
     if (addresses.isEmpty) None else Some(addresses(ThreadLocalRandom.current.nextInt(addresses.size)))
 
@@ -2185,14 +2534,40 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
       val d = getDigest(key)
       d != NotFoundDigest && d != otherDigest
     }
-    val otherDifferentKeys = otherDigests.collect {
+    val from = fromSystemUid.map(uid => UniqueAddress(replyTo.path.address, uid))
+    // In partitioned mode the other node only includes the keys that this node is a replica of, and
+    // this node only keeps the keys that it's a replica of, or has updated itself.
+    val relevantDigests =
+      if (partitioned) otherDigests.filter { case (key, _) => isLocalReplica(key) || dataEntries.contains(key) }
+      else otherDigests
+    val otherDifferentKeys = relevantDigests.collect {
       case (key, otherDigest) if isOtherDifferent(key, otherDigest) => key
     }
-    val otherKeys = otherDigests.keySet
-    val myKeys =
-      if (totChunks == 1) dataEntries.keySet
-      else dataEntries.keysIterator.filter(key => math.abs(key.hashCode % totChunks) == chunk).toSet
+    val otherKeys = relevantDigests.keySet
+    val myKeys = {
+      val keysInChunk =
+        if (totChunks == 1) dataEntries.keySet
+        else dataEntries.keysIterator.filter(key => math.abs(key.hashCode % totChunks) == chunk).toSet
+      if (partitioned)
+        from match {
+          case Some(f) => keysInChunk.filter(key => isLocalReplica(key) && isReplica(key, f))
+          case None    => Set.empty[KeyId]
+        }
+      else keysInChunk
+    }
     val otherMissingKeys = myKeys.diff(otherKeys)
+    val myMissingKeys =
+      if (partitioned) otherKeys.filterNot(dataEntries.contains)
+      else otherKeys.diff(myKeys)
+    from.foreach { from =>
+      if (isKnownNode(from)) {
+        val chunks = inSyncChunks.getOrElse(from, Map.empty)
+        if (otherDifferentKeys.isEmpty && otherMissingKeys.isEmpty && myMissingKeys.isEmpty)
+          inSyncChunks = inSyncChunks.updated(from, chunks.updated((chunk, totChunks), chunkDigest(otherDigests)))
+        else if (chunks.contains((chunk, totChunks)))
+          inSyncChunks = inSyncChunks.updated(from, chunks - ((chunk, totChunks)))
+      }
+    }
     val keys = (otherDifferentKeys ++ otherMissingKeys).take(maxDeltaElements)
     if (keys.nonEmpty) {
       if (log.isDebugEnabled)
@@ -2202,7 +2577,6 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
         replyTo ! g
       }
     }
-    val myMissingKeys = otherKeys.diff(myKeys)
     if (myMissingKeys.nonEmpty) {
       if (log.isDebugEnabled)
         log.debug(
@@ -2274,6 +2648,8 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
       log.debug("Received gossip from [{}], containing [{}].", replyTo.path.address, updatedData.keys.mkString(", "))
     var replyKeys = Set.empty[KeyId]
     updatedData.foreach {
+      case (key, _) if partitioned && !isLocalReplica(key) && !dataEntries.contains(key) =>
+        log.debug("Ignoring gossip of [{}], not a replica of it", key)
       case (key, envelope) =>
         val hadData = dataEntries.contains(key)
         writeAndStore(key, envelope, reply = false)
@@ -2296,6 +2672,7 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     if (!subscriptionKeys.contains(key.id))
       subscriptionKeys = subscriptionKeys.updated(key.id, key)
     context.watch(subscriber)
+    updateProxySubscription(key.id)
   }
 
   def receiveUnsubscribe(key: KeyR, subscriber: ActorRef): Unit = {
@@ -2305,6 +2682,54 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
       context.unwatch(subscriber)
     if (!subscribers.contains(key.id) && !newSubscribers.contains(key.id))
       subscriptionKeys -= key.id
+    updateProxySubscription(key.id)
+  }
+
+  /**
+   * In partitioned mode this Replicator subscribes to a replica of the keys that it isn't a replica of
+   * on behalf of the local subscribers. The subscriptions of other Replicators are not proxied.
+   */
+  private def updateProxySubscription(key: KeyId): Unit = {
+    def hasLocalSubscriber: Boolean =
+      subscribers.get(key).exists(_.exists(_.path.address.hasLocalScope)) ||
+      newSubscribers.get(key).exists(_.exists(_.path.address.hasLocalScope))
+
+    val current = proxySubscriptions.get(key)
+    val wanted =
+      if (!partitioned || isLocalReplica(key) || !hasLocalSubscriber) None
+      else Some(primaryReplica(key))
+    if (current.map { case (_, node) => node } != wanted) {
+      current.foreach {
+        case (k, node) => replica(node) ! Unsubscribe(k, self)
+      }
+      wanted match {
+        case Some(node) =>
+          val k = subscriptionKeys(key)
+          log.debug("Subscribing to [{}] at replica [{}] for local subscribers", key, node.address)
+          replica(node) ! Subscribe(k, self)
+          proxySubscriptions = proxySubscriptions.updated(key, (k, node))
+        case None =>
+          proxySubscriptions -= key
+          proxyChanged -= key
+      }
+    }
+  }
+
+  def receiveProxyChanged(changed: Changed[_]): Unit = {
+    val key = changed.key.id
+    changed.dataValue match {
+      case data: ReplicatedData if dataEntries.contains(key) =>
+        // also updated locally, the subscribers are notified of the merged value
+        writeAndStore(key, DataEnvelope(data), reply = false)
+      case _ if proxySubscriptions.contains(key) =>
+        proxyChanged = proxyChanged.updated(key, changed)
+        subscribers.get(key).foreach { subs =>
+          subs.foreach { s =>
+            if (s.path.address.hasLocalScope) s ! changed
+          }
+        }
+      case _ =>
+    }
   }
 
   def hasSubscriber(subscriber: ActorRef): Boolean =
@@ -2315,6 +2740,8 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     if (ref == durableStore) {
       log.error("Stopping distributed-data Replicator because durable store terminated")
       context.stop(self)
+    } else if (writeInFlightKeys.contains(ref)) {
+      receiveWriteCompleted(ref)
     } else {
       val keys1 = subscribers.collect { case (k, s) if s.contains(ref) => k }
       keys1.foreach { key =>
@@ -2328,6 +2755,7 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
       (keys1 ++ keys2).foreach { key =>
         if (!subscribers.contains(key) && !newSubscribers.contains(key))
           subscriptionKeys -= key
+        updateProxySubscription(key)
       }
     }
   }
@@ -2351,6 +2779,7 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
         joiningNodes -= m.uniqueAddress
         if (settings.preferOldest)
           membersByAge += m
+        replicaNodesChanged()
       }
     }
 
@@ -2374,6 +2803,8 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
       if (settings.preferOldest)
         membersByAge -= m
       deltaPropagationSelector.cleanupRemovedNode(m.uniqueAddress)
+      inSyncChunks -= m.uniqueAddress
+      replicaNodesChanged()
     }
   }
 
@@ -2398,9 +2829,12 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
   }
 
   def receiveRemovedNodePruningTick(): Unit = {
+    inSyncChunks = Map.empty
     // See 'CRDT Garbage' section in Replicator Scaladoc for description of the process
     if (unreachable.isEmpty) {
-      if (isLeader) {
+      // in partitioned mode pruning is initiated by the primary replica of each key, since the leader
+      // doesn't have all keys
+      if (isLeader || partitioned) {
         collectRemovedNodes()
         initRemovedNodePruning()
       }
@@ -2434,7 +2868,7 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
       .to(immutable.Set)
 
     if (removedSet.nonEmpty) {
-      for ((key, (envelope, _)) <- dataEntries; removed <- removedSet) {
+      for ((key, (envelope, _)) <- dataEntries; if isPruningInitiator(key); removed <- removedSet) {
 
         def init(): Unit = {
           val newEnvelope = envelope.initRemovedNodePruning(removed, selfUniqueAddress)
@@ -2457,6 +2891,9 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     }
   }
 
+  private def isPruningInitiator(key: KeyId): Boolean =
+    !partitioned || replicasFor(key).head == selfUniqueAddress
+
   def performRemovedNodePruning(): Unit = {
     // perform pruning when all seen Init
     val all = allNodes
@@ -2467,7 +2904,7 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
         pruning.foreach {
           case (removed, PruningInitialized(owner, seen))
               if owner == selfUniqueAddress
-              && (all.isEmpty || all.forall(n => seen(n.address))) =>
+              && (all.isEmpty || all.forall(n => seen(n.address) || !isReplica(key, n))) =>
             val newEnvelope = envelope.prune(removed, if (isDurable(key)) durablePruningPerformed else pruningPerformed)
             log.debug("Perform pruning of [{}] from [{}] to [{}]", key, removed, selfUniqueAddress)
             setData(key, newEnvelope)
@@ -2565,6 +3002,8 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
   def replica(node: UniqueAddress): ActorSelection =
     context.actorSelection(context.parent.path.toStringWithAddress(node.address))
 
+  def senderAddress(): Address = sender().path.address
+
 }
 
 /**
@@ -2582,7 +3021,9 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
       unreachable: Set[UniqueAddress],
       shuffle: Boolean,
       replyTo: ActorRef,
-      durable: Boolean): Props =
+      durable: Boolean,
+      selfIsReplica: Boolean = true,
+      coalesced: immutable.Seq[(Option[Any], ActorRef)] = Nil): Props =
     Props(
       new WriteAggregator(
         key,
@@ -2595,7 +3036,9 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
         unreachable,
         shuffle,
         replyTo,
-        durable)).withDeploy(Deploy.local)
+        durable,
+        selfIsReplica,
+        coalesced)).withDeploy(Deploy.local)
 }
 
 /**
@@ -2612,7 +3055,9 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     override val unreachable: Set[UniqueAddress],
     override val shuffle: Boolean,
     replyTo: ActorRef,
-    durable: Boolean)
+    durable: Boolean,
+    selfIsReplica: Boolean = true,
+    coalesced: immutable.Seq[(Option[Any], ActorRef)] = Nil)
     extends ReadWriteAggregator
     with ActorLogging {
 
@@ -2623,17 +3068,17 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
   override def timeout: FiniteDuration = consistency.timeout
 
   override val doneWhenRemainingSize = consistency match {
-    case WriteTo(n, _)            => nodes.size - (n - 1)
+    case WriteTo(n, _)            => if (selfIsReplica) nodes.size - (n - 1) else nodes.size - n
     case _: WriteAll              => 0
     case WriteMajority(_, minCap) =>
-      // +1 because local node is not included in `nodes`
-      val N = nodes.size + 1
+      // +1 because local node is not included in `nodes`, unless it's not a replica of the key
+      val N = if (selfIsReplica) nodes.size + 1 else nodes.size
       val w = calculateMajority(minCap, N, 0)
       log.debug("WriteMajority [{}] [{}] of [{}].", key, w, N)
       N - w
     case WriteMajorityPlus(_, additional, minCap) =>
-      // +1 because local node is not included in `nodes`
-      val N = nodes.size + 1
+      // +1 because local node is not included in `nodes`, unless it's not a replica of the key
+      val N = if (selfIsReplica) nodes.size + 1 else nodes.size
       val w = calculateMajority(minCap, N, additional)
       log.debug("WriteMajorityPlus [{}] [{}] of [{}].", key, w, N)
       N - w
@@ -2698,8 +3143,6 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
       reply(isTimeout = true)
   }
 
-  def senderAddress(): Address = sender().path.address
-
   def isDone: Boolean =
     gotLocalStoreReply &&
     (remaining.size <= doneWhenRemainingSize || remaining.diff(gotWriteNackFrom).isEmpty ||
@@ -2713,14 +3156,15 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     val isSuccess = remaining.size <= doneWhenRemainingSize && !notEnoughNodes
     val isTimeoutOrNotEnoughNodes = isTimeout || notEnoughNodes || gotWriteNackFrom.isEmpty
 
-    val replyMsg =
+    def replyMsg(req: Option[Any]): Any =
       if (isSuccess && isDelete) DeleteSuccess(key, req)
       else if (isSuccess) UpdateSuccess(key, req)
       else if (isTimeoutOrNotEnoughNodes && isDelete) ReplicationDeleteFailure(key, req)
       else if (isTimeoutOrNotEnoughNodes || !durable) UpdateTimeout(key, req)
       else StoreFailure(key, req)
 
-    replyTo.tell(replyMsg, context.parent)
+    replyTo.tell(replyMsg(req), context.parent)
+    coalesced.foreach { case (r, to) => to.tell(replyMsg(r), context.parent) }
     context.stop(self)
   }
 }
@@ -2738,10 +3182,20 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
       unreachable: Set[UniqueAddress],
       shuffle: Boolean,
       localValue: Option[Replicator.Internal.DataEnvelope],
-      replyTo: ActorRef): Props =
+      replyTo: ActorRef,
+      selfIsReplica: Boolean = true): Props =
     Props(
-      new ReadAggregator(key, consistency, req, selfUniqueAddress, nodes, unreachable, shuffle, localValue, replyTo))
-      .withDeploy(Deploy.local)
+      new ReadAggregator(
+        key,
+        consistency,
+        req,
+        selfUniqueAddress,
+        nodes,
+        unreachable,
+        shuffle,
+        localValue,
+        replyTo,
+        selfIsReplica)).withDeploy(Deploy.local)
 
 }
 
@@ -2757,7 +3211,8 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
     override val unreachable: Set[UniqueAddress],
     override val shuffle: Boolean,
     localValue: Option[Replicator.Internal.DataEnvelope],
-    replyTo: ActorRef)
+    replyTo: ActorRef,
+    selfIsReplica: Boolean = true)
     extends ReadWriteAggregator
     with ActorLogging {
 
@@ -2769,17 +3224,17 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
 
   var result = localValue
   override val doneWhenRemainingSize = consistency match {
-    case ReadFrom(n, _)          => nodes.size - (n - 1)
+    case ReadFrom(n, _)          => if (selfIsReplica) nodes.size - (n - 1) else nodes.size - n
     case _: ReadAll              => 0
     case ReadMajority(_, minCap) =>
-      // +1 because local node is not included in `nodes`
-      val N = nodes.size + 1
+      // +1 because local node is not included in `nodes`, unless it's not a replica of the key
+      val N = if (selfIsReplica) nodes.size + 1 else nodes.size
       val r = calculateMajority(minCap, N, 0)
       log.debug("ReadMajority [{}] [{}] of [{}].", key, r, N)
       N - r
     case ReadMajorityPlus(_, additional, minCap) =>
-      // +1 because local node is not included in `nodes`
-      val N = nodes.size + 1
+      // +1 because local node is not included in `nodes`, unless it's not a replica of the key
+      val N = if (selfIsReplica) nodes.size + 1 else nodes.size
       val r = calculateMajority(minCap, N, additional)
       log.debug("ReadMajorityPlus [{}] [{}] of [{}].", key, r, N)
       N - r
@@ -2808,7 +3263,7 @@ final class Replicator(settings: ReplicatorSettings) extends Actor with ActorLog
         case (None, r @ Some(_)) => r
         case (None, None)        => None
       }
-      remaining -= sender().path.address
+      remaining -= senderAddress()
       if (remaining.size == doneWhenRemainingSize)
         reply(ok = true)
     case SendToSecondary =>
@@ -313,10 +313,8 @@ final case class OneVersionVector private[pekko] (node: UniqueAddress, version:
         else ManyVersionVector(TreeMap(node -> version, n2 -> v2))
       case ManyVersionVector(vs2) =>
         val v2 = vs2.getOrElse(node, Timestamp.Zero)
-        val mergedVersions =
-          if (v2 >= version) vs2
-          else vs2.updated(node, version)
-        VersionVector(mergedVersions)
+        if (v2 >= version) that
+        else VersionVector(vs2.updated(node, version))
     }
   }
 
@@ -375,22 +373,47 @@ final case class ManyVersionVector(versions: TreeMap[UniqueAddress, Long]) exten
     else
       that match {
         case ManyVersionVector(vs2) =>
-          var mergedVersions = vs2
-          for ((node, time) <- versions) {
-            val mergedVersionsCurrentTime = mergedVersions.getOrElse(node, Timestamp.Zero)
-            if (time > mergedVersionsCurrentTime)
-              mergedVersions = mergedVersions.updated(node, time)
+          // Most merges are of a vector with an older or equal version of itself, so the result is
+          // one of the two vectors as is. That is found with the comparison, without building a new map, and only
+          // concurrent vectors are merged, in one pass over both sorted vectors.
+          compareTo(that) match {
+            case VersionVector.Same | VersionVector.After => this
+            case VersionVector.Before                     => that
+            case _                                        => VersionVector(mergeConcurrent(vs2))
           }
-          VersionVector(mergedVersions)
         case OneVersionVector(n2, v2) =>
           val v1 = versions.getOrElse(n2, Timestamp.Zero)
-          val mergedVersions =
-            if (v1 >= v2) versions
-            else versions.updated(n2, v2)
-          VersionVector(mergedVersions)
+          if (v1 >= v2) this
+          else VersionVector(versions.updated(n2, v2))
       }
   }
 
+  private def mergeConcurrent(vs2: TreeMap[UniqueAddress, Long]): TreeMap[UniqueAddress, Long] = {
+    val builder = TreeMap.newBuilder[UniqueAddress, Long]
+    val i1 = versions.iterator
+    val i2 = vs2.iterator
+    var e1 = if (i1.hasNext) i1.next() else null
+    var e2 = if (i2.hasNext) i2.next() else null
+    while ((e1 ne null) || (e2 ne null)) {
+      val c =
+        if (e1 eq null) 1
+        else if (e2 eq null) -1
+        else e1._1.compareTo(e2._1)
+      if (c < 0) {
+        builder += e1
+        e1 = if (i1.hasNext) i1.next() else null
+      } else if (c > 0) {
+        builder += e2
+        e2 = if (i2.hasNext) i2.next() else null
+      } else {
+        builder += (if (e1._2 >= e2._2) e1 else e2)
+        e1 = if (i1.hasNext) i1.next() else null
+        e2 = if (i2.hasNext) i2.next() else null
+      }
+    }
+    builder.result()
+  }
+
   override def modifiedByNodes: Set[UniqueAddress] =
     versions.keySet
 
@@ -41,6 +41,7 @@ import pekko.serialization.BaseSerializer
 import pekko.serialization.Serialization
 import pekko.serialization.SerializerWithStringManifest
 import pekko.util.{ ByteString => PekkoByteString }
+import pekko.util.Helpers.toRootLowerCase
 import pekko.util.ccompat._
 import pekko.util.ccompat.JavaConverters._
 
@@ -174,6 +175,12 @@ class ReplicatorMessageSerializer(val system: ExtendedActorSystem)
     writeCache.evict()
   }(system.dispatchers.internalDispatcher)
 
+  private val deltaPropagationCompressionThreshold: Int = {
+    val key = "pekko.cluster.distributed-data.delta-crdt.compression-threshold"
+    if (toRootLowerCase(system.settings.config.getString(key)) == "off") -1
+    else system.settings.config.getBytes(key).toInt
+  }
+
   private val writeAckBytes = dm.Empty.getDefaultInstance.toByteArray
   private val dummyAddress = UniqueAddress(Address("a", "b", "c", 2552), 1L)
 
@@ -195,11 +202,13 @@ class ReplicatorMessageSerializer(val system: ExtendedActorSystem)
   val DurableDataEnvelopeManifest = "P"
   val DeltaPropagationManifest = "Q"
   val DeltaNackManifest = "R"
+  val GetDataDeletedManifest = "S"
 
   private val fromBinaryMap = collection.immutable.HashMap[String, Array[Byte] => AnyRef](
     GetManifest -> getFromBinary,
     GetSuccessManifest -> getSuccessFromBinary,
     NotFoundManifest -> notFoundFromBinary,
+    GetDataDeletedManifest -> getDataDeletedFromBinary,
     GetFailureManifest -> getFailureFromBinary,
     SubscribeManifest -> subscribeFromBinary,
     UnsubscribeManifest -> unsubscribeFromBinary,
@@ -229,6 +238,7 @@ class ReplicatorMessageSerializer(val system: ExtendedActorSystem)
     case _: DurableDataEnvelope => DurableDataEnvelopeManifest
     case _: Changed[_]          => ChangedManifest
     case _: NotFound[_]         => NotFoundManifest
+    case _: GetDataDeleted[_]   => GetDataDeletedManifest
     case _: GetFailure[_]       => GetFailureManifest
     case _: Subscribe[_]        => SubscribeManifest
     case _: Unsubscribe[_]      => UnsubscribeManifest
@@ -246,12 +256,13 @@ class ReplicatorMessageSerializer(val system: ExtendedActorSystem)
     case m: Read                => readCache.getOrAdd(m)
     case m: ReadResult          => readResultToProto(m).toByteArray
     case m: Status              => statusToProto(m).toByteArray
-    case m: DeltaPropagation    => deltaPropagationToProto(m).toByteArray
+    case m: DeltaPropagation    => deltaPropagationToBinary(m)
     case m: Get[_]              => getToProto(m).toByteArray
     case m: GetSuccess[_]       => getSuccessToProto(m).toByteArray
     case m: DurableDataEnvelope => durableDataEnvelopeToProto(m).toByteArray
     case m: Changed[_]          => changedToProto(m).toByteArray
     case m: NotFound[_]         => notFoundToProto(m).toByteArray
+    case m: GetDataDeleted[_]   => getDataDeletedToProto(m).toByteArray
     case m: GetFailure[_]       => getFailureToProto(m).toByteArray
     case m: Subscribe[_]        => subscribeToProto(m).toByteArray
     case m: Unsubscribe[_]      => unsubscribeToProto(m).toByteArray
@@ -340,8 +351,17 @@ class ReplicatorMessageSerializer(val system: ExtendedActorSystem)
     b.build()
   }
 
+  private def deltaPropagationToBinary(deltaPropagation: DeltaPropagation): Array[Byte] = {
+    val proto = deltaPropagationToProto(deltaPropagation)
+    if (deltaPropagationCompressionThreshold >= 0 && proto.getSerializedSize > deltaPropagationCompressionThreshold)
+      compress(proto)
+    else
+      proto.toByteArray
+  }
+
   private def deltaPropagationFromBinary(bytes: Array[Byte]): DeltaPropagation = {
-    val deltaPropagation = dm.DeltaPropagation.parseFrom(bytes)
+    // the first byte of the uncompressed protobuf message is the tag of field 1, never the GZIP magic header
+    val deltaPropagation = dm.DeltaPropagation.parseFrom(if (isGZipped(bytes)) decompress(bytes) else bytes)
     val reply = deltaPropagation.hasReply && deltaPropagation.getReply
     DeltaPropagation(
       uniqueAddressFromProto(deltaPropagation.getFromNode),
@@ -434,6 +454,19 @@ class ReplicatorMessageSerializer(val system: ExtendedActorSystem)
     NotFound(key, request)
   }
 
+  private def getDataDeletedToProto(getDataDeleted: GetDataDeleted[_]): dm.GetDataDeleted = {
+    val b = dm.GetDataDeleted.newBuilder().setKey(otherMessageToProto(getDataDeleted.key))
+    getDataDeleted.request.foreach(o => b.setRequest(otherMessageToProto(o)))
+    b.build()
+  }
+
+  private def getDataDeletedFromBinary(bytes: Array[Byte]): GetDataDeleted[_] = {
+    val getDataDeleted = dm.GetDataDeleted.parseFrom(bytes)
+    val request = if (getDataDeleted.hasRequest()) Some(otherMessageFromProto(getDataDeleted.getRequest)) else None
+    val key = otherMessageFromProto(getDataDeleted.getKey).asInstanceOf[KeyR]
+    GetDataDeleted(key, request)
+  }
+
   private def getFailureToProto(getFailure: GetFailure[_]): dm.GetFailure = {
     val b = dm.GetFailure.newBuilder().setKey(otherMessageToProto(getFailure.key))
     getFailure.request.foreach(o => b.setRequest(otherMessageToProto(o)))
@@ -75,6 +75,13 @@ trait SerializationSupport {
     bos.toByteArray
   }
 
+  /**
+   * `true` if the bytes start with the GZIP magic header, i.e. were created by [[compress]].
+   */
+  def isGZipped(bytes: Array[Byte]): Boolean =
+    bytes.length >= 2 && bytes(0) == GZIPInputStream.GZIP_MAGIC.toByte &&
+    bytes(1) == (GZIPInputStream.GZIP_MAGIC >> 8).toByte
+
   def decompress(bytes: Array[Byte]): Array[Byte] = {
     val in = new GZIPInputStream(new ByteArrayInputStream(bytes))
     val out = new ByteArrayOutputStream()
@@ -31,7 +31,7 @@ import pekko.remote.testkit.MultiNodeConfig
 import pekko.remote.testkit.MultiNodeSpec
 import pekko.testkit._
 
-final case class DurableDataSpecConfig(writeBehind: Boolean) extends MultiNodeConfig {
+final case class DurableDataSpecConfig(writeBehind: Boolean, groupCommit: Boolean = false) extends MultiNodeConfig {
   val first = role("first")
   val second = role("second")
 
@@ -43,6 +43,7 @@ final case class DurableDataSpecConfig(writeBehind: Boolean) extends MultiNodeCo
       dir = target/DurableDataSpec-${System.currentTimeMillis}-ddata
       map-size = 10 MiB
       write-behind-interval = ${if (writeBehind) "200ms" else "off"}
+      group-commit = ${if (groupCommit) "100" else "off"}
     }
     # initialization of lmdb can be very slow in CI environment
     pekko.test.single-expect-default = 15s
@@ -84,6 +85,11 @@ class DurableDataSpecMultiJvmNode2 extends DurableDataSpec(DurableDataSpecConfig
 class DurableDataWriteBehindSpecMultiJvmNode1 extends DurableDataSpec(DurableDataSpecConfig(writeBehind = true))
 class DurableDataWriteBehindSpecMultiJvmNode2 extends DurableDataSpec(DurableDataSpecConfig(writeBehind = true))
 
+class DurableDataGroupCommitSpecMultiJvmNode1
+    extends DurableDataSpec(DurableDataSpecConfig(writeBehind = false, groupCommit = true))
+class DurableDataGroupCommitSpecMultiJvmNode2
+    extends DurableDataSpec(DurableDataSpecConfig(writeBehind = false, groupCommit = true))
+
 abstract class DurableDataSpec(multiNodeConfig: DurableDataSpecConfig)
     extends MultiNodeSpec(multiNodeConfig)
     with STMultiNodeSpec
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.ddata
+
+import scala.collection.immutable
+import scala.concurrent.duration._
+
+import com.typesafe.config.ConfigFactory
+
+import org.apache.pekko
+import pekko.cluster.Cluster
+import pekko.remote.testconductor.RoleName
+import pekko.remote.testkit.MultiNodeConfig
+import pekko.remote.testkit.MultiNodeSpec
+import pekko.testkit._
+
+object ReplicatorPartitionedSpec extends MultiNodeConfig {
+  val first = role("first")
+  val second = role("second")
+  val third = role("third")
+  val fourth = role("fourth")
+
+  commonConfig(ConfigFactory.parseString("""
+    pekko.loglevel = INFO
+    pekko.actor.provider = "cluster"
+    pekko.log-dead-letters-during-shutdown = off
+    pekko.cluster.distributed-data {
+      gossip-interval = 1s
+      replica-count = 2
+    }
+    """))
+
+}
+
+class ReplicatorPartitionedSpecMultiJvmNode1 extends ReplicatorPartitionedSpec
+class ReplicatorPartitionedSpecMultiJvmNode2 extends ReplicatorPartitionedSpec
+class ReplicatorPartitionedSpecMultiJvmNode3 extends ReplicatorPartitionedSpec
+class ReplicatorPartitionedSpecMultiJvmNode4 extends ReplicatorPartitionedSpec
+
+class ReplicatorPartitionedSpec
+    extends MultiNodeSpec(ReplicatorPartitionedSpec)
+    with STMultiNodeSpec
+    with ImplicitSender {
+  import Replicator._
+  import ReplicatorPartitionedSpec._
+
+  override def initialParticipants = roles.size
+
+  val cluster = Cluster(system)
+  implicit val selfUniqueAddress: SelfUniqueAddress = DistributedData(system).selfUniqueAddress
+  val replicator = system.actorOf(Replicator.props(ReplicatorSettings(system)), "replicator")
+  val timeout = 3.seconds.dilated
+  val numberOfKeys = 20
+  val keys = (1 to numberOfKeys).map(n => GCounterKey(s"counter-$n"))
+
+  def join(from: RoleName, to: RoleName): Unit = {
+    runOn(from) {
+      cluster.join(node(to).address)
+    }
+    enterBarrier(from.name + "-joined")
+  }
+
+  def counterValue(key: GCounterKey, consistency: ReadConsistency): Option[BigInt] = {
+    replicator ! Get(key, consistency)
+    expectMsgPF() {
+      case g @ GetSuccess(`key`, _) => Some(g.get(key).value)
+      case NotFound(`key`, _)       => None
+    }
+  }
+
+  "Replicator in partitioned mode" must {
+
+    "keep the keys only at their replicas" in {
+      join(first, first)
+      join(second, first)
+      join(third, first)
+      join(fourth, first)
+
+      within(10.seconds) {
+        awaitAssert {
+          replicator ! GetReplicaCount
+          expectMsg(ReplicaCount(4))
+        }
+      }
+      enterBarrier("all-up")
+
+      runOn(first) {
+        keys.foreach { key =>
+          replicator ! Update(key, GCounter(), WriteMajority(timeout))(_ :+ 1)
+          expectMsg(UpdateSuccess(key, None))
+        }
+      }
+      enterBarrier("updated")
+
+      runOn(second, third, fourth) {
+        val members = immutable.SortedSet(cluster.state.members.toSeq.map(_.uniqueAddress): _*)
+        val expectedKeyIds = keys.iterator
+          .map(_.id)
+          .filter(key => Replicator.Internal.replicasFor(key, members, 2).contains(cluster.selfUniqueAddress))
+          .toSet
+        expectedKeyIds.size should be < numberOfKeys
+        // gossip must not spread keys to nodes that are not replicas
+        within(10.seconds) {
+          awaitAssert {
+            replicator ! GetKeyIds
+            expectMsgType[GetKeyIdsResult].keyIds should ===(expectedKeyIds)
+          }
+        }
+      }
+      enterBarrier("after-1")
+    }
+
+    "read the keys from their replicas" in {
+      within(10.seconds) {
+        awaitAssert {
+          keys.foreach { key =>
+            counterValue(key, ReadLocal) should ===(Some(BigInt(1)))
+          }
+        }
+      }
+      enterBarrier("after-2")
+    }
+
+    "update and read with majority of the replicas" in {
+      val key = keys.head
+      runOn(second) {
+        replicator ! Update(key, GCounter(), WriteMajority(timeout))(_ :+ 1)
+        expectMsg(UpdateSuccess(key, None))
+      }
+      enterBarrier("updated-majority")
+
+      counterValue(key, ReadMajority(timeout)) should ===(Some(BigInt(2)))
+      enterBarrier("after-3")
+    }
+
+    "notify subscribers at nodes that are not replicas" in {
+      val key = keys.last
+      val probe = TestProbe()
+      replicator ! Subscribe(key, probe.ref)
+      probe.expectMsgType[Changed[GCounter]].get(key).value should ===(BigInt(1))
+      enterBarrier("subscribed")
+
+      runOn(third) {
+        replicator ! Update(key, GCounter(), WriteLocal)(_ :+ 1)
+        expectMsg(UpdateSuccess(key, None))
+      }
+
+      within(10.seconds) {
+        probe.fishForMessage() {
+          case c @ Changed(`key`) => c.get(key).value == BigInt(2)
+          case _                  => false
+        }
+      }
+      enterBarrier("after-4")
+    }
+
+    "apply an update at a node that is not a replica to the value of the replicas" in {
+      val key = ORSetKey[String]("set")
+      val members = immutable.SortedSet(cluster.state.members.toSeq.map(_.uniqueAddress): _*)
+      val replicas = Replicator.Internal.replicasFor(key.id, members, 2)
+      val other = members.filterNot(replicas.contains).head
+
+      if (cluster.selfUniqueAddress == replicas.head) {
+        replicator ! Update(key, ORSet.empty[String], WriteMajority(timeout))(_ :+ "a" :+ "b")
+        expectMsg(UpdateSuccess(key, None))
+      }
+      enterBarrier("added")
+
+      // the element that was added at a replica is removed at a node that doesn't hold the key
+      if (cluster.selfUniqueAddress == other) {
+        replicator ! Update(key, ORSet.empty[String], WriteLocal)(_.remove("a"))
+        expectMsg(UpdateSuccess(key, None))
+      }
+      enterBarrier("removed")
+
+      within(10.seconds) {
+        awaitAssert {
+          replicator ! Get(key, ReadMajority(timeout))
+          expectMsgType[GetSuccess[ORSet[String]]].dataValue.elements should ===(Set("b"))
+        }
+      }
+      enterBarrier("after-5")
+    }
+
+    "reply GetDataDeleted to a Get at a node that is not a replica" in {
+      val key = GCounterKey("deleted-counter")
+      val members = immutable.SortedSet(cluster.state.members.toSeq.map(_.uniqueAddress): _*)
+      val replicas = Replicator.Internal.replicasFor(key.id, members, 2)
+
+      if (cluster.selfUniqueAddress == replicas.head) {
+        replicator ! Update(key, GCounter(), WriteMajority(timeout))(_ :+ 1)
+        expectMsg(UpdateSuccess(key, None))
+        replicator ! Delete(key, WriteMajority(timeout))
+        expectMsg(DeleteSuccess(key, None))
+      }
+      enterBarrier("deleted")
+
+      // the reply from the replica is sent directly to the requester at the other nodes
+      replicator ! Get(key, ReadLocal, Some("req"))
+      expectMsg(GetDataDeleted(key, Some("req")))
+      enterBarrier("after-6")
+    }
+  }
+
+}
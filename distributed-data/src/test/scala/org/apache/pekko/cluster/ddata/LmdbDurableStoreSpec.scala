@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.ddata
+
+import java.util.concurrent.atomic.AtomicInteger
+
+import com.typesafe.config.Config
+import com.typesafe.config.ConfigFactory
+
+import org.apache.pekko
+import pekko.actor.ActorRef
+import pekko.cluster.ddata.DurableStore._
+import pekko.testkit._
+
+object LmdbDurableStoreSpec {
+  private val dirCounter = new AtomicInteger
+}
+
+class LmdbDurableStoreSpec extends PekkoSpec("""
+      pekko.actor.provider = "cluster"
+      pekko.remote.artery.canonical.port = 0
+      """) with ImplicitSender {
+  import LmdbDurableStoreSpec._
+
+  def durableConfig(extra: String): Config = {
+    val dir = s"target/LmdbDurableStoreSpec-${System.currentTimeMillis}-${dirCounter.incrementAndGet()}"
+    ConfigFactory
+      .parseString(s"""
+        lmdb.dir = "$dir"
+        $extra
+        """)
+      .withFallback(system.settings.config.getConfig("pekko.cluster.distributed-data.durable"))
+  }
+
+  def startStore(config: Config): ActorRef = {
+    val store = system.actorOf(LmdbDurableStore.props(config))
+    store ! LoadAll
+    store
+  }
+
+  def stopStore(store: ActorRef): Unit = {
+    watch(store)
+    system.stop(store)
+    expectTerminated(store)
+  }
+
+  def store(durableStore: ActorRef, key: String, value: String): Unit = {
+    durableStore ! Store(
+      key,
+      new DurableDataEnvelope(GSet.empty[String] + value),
+      Some(StoreReply("ok", "failed", testActor)))
+  }
+
+  "The LMDB durable store" must {
+
+    "load the entries in batches" in {
+      val config = durableConfig("lmdb.group-commit = 1000")
+      val durableStore = startStore(config)
+      expectMsg(LoadAllCompleted)
+      val numberOfEntries = LmdbDurableStore.LoadBatchSize * 2 + LmdbDurableStore.LoadBatchSize / 2
+      (1 to numberOfEntries).foreach { n =>
+        store(durableStore, s"key-$n", s"value-$n")
+      }
+      receiveN(numberOfEntries).toSet should ===(Set[Any]("ok"))
+      stopStore(durableStore)
+
+      startStore(config)
+      val batches = (1 to 3).map(_ => expectMsgType[LoadData].data)
+      expectMsg(LoadAllCompleted)
+      batches.map(_.size) should ===(
+        Vector(LmdbDurableStore.LoadBatchSize, LmdbDurableStore.LoadBatchSize, LmdbDurableStore.LoadBatchSize / 2))
+      val loaded = batches.reduce(_ ++ _)
+      loaded.size should ===(numberOfEntries)
+      loaded("key-17").data should ===(GSet.empty[String] + "value-17")
+    }
+
+    "grow the map size when it's full, up to max-map-size" in {
+      val config = durableConfig("""
+        lmdb.map-size = 1 MiB
+        lmdb.max-map-size = 16 MiB
+        """)
+      val durableStore = startStore(config)
+      expectMsg(LoadAllCompleted)
+      // about 5 MB in total
+      (1 to 30).foreach { n =>
+        store(durableStore, s"key-$n", n.toString * 100000)
+        expectMsg("ok")
+      }
+      stopStore(durableStore)
+
+      startStore(config)
+      expectMsgType[LoadData].data.size should ===(30)
+      expectMsg(LoadAllCompleted)
+    }
+
+    "reply with the failure when the map is full and max-map-size is off" in {
+      val durableStore = startStore(durableConfig("""
+        lmdb.map-size = 1 MiB
+        lmdb.max-map-size = off
+        """))
+      expectMsg(LoadAllCompleted)
+      val replies = (1 to 30).map { n =>
+        store(durableStore, s"key-$n", n.toString * 100000)
+        expectMsgType[String]
+      }
+      replies.head should ===("ok")
+      replies.last should ===("failed")
+    }
+
+    "grow the map size when a group commit doesn't fit" in {
+      val durableStore = startStore(durableConfig("""
+        lmdb.map-size = 1 MiB
+        lmdb.max-map-size = 16 MiB
+        lmdb.group-commit = 100
+        """))
+      expectMsg(LoadAllCompleted)
+      (1 to 30).foreach { n =>
+        store(durableStore, s"key-$n", n.toString * 100000)
+      }
+      (1 to 30).foreach { _ =>
+        expectMsg("ok")
+      }
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.ddata
+
+import com.typesafe.config.ConfigFactory
+import org.scalatest.BeforeAndAfterAll
+import org.scalatest.matchers.should.Matchers
+import org.scalatest.wordspec.AnyWordSpecLike
+
+import org.apache.pekko
+import pekko.actor.ActorSystem
+import pekko.cluster.Cluster
+import pekko.testkit.ImplicitSender
+import pekko.testkit.TestKit
+
+class LocalReadViewSpec(_system: ActorSystem)
+    extends TestKit(_system)
+    with AnyWordSpecLike
+    with Matchers
+    with BeforeAndAfterAll
+    with ImplicitSender {
+
+  def this() =
+    this(
+      ActorSystem(
+        "LocalReadViewSpec",
+        ConfigFactory.parseString("""
+      pekko.actor.provider = "cluster"
+      pekko.remote.artery.canonical.port = 0
+      pekko.cluster.distributed-data.local-read-view = on
+      """)))
+
+  override def afterAll(): Unit = {
+    shutdown(system)
+  }
+
+  implicit val selfUniqueAddress: SelfUniqueAddress = DistributedData(system).selfUniqueAddress
+  val replicator = DistributedData(system).replicator
+  val view = DistributedData(system).localReadView
+
+  "The LocalReadView" must {
+
+    "include the updated value when the update has been acknowledged" in {
+      Cluster(system).join(Cluster(system).selfAddress)
+      val key = LWWMapKey[String, String]("config")
+      view.get(key) should ===(None)
+
+      replicator ! Replicator.Update(key, LWWMap.empty[String, String], Replicator.WriteLocal)(_ :+ ("a" -> "1"))
+      expectMsg(Replicator.UpdateSuccess(key, None))
+      view.get(key).map(_.entries) should ===(Some(Map("a" -> "1")))
+
+      replicator ! Replicator.Update(key, LWWMap.empty[String, String], Replicator.WriteLocal)(_ :+ ("b" -> "2"))
+      expectMsg(Replicator.UpdateSuccess(key, None))
+      view.get(key).map(_.entries) should ===(Some(Map("a" -> "1", "b" -> "2")))
+      view.getValue(key).isPresent should ===(true)
+    }
+
+    "not include deleted values" in {
+      val key = GCounterKey("counter")
+      replicator ! Replicator.Update(key, GCounter.empty, Replicator.WriteLocal)(_ :+ 1)
+      expectMsg(Replicator.UpdateSuccess(key, None))
+      view.get(key).map(_.value) should ===(Some(BigInt(1)))
+
+      replicator ! Replicator.Delete(key, Replicator.WriteLocal)
+      expectMsg(Replicator.DeleteSuccess(key, None))
+      view.get(key) should ===(None)
+    }
+
+    "fail when not enabled" in {
+      intercept[IllegalStateException] {
+        new LocalReadView(isEnabled = false).get(GCounterKey("counter"))
+      }
+    }
+  }
+}
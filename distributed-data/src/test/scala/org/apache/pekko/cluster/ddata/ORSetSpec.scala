@@ -507,6 +507,12 @@ class ORSetSpec extends AnyWordSpec with Matchers {
       ORSet.subtractDots(dot, vvector) should be(expected)
     }
 
+    "verify subtractDots when none or all dots are dominated" in {
+      val dot = VersionVector(TreeMap(nodeA -> 3L, nodeB -> 2L))
+      (ORSet.subtractDots(dot, VersionVector(TreeMap(nodeA -> 2L, nodeC -> 5L))) should be).theSameInstanceAs(dot)
+      ORSet.subtractDots(dot, VersionVector(TreeMap(nodeA -> 3L, nodeB -> 4L))) should be(VersionVector.empty)
+    }
+
     "verify mergeCommonKeys" in {
       val commonKeys: Set[String] = Set("K1", "K2")
       val thisDot1 = VersionVector(TreeMap(nodeA -> 3L, nodeD -> 7L))
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.ddata
+
+import scala.concurrent.duration._
+
+import org.apache.pekko
+import pekko.actor.ActorRef
+import pekko.actor.ActorSelection
+import pekko.actor.Address
+import pekko.actor.Props
+import pekko.cluster.Cluster
+import pekko.cluster.UniqueAddress
+import pekko.cluster.ddata.Replicator._
+import pekko.cluster.ddata.Replicator.Internal._
+import pekko.remote.RARP
+import pekko.testkit._
+
+object ReadAggregatorSpec {
+
+  val KeyA = GSetKey[String]("A")
+
+  def readAggregatorProps(
+      consistency: Replicator.ReadConsistency,
+      probes: Map[UniqueAddress, ActorRef],
+      selfUniqueAddress: UniqueAddress,
+      nodes: Vector[UniqueAddress],
+      replyTo: ActorRef,
+      selfIsReplica: Boolean): Props =
+    Props(new TestReadAggregator(consistency, probes, selfUniqueAddress, nodes, replyTo, selfIsReplica))
+
+  class TestReadAggregator(
+      consistency: Replicator.ReadConsistency,
+      probes: Map[UniqueAddress, ActorRef],
+      selfUniqueAddress: UniqueAddress,
+      nodes: Vector[UniqueAddress],
+      replyTo: ActorRef,
+      selfIsReplica: Boolean)
+      extends ReadAggregator(
+        KeyA,
+        consistency,
+        None,
+        selfUniqueAddress,
+        nodes,
+        Set.empty,
+        shuffle = false,
+        None,
+        replyTo,
+        selfIsReplica) {
+
+    override def replica(address: UniqueAddress): ActorSelection =
+      context.actorSelection(probes(address).path)
+
+    override def senderAddress(): Address =
+      probes.find { case (_, r) => r == sender() }.get._1.address
+  }
+}
+
+class ReadAggregatorSpec extends PekkoSpec("""
+      pekko.actor.provider = "cluster"
+      pekko.remote.classic.netty.tcp.port = 0
+      pekko.remote.artery.canonical.port = 0
+      """) with ImplicitSender {
+  import ReadAggregatorSpec._
+
+  val protocol =
+    if (RARP(system).provider.remoteSettings.Artery.Enabled) "pekko"
+    else "pekko.tcp"
+
+  val nodeA = UniqueAddress(Address(protocol, "Sys", "a", 2552), 17L)
+  val nodeB = UniqueAddress(Address(protocol, "Sys", "b", 2552), 17L)
+  val nodeC = UniqueAddress(Address(protocol, "Sys", "c", 2552), 17L)
+  val nodeD = UniqueAddress(Address(protocol, "Sys", "d", 2552), 17L)
+  val nodes = Vector(nodeA, nodeB, nodeC, nodeD)
+
+  val timeout = 3.seconds.dilated
+  val readMajority = ReadMajority(timeout)
+
+  val selfUniqueAddress: UniqueAddress = Cluster(system).selfUniqueAddress
+
+  def probes(): Map[UniqueAddress, TestProbe] =
+    nodes.map(_ -> TestProbe()).toMap
+
+  "ReadAggregator" must {
+    "read from at least N/2+1 replicas when ReadMajority" in {
+      val replicas = probes()
+      val aggr = system.actorOf(
+        readAggregatorProps(
+          readMajority,
+          replicas.map { case (node, probe) => node -> probe.ref },
+          selfUniqueAddress,
+          nodes,
+          testActor,
+          selfIsReplica = true))
+
+      // 4 replicas + the local => 5, the local and 2 of the replicas is a majority
+      replicas(nodeA).expectMsgType[Read]
+      replicas(nodeB).expectMsgType[Read]
+      replicas(nodeC).expectNoMessage(100.millis)
+      replicas(nodeA).reply(ReadResult(None))
+      expectNoMessage(200.millis)
+      replicas(nodeB).reply(ReadResult(None))
+      expectMsg(NotFound(KeyA, None))
+      watch(aggr)
+      expectTerminated(aggr)
+    }
+
+    "read from at least N/2+1 replicas when ReadMajority and the local node is not a replica" in {
+      val replicas = probes()
+      val aggr = system.actorOf(
+        readAggregatorProps(
+          readMajority,
+          replicas.map { case (node, probe) => node -> probe.ref },
+          selfUniqueAddress,
+          nodes,
+          testActor,
+          selfIsReplica = false))
+
+      // 4 replicas, the local node is not included, so 3 of the replicas is a majority
+      replicas(nodeA).expectMsgType[Read]
+      replicas(nodeB).expectMsgType[Read]
+      replicas(nodeC).expectMsgType[Read]
+      replicas(nodeD).expectNoMessage(100.millis)
+      replicas(nodeA).reply(ReadResult(None))
+      replicas(nodeB).reply(ReadResult(None))
+      expectNoMessage(200.millis)
+      replicas(nodeC).reply(ReadResult(None))
+      expectMsg(NotFound(KeyA, None))
+      watch(aggr)
+      expectTerminated(aggr)
+    }
+
+    "fail when not enough of the replicas reply and the local node is not a replica" in {
+      val replicas = probes()
+      system.actorOf(
+        readAggregatorProps(
+          ReadMajority(1.second.dilated),
+          replicas.map { case (node, probe) => node -> probe.ref },
+          selfUniqueAddress,
+          nodes,
+          testActor,
+          selfIsReplica = false))
+
+      replicas(nodeA).expectMsgType[Read]
+      replicas(nodeA).reply(ReadResult(None))
+      replicas(nodeB).expectMsgType[Read]
+      replicas(nodeB).reply(ReadResult(None))
+      expectMsg(GetFailure(KeyA, None))
+    }
+  }
+}
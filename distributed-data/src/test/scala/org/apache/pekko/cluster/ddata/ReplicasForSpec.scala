@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.ddata
+
+import scala.collection.immutable
+
+import org.scalactic.TypeCheckedTripleEquals
+import org.scalatest.matchers.should.Matchers
+import org.scalatest.wordspec.AnyWordSpec
+
+import org.apache.pekko
+import pekko.actor.Address
+import pekko.cluster.UniqueAddress
+import pekko.cluster.ddata.Replicator.Internal.replicasFor
+
+class ReplicasForSpec extends AnyWordSpec with Matchers with TypeCheckedTripleEquals {
+
+  val nodes: immutable.SortedSet[UniqueAddress] =
+    immutable.SortedSet((2500 until 2510).map(n => UniqueAddress(Address("pekko", "Sys", "localhost", n), 17L)): _*)
+  val keys = (1 to 1000).map(n => s"key-$n")
+
+  "The replicas of a key in partitioned mode" must {
+
+    "be replica-count distinct nodes of the cluster" in {
+      keys.foreach { key =>
+        val replicas = replicasFor(key, nodes, replicaCount = 3)
+        replicas.size should ===(3)
+        replicas.distinct should ===(replicas)
+        replicas.foreach(node => nodes should contain(node))
+      }
+    }
+
+    "be all nodes when replica-count is greater than the number of nodes" in {
+      replicasFor("key-1", nodes.take(2), replicaCount = 3).toSet should ===(nodes.take(2).toSet)
+    }
+
+    "be stable" in {
+      keys.foreach { key =>
+        replicasFor(key, nodes, replicaCount = 3) should ===(replicasFor(key, nodes, replicaCount = 3))
+        // independent of the order that the nodes were added in
+        val reversed = immutable.SortedSet.empty[UniqueAddress] ++ nodes.toVector.reverse
+        replicasFor(key, reversed, replicaCount = 3) should ===(replicasFor(key, nodes, replicaCount = 3))
+      }
+    }
+
+    "be a prefix of the replicas with a greater replica-count" in {
+      keys.foreach { key =>
+        replicasFor(key, nodes, replicaCount = 5).take(3) should ===(replicasFor(key, nodes, replicaCount = 3))
+      }
+    }
+
+    "be spread over all nodes" in {
+      val primaries = keys.groupBy(key => replicasFor(key, nodes, replicaCount = 3).head)
+      primaries.keySet should ===(nodes.toSet)
+    }
+
+    "only change for the keys of an added node" in {
+      val added = UniqueAddress(Address("pekko", "Sys", "localhost", 2510), 17L)
+      keys.foreach { key =>
+        val before = replicasFor(key, nodes, replicaCount = 3)
+        val after = replicasFor(key, nodes + added, replicaCount = 3)
+        if (after.contains(added))
+          after.filterNot(_ == added) should ===(before.take(2))
+        else
+          after should ===(before)
+      }
+      keys.count(key => replicasFor(key, nodes + added, replicaCount = 3).contains(added)) should be > 0
+    }
+
+    "only change for the keys of a removed node" in {
+      val removed = nodes.head
+      keys.foreach { key =>
+        val before = replicasFor(key, nodes, replicaCount = 3)
+        val after = replicasFor(key, nodes - removed, replicaCount = 3)
+        if (before.contains(removed))
+          after.take(2) should ===(before.filterNot(_ == removed))
+        else
+          after should ===(before)
+      }
+    }
+  }
+}
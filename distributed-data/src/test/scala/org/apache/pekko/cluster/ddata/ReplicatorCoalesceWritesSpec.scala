@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.ddata
+
+import scala.concurrent.duration._
+
+import com.typesafe.config.ConfigFactory
+import org.scalatest.BeforeAndAfterAll
+import org.scalatest.matchers.should.Matchers
+import org.scalatest.wordspec.AnyWordSpecLike
+
+import org.apache.pekko
+import pekko.actor.Actor
+import pekko.actor.ActorRef
+import pekko.actor.ActorSystem
+import pekko.actor.Props
+import pekko.cluster.Cluster
+import pekko.cluster.ddata.Replicator._
+import pekko.cluster.ddata.Replicator.Internal._
+import pekko.testkit.ImplicitSender
+import pekko.testkit.TestKit
+import pekko.testkit.TestProbe
+
+object ReplicatorCoalesceWritesSpec {
+  val config = ConfigFactory.parseString(s"""
+    pekko.actor.provider = "cluster"
+    pekko.remote.artery.canonical.port = 0
+    pekko.cluster.distributed-data {
+      coalesce-writes = on
+      # no gossip or delta propagation to the peer during the test
+      gossip-interval = 1 hour
+      durable.keys = ["durable-*"]
+      durable.lmdb {
+        dir = target/ReplicatorCoalesceWritesSpec-${System.currentTimeMillis}-ddata
+        map-size = 10 MiB
+      }
+    }
+    """)
+
+  /**
+   * Stands in for the Replicator of the other node, the writes are acknowledged by the test.
+   */
+  class PeerReplicator(writeProbe: ActorRef) extends Actor {
+    override def receive: Receive = {
+      case write: Write => writeProbe.forward(write)
+      case _            =>
+    }
+  }
+}
+
+class ReplicatorCoalesceWritesSpec
+    extends TestKit(ActorSystem("ReplicatorCoalesceWritesSpec", ReplicatorCoalesceWritesSpec.config))
+    with AnyWordSpecLike
+    with Matchers
+    with BeforeAndAfterAll
+    with ImplicitSender {
+  import ReplicatorCoalesceWritesSpec._
+
+  val peerSystem = ActorSystem(system.name, system.settings.config)
+  val writeProbe = TestProbe()(peerSystem)
+  peerSystem.actorOf(Props(new PeerReplicator(writeProbe.ref)), "replicator")
+
+  implicit val selfUniqueAddress: SelfUniqueAddress = SelfUniqueAddress(Cluster(system).selfUniqueAddress)
+  val replicator = system.actorOf(Replicator.props(ReplicatorSettings(system)), "replicator")
+  val writeMajority = WriteMajority(10.seconds)
+  val writeAll = WriteAll(10.seconds)
+
+  override def afterAll(): Unit = {
+    shutdown(peerSystem)
+    shutdown(system)
+  }
+
+  def increment(key: GCounterKey, consistency: WriteConsistency, req: Int): Unit =
+    replicator ! Update(key, GCounter.empty, consistency, Some(req))(_ :+ 1)
+
+  /**
+   * Expect a write of the key to the peer, and return the WriteAggregator that is waiting for the ack
+   */
+  def expectWrite(key: GCounterKey): (GCounter, ActorRef) = {
+    val write = writeProbe.expectMsgType[Write]
+    write.key should ===(key.id)
+    (write.envelope.data.asInstanceOf[GCounter], writeProbe.lastSender)
+  }
+
+  "The Replicator with coalesce-writes" must {
+
+    "join the cluster" in {
+      Cluster(system).join(Cluster(system).selfAddress)
+      Cluster(peerSystem).join(Cluster(system).selfAddress)
+      awaitAssert {
+        replicator ! GetReplicaCount
+        expectMsg(ReplicaCount(2))
+      }
+    }
+
+    "write the updates that are queued while a write is in flight once" in {
+      val key = GCounterKey("counter-1")
+      increment(key, writeMajority, 1)
+      val (_, firstAggregator) = expectWrite(key)
+
+      increment(key, writeMajority, 2)
+      increment(key, writeMajority, 3)
+      increment(key, writeMajority, 4)
+      // applied locally at once
+      replicator ! Get(key, ReadLocal)
+      expectMsgType[GetSuccess[GCounter]].get(key).value should ===(BigInt(4))
+      writeProbe.expectNoMessage(300.millis)
+
+      writeProbe.send(firstAggregator, WriteAck)
+      expectMsg(UpdateSuccess(key, Some(1)))
+
+      // one write of the full state for the queued updates
+      val (counter, coalescedAggregator) = expectWrite(key)
+      counter.value should ===(BigInt(4))
+      writeProbe.expectNoMessage(300.millis)
+      expectNoMessage(100.millis)
+
+      writeProbe.send(coalescedAggregator, WriteAck)
+      expectMsg(UpdateSuccess(key, Some(2)))
+      expectMsg(UpdateSuccess(key, Some(3)))
+      expectMsg(UpdateSuccess(key, Some(4)))
+      writeProbe.expectNoMessage(300.millis)
+    }
+
+    "not queue an update with another consistency than the queued updates" in {
+      val key = GCounterKey("counter-2")
+      increment(key, writeMajority, 1)
+      val (_, firstAggregator) = expectWrite(key)
+      increment(key, writeAll, 2)
+      writeProbe.expectNoMessage(300.millis)
+
+      // WriteAll is queued, so WriteMajority is replicated on its own
+      increment(key, writeMajority, 3)
+      val (counter, thirdAggregator) = expectWrite(key)
+      // the delta of a GCounter holds the total count of the node
+      counter.value should ===(BigInt(3))
+      writeProbe.send(thirdAggregator, WriteAck)
+      expectMsg(UpdateSuccess(key, Some(3)))
+
+      writeProbe.send(firstAggregator, WriteAck)
+      expectMsg(UpdateSuccess(key, Some(1)))
+      val (_, queuedAggregator) = expectWrite(key)
+      writeProbe.send(queuedAggregator, WriteAck)
+      expectMsg(UpdateSuccess(key, Some(2)))
+    }
+
+    "reply UpdateDataDeleted to the queued updates when the key is deleted" in {
+      val key = GCounterKey("counter-3")
+      increment(key, writeMajority, 1)
+      val (_, firstAggregator) = expectWrite(key)
+      increment(key, writeMajority, 2)
+      increment(key, writeMajority, 3)
+
+      replicator ! Delete(key, WriteLocal)
+      expectMsg(DeleteSuccess(key, None))
+      increment(key, writeMajority, 4)
+      expectMsg(UpdateDataDeleted(key, Some(4)))
+
+      writeProbe.send(firstAggregator, WriteAck)
+      expectMsg(UpdateSuccess(key, Some(1)))
+      expectMsg(UpdateDataDeleted(key, Some(2)))
+      expectMsg(UpdateDataDeleted(key, Some(3)))
+      writeProbe.expectNoMessage(300.millis)
+    }
+
+    "not queue updates of durable keys" in {
+      val key = GCounterKey("durable-counter")
+      increment(key, writeMajority, 1)
+      val (_, firstAggregator) = expectWrite(key)
+      increment(key, writeMajority, 2)
+      val (counter, secondAggregator) = expectWrite(key)
+      counter.value should ===(BigInt(2))
+
+      writeProbe.send(secondAggregator, WriteAck)
+      expectMsg(UpdateSuccess(key, Some(2)))
+      writeProbe.send(firstAggregator, WriteAck)
+      expectMsg(UpdateSuccess(key, Some(1)))
+      writeProbe.expectNoMessage(300.millis)
+    }
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.cluster.ddata
+
+import scala.concurrent.duration._
+
+import com.typesafe.config.ConfigFactory
+import org.scalatest.BeforeAndAfterAll
+import org.scalatest.matchers.should.Matchers
+import org.scalatest.wordspec.AnyWordSpecLike
+
+import org.apache.pekko
+import pekko.actor.Actor
+import pekko.actor.ActorRef
+import pekko.actor.ActorSystem
+import pekko.actor.Props
+import pekko.cluster.Cluster
+import pekko.cluster.MemberStatus
+import pekko.cluster.ddata.Replicator._
+import pekko.cluster.ddata.Replicator.Internal._
+import pekko.testkit.ImplicitSender
+import pekko.testkit.TestKit
+import pekko.testkit.TestProbe
+
+object ReplicatorGossipSpec {
+  val config = ConfigFactory.parseString("""
+    pekko.actor.provider = "cluster"
+    pekko.remote.artery.canonical.port = 0
+    pekko.cluster.distributed-data {
+      # the gossip and delta propagation ticks are sent by the test
+      gossip-interval = 1 hour
+      max-delta-elements = 3
+      delta-crdt.compression-threshold = 0
+    }
+    """)
+
+  /**
+   * Stands in for the Replicator of the other node, i.e. receives the messages that
+   * the Replicator under test sends to its peer.
+   */
+  class PeerReplicator(statusProbe: ActorRef, deltaProbe: ActorRef) extends Actor {
+    override def receive: Receive = {
+      case status: Status                     => statusProbe.forward(status)
+      case deltaPropagation: DeltaPropagation => deltaProbe.forward(deltaPropagation)
+      case _                                  =>
+    }
+  }
+}
+
+class ReplicatorGossipSpec
+    extends TestKit(ActorSystem("ReplicatorGossipSpec", ReplicatorGossipSpec.config))
+    with AnyWordSpecLike
+    with Matchers
+    with BeforeAndAfterAll
+    with ImplicitSender {
+  import ReplicatorGossipSpec._
+
+  val peerSystem = ActorSystem(system.name, system.settings.config)
+  val statusProbe = TestProbe()(peerSystem)
+  val deltaProbe = TestProbe()(peerSystem)
+  peerSystem.actorOf(Props(new PeerReplicator(statusProbe.ref, deltaProbe.ref)), "replicator")
+
+  implicit val selfUniqueAddress: SelfUniqueAddress = SelfUniqueAddress(Cluster(system).selfUniqueAddress)
+  val selfUid = Cluster(system).selfUniqueAddress.longUid
+  val peerUid = Cluster(peerSystem).selfUniqueAddress.longUid
+  val replicator = system.actorOf(Replicator.props(ReplicatorSettings(system)), "replicator")
+
+  override def afterAll(): Unit = {
+    shutdown(peerSystem)
+    shutdown(system)
+  }
+
+  def increment(key: GCounterKey): Unit = {
+    replicator ! Update(key, GCounter.empty, WriteLocal)(_ :+ 1)
+    expectMsg(UpdateSuccess(key, None))
+  }
+
+  "The Replicator" must {
+
+    "gossip to the peer when it has joined" in {
+      Cluster(system).join(Cluster(system).selfAddress)
+      Cluster(peerSystem).join(Cluster(system).selfAddress)
+      awaitAssert {
+        Cluster(system).state.members.count(_.status == MemberStatus.Up) should ===(2)
+      }
+      awaitAssert {
+        replicator ! GossipTick
+        statusProbe.expectMsgType[Status](500.millis)
+      }
+      statusProbe.receiveWhile(idle = 1.second) { case status: Status => status }
+    }
+
+    "not send Status for chunks that the peer has confirmed to be in sync" in {
+      val keys = (1 to 3).map(n => GCounterKey(s"counter-$n"))
+      keys.foreach(increment)
+
+      replicator ! GossipTick
+      val status = statusProbe.expectMsgType[Status]
+      status.digests.keySet should ===(keys.map(_.id).toSet)
+      status.chunk should ===(0)
+      status.totChunks should ===(1)
+      status.toSystemUid should ===(Some(peerUid))
+
+      // same digests, i.e. the peer has the same data
+      statusProbe.reply(Status(status.digests, status.chunk, status.totChunks, Some(selfUid), Some(peerUid)))
+      awaitAssert {
+        replicator ! GossipTick
+        statusProbe.expectNoMessage(1.second)
+      }
+
+      // the chunk is no longer in sync when the data is changed
+      increment(keys.head)
+      replicator ! GossipTick
+      val changedStatus = statusProbe.expectMsgType[Status]
+      changedStatus.digests.keySet should ===(status.digests.keySet)
+      changedStatus.digests(keys.head.id) should !==(status.digests(keys.head.id))
+      changedStatus.digests(keys(1).id) should ===(status.digests(keys(1).id))
+    }
+
+    "keep sending Status for chunks that the peer has reported as different" in {
+      replicator ! GossipTick
+      val status = statusProbe.expectMsgType[Status]
+
+      // the peer doesn't have any of the keys
+      statusProbe.reply(Status(Map.empty, status.chunk, status.totChunks, Some(selfUid), Some(peerUid)))
+      statusProbe.expectMsgType[Gossip].updatedData.keySet should ===(status.digests.keySet)
+      replicator ! GossipTick
+      statusProbe.expectMsgType[Status].digests should ===(status.digests)
+    }
+
+    "split DeltaPropagation into messages of at most max-delta-elements deltas, compressed over the wire" in {
+      val keys = (1 to 7).map(n => GCounterKey(s"delta-$n"))
+      keys.foreach(increment)
+
+      replicator ! DeltaPropagationTick
+      // deltas of the keys updated by the previous tests may be included
+      val propagations = deltaProbe.receiveWhile(idle = 1.second) {
+        case deltaPropagation: DeltaPropagation => deltaPropagation
+      }
+      propagations.size should be >= 3
+      propagations.foreach { deltaPropagation =>
+        deltaPropagation.deltas.size should be <= 3
+        deltaPropagation.fromNode should ===(Some(Cluster(system).selfUniqueAddress))
+      }
+      val deltas = propagations.flatMap(_.deltas).toMap
+      keys.foreach { key =>
+        deltas(key.id).dataEnvelope.data.asInstanceOf[GCounter].value should ===(BigInt(1))
+      }
+    }
+  }
+}
@@ -13,6 +13,8 @@
 
 package org.apache.pekko.cluster.ddata
 
+import scala.collection.immutable.TreeMap
+
 import org.scalatest.BeforeAndAfterAll
 import org.scalatest.matchers.should.Matchers
 import org.scalatest.wordspec.AnyWordSpecLike
@@ -205,6 +207,25 @@ class VersionVectorSpec
       merged1 == merged2 should be(true)
     }
 
+    "return the dominating version vector as is when merging" in {
+      val vv1 = VersionVector(TreeMap(node1 -> 2L, node2 -> 3L))
+      val vv2 = VersionVector(TreeMap(node1 -> 2L, node2 -> 5L, node3 -> 1L))
+
+      (vv1.merge(vv2) should be).theSameInstanceAs(vv2)
+      (vv2.merge(vv1) should be).theSameInstanceAs(vv2)
+      (vv2.merge(VersionVector(node2, 4L)) should be).theSameInstanceAs(vv2)
+      (VersionVector(node2, 4L).merge(vv2) should be).theSameInstanceAs(vv2)
+    }
+
+    "take the highest version of each node when merging concurrent version vectors" in {
+      val vv1 = VersionVector(TreeMap(node1 -> 4L, node2 -> 3L, node4 -> 1L))
+      val vv2 = VersionVector(TreeMap(node1 -> 2L, node2 -> 5L, node3 -> 1L))
+      val expected = VersionVector(TreeMap(node1 -> 4L, node2 -> 5L, node3 -> 1L, node4 -> 1L))
+
+      vv1.merge(vv2) should ===(expected)
+      vv2.merge(vv1) should ===(expected)
+    }
+
     "correctly merge two disjoint version vectors" in {
 
       val vv1_1 = VersionVector()
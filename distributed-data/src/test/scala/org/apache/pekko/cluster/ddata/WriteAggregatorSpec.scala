@@ -13,6 +13,7 @@
 
 package org.apache.pekko.cluster.ddata
 
+import scala.collection.immutable
 import scala.concurrent.Future
 import scala.concurrent.duration._
 
@@ -43,7 +44,9 @@ object WriteAggregatorSpec {
       nodes: Vector[UniqueAddress],
       unreachable: Set[UniqueAddress],
       replyTo: ActorRef,
-      durable: Boolean): Props =
+      durable: Boolean,
+      selfIsReplica: Boolean = true,
+      coalesced: immutable.Seq[(Option[Any], ActorRef)] = Nil): Props =
     Props(
       new TestWriteAggregator(
         KeyA,
@@ -55,7 +58,9 @@ object WriteAggregatorSpec {
         nodes,
         unreachable,
         replyTo,
-        durable))
+        durable,
+        selfIsReplica,
+        coalesced))
 
   def writeAggregatorPropsWithDelta(
       data: ORSet[String],
@@ -90,7 +95,9 @@ object WriteAggregatorSpec {
       nodes: Vector[UniqueAddress],
       unreachable: Set[UniqueAddress],
       replyTo: ActorRef,
-      durable: Boolean)
+      durable: Boolean,
+      selfIsReplica: Boolean = true,
+      coalesced: immutable.Seq[(Option[Any], ActorRef)] = Nil)
       extends WriteAggregator(
         key,
         DataEnvelope(data),
@@ -102,7 +109,9 @@ object WriteAggregatorSpec {
         unreachable,
         shuffle = false,
         replyTo,
-        durable) {
+        durable,
+        selfIsReplica,
+        coalesced) {
 
     override def replica(address: UniqueAddress): ActorSelection =
       context.actorSelection(probes(address).path)
@@ -201,6 +210,59 @@ class WriteAggregatorSpec extends PekkoSpec(s"""
       expectTerminated(aggr)
     }
 
+    "send to at least N/2+1 replicas when WriteMajority and the local node is not a replica" in {
+      val probe = TestProbe()
+      val aggr = system.actorOf(
+        WriteAggregatorSpec.writeAggregatorProps(
+          data,
+          writeMajority,
+          probes(probe.ref),
+          selfUniqueAddress,
+          nodes,
+          Set.empty,
+          testActor,
+          durable = false,
+          selfIsReplica = false))
+
+      probe.expectMsgType[Write]
+      probe.lastSender ! WriteAck
+      probe.expectMsgType[Write]
+      probe.lastSender ! WriteAck
+      probe.expectMsgType[Write]
+      // 4 replicas, the local node is not included
+      expectNoMessage(200.millis)
+      probe.lastSender ! WriteAck
+      expectMsg(UpdateSuccess(WriteAggregatorSpec.KeyA, None))
+      watch(aggr)
+      expectTerminated(aggr)
+    }
+
+    "reply to the coalesced updates with the same outcome" in {
+      val probe = TestProbe()
+      val coalescedProbe = TestProbe()
+      val aggr = system.actorOf(
+        WriteAggregatorSpec.writeAggregatorProps(
+          data,
+          writeMajority,
+          probes(probe.ref),
+          selfUniqueAddress,
+          nodes,
+          Set.empty,
+          testActor,
+          durable = false,
+          coalesced = List(Some("req-2") -> coalescedProbe.ref, Some("req-3") -> coalescedProbe.ref)))
+
+      probe.expectMsgType[Write]
+      probe.lastSender ! WriteAck
+      probe.expectMsgType[Write]
+      probe.lastSender ! WriteAck
+      expectMsg(UpdateSuccess(WriteAggregatorSpec.KeyA, None))
+      coalescedProbe.expectMsg(UpdateSuccess(WriteAggregatorSpec.KeyA, Some("req-2")))
+      coalescedProbe.expectMsg(UpdateSuccess(WriteAggregatorSpec.KeyA, Some("req-3")))
+      watch(aggr)
+      expectTerminated(aggr)
+    }
+
     "send to more when no immediate reply" in {
       val testProbes = probes()
       val testProbeRefs = testProbes.map { case (a, tm) => a -> tm.writeAckAdapter }
@@ -13,6 +13,9 @@
 
 package org.apache.pekko.cluster.ddata.protobuf
 
+import java.io.ByteArrayOutputStream
+import java.util.zip.GZIPOutputStream
+
 import scala.concurrent.duration._
 
 import com.typesafe.config.ConfigFactory
@@ -101,6 +104,8 @@ class ReplicatorMessageSerializerSpec
       checkSerialization(GetSuccess(keyA, None)(data1))
       checkSerialization(GetSuccess(keyA, Some("x"))(data1))
       checkSerialization(NotFound(keyA, Some("x")))
+      checkSerialization(GetDataDeleted(keyA, Some("x")))
+      checkSerialization(GetDataDeleted(keyA, None))
       checkSerialization(GetFailure(keyA, Some("x")))
       checkSerialization(Subscribe(keyA, ref1))
       checkSerialization(Unsubscribe(keyA, ref1))
@@ -172,6 +177,52 @@ class ReplicatorMessageSerializerSpec
       deserializedDurableDataEnvelope.dataEnvelope.deltaVersions.size should ===(0)
     }
 
+    "deserialize compressed DeltaPropagation" in {
+      val delta = ORSet.empty[String].add(address1, "a").add(address1, "b").delta.get
+      val deltaPropagation =
+        DeltaPropagation(address1, reply = false, Map("A" -> Delta(DataEnvelope(delta), 1L, 2L)))
+      val bytes = serializer.toBinary(deltaPropagation)
+      serializer.isGZipped(bytes) should ===(false)
+
+      val bos = new ByteArrayOutputStream
+      val zip = new GZIPOutputStream(bos)
+      try zip.write(bytes)
+      finally zip.close()
+      val compressed = bos.toByteArray
+      serializer.isGZipped(compressed) should ===(true)
+      serializer.fromBinary(compressed, serializer.manifest(deltaPropagation)) should ===(deltaPropagation)
+    }
+
+    "compress DeltaPropagation larger than the compression-threshold" in {
+      val compressingSystem = ActorSystem(
+        "ReplicatorMessageSerializerSpec-compressing",
+        ConfigFactory
+          .parseString("pekko.cluster.distributed-data.delta-crdt.compression-threshold = 1 KiB")
+          .withFallback(system.settings.config))
+      try {
+        val compressingSerializer =
+          new ReplicatorMessageSerializer(compressingSystem.asInstanceOf[ExtendedActorSystem])
+
+        val small =
+          DeltaPropagation(address1, reply = false, Map("A" -> Delta(DataEnvelope(GCounter.empty), 1L, 1L)))
+        val smallBytes = compressingSerializer.toBinary(small)
+        compressingSerializer.isGZipped(smallBytes) should ===(false)
+        compressingSerializer.fromBinary(smallBytes, compressingSerializer.manifest(small)) should ===(small)
+
+        val elements = (1 to 100).map(n => s"element-$n")
+        val delta = elements.foldLeft(ORSet.empty[String])(_.add(address1, _)).delta.get
+        val large =
+          DeltaPropagation(address1, reply = true, Map("A" -> Delta(DataEnvelope(delta), 1L, 100L)))
+        val largeBytes = compressingSerializer.toBinary(large)
+        compressingSerializer.isGZipped(largeBytes) should ===(true)
+        compressingSerializer.fromBinary(largeBytes, compressingSerializer.manifest(large)) should ===(large)
+        // nodes that don't compress can read it
+        serializer.fromBinary(largeBytes, serializer.manifest(large)) should ===(large)
+      } finally {
+        TestKit.shutdownActorSystem(compressingSystem)
+      }
+    }
+
   }
 
   "Cache" must {
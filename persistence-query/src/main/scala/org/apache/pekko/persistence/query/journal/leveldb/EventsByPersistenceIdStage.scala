@@ -22,8 +22,10 @@ import pekko.persistence.JournalProtocol.ReplayMessages
 import pekko.persistence.JournalProtocol.ReplayMessagesFailure
 import pekko.persistence.JournalProtocol.ReplayedMessage
 import pekko.persistence.Persistence
+import pekko.persistence.PersistentRepr
 import pekko.persistence.journal.leveldb.LeveldbJournal
 import pekko.persistence.journal.leveldb.LeveldbJournal.EventAppended
+import pekko.persistence.journal.leveldb.LeveldbJournal.EventsAppended
 import pekko.persistence.query.EventEnvelope
 import pekko.persistence.query.Sequence
 import pekko.persistence.query.journal.leveldb.EventsByPersistenceIdStage.Continue
@@ -107,14 +109,7 @@ final private[pekko] class EventsByPersistenceIdStage(
         val (_, msg) = in
         msg match {
           case ReplayedMessage(pr) =>
-            buffer(
-              EventEnvelope(
-                offset = Sequence(pr.sequenceNr),
-                persistenceId = pr.persistenceId,
-                sequenceNr = pr.sequenceNr,
-                event = pr.payload,
-                timestamp = pr.timestamp))
-            nextSequenceNr = pr.sequenceNr + 1
+            bufferEvent(pr)
             deliverBuf(out)
 
           case RecoverySuccess(highestSeqNr) =>
@@ -146,10 +141,38 @@ final private[pekko] class EventsByPersistenceIdStage(
           case EventAppended(_) =>
             requestMore()
 
+          case EventsAppended(_, events) =>
+            // events that were already delivered by a replay are skipped, and the rest are only used
+            // if they follow directly after the delivered events, otherwise they are read from the journal
+            val newEvents = events.dropWhile(_.sequenceNr < nextSequenceNr)
+            if (newEvents.nonEmpty) {
+              if (!replayInProgress && newEvents.head.sequenceNr == nextSequenceNr &&
+                bufferSize + newEvents.size <= maxBufSize) {
+                newEvents.foreach { pr =>
+                  if (pr.sequenceNr <= toSequenceNr) bufferEvent(pr)
+                }
+                deliverBuf(out)
+                maybeCompleteStage()
+              } else {
+                requestMore()
+              }
+            }
+
           case _ => throw new RuntimeException() // compiler exhaustiveness check pleaser
         }
       }
 
+      private def bufferEvent(pr: PersistentRepr): Unit = {
+        buffer(
+          EventEnvelope(
+            offset = Sequence(pr.sequenceNr),
+            persistenceId = pr.persistenceId,
+            sequenceNr = pr.sequenceNr,
+            event = pr.payload,
+            timestamp = pr.timestamp))
+        nextSequenceNr = pr.sequenceNr + 1
+      }
+
       private def isCurrentQuery(): Boolean = refreshInterval.isEmpty
 
       private def maybeCompleteStage(): Unit = {
@@ -20,10 +20,12 @@ import pekko.annotation.InternalApi
 import pekko.persistence.JournalProtocol.RecoverySuccess
 import pekko.persistence.JournalProtocol.ReplayMessagesFailure
 import pekko.persistence.Persistence
+import pekko.persistence.PersistentRepr
 import pekko.persistence.journal.leveldb.LeveldbJournal
 import pekko.persistence.journal.leveldb.LeveldbJournal.ReplayTaggedMessages
 import pekko.persistence.journal.leveldb.LeveldbJournal.ReplayedTaggedMessage
 import pekko.persistence.journal.leveldb.LeveldbJournal.TaggedEventAppended
+import pekko.persistence.journal.leveldb.LeveldbJournal.TaggedEventsAppended
 import pekko.persistence.query.EventEnvelope
 import pekko.persistence.query.Sequence
 import pekko.persistence.query.journal.leveldb.EventsByTagStage.Continue
@@ -106,14 +108,7 @@ final private[leveldb] class EventsByTagStage(
         val (_, msg) = in
         msg match {
           case ReplayedTaggedMessage(p, _, offset) =>
-            buffer(
-              EventEnvelope(
-                offset = Sequence(offset),
-                persistenceId = p.persistenceId,
-                sequenceNr = p.sequenceNr,
-                event = p.payload,
-                timestamp = p.timestamp))
-            currOffset = offset
+            bufferEvent(p, offset)
             deliverBuf(out)
 
           case RecoverySuccess(highestSeqNr) =>
@@ -145,10 +140,38 @@ final private[leveldb] class EventsByTagStage(
           case TaggedEventAppended(_) =>
             requestMore()
 
+          case TaggedEventsAppended(_, events) =>
+            // events that were already delivered by a replay are skipped, and the rest are only used
+            // if they follow directly after the delivered events, otherwise they are read from the journal
+            val newEvents = events.dropWhile(_.offset <= currOffset)
+            if (newEvents.nonEmpty) {
+              if (!replayInProgress && newEvents.head.offset == currOffset + 1 &&
+                bufferSize + newEvents.size <= maxBufSize) {
+                newEvents.foreach { m =>
+                  if (m.offset <= toOffset) bufferEvent(m.persistent, m.offset)
+                }
+                deliverBuf(out)
+                checkComplete()
+              } else {
+                requestMore()
+              }
+            }
+
           case _ => throw new RuntimeException() // compiler exhaustiveness check pleaser
         }
       }
 
+      private def bufferEvent(p: PersistentRepr, offset: Long): Unit = {
+        buffer(
+          EventEnvelope(
+            offset = Sequence(offset),
+            persistenceId = p.persistenceId,
+            sequenceNr = p.sequenceNr,
+            event = p.payload,
+            timestamp = p.timestamp))
+        currOffset = offset
+      }
+
       private def isCurrentQuery(): Boolean = refreshInterval.isEmpty
 
       private def checkComplete(): Unit = {
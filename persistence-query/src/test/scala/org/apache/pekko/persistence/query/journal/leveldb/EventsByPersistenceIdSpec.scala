@@ -36,6 +36,11 @@ object EventsByPersistenceIdSpec {
     # test is using Java serialization and not priority to rewrite
     pekko.actor.allow-java-serialization = on
     pekko.actor.warn-about-java-serializer-usage = off
+
+    leveldb-no-refresh = ${pekko.persistence.query.journal.leveldb}
+    leveldb-no-refresh {
+      refresh-interval = 10m
+    }
     """
 }
 
@@ -231,5 +236,19 @@ class EventsByPersistenceIdSpec extends PekkoSpec(EventsByPersistenceIdSpec.conf
 
       probe.cancel()
     }
+
+    "find new events written in quick succession in order" in {
+      val ref = setup("p")
+      // only the events pushed by the journal can be delivered within the test
+      val noRefreshQueries = PersistenceQuery(system).readJournalFor[LeveldbReadJournal]("leveldb-no-refresh")
+      val src = noRefreshQueries.eventsByPersistenceId("p", 0L, Long.MaxValue)
+      val probe = src.map(_.event).runWith(TestSink.probe[Any]).request(100).expectNext("p-1", "p-2", "p-3")
+
+      (4 to 20).foreach(n => ref ! s"p-$n")
+      (4 to 20).foreach(n => expectMsg(s"p-$n-done"))
+
+      (4 to 20).foreach(n => probe.expectNext(s"p-$n"))
+      probe.cancel()
+    }
   }
 }
@@ -252,6 +252,22 @@ class EventsByTagSpec extends PekkoSpec(EventsByTagSpec.config) with Cleanup wit
       probe.cancel()
     }
 
+    "find new events written in quick succession in order" in {
+      val q = system.actorOf(TestActor.props("q"))
+
+      // only the events pushed by the journal can be delivered within the test
+      val noRefreshQueries = PersistenceQuery(system).readJournalFor[LeveldbReadJournal]("leveldb-no-refresh")
+      val blueSrc = noRefreshQueries.eventsByTag(tag = "blue", offset = NoOffset)
+      val probe = blueSrc.map(_.event).runWith(TestSink.probe[Any]).request(100)
+      probe.expectNoMessage(100.millis)
+
+      (1 to 10).foreach(n => q ! s"a blue $n")
+      (1 to 10).foreach(n => expectMsg(s"a blue $n-done"))
+
+      (1 to 10).foreach(n => probe.expectNext(s"a blue $n"))
+      probe.cancel()
+    }
+
     "not complete for empty stream" in {
       val src = queries.eventsByTag(tag = "red", offset = NoOffset)
       val probe =
@@ -13,7 +13,7 @@
 
 package org.apache.pekko.persistence.serialization
 
-import java.io.NotSerializableException
+import java.io.{ ByteArrayInputStream, ByteArrayOutputStream, NotSerializableException }
 import java.util.UUID
 
 import scala.concurrent.Await
@@ -173,6 +173,32 @@ class SnapshotSerializerPersistenceSpec extends PekkoSpec(customSerializers) {
 
       dataStr should ===(deserializedDataStr)
     }
+
+    "write and read the same format through streams" in {
+      val wrapped = Snapshot(MySnapshot2("a"))
+      val serializer = serialization.findSerializerFor(wrapped).asInstanceOf[SnapshotSerializer]
+
+      val out = new ByteArrayOutputStream
+      serializer.toOutputStream(wrapped, out)
+      val bytes = out.toByteArray
+
+      bytes should ===(serializer.toBinary(wrapped))
+      serializer.fromInputStream(new ByteArrayInputStream(bytes)) should ===(Snapshot(MySnapshot2(".a.")))
+    }
+
+    "reject a corrupt header length without allocating it" in {
+      val wrapped = Snapshot(MySnapshot2("a"))
+      val serializer = serialization.findSerializerFor(wrapped).asInstanceOf[SnapshotSerializer]
+
+      // header length Int.MaxValue, little endian
+      val bytes = Array[Byte](-1, -1, -1, 127, 1, 2, 3, 4)
+      intercept[NotSerializableException] {
+        serializer.fromInputStream(new ByteArrayInputStream(bytes))
+      }.getMessage should startWith("Invalid snapshot header length")
+      intercept[NotSerializableException] {
+        serializer.fromBinary(bytes, None)
+      }.getMessage should startWith("Invalid snapshot header length")
+    }
   }
 }
 
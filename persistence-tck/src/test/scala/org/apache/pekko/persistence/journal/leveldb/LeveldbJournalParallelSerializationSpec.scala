@@ -0,0 +1,33 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.persistence.journal.leveldb
+
+import org.apache.pekko
+import pekko.persistence.{ PersistenceSpec, PluginCleanup }
+import pekko.persistence.journal.JournalSpec
+
+class LeveldbJournalParallelSerializationSpec
+    extends JournalSpec(
+      config = PersistenceSpec.config(
+        "leveldb",
+        "LeveldbJournalParallelSerializationSpec",
+        extraConfig = Some("""
+        pekko.persistence.journal.leveldb.native = off
+        pekko.persistence.journal.leveldb.serialization-dispatcher = "pekko.persistence.dispatchers.default-replay-dispatcher"
+        pekko.actor.allow-java-serialization = off
+        pekko.actor.warn-about-java-serializer-usage = on
+        """)))
+    with PluginCleanup {
+
+  override def supportsRejectingNonSerializableObjects = true
+
+  override def supportsSerialization = true
+
+}
@@ -85,6 +85,7 @@ class EventSourcedBehaviorWatchSpec
       stashState = new StashState(context.asInstanceOf[ActorContext[InternalProtocol]], settings),
       replication = None,
       publishEvents = false,
+      stateCacheEnabled = false,
       internalLoggerFactory = () => logger)
 
   "A typed persistent parent actor watching a child" must {
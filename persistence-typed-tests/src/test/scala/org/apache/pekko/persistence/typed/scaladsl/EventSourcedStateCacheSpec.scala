@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.persistence.typed.scaladsl
+
+import org.apache.pekko
+import pekko.actor.testkit.typed.scaladsl._
+import pekko.actor.typed.ActorRef
+import pekko.actor.typed.scaladsl.adapter._
+import pekko.persistence.DeleteMessagesSuccess
+import pekko.persistence.JournalProtocol
+import pekko.persistence.Persistence
+import pekko.persistence.typed.PersistenceId
+import pekko.persistence.typed.RecoveryCompleted
+import pekko.persistence.typed.SnapshotSelectionCriteria
+import pekko.persistence.typed.internal.EventSourcedStateCache
+import com.typesafe.config.ConfigFactory
+import org.scalatest.wordspec.AnyWordSpecLike
+
+object EventSourcedStateCacheSpec {
+
+  private val conf = ConfigFactory.parseString("""
+      pekko.persistence.journal.plugin = "pekko.persistence.journal.inmem"
+      pekko.persistence.journal.inmem.test-serialization = on
+      pekko.persistence.typed.state-cache.max-entries = 2
+      other-journal = ${pekko.persistence.journal.inmem}
+    """)
+}
+
+class EventSourcedStateCacheSpec
+    extends ScalaTestWithActorTestKit(EventSourcedStateCacheSpec.conf)
+    with AnyWordSpecLike
+    with LogCapturing {
+
+  def counter(persistenceId: PersistenceId, probe: ActorRef[String]): EventSourcedBehavior[Int, Int, Int] =
+    uncachedCounter(persistenceId, probe).withStateCache(true)
+
+  def uncachedCounter(persistenceId: PersistenceId, probe: ActorRef[String]): EventSourcedBehavior[Int, Int, Int] =
+    EventSourcedBehavior[Int, Int, Int](
+      persistenceId,
+      emptyState = 0,
+      commandHandler = (_, command) => {
+        if (command < 0)
+          Effect.stop()
+        else
+          Effect.persist(command)
+      },
+      eventHandler = (state, event) => {
+        probe.tell("eventHandler:" + state + ":" + event)
+        state + event
+      }).receiveSignal {
+      case (n, RecoveryCompleted) =>
+        probe.tell("onRecoveryCompleted:" + n)
+    }
+
+  private val cache = EventSourcedStateCache(system).cacheFor("")
+
+  "A typed persistent actor with state-cache enabled" must {
+    "recover from the cached state without replaying events" in {
+      val probe = TestProbe[String]()
+      val b = counter(PersistenceId.ofUniqueId("a"), probe.ref)
+      val ref1 = spawn(b)
+      probe.expectMessage("onRecoveryCompleted:0")
+      ref1 ! 1
+      probe.expectMessage("eventHandler:0:1")
+      ref1 ! 2
+      probe.expectMessage("eventHandler:1:2")
+
+      ref1 ! -1
+      probe.expectTerminated(ref1)
+
+      val ref2 = spawn(b)
+      probe.expectMessage("onRecoveryCompleted:3")
+      ref2 ! 3
+      probe.expectMessage("eventHandler:3:3")
+    }
+
+    "not use the cached state when events were written after it" in {
+      val probe = TestProbe[String]()
+      val pid = PersistenceId.ofUniqueId("b")
+      val ref1 = spawn(counter(pid, probe.ref))
+      probe.expectMessage("onRecoveryCompleted:0")
+      ref1 ! 1
+      probe.expectMessage("eventHandler:0:1")
+      ref1 ! -1
+      probe.expectTerminated(ref1)
+
+      // doesn't use the cache, since the recovery is not the default
+      val ref2 = spawn(
+        counter(pid, probe.ref).withRecovery(Recovery.withSnapshotSelectionCriteria(SnapshotSelectionCriteria.none)))
+      probe.expectMessage("eventHandler:0:1")
+      probe.expectMessage("onRecoveryCompleted:1")
+      ref2 ! 2
+      probe.expectMessage("eventHandler:1:2")
+      ref2 ! -1
+      probe.expectTerminated(ref2)
+
+      val ref3 = spawn(counter(pid, probe.ref))
+      probe.expectMessage("eventHandler:0:1")
+      probe.expectMessage("eventHandler:1:2")
+      probe.expectMessage("onRecoveryCompleted:3")
+      ref3 ! -1
+      probe.expectTerminated(ref3)
+    }
+
+    "not use the cached state when events were deleted after it" in {
+      val probe = TestProbe[String]()
+      val pid = PersistenceId.ofUniqueId("f")
+      val ref1 = spawn(counter(pid, probe.ref))
+      probe.expectMessage("onRecoveryCompleted:0")
+      ref1 ! 1
+      probe.expectMessage("eventHandler:0:1")
+      ref1 ! -1
+      probe.expectTerminated(ref1)
+
+      // another incarnation, e.g. on another node, writes an event and then the events are deleted
+      val ref2 = spawn(
+        counter(pid, probe.ref).withRecovery(Recovery.withSnapshotSelectionCriteria(SnapshotSelectionCriteria.none)))
+      probe.expectMessage("eventHandler:0:1")
+      probe.expectMessage("onRecoveryCompleted:1")
+      ref2 ! 2
+      probe.expectMessage("eventHandler:1:2")
+      ref2 ! -1
+      probe.expectTerminated(ref2)
+      val deleteProbe = TestProbe[Any]()
+      Persistence(system.toClassic).journalFor("") ! JournalProtocol.DeleteMessagesTo(
+        pid.id,
+        2L,
+        deleteProbe.ref.toClassic)
+      deleteProbe.expectMessage(DeleteMessagesSuccess(2L))
+
+      // the cached state with sequenceNr 1 would skip the deleted event 2
+      val ref3 = spawn(counter(pid, probe.ref))
+      probe.expectMessage("onRecoveryCompleted:0")
+      ref3 ! -1
+      probe.expectTerminated(ref3)
+    }
+
+    "evict the least recently cached states" in {
+      val probe = TestProbe[String]()
+      (1 to 3).foreach { n =>
+        val ref = spawn(counter(PersistenceId.ofUniqueId(s"c-$n"), probe.ref))
+        probe.expectMessage("onRecoveryCompleted:0")
+        ref ! n
+        probe.expectMessage(s"eventHandler:0:$n")
+        ref ! -1
+        probe.expectTerminated(ref)
+      }
+      cache.size should ===(2)
+
+      val ref1 = spawn(counter(PersistenceId.ofUniqueId("c-1"), probe.ref))
+      probe.expectMessage("eventHandler:0:1")
+      probe.expectMessage("onRecoveryCompleted:1")
+      ref1 ! -1
+      probe.expectTerminated(ref1)
+
+      val ref3 = spawn(counter(PersistenceId.ofUniqueId("c-3"), probe.ref))
+      probe.expectMessage("onRecoveryCompleted:3")
+      ref3 ! -1
+      probe.expectTerminated(ref3)
+    }
+
+    "not cache the state of actors that have not enabled the cache" in {
+      val probe = TestProbe[String]()
+      val pid = PersistenceId.ofUniqueId("d")
+      val ref1 = spawn(uncachedCounter(pid, probe.ref))
+      probe.expectMessage("onRecoveryCompleted:0")
+      ref1 ! 1
+      probe.expectMessage("eventHandler:0:1")
+      ref1 ! -1
+      probe.expectTerminated(ref1)
+
+      val ref2 = spawn(counter(pid, probe.ref))
+      probe.expectMessage("eventHandler:0:1")
+      probe.expectMessage("onRecoveryCompleted:1")
+      ref2 ! -1
+      probe.expectTerminated(ref2)
+    }
+
+    "only use cached states of the same journal plugin" in {
+      val probe = TestProbe[String]()
+      val pid = PersistenceId.ofUniqueId("e")
+      val ref1 = spawn(counter(pid, probe.ref))
+      probe.expectMessage("onRecoveryCompleted:0")
+      ref1 ! 1
+      probe.expectMessage("eventHandler:0:1")
+      ref1 ! -1
+      probe.expectTerminated(ref1)
+
+      val ref2 = spawn(counter(pid, probe.ref).withJournalPluginId("other-journal"))
+      probe.expectMessage("onRecoveryCompleted:0")
+      ref2 ! -1
+      probe.expectTerminated(ref2)
+      EventSourcedStateCache(system).cacheFor("other-journal").size should ===(1)
+
+      val ref3 = spawn(counter(pid, probe.ref))
+      probe.expectMessage("onRecoveryCompleted:1")
+      ref3 ! -1
+      probe.expectTerminated(ref3)
+    }
+  }
+}
@@ -66,6 +66,7 @@ private[pekko] final class BehaviorSetup[C, E, S](
     val stashState: StashState,
     val replication: Option[ReplicationSetup],
     val publishEvents: Boolean,
+    val stateCacheEnabled: Boolean,
     private val internalLoggerFactory: () => Logger) {
 
   import BehaviorSetup._
@@ -154,6 +155,34 @@ private[pekko] final class BehaviorSetup[C, E, S](
     }
   }
 
+  // only used with the default recovery, a cached state may be newer than a custom toSequenceNr
+  private val stateCache: OptionVal[EventSourcedStateCache.PluginStateCache] =
+    if (stateCacheEnabled && settings.stateCacheMaxEntries > 0 && recovery == Recovery())
+      OptionVal.Some(EventSourcedStateCache(context.system).cacheFor(settings.journalPluginId))
+    else OptionVal.None
+
+  /**
+   * Keeps the state in the [[EventSourcedStateCache]], if enabled, when the actor is stopped.
+   * The `state` must only include events that have been successfully written.
+   */
+  def cacheStateOnStop(state: Running.RunningState[S]): Unit =
+    stateCache match {
+      case OptionVal.Some(cache) if state.state != null =>
+        cache.put(
+          persistenceId.id,
+          EventSourcedStateCache.Entry(state.seqNr, state.state, state.version, state.seenPerReplica))
+      case _ =>
+    }
+
+  /**
+   * Removes and returns the state from the [[EventSourcedStateCache]], if enabled and present.
+   */
+  def takeCachedState(): Option[EventSourcedStateCache.Entry] =
+    stateCache match {
+      case OptionVal.Some(cache) => cache.take(persistenceId.id)
+      case _                     => None
+    }
+
   def shouldSnapshot(state: S, event: E, sequenceNr: Long): SnapshotAfterPersist = {
     retention match {
       case DisabledRetentionCriteria =>
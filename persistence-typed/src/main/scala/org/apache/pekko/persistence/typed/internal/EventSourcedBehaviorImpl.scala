@@ -114,7 +114,8 @@ private[pekko] final case class EventSourcedBehaviorImpl[Command, Event, State](
     supervisionStrategy: SupervisorStrategy = SupervisorStrategy.stop,
     override val signalHandler: PartialFunction[(State, Signal), Unit] = PartialFunction.empty,
     replication: Option[ReplicationSetup] = None,
-    publishEvents: Boolean = true)
+    publishEvents: Boolean = true,
+    stateCache: Boolean = false)
     extends EventSourcedBehavior[Command, Event, State] {
 
   import EventSourcedBehaviorImpl.WriterIdentity
@@ -201,6 +202,7 @@ private[pekko] final case class EventSourcedBehaviorImpl[Command, Event, State](
             stashState = stashState,
             replication = replication,
             publishEvents = publishEvents,
+            stateCacheEnabled = stateCache,
             internalLoggerFactory = () => internalLogger())
 
           // needs to accept Any since we also can get messages from the journal
@@ -293,6 +295,9 @@ private[pekko] final case class EventSourcedBehaviorImpl[Command, Event, State](
     copy(publishEvents = enabled)
   }
 
+  override def withStateCache(enabled: Boolean): EventSourcedBehavior[Command, Event, State] =
+    copy(stateCache = enabled)
+
   override private[pekko] def withReplication(
       context: ReplicationContextImpl): EventSourcedBehavior[Command, Event, State] = {
     copy(
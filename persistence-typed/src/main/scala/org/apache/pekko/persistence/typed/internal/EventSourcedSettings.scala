@@ -53,6 +53,9 @@ import pekko.persistence.Persistence
 
     val useContextLoggerForInternalLogging = typedConfig.getBoolean("use-context-logger-for-internal-logging")
 
+    val stateCacheMaxEntries = typedConfig.getInt("state-cache.max-entries")
+    require(stateCacheMaxEntries >= 0, "state-cache.max-entries MUST be >= 0")
+
     Persistence.verifyPluginConfigExists(config, snapshotPluginId, "Snapshot store")
 
     EventSourcedSettings(
@@ -62,7 +65,8 @@ import pekko.persistence.Persistence
       recoveryEventTimeout,
       journalPluginId,
       snapshotPluginId,
-      useContextLoggerForInternalLogging)
+      useContextLoggerForInternalLogging,
+      stateCacheMaxEntries)
   }
 
   private def journalConfigFor(config: Config, journalPluginId: String): Config = {
@@ -90,7 +94,8 @@ private[pekko] final case class EventSourcedSettings(
     recoveryEventTimeout: FiniteDuration,
     journalPluginId: String,
     snapshotPluginId: String,
-    useContextLoggerForInternalLogging: Boolean) {
+    useContextLoggerForInternalLogging: Boolean,
+    stateCacheMaxEntries: Int = 0) {
 
   require(journalPluginId != null, "journal plugin id must not be null; use empty string for 'default' journal")
   require(
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.persistence.typed.internal
+
+import java.util.{ LinkedHashMap => JLinkedHashMap }
+import java.util.{ Map => JMap }
+import java.util.concurrent.ConcurrentHashMap
+
+import org.apache.pekko
+import pekko.actor.typed.ActorSystem
+import pekko.actor.typed.Extension
+import pekko.actor.typed.ExtensionId
+import pekko.annotation.InternalApi
+import pekko.persistence.typed.ReplicaId
+
+/**
+ * INTERNAL API
+ */
+@InternalApi private[pekko] object EventSourcedStateCache extends ExtensionId[EventSourcedStateCache] {
+
+  /**
+   * The state of a stopped `EventSourcedBehavior` and the sequence number of the last event
+   * that has been applied to it.
+   */
+  final case class Entry(seqNr: Long, state: Any, version: VersionVector, seenPerReplica: Map[ReplicaId, Long])
+
+  override def createExtension(system: ActorSystem[_]): EventSourcedStateCache =
+    new EventSourcedStateCache(system.settings.config.getInt("pekko.persistence.typed.state-cache.max-entries"))
+
+  /**
+   * Bounded cache of the states of the entities that use one journal plugin.
+   * The least recently stored entries are evicted when more than `maxEntries` states are cached.
+   */
+  final class PluginStateCache(val journalPluginId: String, val maxEntries: Int) {
+
+    private val entries = new JLinkedHashMap[String, Entry](16, 0.75f, true) {
+      override def removeEldestEntry(eldest: JMap.Entry[String, Entry]): Boolean =
+        size() > maxEntries
+    }
+
+    def put(persistenceId: String, entry: Entry): Unit =
+      if (maxEntries > 0) entries.synchronized {
+        entries.put(persistenceId, entry)
+      }
+
+    /**
+     * Removes and returns the cached entry, an entry is only used by one incarnation of the entity.
+     */
+    def take(persistenceId: String): Option[Entry] =
+      entries.synchronized {
+        Option(entries.remove(persistenceId))
+      }
+
+    def size: Int =
+      entries.synchronized {
+        entries.size
+      }
+  }
+}
+
+/**
+ * INTERNAL API
+ *
+ * Latest state of stopped `EventSourcedBehavior` instances that have enabled the cache with
+ * `withStateCache`. There is one bounded cache per journal plugin id, so entities of different
+ * plugins don't evict each other and never see each other's state. When the same entity is started
+ * again on this node the state is taken from the cache instead of being loaded from the snapshot store
+ * and the events. The journal remains the source of truth, the entry is only used if the highest sequence
+ * number in the journal is the cached sequence number, see [[ReplayingSnapshot]].
+ *
+ * The cached state instance is shared with the next incarnation of the entity, it must be immutable.
+ */
+@InternalApi private[pekko] final class EventSourcedStateCache(val maxEntriesPerPlugin: Int) extends Extension {
+  import EventSourcedStateCache.PluginStateCache
+
+  private val caches = new ConcurrentHashMap[String, PluginStateCache]
+
+  def cacheFor(journalPluginId: String): PluginStateCache =
+    caches.computeIfAbsent(journalPluginId, id => new PluginStateCache(id, maxEntriesPerPlugin))
+}
@@ -138,6 +138,15 @@ private[pekko] trait JournalInteractions[C, E, S] {
       setup.selfClassic)
   }
 
+  /**
+   * The journal replies with `RecoverySuccess` with the highest sequence number, without replaying any events
+   * since `toSequenceNr` is lower than `fromSequenceNr`.
+   */
+  protected def readHighestSequenceNr(): Unit = {
+    setup.internalLogger.debug("Reading highest sequenceNr")
+    setup.journal.tell(ReplayMessages(1L, 0L, 0L, setup.persistenceId.id, setup.selfClassic), setup.selfClassic)
+  }
+
   protected def requestRecoveryPermit(): Unit = {
     setup.persistence.recoveryPermitter.tell(RecoveryPermitter.RequestRecoveryPermit, setup.selfClassic)
   }
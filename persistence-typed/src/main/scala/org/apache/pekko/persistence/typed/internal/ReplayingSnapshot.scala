@@ -19,6 +19,8 @@ import pekko.actor.typed.internal.PoisonPill
 import pekko.actor.typed.scaladsl.{ ActorContext, Behaviors }
 import pekko.annotation.{ InternalApi, InternalStableApi }
 import pekko.persistence._
+import pekko.persistence.JournalProtocol.RecoverySuccess
+import pekko.persistence.JournalProtocol.ReplayMessagesFailure
 import pekko.persistence.SnapshotProtocol.LoadSnapshotFailed
 import pekko.persistence.SnapshotProtocol.LoadSnapshotResult
 import pekko.persistence.typed.{ RecoveryFailed, ReplicaId }
@@ -35,6 +37,10 @@ import pekko.actor.typed.scaladsl.LoggerOps
  * We try to obtain a snapshot from the configured snapshot store,
  * and if it exists, we use it instead of the initial `emptyState`.
  *
+ * If the state of a previous incarnation is kept in the [[EventSourcedStateCache]] that is used
+ * instead of the snapshot, when the highest sequence number in the journal is the sequence number
+ * of the cached state.
+ *
  * Once snapshot recovery is done (or no snapshot was selected),
  * recovery of events continues in [[ReplayingEvents]].
  *
@@ -59,40 +65,116 @@ private[pekko] class ReplayingSnapshot[C, E, S](override val setup: BehaviorSetu
 
   onRecoveryStart(setup.context)
 
-  def createBehavior(receivedPoisonPillInPreviousPhase: Boolean): Behavior[InternalProtocol] = {
+  def createBehavior(receivedPoisonPillInPreviousPhase: Boolean): Behavior[InternalProtocol] =
+    setup.takeCachedState() match {
+      case Some(cached) => readHighestSequenceNrAndStay(cached, receivedPoisonPillInPreviousPhase)
+      case None         => loadSnapshotAndStay(receivedPoisonPillInPreviousPhase)
+    }
+
+  /**
+   * The state of a previous incarnation was kept in the [[EventSourcedStateCache]] when it was stopped.
+   * It is only used if the highest sequence number in the journal is the cached one, otherwise events have
+   * been written by another incarnation since then, e.g. on another node, or the events have been removed
+   * together with the sequence number, and the snapshot is loaded as usual.
+   */
+  private def readHighestSequenceNrAndStay(
+      cached: EventSourcedStateCache.Entry,
+      receivedPoisonPillInPreviousPhase: Boolean): Behavior[InternalProtocol] = {
+    // protect against stalling forever because of journal overloaded and such
+    setup.startRecoveryTimer(snapshot = true)
+
+    readHighestSequenceNr()
+
+    stay(receivedPoisonPillInPreviousPhase, Some(cached))
+  }
+
+  private def loadSnapshotAndStay(receivedPoisonPillInPreviousPhase: Boolean): Behavior[InternalProtocol] = {
     // protect against snapshot stalling forever because of journal overloaded and such
     setup.startRecoveryTimer(snapshot = true)
 
     loadSnapshot(setup.recovery.fromSnapshot, setup.recovery.toSequenceNr)
 
-    def stay(receivedPoisonPill: Boolean): Behavior[InternalProtocol] = {
-      Behaviors
-        .receiveMessage[InternalProtocol] {
-          case SnapshotterResponse(r)                     => onSnapshotterResponse(r, receivedPoisonPill)
-          case JournalResponse(r)                         => onJournalResponse(r)
-          case RecoveryTickEvent(snapshot)                => onRecoveryTick(snapshot)
-          case evt: ReplicatedEventEnvelope[E @unchecked] => onReplicatedEvent(evt)
-          case pe: PublishedEventImpl                     => onPublishedEvent(pe)
-          case cmd: IncomingCommand[C @unchecked] =>
-            if (receivedPoisonPill) {
-              if (setup.settings.logOnStashing)
-                setup.internalLogger.debug("Discarding message [{}], because actor is to be stopped.", cmd)
-              Behaviors.unhandled
-            } else
-              onCommand(cmd)
-          case get: GetState[S @unchecked] => stashInternal(get)
-          case get: GetSeenSequenceNr      => stashInternal(get)
-          case RecoveryPermitGranted       => Behaviors.unhandled // should not happen, we already have the permit
+    stay(receivedPoisonPillInPreviousPhase, cached = None)
+  }
+
+  /**
+   * @param cached the cached state while waiting for the highest sequence number, otherwise waiting
+   *               for the snapshot
+   */
+  private def stay(
+      receivedPoisonPill: Boolean,
+      cached: Option[EventSourcedStateCache.Entry]): Behavior[InternalProtocol] = {
+    Behaviors
+      .receiveMessage[InternalProtocol] {
+        case SnapshotterResponse(r) if cached.isEmpty => onSnapshotterResponse(r, receivedPoisonPill)
+        case JournalResponse(r) =>
+          cached match {
+            case Some(c) => onHighestSequenceNrResponse(r, c, receivedPoisonPill)
+            case None    => onJournalResponse(r)
+          }
+        case RecoveryTickEvent(snapshot)                => onRecoveryTick(snapshot)
+        case evt: ReplicatedEventEnvelope[E @unchecked] => onReplicatedEvent(evt)
+        case pe: PublishedEventImpl                     => onPublishedEvent(pe)
+        case cmd: IncomingCommand[C @unchecked] =>
+          if (receivedPoisonPill) {
+            if (setup.settings.logOnStashing)
+              setup.internalLogger.debug("Discarding message [{}], because actor is to be stopped.", cmd)
+            Behaviors.unhandled
+          } else
+            onCommand(cmd)
+        case get: GetState[S @unchecked] => stashInternal(get)
+        case get: GetSeenSequenceNr      => stashInternal(get)
+        case RecoveryPermitGranted       => Behaviors.unhandled // should not happen, we already have the permit
+        case SnapshotterResponse(_)      => Behaviors.unhandled
+      }
+      .receiveSignal(returnPermitOnStop.orElse {
+        case (_, PoisonPill) =>
+          stay(receivedPoisonPill = true, cached)
+        case (_, signal) =>
+          if (setup.onSignal(setup.emptyState, signal, catchAndLog = true)) Behaviors.same
+          else Behaviors.unhandled
+      })
+  }
+
+  private def onHighestSequenceNrResponse(
+      response: JournalProtocol.Response,
+      cached: EventSourcedStateCache.Entry,
+      receivedPoisonPill: Boolean): Behavior[InternalProtocol] =
+    response match {
+      case RecoverySuccess(highestSeqNr) =>
+        setup.cancelRecoveryTimer()
+        if (highestSeqNr == cached.seqNr) {
+          replayFromCachedState(cached, receivedPoisonPill)
+        } else {
+          setup.internalLogger.debug2(
+            "Not using cached state with sequenceNr [{}], the highest sequenceNr in the journal is [{}]",
+            cached.seqNr,
+            highestSeqNr)
+          loadSnapshotAndStay(receivedPoisonPill)
         }
-        .receiveSignal(returnPermitOnStop.orElse {
-          case (_, PoisonPill) =>
-            stay(receivedPoisonPill = true)
-          case (_, signal) =>
-            if (setup.onSignal(setup.emptyState, signal, catchAndLog = true)) Behaviors.same
-            else Behaviors.unhandled
-        })
+      case ReplayMessagesFailure(cause) =>
+        onRecoveryFailure(cause)
+      case other =>
+        onJournalResponse(other)
     }
-    stay(receivedPoisonPillInPreviousPhase)
+
+  private def replayFromCachedState(
+      cached: EventSourcedStateCache.Entry,
+      receivedPoisonPill: Boolean): Behavior[InternalProtocol] = {
+    setup.internalLogger.debug("Recovering from cached state with sequenceNr [{}]", cached.seqNr)
+    // normally there are no events after the cached sequenceNr, ReplayingEvents completes the recovery
+    ReplayingEvents[C, E, S](
+      setup,
+      ReplayingEvents.ReplayingState(
+        cached.seqNr,
+        cached.state.asInstanceOf[S],
+        eventSeenInInterval = false,
+        setup.recovery.toSequenceNr,
+        receivedPoisonPill,
+        System.nanoTime(),
+        cached.version,
+        cached.seenPerReplica,
+        eventsReplayed = 0))
   }
 
   /**
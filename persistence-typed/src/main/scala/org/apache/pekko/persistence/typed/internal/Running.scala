@@ -23,7 +23,7 @@ import scala.collection.immutable
 import org.apache.pekko
 import pekko.actor.UnhandledMessage
 import pekko.actor.typed.eventstream.EventStream
-import pekko.actor.typed.{ Behavior, Signal }
+import pekko.actor.typed.{ Behavior, PostStop, Signal }
 import pekko.actor.typed.internal.PoisonPill
 import pekko.actor.typed.scaladsl.{ AbstractBehavior, ActorContext, Behaviors, LoggerOps }
 import pekko.annotation.{ InternalApi, InternalStableApi }
@@ -264,6 +264,7 @@ private[pekko] object Running {
         if (isInternalStashEmpty && !isUnstashAllInProgress) Behaviors.stopped
         else new HandlingCommands(state.copy(receivedPoisonPill = true))
       case signal =>
+        if (signal == PostStop) setup.cacheStateOnStop(state)
         if (setup.onSignal(state.state, signal, catchAndLog = false)) this
         else Behaviors.unhandled
     }
@@ -776,6 +777,8 @@ private[pekko] object Running {
         state = state.copy(receivedPoisonPill = true)
         this
       case signal =>
+        // if the events that are not confirmed yet were written the cached state is not used when recovering
+        if (signal == PostStop) setup.cacheStateOnStop(visibleState)
         if (setup.onSignal(visibleState.state, signal, catchAndLog = false)) this
         else Behaviors.unhandled
     }
@@ -874,6 +877,7 @@ private[pekko] object Running {
         // wait for snapshot response before stopping
         new StoringSnapshot(state.copy(receivedPoisonPill = true), sideEffects, snapshotReason)
       case signal =>
+        if (signal == PostStop) setup.cacheStateOnStop(state)
         if (setup.onSignal(state.state, signal, catchAndLog = false))
           Behaviors.same
         else
@@ -22,6 +22,7 @@ import pekko.actor.typed.BackoffSupervisorStrategy
 import pekko.actor.typed.Behavior
 import pekko.actor.typed.internal.BehaviorImpl.DeferredBehavior
 import pekko.actor.typed.javadsl.ActorContext
+import pekko.annotation.ApiMayChange
 import pekko.annotation.InternalApi
 import pekko.persistence.typed._
 import pekko.persistence.typed.EventAdapter
@@ -189,6 +190,19 @@ abstract class EventSourcedBehavior[Command, Event, State] private[pekko] (
    */
   def snapshotAdapter(): SnapshotAdapter[State] = NoOpSnapshotAdapter.instance[State]
 
+  /**
+   * Override and return `true` to keep the latest state in a local in-memory cache when the actor is stopped,
+   * for example when it is passivated by Cluster Sharding. When an actor with the same `persistenceId` and
+   * journal plugin is started again in the same `ActorSystem` the cached state is used instead of loading
+   * the snapshot and replaying the events, if the highest sequence number in the journal is still the
+   * sequence number of the cached state. Only used with the default [[Recovery]].
+   *
+   * The cached state instance is handed to the next incarnation of the actor, so this must only be
+   * enabled when the `State` is immutable.
+   */
+  @ApiMayChange
+  def stateCacheEnabled: Boolean = false
+
   /**
    * INTERNAL API: DeferredBehavior init, not for user extension
    */
@@ -225,6 +239,7 @@ abstract class EventSourcedBehavior[Command, Event, State] private[pekko] (
       .withJournalPluginId(journalPluginId)
       .withSnapshotPluginId(snapshotPluginId)
       .withRecovery(recovery.asScala)
+      .withStateCache(stateCacheEnabled)
 
     val handler = signalHandler()
     val behaviorWithSignalHandler =
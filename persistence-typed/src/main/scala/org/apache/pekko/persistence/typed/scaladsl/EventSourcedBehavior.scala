@@ -237,6 +237,21 @@ object EventSourcedBehavior {
   @ApiMayChange
   def withEventPublishing(enabled: Boolean): EventSourcedBehavior[Command, Event, State]
 
+  /**
+   * Keep the latest state in a local in-memory cache when the actor is stopped, for example when
+   * it is passivated by Cluster Sharding. When an actor with the same `persistenceId` and journal plugin
+   * is started again in the same `ActorSystem` the cached state is used instead of loading the snapshot
+   * and replaying the events, if the highest sequence number in the journal is still the sequence number
+   * of the cached state. Only used with the default [[Recovery]].
+   *
+   * The cached state instance is handed to the next incarnation of the actor, so this must only be
+   * enabled when the `State` is immutable.
+   *
+   * The number of cached states per journal plugin is defined by `pekko.persistence.typed.state-cache.max-entries`.
+   */
+  @ApiMayChange
+  def withStateCache(enabled: Boolean): EventSourcedBehavior[Command, Event, State]
+
   /**
    * INTERNAL API
    */
@@ -13,6 +13,7 @@
 
 package org.apache.pekko.persistence.journal.leveldb
 
+import scala.collection.immutable
 import scala.concurrent.Future
 
 import com.typesafe.config.Config
@@ -44,7 +45,7 @@ private[persistence] class LeveldbJournal(cfg: Config) extends AsyncWriteJournal
     if (cfg ne LeveldbStore.emptyConfig) cfg
     else context.system.settings.config.getConfig("pekko.persistence.journal.leveldb")
 
-  override def receivePluginInternal: Receive = receiveCompactionInternal.orElse {
+  override def receivePluginInternal: Receive = receiveCompactionInternal.orElse(receiveWriteCompletedInternal).orElse {
     case ReplayTaggedMessages(fromSequenceNr, toSequenceNr, max, tag, replyTo) =>
       import context.dispatcher
       val readHighestSequenceNrFrom = math.max(0L, fromSequenceNr - 1)
@@ -98,6 +99,14 @@ private[persistence] object LeveldbJournal {
   final case class SubscribePersistenceId(persistenceId: String) extends SubscriptionCommand
   final case class EventAppended(persistenceId: String) extends DeadLetterSuppression
 
+  /**
+   * Sent instead of [[EventAppended]] to local subscribers of a `persistenceId`, with the appended
+   * events in sequence number order, after the `asyncWriteMessages` has completed successfully.
+   */
+  final case class EventsAppended(persistenceId: String, events: immutable.Seq[PersistentRepr])
+      extends DeadLetterSuppression
+      with NoSerializationVerificationNeeded
+
   /**
    * Subscribe the `sender` to current and new persistenceIds.
    * Used by query-side. The journal will send one [[CurrentPersistenceIds]] to the
@@ -118,6 +127,14 @@ private[persistence] object LeveldbJournal {
   final case class SubscribeTag(tag: String) extends SubscriptionCommand
   final case class TaggedEventAppended(tag: String) extends DeadLetterSuppression
 
+  /**
+   * Sent instead of [[TaggedEventAppended]] to local subscribers of a `tag`, with the appended events
+   * in offset order, after the `asyncWriteMessages` has completed successfully.
+   */
+  final case class TaggedEventsAppended(tag: String, events: immutable.Seq[ReplayedTaggedMessage])
+      extends DeadLetterSuppression
+      with NoSerializationVerificationNeeded
+
   /**
    * `fromSequenceNr` is exclusive
    * `toSequenceNr` is inclusive
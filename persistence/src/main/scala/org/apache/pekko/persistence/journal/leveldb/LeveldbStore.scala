@@ -17,7 +17,7 @@ import java.io.File
 
 import scala.collection.immutable
 import scala.collection.mutable
-import scala.concurrent.Future
+import scala.concurrent.{ ExecutionContext, Future }
 import scala.util._
 import scala.util.control.NonFatal
 
@@ -26,6 +26,7 @@ import org.iq80.leveldb._
 
 import org.apache.pekko
 import pekko.actor._
+import pekko.dispatch.ExecutionContexts
 import pekko.persistence._
 import pekko.persistence.journal.Tagged
 import pekko.persistence.journal.WriteJournalBase
@@ -35,6 +36,20 @@ import pekko.util.ccompat.JavaConverters._
 private[persistence] object LeveldbStore {
   val emptyConfig = ConfigFactory.empty()
 
+  /**
+   * Event with its assigned numeric id and, for each tag, the tag numeric id and tag sequence number.
+   */
+  private[leveldb] final case class PreparedEntry(
+      persistent: PersistentRepr,
+      numericId: Int,
+      tags: Map[String, (Int, Long)])
+
+  private[leveldb] final case class PipelinedWriteCompleted(
+      prepared: immutable.Seq[Try[immutable.Seq[PreparedEntry]]],
+      result: Try[immutable.Seq[Try[Unit]]],
+      tags: Set[String])
+      extends NoSerializationVerificationNeeded
+
   def toCompactionIntervalMap(obj: ConfigObject): Map[String, Long] = {
     obj.unwrapped().asScala.map(entry => (entry._1, java.lang.Long.parseLong(entry._2.toString))).toMap
   }
@@ -81,18 +96,34 @@ private[persistence] trait LeveldbStore
 
   val serialization = SerializationExtension(context.system)
 
+  private val serializationExecutionContext: Option[ExecutionContext] =
+    if (config.hasPath("serialization-dispatcher") && config.getString("serialization-dispatcher").nonEmpty)
+      Some(context.system.dispatchers.lookup(config.getString("serialization-dispatcher")))
+    else None
+  private var lastPipelinedWrite: Future[Unit] = Future.successful(())
+
   import Key._
+  import LeveldbStore.PreparedEntry
+
+  def asyncWriteMessages(messages: immutable.Seq[AtomicWrite]): Future[immutable.Seq[Try[Unit]]] =
+    serializationExecutionContext match {
+      case Some(ec) => pipelinedWriteMessages(messages)(ec)
+      case None     => writeMessages(messages)
+    }
 
-  def asyncWriteMessages(messages: immutable.Seq[AtomicWrite]): Future[immutable.Seq[Try[Unit]]] = {
-    var persistenceIds = Set.empty[String]
+  private def writeMessages(messages: immutable.Seq[AtomicWrite]): Future[immutable.Seq[Try[Unit]]] = {
+    var appended = Map.empty[String, Vector[PersistentRepr]]
     var allTags = Set.empty[String]
+    var taggedAppended = Map.empty[String, Vector[(PersistentRepr, Long)]]
 
-    val result = Future.fromTry(Try {
+    val result = Try {
       withBatch(batch =>
         messages.map {
           a =>
             Try {
-              a.payload.foreach { p =>
+              // only added to taggedAppended when all events of the atomic write were added to the batch
+              var writeTagged = Vector.empty[(String, (PersistentRepr, Long))]
+              val written = a.payload.map { p =>
                 val (p2, tags) = p.payload match {
                   case Tagged(payload, tags) =>
                     (p.withPayload(payload), tags)
@@ -104,24 +135,141 @@ private[persistence] trait LeveldbStore
                 require(
                   !p2.persistenceId.startsWith(tagPersistenceIdPrefix),
                   s"persistenceId [${p.persistenceId}] must not start with $tagPersistenceIdPrefix")
-                addToMessageBatch(p2, tags, batch)
+                val timestamped = p2.withTimestamp(System.currentTimeMillis())
+                val tagOffsets = addToMessageBatch(timestamped, tags, batch)
+                if (hasTagSubscribers)
+                  tagOffsets.foreach {
+                    case (tag, offset) => writeTagged :+= (tag -> (timestamped -> offset))
+                  }
+                timestamped
+              }
+              writeTagged.foreach {
+                case (tag, event) =>
+                  taggedAppended = taggedAppended.updated(tag, taggedAppended.getOrElse(tag, Vector.empty) :+ event)
+              }
+              if (hasPersistenceIdSubscribers) {
+                val pid = a.persistenceId
+                appended = appended.updated(pid, appended.getOrElse(pid, Vector.empty) ++ written)
               }
-              if (hasPersistenceIdSubscribers)
-                persistenceIds += a.persistenceId
             }
         })
-    })
+    }
 
     if (hasPersistenceIdSubscribers) {
-      persistenceIds.foreach { pid =>
-        notifyPersistenceIdChange(pid)
+      appended.foreach {
+        case (pid, events) =>
+          // the events are only pushed to subscribers when known to be written
+          notifyPersistenceIdChange(pid, if (result.isSuccess) events else Nil)
       }
     }
     if (hasTagSubscribers && allTags.nonEmpty)
-      allTags.foreach(notifyTagChange)
+      allTags.foreach { tag =>
+        notifyTagChange(tag, if (result.isSuccess) taggedAppended.getOrElse(tag, Nil) else Nil)
+      }
+    Future.fromTry(result)
+  }
+
+  /**
+   * Events are serialized in parallel on the `serialization-dispatcher`, and the batches are then written
+   * in the same order as `asyncWriteMessages` was called. Numeric ids and tag sequence numbers are assigned
+   * by the actor when the write is started, and subscribers are notified by the actor when the write is completed.
+   */
+  private def pipelinedWriteMessages(messages: immutable.Seq[AtomicWrite])(
+      implicit ec: ExecutionContext): Future[immutable.Seq[Try[Unit]]] = {
+    val prepared = messages.map(a => Try(prepareAtomicWrite(a)))
+    val serialized = Future.traverse(prepared) { p =>
+      Future(p.map(_.map(entry => entry -> persistentToBytes(entry.persistent))))
+    }
+    val previousWrite = lastPipelinedWrite
+    val result = serialized.flatMap { entries =>
+      previousWrite.map { _ =>
+        withBatch(batch =>
+          entries.map(_.map(_.foreach {
+            case (entry, persistentBytes) => addToMessageBatch(entry, persistentBytes, batch)
+          })))
+      }
+    }
+    lastPipelinedWrite = result.transform(_ => Success(()))(ExecutionContexts.parasitic)
+
+    val allTags =
+      if (hasTagSubscribers)
+        prepared.collect { case Success(entries) => entries.flatMap(_.tags.keys) }.flatten.toSet
+      else Set.empty[String]
+    if (hasPersistenceIdSubscribers || allTags.nonEmpty)
+      result.onComplete(r => self ! LeveldbStore.PipelinedWriteCompleted(prepared, r, allTags))
+
     result
   }
 
+  private def prepareAtomicWrite(a: AtomicWrite): immutable.Seq[PreparedEntry] = {
+    val untagged = a.payload.map { p =>
+      p.payload match {
+        case Tagged(payload, tags) => (p.withPayload(payload), tags)
+        case _                     => (p, Set.empty[String])
+      }
+    }
+    untagged.foreach {
+      case (p, _) =>
+        require(
+          !p.persistenceId.startsWith(tagPersistenceIdPrefix),
+          s"persistenceId [${p.persistenceId}] must not start with $tagPersistenceIdPrefix")
+    }
+    untagged.map {
+      case (p, tags) =>
+        PreparedEntry(
+          p.withTimestamp(System.currentTimeMillis()),
+          numericId(p.persistenceId),
+          tags.iterator.map(tag => tag -> (tagNumericId(tag) -> nextTagSequenceNr(tag))).toMap)
+    }
+  }
+
+  private def addToMessageBatch(entry: PreparedEntry, persistentBytes: Array[Byte], batch: WriteBatch): Unit = {
+    val nid = entry.numericId
+    val sequenceNr = entry.persistent.sequenceNr
+    batch.put(keyToBytes(counterKey(nid)), counterToBytes(sequenceNr))
+    batch.put(keyToBytes(Key(nid, sequenceNr, 0)), persistentBytes)
+
+    entry.tags.valuesIterator.foreach {
+      case (tagNid, tagSeqNr) =>
+        batch.put(keyToBytes(counterKey(tagNid)), counterToBytes(tagSeqNr))
+        batch.put(keyToBytes(Key(tagNid, tagSeqNr, 0)), persistentBytes)
+    }
+  }
+
+  def receiveWriteCompletedInternal: Receive = {
+    case LeveldbStore.PipelinedWriteCompleted(prepared, result, tags) =>
+      val results = result match {
+        case Success(r) => r
+        case Failure(e) => prepared.map(_ => Failure(e))
+      }
+      var appended = Map.empty[String, Vector[PersistentRepr]]
+      var taggedAppended = Map.empty[String, Vector[(PersistentRepr, Long)]]
+      prepared.iterator.zip(results.iterator).foreach {
+        case (Success(entries), r) =>
+          val pid = entries.head.persistent.persistenceId
+          // the events are only pushed to subscribers when known to be written
+          val written = if (r.isSuccess) entries else Nil
+          appended = appended.updated(pid, appended.getOrElse(pid, Vector.empty) ++ written.map(_.persistent))
+          if (tags.nonEmpty)
+            written.foreach { entry =>
+              entry.tags.foreach {
+                case (tag, (_, offset)) =>
+                  taggedAppended = taggedAppended.updated(
+                    tag,
+                    taggedAppended.getOrElse(tag, Vector.empty) :+ (entry.persistent -> offset))
+              }
+            }
+        case _ =>
+      }
+      if (hasPersistenceIdSubscribers)
+        appended.foreach {
+          case (pid, events) => notifyPersistenceIdChange(pid, events)
+        }
+      tags.foreach { tag =>
+        notifyTagChange(tag, taggedAppended.getOrElse(tag, Nil))
+      }
+  }
+
   def asyncDeleteMessagesTo(persistenceId: String, toSequenceNr: Long): Future[Unit] =
     try Future.successful {
         withBatch { batch =>
@@ -177,17 +325,24 @@ private[persistence] trait LeveldbStore
   def persistentToBytes(p: PersistentRepr): Array[Byte] = serialization.serialize(p).get
   def persistentFromBytes(a: Array[Byte]): PersistentRepr = serialization.deserialize(a, classOf[PersistentRepr]).get
 
-  private def addToMessageBatch(persistent: PersistentRepr, tags: Set[String], batch: WriteBatch): Unit = {
-    val persistentBytes = persistentToBytes(persistent.withTimestamp(System.currentTimeMillis()))
+  /**
+   * @return the tags of the event with their assigned tag sequence numbers
+   */
+  private def addToMessageBatch(
+      persistent: PersistentRepr,
+      tags: Set[String],
+      batch: WriteBatch): immutable.Iterable[(String, Long)] = {
+    val persistentBytes = persistentToBytes(persistent)
     val nid = numericId(persistent.persistenceId)
     batch.put(keyToBytes(counterKey(nid)), counterToBytes(persistent.sequenceNr))
     batch.put(keyToBytes(Key(nid, persistent.sequenceNr, 0)), persistentBytes)
 
-    tags.foreach { tag =>
+    tags.map { tag =>
       val tagNid = tagNumericId(tag)
       val tagSeqNr = nextTagSequenceNr(tag)
       batch.put(keyToBytes(counterKey(tagNid)), counterToBytes(tagSeqNr))
       batch.put(keyToBytes(Key(tagNid, tagSeqNr, 0)), persistentBytes)
+      tag -> tagSeqNr
     }
   }
 
@@ -249,16 +404,43 @@ private[persistence] trait LeveldbStore
     subscriber ! LeveldbJournal.CurrentPersistenceIds(allPersistenceIds)
   }
 
-  private def notifyPersistenceIdChange(persistenceId: String): Unit =
+  /**
+   * Local subscribers are sent the written `events` directly, so that they don't have to read them
+   * from the store. Remote subscribers, or all subscribers if `events` is empty, are only notified of
+   * the change and will read the new events from the store.
+   */
+  private def notifyPersistenceIdChange(persistenceId: String, events: immutable.Seq[PersistentRepr]): Unit =
     if (persistenceIdSubscribers.contains(persistenceId)) {
       val changed = LeveldbJournal.EventAppended(persistenceId)
-      persistenceIdSubscribers(persistenceId).foreach(_ ! changed)
+      lazy val appended =
+        if (events.isEmpty) changed
+        else LeveldbJournal.EventsAppended(persistenceId, events.flatMap(adaptFromJournal))
+      persistenceIdSubscribers(persistenceId).foreach { subscriber =>
+        if (subscriber.path.address.hasLocalScope) subscriber ! appended
+        else subscriber ! changed
+      }
     }
 
-  private def notifyTagChange(tag: String): Unit =
+  /**
+   * Local subscribers are sent the written `events` with their tag sequence numbers directly, so that
+   * they don't have to read them from the store. Remote subscribers, or all subscribers if `events` is
+   * empty, are only notified of the change and will read the new events from the store.
+   */
+  private def notifyTagChange(tag: String, events: immutable.Seq[(PersistentRepr, Long)]): Unit =
     if (tagSubscribers.contains(tag)) {
       val changed = LeveldbJournal.TaggedEventAppended(tag)
-      tagSubscribers(tag).foreach(_ ! changed)
+      lazy val appended =
+        if (events.isEmpty) changed
+        else
+          LeveldbJournal.TaggedEventsAppended(
+            tag,
+            events.flatMap {
+              case (p, offset) => adaptFromJournal(p).map(LeveldbJournal.ReplayedTaggedMessage(_, tag, offset))
+            })
+      tagSubscribers(tag).foreach { subscriber =>
+        if (subscriber.path.address.hasLocalScope) subscriber ! appended
+        else subscriber ! changed
+      }
     }
 
   override protected def newPersistenceIdAdded(id: String): Unit = {
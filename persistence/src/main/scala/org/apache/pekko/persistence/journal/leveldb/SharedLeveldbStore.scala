@@ -43,7 +43,7 @@ class SharedLeveldbStore(cfg: Config) extends LeveldbStore {
     if (cfg ne LeveldbStore.emptyConfig) cfg.getConfig("store")
     else context.system.settings.config.getConfig("pekko.persistence.journal.leveldb-shared.store")
 
-  def receive = receiveCompactionInternal.orElse {
+  def receive = receiveCompactionInternal.orElse(receiveWriteCompletedInternal).orElse {
     case WriteMessages(messages) =>
       // TODO it would be nice to DRY this with AsyncWriteJournal, but this is using
       //      AsyncWriteProxy message protocol
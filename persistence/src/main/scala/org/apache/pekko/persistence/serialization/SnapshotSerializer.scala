@@ -17,6 +17,7 @@ import java.io._
 
 import org.apache.pekko
 import pekko.actor._
+import pekko.annotation.InternalApi
 import pekko.serialization._
 import pekko.util.ByteString.UTF_8
 
@@ -38,6 +39,9 @@ class SnapshotSerializer(val system: ExtendedActorSystem) extends BaseSerializer
 
   private lazy val serialization = SerializationExtension(system)
 
+  // the header is the serializer id and the manifest, anything larger is a corrupt snapshot
+  private final val MaxHeaderLength = 64 * 1024
+
   /**
    * Serializes a [[Snapshot]]. Delegates serialization of snapshot `data` to a matching
    * `org.apache.pekko.serialization.Serializer`.
@@ -82,39 +86,86 @@ class SnapshotSerializer(val system: ExtendedActorSystem) extends BaseSerializer
     (serializerId, manifest)
   }
 
-  private def snapshotToBinary(snapshot: AnyRef): Array[Byte] = {
-    def serialize() = {
-      val snapshotSerializer = serialization.findSerializerFor(snapshot)
-
-      val headerBytes = headerToBinary(snapshot, snapshotSerializer)
+  /**
+   * INTERNAL API
+   *
+   * Writes a [[Snapshot]] in the same format as [[SnapshotSerializer#toBinary]] directly to the given
+   * stream, without first assembling the complete binary representation in memory.
+   */
+  @InternalApi private[pekko] def toOutputStream(snapshot: Snapshot, out: OutputStream): Unit =
+    withTransportInformation { () =>
+      writeSnapshot(snapshot.data.asInstanceOf[AnyRef], out)
+    }
 
-      val out = new ByteArrayOutputStream
+  /**
+   * INTERNAL API
+   *
+   * Reads a [[Snapshot]] written by [[SnapshotSerializer#toBinary]] or [[SnapshotSerializer#toOutputStream]]
+   * from the given stream, allocating the snapshot `data` bytes only once.
+   */
+  @InternalApi private[pekko] def fromInputStream(in: InputStream): Snapshot = {
+    val headerLength = readInt(in)
+    checkHeaderLength(headerLength, MaxHeaderLength)
+    val headerBytes = new Array[Byte](headerLength)
+    readFully(in, headerBytes)
+    val (serializerId, manifest) = headerFromBinary(headerBytes)
 
-      writeInt(out, headerBytes.length)
+    Snapshot(serialization.deserialize(streamToBytes(in), serializerId, manifest).get)
+  }
 
-      out.write(headerBytes)
-      out.write(snapshotSerializer.toBinary(snapshot))
+  private def snapshotToBinary(snapshot: AnyRef): Array[Byte] =
+    withTransportInformation { () =>
+      val out = new ByteArrayOutputStream
+      writeSnapshot(snapshot, out)
       out.toByteArray
     }
 
+  private def writeSnapshot(snapshot: AnyRef, out: OutputStream): Unit = {
+    val snapshotSerializer = serialization.findSerializerFor(snapshot)
+
+    val headerBytes = headerToBinary(snapshot, snapshotSerializer)
+
+    writeInt(out, headerBytes.length)
+
+    out.write(headerBytes)
+    out.write(snapshotSerializer.toBinary(snapshot))
+  }
+
+  private def withTransportInformation[T](f: () => T): T = {
     val oldInfo = Serialization.currentTransportInformation.value
     try {
       if (oldInfo eq null)
         Serialization.currentTransportInformation.value = system.provider.serializationInformation
-      serialize()
+      f()
     } finally Serialization.currentTransportInformation.value = oldInfo
   }
 
   private def snapshotFromBinary(bytes: Array[Byte]): AnyRef = {
     val headerLength = readInt(new ByteArrayInputStream(bytes))
-    val headerBytes = bytes.slice(4, headerLength + 4)
-    val snapshotBytes = bytes.drop(headerLength + 4)
+    checkHeaderLength(headerLength, math.min(MaxHeaderLength, bytes.length - 4))
+    val headerBytes = java.util.Arrays.copyOfRange(bytes, 4, headerLength + 4)
+    val snapshotBytes = java.util.Arrays.copyOfRange(bytes, headerLength + 4, bytes.length)
 
     val (serializerId, manifest) = headerFromBinary(headerBytes)
 
     serialization.deserialize(snapshotBytes, serializerId, manifest).get
   }
 
+  private def checkHeaderLength(headerLength: Int, maxLength: Int): Unit =
+    if (headerLength < 4 || headerLength > maxLength)
+      throw new NotSerializableException(
+        s"Invalid snapshot header length [$headerLength], the snapshot is corrupt or wasn't written by " +
+        s"${getClass.getName}")
+
+  private def readFully(in: InputStream, bytes: Array[Byte]): Unit = {
+    var offset = 0
+    while (offset < bytes.length) {
+      val n = in.read(bytes, offset, bytes.length - offset)
+      if (n == -1) throw new EOFException
+      offset += n
+    }
+  }
+
   private def writeInt(out: OutputStream, i: Int): Unit = {
     out.write(i >>> 0)
     out.write(i >>> 8)
@@ -13,25 +13,40 @@
 
 package org.apache.pekko.persistence
 
-import java.io.{ ByteArrayOutputStream, InputStream }
+import java.io.InputStream
+import java.util.Arrays
 
 package object serialization {
 
   /**
    * Converts an input stream to a byte array.
+   *
+   * The number of bytes reported by `InputStream.available` is used as a size hint, so for
+   * streams that know their remaining length, such as file streams, the bytes are read into
+   * an array of the exact size without intermediate copies.
    */
   def streamToBytes(inputStream: InputStream): Array[Byte] = {
-    val len = 16384
-    val buf = new Array[Byte](len)
-    val out = new ByteArrayOutputStream
+    val minLen = 16384
+    var buf = new Array[Byte](math.max(inputStream.available(), minLen))
+    var pos = 0
 
     @scala.annotation.tailrec
-    def copy(): Array[Byte] = {
-      val n = inputStream.read(buf, 0, len)
-      if (n != -1) {
-        out.write(buf, 0, n); copy()
-      } else out.toByteArray
-    }
+    def copy(): Array[Byte] =
+      if (pos == buf.length) {
+        val next = inputStream.read()
+        if (next == -1) buf
+        else {
+          buf = Arrays.copyOf(buf, buf.length + math.max(inputStream.available() + 1, buf.length))
+          buf(pos) = next.toByte
+          pos += 1
+          copy()
+        }
+      } else {
+        val n = inputStream.read(buf, pos, buf.length - pos)
+        if (n != -1) {
+          pos += n; copy()
+        } else Arrays.copyOf(buf, pos)
+      }
 
     copy()
   }
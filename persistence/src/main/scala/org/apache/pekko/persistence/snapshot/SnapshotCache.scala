@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.persistence.snapshot
+
+import scala.collection.mutable
+
+import org.apache.pekko
+import pekko.annotation.InternalApi
+import pekko.persistence.{ SelectedSnapshot, SnapshotSelectionCriteria }
+import pekko.util.{ FastFrequencySketch, OptionVal, RecencyList }
+
+/**
+ * INTERNAL API
+ */
+@InternalApi
+private[persistence] object SnapshotCache {
+
+  /** Result of loading the latest snapshot, sent to the snapshot store actor itself to update the cache. */
+  final case class LoadCompleted(persistenceId: String, token: Long, result: Any)
+
+  final case class Invalidate(persistenceId: String)
+}
+
+/**
+ * INTERNAL API
+ *
+ * Bounded cache of the latest snapshot per persistence id, used by [[SnapshotStore]] when
+ * `snapshot-cache.max-entries` is enabled for the plugin.
+ *
+ * Only results of loading the latest snapshot are cached, so that a cached snapshot can be used for
+ * any selection criteria that it matches. Least recently used entries are evicted, but a new entry
+ * is only admitted to a full cache if it's been requested more frequently than the entry it would
+ * replace (TinyLFU admission), so that a scan of rarely recovered persistent actors doesn't flush
+ * the frequently recovered ones.
+ *
+ * Loads that are started before an invalidation of the same persistence id are not cached when they
+ * complete, since they may have read a snapshot that has since been replaced or deleted.
+ *
+ * Mutable and not thread-safe, must only be used from within the snapshot store actor.
+ */
+@InternalApi
+private[persistence] final class SnapshotCache(val maxEntries: Int) {
+  require(maxEntries > 0, "maxEntries must be > 0")
+
+  private val entries = mutable.HashMap.empty[String, Option[SelectedSnapshot]]
+  private val recency = RecencyList.empty[String]
+  private val frequency = FastFrequencySketch[String](maxEntries)
+  private val pendingLoads = mutable.HashMap.empty[String, Long]
+  private var loadCounter = 0L
+
+  def size: Int = entries.size
+
+  /**
+   * The cached result of loading a snapshot for the given criteria, if it can be served from the cache.
+   * `Some(None)` means that it's known that there is no snapshot for the persistence id.
+   */
+  def get(persistenceId: String, criteria: SnapshotSelectionCriteria): Option[Option[SelectedSnapshot]] = {
+    frequency.increment(persistenceId)
+    entries.get(persistenceId) match {
+      case hit @ Some(None) =>
+        recency.update(persistenceId)
+        hit
+      case hit @ Some(Some(selected)) if criteria.matches(selected.metadata) =>
+        recency.update(persistenceId)
+        hit
+      case _ =>
+        None
+    }
+  }
+
+  /**
+   * Register that loading of the latest snapshot is started, returns the token to use in [[SnapshotCache#loaded]].
+   */
+  def loadStarted(persistenceId: String): Long = {
+    loadCounter += 1
+    pendingLoads.update(persistenceId, loadCounter)
+    loadCounter
+  }
+
+  /**
+   * Register the result of loading the latest snapshot, it's cached unless the persistence id was
+   * invalidated, or another load was started, since the load with the given token was started.
+   */
+  def loaded(persistenceId: String, token: Long, result: Option[SelectedSnapshot]): Unit =
+    pendingLoads.get(persistenceId) match {
+      case Some(`token`) =>
+        pendingLoads -= persistenceId
+        if (entries.contains(persistenceId) || admit(persistenceId)) {
+          entries.update(persistenceId, result)
+          recency.update(persistenceId)
+        }
+      case _ =>
+    }
+
+  /**
+   * Register that loading of the latest snapshot failed.
+   */
+  def loadFailed(persistenceId: String, token: Long): Unit =
+    pendingLoads.get(persistenceId) match {
+      case Some(`token`) => pendingLoads -= persistenceId
+      case _             =>
+    }
+
+  /**
+   * Remove the cached snapshot of the persistence id, and don't cache results of loads that are in progress.
+   */
+  def invalidate(persistenceId: String): Unit = {
+    entries -= persistenceId
+    recency.remove(persistenceId)
+    pendingLoads -= persistenceId
+  }
+
+  private def admit(persistenceId: String): Boolean =
+    if (entries.size < maxEntries) true
+    else
+      recency.leastRecent match {
+        case OptionVal.Some(victim) =>
+          if (frequency.frequency(persistenceId) > frequency.frequency(victim)) {
+            entries -= victim
+            recency.remove(victim)
+            true
+          } else false
+        case _ => true
+      }
+}
@@ -22,6 +22,7 @@ import pekko.actor._
 import pekko.pattern.CircuitBreaker
 import pekko.pattern.pipe
 import pekko.persistence._
+import pekko.util.OptionVal
 
 /**
  * Abstract snapshot store.
@@ -40,6 +41,11 @@ trait SnapshotStore extends Actor with ActorLogging {
     CircuitBreaker(context.system.scheduler, maxFailures, callTimeout, resetTimeout)
   }
 
+  private val snapshotCache: OptionVal[SnapshotCache] = {
+    val maxEntries = extension.configFor(self).getInt("snapshot-cache.max-entries")
+    if (maxEntries > 0) OptionVal.Some(new SnapshotCache(maxEntries)) else OptionVal.None
+  }
+
   final def receive = receiveSnapshotStore.orElse[Any, Unit](receivePluginInternal)
 
   final val receiveSnapshotStore: Actor.Receive = {
@@ -51,18 +57,41 @@ trait SnapshotStore extends Actor with ActorLogging {
         if (criteria == SnapshotSelectionCriteria.None) {
           senderPersistentActor() ! LoadSnapshotResult(snapshot = None, toSequenceNr)
         } else {
-          breaker
-            .withCircuitBreaker(loadAsync(persistenceId, criteria.limit(toSequenceNr)))
-            .map { sso =>
-              LoadSnapshotResult(sso, toSequenceNr)
-            }
-            .recover {
-              case e => LoadSnapshotFailed(e)
+          val limitedCriteria = criteria.limit(toSequenceNr)
+          snapshotCache match {
+            case OptionVal.Some(cache) =>
+              cache.get(persistenceId, limitedCriteria) match {
+                case Some(cached) =>
+                  senderPersistentActor() ! LoadSnapshotResult(cached, toSequenceNr)
+                case None if limitedCriteria == SnapshotSelectionCriteria.Latest =>
+                  val token = cache.loadStarted(persistenceId)
+                  load(persistenceId, limitedCriteria, toSequenceNr)
+                    .map(result => SnapshotCache.LoadCompleted(persistenceId, token, result))
+                    .pipeTo(self)(senderPersistentActor())
+                case None =>
+                  load(persistenceId, limitedCriteria, toSequenceNr).pipeTo(senderPersistentActor())
+              }
+            case _ =>
+              load(persistenceId, limitedCriteria, toSequenceNr).pipeTo(senderPersistentActor())
+          }
+        }
+
+      case SnapshotCache.LoadCompleted(persistenceId, token, result) =>
+        snapshotCache match {
+          case OptionVal.Some(cache) =>
+            result match {
+              case LoadSnapshotResult(snapshot, _) => cache.loaded(persistenceId, token, snapshot)
+              case _                               => cache.loadFailed(persistenceId, token)
             }
-            .pipeTo(senderPersistentActor())
+          case _ =>
         }
+        senderPersistentActor() ! result
+
+      case SnapshotCache.Invalidate(persistenceId) =>
+        invalidateCachedSnapshot(persistenceId)
 
       case SaveSnapshot(metadata, snapshot) =>
+        invalidateCachedSnapshot(metadata.persistenceId)
         val md = metadata.copy(timestamp = System.currentTimeMillis)
         breaker
           .withCircuitBreaker(saveAsync(md, snapshot))
@@ -75,15 +104,18 @@ trait SnapshotStore extends Actor with ActorLogging {
           .to(self, senderPersistentActor())
 
       case evt: SaveSnapshotSuccess =>
+        invalidateCachedSnapshot(evt.metadata.persistenceId)
         try tryReceivePluginInternal(evt)
         finally senderPersistentActor() ! evt // sender is persistentActor
       case evt @ SaveSnapshotFailure(metadata, _) =>
+        invalidateCachedSnapshot(metadata.persistenceId)
         try {
           tryReceivePluginInternal(evt)
           breaker.withCircuitBreaker(deleteAsync(metadata))
         } finally senderPersistentActor() ! evt // sender is persistentActor
 
       case d @ DeleteSnapshot(metadata) =>
+        invalidateCachedSnapshot(metadata.persistenceId)
         breaker
           .withCircuitBreaker(deleteAsync(metadata))
           .map {
@@ -98,13 +130,16 @@ trait SnapshotStore extends Actor with ActorLogging {
           }
 
       case evt: DeleteSnapshotSuccess =>
+        invalidateCachedSnapshot(evt.metadata.persistenceId)
         try tryReceivePluginInternal(evt)
         finally senderPersistentActor() ! evt
       case evt: DeleteSnapshotFailure =>
+        invalidateCachedSnapshot(evt.metadata.persistenceId)
         try tryReceivePluginInternal(evt)
         finally senderPersistentActor() ! evt
 
       case d @ DeleteSnapshots(persistenceId, criteria) =>
+        invalidateCachedSnapshot(persistenceId)
         breaker
           .withCircuitBreaker(deleteAsync(persistenceId, criteria))
           .map {
@@ -113,6 +148,10 @@ trait SnapshotStore extends Actor with ActorLogging {
           .recover {
             case e => DeleteSnapshotsFailure(criteria, e)
           }
+          .andThen {
+            // the completion events don't include the persistenceId, invalidate before replying
+            case _ => if (snapshotCache.isDefined) self ! SnapshotCache.Invalidate(persistenceId)
+          }
           .pipeTo(self)(senderPersistentActor())
           .onComplete {
             case _ => if (publish) eventStream.publish(d)
@@ -127,6 +166,23 @@ trait SnapshotStore extends Actor with ActorLogging {
     }
   }
 
+  private def load(persistenceId: String, criteria: SnapshotSelectionCriteria, toSequenceNr: Long)(
+      implicit ec: ExecutionContext): Future[Any] =
+    breaker
+      .withCircuitBreaker(loadAsync(persistenceId, criteria))
+      .map { sso =>
+        LoadSnapshotResult(sso, toSequenceNr)
+      }
+      .recover {
+        case e => LoadSnapshotFailed(e)
+      }
+
+  private def invalidateCachedSnapshot(persistenceId: String): Unit =
+    snapshotCache match {
+      case OptionVal.Some(cache) => cache.invalidate(persistenceId)
+      case _                     =>
+    }
+
   /** Documents intent that the sender() is expected to be the PersistentActor */
   @inline private final def senderPersistentActor(): ActorRef = sender()
 
@@ -50,6 +50,12 @@ private[persistence] class LocalSnapshotStore(config: Config) extends SnapshotSt
   private val dir = new File(config.getString("dir"))
 
   private val serializationExtension = SerializationExtension(context.system)
+  // the built-in serializer can write to and read from the file streams directly,
+  // avoiding holding several copies of large snapshots in memory
+  private val snapshotSerializer = serializationExtension.serializerFor(classOf[Snapshot]) match {
+    case s: SnapshotSerializer => Some(s)
+    case _                     => None
+  }
   private var saving = immutable.Set.empty[SnapshotMetadata] // saving in progress
 
   override def loadAsync(
@@ -134,10 +140,16 @@ private[persistence] class LocalSnapshotStore(config: Config) extends SnapshotSt
   }
 
   protected def deserialize(inputStream: InputStream): Snapshot =
-    serializationExtension.deserialize(streamToBytes(inputStream), classOf[Snapshot]).get
+    snapshotSerializer match {
+      case Some(serializer) => serializer.fromInputStream(inputStream)
+      case None             => serializationExtension.deserialize(streamToBytes(inputStream), classOf[Snapshot]).get
+    }
 
   protected def serialize(outputStream: OutputStream, snapshot: Snapshot): Unit = {
-    outputStream.write(serializationExtension.serialize(snapshot).get)
+    snapshotSerializer match {
+      case Some(serializer) => serializer.toOutputStream(snapshot, outputStream)
+      case None             => outputStream.write(serializationExtension.serialize(snapshot).get)
+    }
   }
 
   protected def withOutputStream(metadata: SnapshotMetadata)(p: (OutputStream) => Unit): File = {
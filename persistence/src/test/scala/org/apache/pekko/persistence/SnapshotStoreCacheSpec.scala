@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.persistence
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+
+import scala.concurrent.Future
+
+import com.typesafe.config.Config
+
+import org.apache.pekko
+import pekko.persistence.SnapshotProtocol._
+import pekko.persistence.snapshot.local.LocalSnapshotStore
+import pekko.testkit.ImplicitSender
+
+object SnapshotStoreCacheSpec {
+
+  private val loads = new ConcurrentHashMap[String, AtomicInteger]
+
+  def loadCount(persistenceId: String): Int =
+    loads.computeIfAbsent(persistenceId, _ => new AtomicInteger).get
+
+  class CountingLocalSnapshotStore(config: Config) extends LocalSnapshotStore(config) {
+    override def loadAsync(
+        persistenceId: String,
+        criteria: SnapshotSelectionCriteria): Future[Option[SelectedSnapshot]] = {
+      loads.computeIfAbsent(persistenceId, _ => new AtomicInteger).incrementAndGet()
+      super.loadAsync(persistenceId, criteria)
+    }
+  }
+}
+
+class SnapshotStoreCacheSpec
+    extends PersistenceSpec(
+      PersistenceSpec.config(
+        "inmem",
+        "SnapshotStoreCacheSpec",
+        extraConfig = Some(s"""
+  pekko.persistence.snapshot-store.local.class = "org.apache.pekko.persistence.SnapshotStoreCacheSpec$$CountingLocalSnapshotStore"
+  pekko.persistence.snapshot-store.local.snapshot-cache.max-entries = 100
+  """)))
+    with ImplicitSender {
+
+  import SnapshotStoreCacheSpec._
+
+  private lazy val snapshotStore = extension.snapshotStoreFor(null)
+
+  private def save(sequenceNr: Long, snapshot: String): SnapshotMetadata = {
+    snapshotStore ! SaveSnapshot(SnapshotMetadata(name, sequenceNr), snapshot)
+    expectMsgType[SaveSnapshotSuccess].metadata
+  }
+
+  private def loadLatest(): Option[SelectedSnapshot] = {
+    snapshotStore ! LoadSnapshot(name, SnapshotSelectionCriteria.Latest, Long.MaxValue)
+    expectMsgType[LoadSnapshotResult].snapshot
+  }
+
+  "A snapshot store with snapshot-cache enabled" must {
+
+    "serve repeated loads of the latest snapshot from the cache" in {
+      save(1, "s-1")
+      loadLatest().map(_.snapshot) should ===(Some("s-1"))
+      loadLatest().map(_.snapshot) should ===(Some("s-1"))
+      loadLatest().map(_.snapshot) should ===(Some("s-1"))
+      loadCount(name) should ===(1)
+    }
+
+    "invalidate the cached snapshot when a snapshot is saved" in {
+      save(1, "s-1")
+      loadLatest().map(_.snapshot) should ===(Some("s-1"))
+      save(2, "s-2")
+      loadLatest().map(_.snapshot) should ===(Some("s-2"))
+      loadCount(name) should ===(2)
+      loadLatest().map(_.snapshot) should ===(Some("s-2"))
+      loadCount(name) should ===(2)
+    }
+
+    "invalidate the cached snapshot when a snapshot is deleted" in {
+      save(1, "s-1")
+      val metadata = save(2, "s-2")
+      loadLatest().map(_.snapshot) should ===(Some("s-2"))
+      snapshotStore ! DeleteSnapshot(metadata)
+      expectMsgType[DeleteSnapshotSuccess]
+      loadLatest().map(_.snapshot) should ===(Some("s-1"))
+      loadCount(name) should ===(2)
+    }
+
+    "invalidate the cached snapshot when snapshots are deleted by criteria" in {
+      save(1, "s-1")
+      loadLatest().map(_.snapshot) should ===(Some("s-1"))
+      snapshotStore ! DeleteSnapshots(name, SnapshotSelectionCriteria.Latest)
+      expectMsgType[DeleteSnapshotsSuccess]
+      loadLatest() should ===(None)
+      loadCount(name) should ===(2)
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * license agreements; and to You under the Apache License, version 2.0:
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * This file is part of the Apache Pekko project, derived from Akka.
+ */
+
+package org.apache.pekko.persistence.snapshot
+
+import org.scalatest.matchers.should.Matchers
+import org.scalatest.wordspec.AnyWordSpec
+
+import org.apache.pekko
+import pekko.persistence.{ SelectedSnapshot, SnapshotMetadata, SnapshotSelectionCriteria }
+
+class SnapshotCacheSpec extends AnyWordSpec with Matchers {
+
+  private def selected(persistenceId: String, sequenceNr: Long): SelectedSnapshot =
+    SelectedSnapshot(SnapshotMetadata(persistenceId, sequenceNr, timestamp = 0L), s"state-$sequenceNr")
+
+  private def cacheLoaded(cache: SnapshotCache, persistenceId: String, result: Option[SelectedSnapshot]): Unit =
+    cache.loaded(persistenceId, cache.loadStarted(persistenceId), result)
+
+  "SnapshotCache" must {
+
+    "serve loaded latest snapshot for matching criteria" in {
+      val cache = new SnapshotCache(10)
+      cache.get("a", SnapshotSelectionCriteria.Latest) shouldBe None
+      cacheLoaded(cache, "a", Some(selected("a", 17)))
+      cache.get("a", SnapshotSelectionCriteria.Latest) shouldBe Some(Some(selected("a", 17)))
+      cache.get("a", SnapshotSelectionCriteria(maxSequenceNr = 20)) shouldBe Some(Some(selected("a", 17)))
+      // an older snapshot may exist, must be loaded from the store
+      cache.get("a", SnapshotSelectionCriteria(maxSequenceNr = 10)) shouldBe None
+    }
+
+    "serve known absence of snapshot for any criteria" in {
+      val cache = new SnapshotCache(10)
+      cacheLoaded(cache, "a", None)
+      cache.get("a", SnapshotSelectionCriteria.Latest) shouldBe Some(None)
+      cache.get("a", SnapshotSelectionCriteria(maxSequenceNr = 10)) shouldBe Some(None)
+    }
+
+    "remove invalidated snapshot" in {
+      val cache = new SnapshotCache(10)
+      cacheLoaded(cache, "a", Some(selected("a", 17)))
+      cache.invalidate("a")
+      cache.get("a", SnapshotSelectionCriteria.Latest) shouldBe None
+      cache.size shouldBe 0
+    }
+
+    "not cache loads started before invalidation" in {
+      val cache = new SnapshotCache(10)
+      val token = cache.loadStarted("a")
+      cache.invalidate("a")
+      cache.loaded("a", token, Some(selected("a", 17)))
+      cache.get("a", SnapshotSelectionCriteria.Latest) shouldBe None
+    }
+
+    "only cache the most recently started load" in {
+      val cache = new SnapshotCache(10)
+      val token1 = cache.loadStarted("a")
+      val token2 = cache.loadStarted("a")
+      cache.loaded("a", token1, Some(selected("a", 17)))
+      cache.get("a", SnapshotSelectionCriteria.Latest) shouldBe None
+      cache.loaded("a", token2, Some(selected("a", 18)))
+      cache.get("a", SnapshotSelectionCriteria.Latest) shouldBe Some(Some(selected("a", 18)))
+    }
+
+    "be bounded and only admit more frequently requested entries" in {
+      val cache = new SnapshotCache(2)
+      (1 to 3).foreach(_ => cache.get("a", SnapshotSelectionCriteria.Latest))
+      cacheLoaded(cache, "a", Some(selected("a", 1)))
+      (1 to 3).foreach(_ => cache.get("b", SnapshotSelectionCriteria.Latest))
+      cacheLoaded(cache, "b", Some(selected("b", 1)))
+      cache.size shouldBe 2
+
+      // requested less frequently than least recently used "a"
+      cache.get("c", SnapshotSelectionCriteria.Latest)
+      cacheLoaded(cache, "c", Some(selected("c", 1)))
+      cache.size shouldBe 2
+      cache.get("c", SnapshotSelectionCriteria.Latest) shouldBe None
+
+      // requested more frequently than least recently used "a"
+      (1 to 10).foreach(_ => cache.get("d", SnapshotSelectionCriteria.Latest))
+      cacheLoaded(cache, "d", Some(selected("d", 1)))
+      cache.size shouldBe 2
+      cache.get("a", SnapshotSelectionCriteria.Latest) shouldBe None
+      cache.get("b", SnapshotSelectionCriteria.Latest) shouldBe Some(Some(selected("b", 1)))
+      cache.get("d", SnapshotSelectionCriteria.Latest) shouldBe Some(Some(selected("d", 1)))
+    }
+  }
+}